@@ -5,6 +5,7 @@ import org.ehcache.config.builders.*;
 import org.ehcache.jsr107.Eh107Configuration;
 import org.hibernate.cache.jcache.ConfigSettings;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.boot.info.BuildProperties;
@@ -22,8 +23,13 @@ public class CacheConfiguration {
     private GitProperties gitProperties;
     private BuildProperties buildProperties;
     private final javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration;
+    private final javax.cache.configuration.Configuration<Object, Object> resumoNotificacaoConfiguration;
 
-    public CacheConfiguration(JHipsterProperties jHipsterProperties) {
+    public CacheConfiguration(
+        JHipsterProperties jHipsterProperties,
+        @Value("${semear.notificacoes.resumo.max-entradas:5000}") long maxResumosNotificacao,
+        @Value("${semear.notificacoes.resumo.ociosidade-minutos:30}") long ociosidadeResumoMinutos
+    ) {
         JHipsterProperties.Cache.Ehcache ehcache = jHipsterProperties.getCache().getEhcache();
 
         jcacheConfiguration = Eh107Configuration.fromEhcacheCacheConfiguration(
@@ -35,6 +41,17 @@ public class CacheConfiguration {
                 .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ehcache.getTimeToLiveSeconds())))
                 .build()
         );
+
+        // Um resumo por login ativo: some após a ociosidade, e o teto de entradas limita o heap.
+        resumoNotificacaoConfiguration = Eh107Configuration.fromEhcacheCacheConfiguration(
+            CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                Object.class,
+                Object.class,
+                ResourcePoolsBuilder.heap(maxResumosNotificacao)
+            )
+                .withExpiry(ExpiryPolicyBuilder.timeToIdleExpiration(Duration.ofMinutes(ociosidadeResumoMinutos)))
+                .build()
+        );
     }
 
     @Bean
@@ -63,16 +80,31 @@ public class CacheConfiguration {
             createCache(cm, br.com.semear.domain.PreferenciaBibliaUsuario.class.getName());
             createCache(cm, br.com.semear.domain.CapituloBibliaCache.class.getName());
             createCache(cm, br.com.semear.service.PlanoComercialService.PLANO_PUBLICO_CACHE);
+            createCache(cm, br.com.semear.service.AssinaturaAcessoCache.CACHE);
+            createCache(cm, br.com.semear.service.NotificacaoService.CACHE_RESUMO, resumoNotificacaoConfiguration);
+            createCache(cm, br.com.semear.service.aniversario.IndiceAniversariosService.CACHE);
+            createCache(cm, br.com.semear.service.CultoAgendaService.CACHE_AGENDA);
+            createCache(cm, br.com.semear.service.publico.CacheConteudoPublico.CACHE);
+            // Estatísticas JCache alimentam as métricas cache.gets/puts/evictions exportadas no Prometheus.
+            cm.enableStatistics(br.com.semear.service.NotificacaoService.CACHE_RESUMO, true);
             // jhipster-needle-ehcache-add-entry
         };
     }
 
     private void createCache(javax.cache.CacheManager cm, String cacheName) {
+        createCache(cm, cacheName, jcacheConfiguration);
+    }
+
+    private void createCache(
+        javax.cache.CacheManager cm,
+        String cacheName,
+        javax.cache.configuration.Configuration<Object, Object> configuration
+    ) {
         javax.cache.Cache<Object, Object> cache = cm.getCache(cacheName);
         if (cache != null) {
             cache.clear();
         } else {
-            cm.createCache(cacheName, jcacheConfiguration);
+            cm.createCache(cacheName, configuration);
         }
     }
 
@@ -6,6 +6,7 @@ import br.com.semear.domain.enumerations.TipoLancamento;
 import br.com.semear.repository.*;
 import br.com.semear.service.AssinaturaIgrejaService;
 import br.com.semear.service.DepartamentoOrientacoesPadrao;
+import br.com.semear.service.ResumoFinanceiroService;
 import br.com.semear.service.UserService;
 import br.com.semear.service.dto.AdminUserDTO;
 import br.com.semear.service.dto.DependenteCreateDTO;
@@ -82,6 +83,7 @@ public class DevSeedService {
     private final SolicitacaoAcessoRepository solicitacaoAcessoRepository;
     private final SolicitacaoSuporteRepository solicitacaoSuporteRepository;
     private final AcompanhamentoPastoralRepository acompanhamentoPastoralRepository;
+    private final ResumoFinanceiroService resumoFinanceiroService;
 
     public DevSeedService(
         IgrejaRepository igrejaRepository,
@@ -111,7 +113,8 @@ public class DevSeedService {
         DocumentoIgrejaRepository documentoIgrejaRepository,
         SolicitacaoAcessoRepository solicitacaoAcessoRepository,
         SolicitacaoSuporteRepository solicitacaoSuporteRepository,
-        AcompanhamentoPastoralRepository acompanhamentoPastoralRepository
+        AcompanhamentoPastoralRepository acompanhamentoPastoralRepository,
+        ResumoFinanceiroService resumoFinanceiroService
     ) {
         this.igrejaRepository = igrejaRepository;
         this.userRepository = userRepository;
@@ -141,6 +144,7 @@ public class DevSeedService {
         this.solicitacaoAcessoRepository = solicitacaoAcessoRepository;
         this.solicitacaoSuporteRepository = solicitacaoSuporteRepository;
         this.acompanhamentoPastoralRepository = acompanhamentoPastoralRepository;
+        this.resumoFinanceiroService = resumoFinanceiroService;
     }
 
     @Transactional
@@ -1118,7 +1122,8 @@ public class DevSeedService {
             inscricao.setStatus(StatusInscricaoEvento.ATIVA);
             inscricao.setConfirmado(checkIn);
             inscricao.setCanceladoEm(null);
-            eventoInscricaoRepository.save(inscricao);
+            eventoInscricaoRepository.saveAndFlush(inscricao);
+            eventoRepository.recalcularVagasOcupadas(evento.getId());
             return;
         }
         EventoInscricao inscricao = new EventoInscricao();
@@ -1127,7 +1132,8 @@ public class DevSeedService {
         inscricao.setConfirmado(checkIn);
         inscricao.setStatus(StatusInscricaoEvento.ATIVA);
         inscricao.setCriadoEm(Instant.now().minus(checkIn ? 2 : 0, ChronoUnit.DAYS));
-        eventoInscricaoRepository.save(inscricao);
+        eventoInscricaoRepository.saveAndFlush(inscricao);
+        eventoRepository.recalcularVagasOcupadas(evento.getId());
     }
 
     private void seedFinanceiro(Igreja igreja, ConteudoIgreja conteudo, String criadoPorLogin) {
@@ -1147,7 +1153,7 @@ public class DevSeedService {
             l.setCentroCusto((String) row[6]);
             l.setCriadoEm(Instant.now());
             l.setCriadoPor(criadoPorLogin);
-            lancamentoRepository.save(l);
+            resumoFinanceiroService.registrar(ResumoFinanceiroService.LancamentoResumido.de(lancamentoRepository.save(l)));
         }
     }
 
@@ -12,6 +12,7 @@ public class PushNotificationProperties {
     /** VAPID key pública para o frontend Web (Firebase Console > Cloud Messaging > Web Push certificates). */
     private String vapidPublicKey;
     private boolean testeEndpointEnabled = false;
+    private final Despacho despacho = new Despacho();
 
     public boolean isEnabled() {
         return enabled;
@@ -58,8 +59,65 @@ public class PushNotificationProperties {
         this.testeEndpointEnabled = testeEndpointEnabled;
     }
 
+    public Despacho getDespacho() {
+        return despacho;
+    }
+
     public boolean isOperational() {
         return enabled && firebaseProjectId != null && !firebaseProjectId.isBlank()
             && firebaseServiceAccount != null && !firebaseServiceAccount.isBlank();
     }
+
+    /** Fila de saída (outbox) do FCM: lotes, concorrência e novas tentativas. */
+    public static class Despacho {
+
+        /** Tokens por chamada {@code sendEach} (limite do FCM: 500). */
+        private int tamanhoLote = 500;
+        /** Lotes enviados ao FCM em paralelo. */
+        private int concorrencia = 4;
+        private int maxTentativas = 5;
+        private long backoffInicialMs = 2000;
+        /** Intervalo da varredura de pendentes (novas tentativas e recuperação após queda). */
+        private long intervaloMs = 5000;
+
+        public int getTamanhoLote() {
+            return tamanhoLote;
+        }
+
+        public void setTamanhoLote(int tamanhoLote) {
+            this.tamanhoLote = tamanhoLote;
+        }
+
+        public int getConcorrencia() {
+            return concorrencia;
+        }
+
+        public void setConcorrencia(int concorrencia) {
+            this.concorrencia = concorrencia;
+        }
+
+        public int getMaxTentativas() {
+            return maxTentativas;
+        }
+
+        public void setMaxTentativas(int maxTentativas) {
+            this.maxTentativas = maxTentativas;
+        }
+
+        public long getBackoffInicialMs() {
+            return backoffInicialMs;
+        }
+
+        public void setBackoffInicialMs(long backoffInicialMs) {
+            this.backoffInicialMs = backoffInicialMs;
+        }
+
+        public long getIntervaloMs() {
+            return intervaloMs;
+        }
+
+        public void setIntervaloMs(long intervaloMs) {
+            this.intervaloMs = intervaloMs;
+        }
+    }
 }
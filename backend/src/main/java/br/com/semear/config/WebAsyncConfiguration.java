@@ -0,0 +1,54 @@
+package br.com.semear.config;
+
+import java.time.Duration;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Requisições assíncronas do MVC, usadas pelos {@code StreamingResponseBody} das exportações CSV/XLSX e do ZIP de
+ * anexos.
+ * <p>
+ * Sem configuração o corpo rodaria num {@code SimpleAsyncTaskExecutor} (uma thread nova por download, sem limite) e
+ * seria cortado no timeout padrão do container, cerca de 30 segundos, com o Content-Length já enviado. Aqui o prazo é
+ * explícito e longo o bastante para um download grande numa conexão móvel lenta, e os corpos rodam num pool limitado;
+ * o que passar do pool espera na fila.
+ */
+@Configuration
+public class WebAsyncConfiguration implements WebMvcConfigurer, DisposableBean {
+
+    private final Duration timeout;
+    private final ThreadPoolTaskExecutor executor;
+
+    public WebAsyncConfiguration(
+        @Value("${semear.web.async.timeout-minutos:30}") long timeoutMinutos,
+        @Value("${semear.web.async.threads:16}") int threads,
+        @Value("${semear.web.async.fila:200}") int fila
+    ) {
+        this(Duration.ofMinutes(timeoutMinutos), threads, fila);
+    }
+
+    WebAsyncConfiguration(Duration timeout, int threads, int fila) {
+        this.timeout = timeout;
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, threads));
+        executor.setMaxPoolSize(Math.max(1, threads));
+        executor.setQueueCapacity(Math.max(0, fila));
+        executor.setThreadNamePrefix("semear-mvc-async-");
+        executor.initialize();
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(timeout.toMillis());
+        configurer.setTaskExecutor(executor);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.semear.domain;
+
+import br.com.semear.domain.enumeration.TipoDadoBiblia;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Lápide de um {@link DadoBibliaUsuario} removido, para que os aparelhos do usuário apaguem a cópia local na
+ * próxima sincronização.
+ */
+@Entity
+@Table(name = "biblia_sync_remocao")
+public class BibliaSyncRemocao implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    private Long id;
+
+    @NotNull
+    @Column(name = "usuario_id", nullable = false)
+    private Long usuarioId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tipo", nullable = false, length = 20)
+    private TipoDadoBiblia tipo;
+
+    @NotNull
+    @Column(name = "entidade_id", nullable = false)
+    private Long entidadeId;
+
+    @NotNull
+    @Column(name = "versao_sync", nullable = false)
+    private Long versaoSync;
+
+    @NotNull
+    @Column(name = "removido_em", nullable = false)
+    private Instant removidoEm;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUsuarioId() {
+        return usuarioId;
+    }
+
+    public void setUsuarioId(Long usuarioId) {
+        this.usuarioId = usuarioId;
+    }
+
+    public TipoDadoBiblia getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(TipoDadoBiblia tipo) {
+        this.tipo = tipo;
+    }
+
+    public Long getEntidadeId() {
+        return entidadeId;
+    }
+
+    public void setEntidadeId(Long entidadeId) {
+        this.entidadeId = entidadeId;
+    }
+
+    public Long getVersaoSync() {
+        return versaoSync;
+    }
+
+    public void setVersaoSync(Long versaoSync) {
+        this.versaoSync = versaoSync;
+    }
+
+    public Instant getRemovidoEm() {
+        return removidoEm;
+    }
+
+    public void setRemovidoEm(Instant removidoEm) {
+        this.removidoEm = removidoEm;
+    }
+}
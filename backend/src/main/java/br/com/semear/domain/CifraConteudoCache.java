@@ -0,0 +1,88 @@
+package br.com.semear.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Cifra ou letra raspada do Cifra Club, guardada uma vez para todas as igrejas. A chave junta o tipo com artista,
+ * título e link normalizados; {@code encontrado = false} guarda também as buscas sem resultado.
+ */
+@Entity
+@Table(name = "cifra_conteudo_cache")
+public class CifraConteudoCache implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    private Long id;
+
+    @NotNull
+    @Column(name = "chave", nullable = false, length = 700, unique = true)
+    private String chave;
+
+    @Column(name = "url", length = 500)
+    private String url;
+
+    @Column(name = "linhas", columnDefinition = "text")
+    private String linhas;
+
+    @NotNull
+    @Column(name = "encontrado", nullable = false)
+    private Boolean encontrado;
+
+    @NotNull
+    @Column(name = "buscado_em", nullable = false)
+    private Instant buscadoEm;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getChave() {
+        return chave;
+    }
+
+    public void setChave(String chave) {
+        this.chave = chave;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getLinhas() {
+        return linhas;
+    }
+
+    public void setLinhas(String linhas) {
+        this.linhas = linhas;
+    }
+
+    public Boolean getEncontrado() {
+        return encontrado;
+    }
+
+    public void setEncontrado(Boolean encontrado) {
+        this.encontrado = encontrado;
+    }
+
+    public Instant getBuscadoEm() {
+        return buscadoEm;
+    }
+
+    public void setBuscadoEm(Instant buscadoEm) {
+        this.buscadoEm = buscadoEm;
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.semear.domain;
+
+/**
+ * Dado pessoal do leitor da Bíblia (nota, destaque, favorito, histórico, progresso) acompanhado pela sincronização
+ * incremental: {@code versaoSync} é a versão do contador do dono entregue à última gravação da linha.
+ */
+public interface DadoBibliaUsuario {
+    Long getId();
+
+    User getUsuario();
+
+    Long getVersaoSync();
+
+    void setVersaoSync(Long versaoSync);
+}
@@ -2,6 +2,7 @@ package br.com.semear.domain;
 
 import br.com.semear.domain.enumeration.CorDestaque;
 import br.com.semear.domain.enumeration.VersaoBiblia;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
@@ -16,7 +17,7 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 @Table(name = "destaque_biblia")
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SuppressWarnings("common-java:DuplicatedBlocks")
-public class DestaqueBiblia implements Serializable {
+public class DestaqueBiblia implements Serializable, DadoBibliaUsuario {
 
     private static final long serialVersionUID = 1L;
 
@@ -74,6 +75,10 @@ public class DestaqueBiblia implements Serializable {
     @ManyToOne(fetch = FetchType.LAZY)
     private User usuario;
 
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "versao_sync", nullable = false)
+    private Long versaoSync = 0L;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -232,6 +237,16 @@ public class DestaqueBiblia implements Serializable {
         return this;
     }
 
+    @Override
+    public Long getVersaoSync() {
+        return this.versaoSync;
+    }
+
+    @Override
+    public void setVersaoSync(Long versaoSync) {
+        this.versaoSync = versaoSync;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -71,6 +71,12 @@ public class DocumentoIgreja implements Serializable {
     @JsonIgnore
     private String caminhoArquivo;
 
+    /** SHA-256 do conteúdo no {@code MidiaStore}; {@code null} para arquivos gravados em {@link #caminhoArquivo}. */
+    @Size(max = 64)
+    @Column(name = "hash_midia", length = 64)
+    @JsonIgnore
+    private String hashMidia;
+
     @Column(name = "data_documento")
     private LocalDate dataDocumento;
 
@@ -176,6 +182,14 @@ public class DocumentoIgreja implements Serializable {
         this.caminhoArquivo = caminhoArquivo;
     }
 
+    public String getHashMidia() {
+        return hashMidia;
+    }
+
+    public void setHashMidia(String hashMidia) {
+        this.hashMidia = hashMidia;
+    }
+
     public LocalDate getDataDocumento() {
         return dataDocumento;
     }
@@ -0,0 +1,70 @@
+package br.com.semear.domain;
+
+import br.com.semear.domain.enumeration.StatusRotinaExecucao;
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Registro por igreja e dia da rotina automática de escalas — duração, resultado e ponto de retomada.
+ */
+@Entity
+@Table(
+    name = "escala_rotina_execucao",
+    uniqueConstraints = @UniqueConstraint(name = "uk_escala_rotina_igreja_data", columnNames = { "igreja_id", "data_referencia" })
+)
+public class EscalaRotinaExecucao implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "igreja_id", nullable = false)
+    private Long igrejaId;
+
+    @Column(name = "data_referencia", nullable = false)
+    private LocalDate dataReferencia;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private StatusRotinaExecucao status;
+
+    @Column(name = "iniciado_em", nullable = false)
+    private Instant iniciadoEm;
+
+    @Column(name = "concluido_em")
+    private Instant concluidoEm;
+
+    @Column(name = "duracao_ms")
+    private Long duracaoMs;
+
+    @Column(name = "tentativas", nullable = false)
+    private Integer tentativas = 0;
+
+    @Column(name = "erro", length = 500)
+    private String erro;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getIgrejaId() { return igrejaId; }
+    public void setIgrejaId(Long igrejaId) { this.igrejaId = igrejaId; }
+    public LocalDate getDataReferencia() { return dataReferencia; }
+    public void setDataReferencia(LocalDate dataReferencia) { this.dataReferencia = dataReferencia; }
+    public StatusRotinaExecucao getStatus() { return status; }
+    public void setStatus(StatusRotinaExecucao status) { this.status = status; }
+    public Instant getIniciadoEm() { return iniciadoEm; }
+    public void setIniciadoEm(Instant iniciadoEm) { this.iniciadoEm = iniciadoEm; }
+    public Instant getConcluidoEm() { return concluidoEm; }
+    public void setConcluidoEm(Instant concluidoEm) { this.concluidoEm = concluidoEm; }
+    public Long getDuracaoMs() { return duracaoMs; }
+    public void setDuracaoMs(Long duracaoMs) { this.duracaoMs = duracaoMs; }
+    public Integer getTentativas() { return tentativas; }
+    public void setTentativas(Integer tentativas) { this.tentativas = tentativas; }
+    public String getErro() { return erro; }
+    public void setErro(String erro) { this.erro = erro; }
+}
@@ -55,6 +55,10 @@ public class Evento implements Serializable {
     @Column(name = "capacidade")
     private Integer capacidade;
 
+    /** Inscrições ativas; só o {@link br.com.semear.repository.EventoRepository} altera, por update condicional. */
+    @Column(name = "vagas_ocupadas", nullable = false, insertable = false, updatable = false)
+    private Integer vagasOcupadas = 0;
+
     @NotNull
     @Enumerated(EnumType.STRING)
     @Column(name = "categoria", nullable = false, length = 30)
@@ -102,6 +106,8 @@ public class Evento implements Serializable {
     public void setInscricoesAbertas(Boolean inscricoesAbertas) { this.inscricoesAbertas = inscricoesAbertas; }
     public Integer getCapacidade() { return capacidade; }
     public void setCapacidade(Integer capacidade) { this.capacidade = capacidade; }
+    public Integer getVagasOcupadas() { return vagasOcupadas; }
+    public void setVagasOcupadas(Integer vagasOcupadas) { this.vagasOcupadas = vagasOcupadas; }
     public CategoriaEvento getCategoria() { return categoria; }
     public void setCategoria(CategoriaEvento categoria) { this.categoria = categoria; }
     public StatusEvento getStatus() { return status; }
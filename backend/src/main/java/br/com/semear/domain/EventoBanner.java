@@ -10,7 +10,8 @@ import java.io.Serializable;
 import java.time.Instant;
 
 /**
- * Banner do evento persistido no banco (sobrevive a redeploy no Render).
+ * Banner do evento. O conteúdo fica no {@code MidiaStore} ({@link #hashMidia}); {@link #dados} guarda uma cópia no
+ * banco quando o store não sobrevive a redeploy no Render, e é a única cópia dos banners antigos.
  * PK = evento_id (sem @MapsId para evitar falha de insert no Hibernate).
  */
 @Entity
@@ -27,9 +28,12 @@ public class EventoBanner implements Serializable {
     private String contentType;
 
     @Basic(fetch = FetchType.LAZY)
-    @Column(name = "dados", nullable = false, columnDefinition = "bytea")
+    @Column(name = "dados", columnDefinition = "bytea")
     private byte[] dados;
 
+    @Column(name = "hash_midia", length = 64)
+    private String hashMidia;
+
     @Column(name = "atualizado_em", nullable = false)
     private Instant atualizadoEm = Instant.now();
 
@@ -57,6 +61,14 @@ public class EventoBanner implements Serializable {
         this.dados = dados;
     }
 
+    public String getHashMidia() {
+        return hashMidia;
+    }
+
+    public void setHashMidia(String hashMidia) {
+        this.hashMidia = hashMidia;
+    }
+
     public Instant getAtualizadoEm() {
         return atualizadoEm;
     }
@@ -96,6 +96,13 @@ public class Igreja implements Serializable {
     @Column(name = "logo_url")
     private String logoUrl;
 
+    /** SHA-256 do logo no {@code MidiaStore}; {@code null} para logos gravados em {@code igrejas/<id>/logo.*}. */
+    @Column(name = "logo_hash_midia", length = 64)
+    private String logoHashMidia;
+
+    @Column(name = "logo_content_type", length = 100)
+    private String logoContentType;
+
     @Column(name = "cor_primaria", length = 20)
     private String corPrimaria;
 
@@ -338,6 +345,22 @@ public class Igreja implements Serializable {
         this.logoUrl = logoUrl;
     }
 
+    public String getLogoHashMidia() {
+        return logoHashMidia;
+    }
+
+    public void setLogoHashMidia(String logoHashMidia) {
+        this.logoHashMidia = logoHashMidia;
+    }
+
+    public String getLogoContentType() {
+        return logoContentType;
+    }
+
+    public void setLogoContentType(String logoContentType) {
+        this.logoContentType = logoContentType;
+    }
+
     public String getCorPrimaria() {
         return corPrimaria;
     }
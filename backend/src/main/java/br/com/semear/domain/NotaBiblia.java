@@ -1,6 +1,7 @@
 package br.com.semear.domain;
 
 import br.com.semear.domain.enumeration.VersaoBiblia;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
@@ -15,7 +16,7 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 @Table(name = "nota_biblia")
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SuppressWarnings("common-java:DuplicatedBlocks")
-public class NotaBiblia implements Serializable {
+public class NotaBiblia implements Serializable, DadoBibliaUsuario {
 
     private static final long serialVersionUID = 1L;
 
@@ -72,6 +73,10 @@ public class NotaBiblia implements Serializable {
     @ManyToOne(fetch = FetchType.LAZY)
     private User usuario;
 
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "versao_sync", nullable = false)
+    private Long versaoSync = 0L;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -230,6 +235,16 @@ public class NotaBiblia implements Serializable {
         return this;
     }
 
+    @Override
+    public Long getVersaoSync() {
+        return this.versaoSync;
+    }
+
+    @Override
+    public void setVersaoSync(Long versaoSync) {
+        this.versaoSync = versaoSync;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
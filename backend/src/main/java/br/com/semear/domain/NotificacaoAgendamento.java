@@ -66,6 +66,19 @@ public class NotificacaoAgendamento implements Serializable {
     @Column(name = "enviado_em")
     private Instant enviadoEm;
 
+    @NotNull
+    @Column(name = "tentativas", nullable = false)
+    private Integer tentativas = 0;
+
+    @Column(name = "proxima_tentativa_em")
+    private Instant proximaTentativaEm;
+
+    @Column(name = "reivindicado_em")
+    private Instant reivindicadoEm;
+
+    @Column(name = "ultimo_erro", length = 300)
+    private String ultimoErro;
+
     public Long getId() {
         return id;
     }
@@ -177,4 +190,36 @@ public class NotificacaoAgendamento implements Serializable {
     public void setEnviadoEm(Instant enviadoEm) {
         this.enviadoEm = enviadoEm;
     }
+
+    public Integer getTentativas() {
+        return tentativas;
+    }
+
+    public void setTentativas(Integer tentativas) {
+        this.tentativas = tentativas;
+    }
+
+    public Instant getProximaTentativaEm() {
+        return proximaTentativaEm;
+    }
+
+    public void setProximaTentativaEm(Instant proximaTentativaEm) {
+        this.proximaTentativaEm = proximaTentativaEm;
+    }
+
+    public Instant getReivindicadoEm() {
+        return reivindicadoEm;
+    }
+
+    public void setReivindicadoEm(Instant reivindicadoEm) {
+        this.reivindicadoEm = reivindicadoEm;
+    }
+
+    public String getUltimoErro() {
+        return ultimoErro;
+    }
+
+    public void setUltimoErro(String ultimoErro) {
+        this.ultimoErro = ultimoErro;
+    }
 }
@@ -0,0 +1,80 @@
+package br.com.semear.domain;
+
+import br.com.semear.domain.enumeration.StatusPushPendente;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Fila de saída (outbox) do push: gravada na mesma transação da {@link NotificacaoUsuario} e removida
+ * depois que o despacho termina. O resultado final fica em {@code enviadaPush}/{@code erroPush} da notificação.
+ */
+@Entity
+@Table(name = "notificacao_push_pendente")
+public class NotificacaoPushPendente implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    private Long id;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "notificacao_id", nullable = false)
+    private NotificacaoUsuario notificacao;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private StatusPushPendente status = StatusPushPendente.PENDENTE;
+
+    @NotNull
+    @Column(name = "respeitar_horario_silencioso", nullable = false)
+    private Boolean respeitarHorarioSilencioso = true;
+
+    @NotNull
+    @Column(name = "tentativas", nullable = false)
+    private Integer tentativas = 0;
+
+    @NotNull
+    @Column(name = "proxima_tentativa_em", nullable = false)
+    private Instant proximaTentativaEm = Instant.now();
+
+    @Column(name = "reivindicado_em")
+    private Instant reivindicadoEm;
+
+    /** Identifica o despacho que travou a pendência; renovado em {@code reivindicadoEm} enquanto ele estiver vivo. */
+    @Column(name = "reivindicado_por", length = 36)
+    private String reivindicadoPor;
+
+    @Column(name = "ultimo_erro", length = 300)
+    private String ultimoErro;
+
+    @NotNull
+    @Column(name = "criado_em", nullable = false)
+    private Instant criadoEm = Instant.now();
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public NotificacaoUsuario getNotificacao() { return notificacao; }
+    public void setNotificacao(NotificacaoUsuario notificacao) { this.notificacao = notificacao; }
+    public StatusPushPendente getStatus() { return status; }
+    public void setStatus(StatusPushPendente status) { this.status = status; }
+    public Boolean getRespeitarHorarioSilencioso() { return respeitarHorarioSilencioso; }
+    public void setRespeitarHorarioSilencioso(Boolean respeitarHorarioSilencioso) { this.respeitarHorarioSilencioso = respeitarHorarioSilencioso; }
+    public Integer getTentativas() { return tentativas; }
+    public void setTentativas(Integer tentativas) { this.tentativas = tentativas; }
+    public Instant getProximaTentativaEm() { return proximaTentativaEm; }
+    public void setProximaTentativaEm(Instant proximaTentativaEm) { this.proximaTentativaEm = proximaTentativaEm; }
+    public Instant getReivindicadoEm() { return reivindicadoEm; }
+    public void setReivindicadoEm(Instant reivindicadoEm) { this.reivindicadoEm = reivindicadoEm; }
+    public String getReivindicadoPor() { return reivindicadoPor; }
+    public void setReivindicadoPor(String reivindicadoPor) { this.reivindicadoPor = reivindicadoPor; }
+    public String getUltimoErro() { return ultimoErro; }
+    public void setUltimoErro(String ultimoErro) { this.ultimoErro = ultimoErro; }
+    public Instant getCriadoEm() { return criadoEm; }
+    public void setCriadoEm(Instant criadoEm) { this.criadoEm = criadoEm; }
+}
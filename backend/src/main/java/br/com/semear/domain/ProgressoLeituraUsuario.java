@@ -1,6 +1,7 @@
 package br.com.semear.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
@@ -16,7 +17,7 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 @Table(name = "progresso_leitura_usuario")
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SuppressWarnings("common-java:DuplicatedBlocks")
-public class ProgressoLeituraUsuario implements Serializable {
+public class ProgressoLeituraUsuario implements Serializable, DadoBibliaUsuario {
 
     private static final long serialVersionUID = 1L;
 
@@ -48,6 +49,10 @@ public class ProgressoLeituraUsuario implements Serializable {
     @ManyToOne(fetch = FetchType.LAZY)
     private User usuario;
 
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "versao_sync", nullable = false)
+    private Long versaoSync = 0L;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JsonIgnoreProperties(value = { "dias" }, allowSetters = true)
     private PlanoLeitura plano;
@@ -175,6 +180,16 @@ public class ProgressoLeituraUsuario implements Serializable {
         return this;
     }
 
+    @Override
+    public Long getVersaoSync() {
+        return this.versaoSync;
+    }
+
+    @Override
+    public void setVersaoSync(Long versaoSync) {
+        this.versaoSync = versaoSync;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -43,6 +43,11 @@ public class SolicitacaoSuporteAnexo implements Serializable {
     @Column(name = "caminho_armazenamento", nullable = false, length = 500)
     private String caminhoArmazenamento;
 
+    /** SHA-256 do conteúdo no {@code MidiaStore}; {@code null} para anexos gravados em {@link #caminhoArmazenamento}. */
+    @Size(max = 64)
+    @Column(name = "hash_midia", length = 64)
+    private String hashMidia;
+
     @NotNull
     @Column(name = "data_upload", nullable = false)
     private Instant dataUpload = Instant.now();
@@ -100,6 +105,14 @@ public class SolicitacaoSuporteAnexo implements Serializable {
         this.caminhoArmazenamento = caminhoArmazenamento;
     }
 
+    public String getHashMidia() {
+        return hashMidia;
+    }
+
+    public void setHashMidia(String hashMidia) {
+        this.hashMidia = hashMidia;
+    }
+
     public Instant getDataUpload() {
         return dataUpload;
     }
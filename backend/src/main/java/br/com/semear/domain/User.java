@@ -72,16 +72,6 @@ public class User extends AbstractAuditingEntity<Long> implements Serializable {
     @Column(name = "image_url", length = 256)
     private String imageUrl;
 
-    @Column(name = "image_data", columnDefinition = "bytea")
-    @Basic(fetch = FetchType.LAZY)
-    @JsonIgnore
-    private byte[] imageData;
-
-    @Size(max = 100)
-    @Column(name = "image_content_type", length = 100)
-    @JsonIgnore
-    private String imageContentType;
-
     @Size(max = 20)
     @Column(name = "activation_key", length = 20)
     @JsonIgnore
@@ -249,22 +239,6 @@ public class User extends AbstractAuditingEntity<Long> implements Serializable {
         this.imageUrl = imageUrl;
     }
 
-    public byte[] getImageData() {
-        return imageData;
-    }
-
-    public void setImageData(byte[] imageData) {
-        this.imageData = imageData;
-    }
-
-    public String getImageContentType() {
-        return imageContentType;
-    }
-
-    public void setImageContentType(String imageContentType) {
-        this.imageContentType = imageContentType;
-    }
-
     public boolean isActivated() {
         return activated;
     }
@@ -0,0 +1,66 @@
+package br.com.semear.domain;
+
+import br.com.semear.domain.enumeration.VarianteAvatar;
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Bytes do avatar fora de {@link User}: carregar o usuário (e o cache de segundo nível dele) não traz a imagem.
+ * Uma linha por variante; o hash serve de ETag.
+ */
+@Entity
+@Table(
+    name = "usuario_avatar",
+    uniqueConstraints = @UniqueConstraint(name = "uk_usuario_avatar_variante", columnNames = { "user_id", "variante" })
+)
+public class UsuarioAvatar implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "variante", nullable = false, length = 20)
+    private VarianteAvatar variante;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "dados", nullable = false, columnDefinition = "bytea")
+    private byte[] dados;
+
+    @Column(name = "tamanho_bytes", nullable = false)
+    private Long tamanhoBytes;
+
+    @Column(name = "hash", nullable = false, length = 64)
+    private String hash;
+
+    @Column(name = "atualizado_em", nullable = false)
+    private Instant atualizadoEm;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    public VarianteAvatar getVariante() { return variante; }
+    public void setVariante(VarianteAvatar variante) { this.variante = variante; }
+    public String getContentType() { return contentType; }
+    public void setContentType(String contentType) { this.contentType = contentType; }
+    public byte[] getDados() { return dados; }
+    public void setDados(byte[] dados) { this.dados = dados; }
+    public Long getTamanhoBytes() { return tamanhoBytes; }
+    public void setTamanhoBytes(Long tamanhoBytes) { this.tamanhoBytes = tamanhoBytes; }
+    public String getHash() { return hash; }
+    public void setHash(String hash) { this.hash = hash; }
+    public Instant getAtualizadoEm() { return atualizadoEm; }
+    public void setAtualizadoEm(Instant atualizadoEm) { this.atualizadoEm = atualizadoEm; }
+}
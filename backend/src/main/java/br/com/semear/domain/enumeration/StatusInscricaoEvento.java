@@ -3,4 +3,6 @@ package br.com.semear.domain.enumeration;
 public enum StatusInscricaoEvento {
     ATIVA,
     CANCELADA,
+    /** Evento lotado: aguarda vaga e é promovida a {@link #ATIVA} por ordem de chegada. */
+    ESPERA,
 }
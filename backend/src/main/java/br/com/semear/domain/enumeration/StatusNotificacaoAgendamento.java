@@ -2,6 +2,8 @@ package br.com.semear.domain.enumeration;
 
 public enum StatusNotificacaoAgendamento {
     PENDENTE,
+    EM_PROCESSAMENTO,
     ENVIADO,
     CANCELADO,
+    FALHOU,
 }
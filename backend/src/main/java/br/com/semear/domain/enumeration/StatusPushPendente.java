@@ -0,0 +1,6 @@
+package br.com.semear.domain.enumeration;
+
+public enum StatusPushPendente {
+    PENDENTE,
+    EM_ENVIO,
+}
@@ -0,0 +1,7 @@
+package br.com.semear.domain.enumeration;
+
+public enum StatusRotinaExecucao {
+    EM_EXECUCAO,
+    CONCLUIDA,
+    FALHOU,
+}
@@ -0,0 +1,12 @@
+package br.com.semear.domain.enumeration;
+
+/**
+ * Tipos de dado pessoal da Bíblia devolvidos pela sincronização incremental.
+ */
+public enum TipoDadoBiblia {
+    NOTA,
+    DESTAQUE,
+    FAVORITO,
+    HISTORICO,
+    PROGRESSO,
+}
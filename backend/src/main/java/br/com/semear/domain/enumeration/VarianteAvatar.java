@@ -0,0 +1,21 @@
+package br.com.semear.domain.enumeration;
+
+/**
+ * Variante armazenada do avatar: original enviado e miniaturas geradas no upload.
+ */
+public enum VarianteAvatar {
+    ORIGINAL(0),
+    MEDIA(256),
+    MINIATURA(64);
+
+    private final int ladoMaximo;
+
+    VarianteAvatar(int ladoMaximo) {
+        this.ladoMaximo = ladoMaximo;
+    }
+
+    /** Maior lado em pixels; 0 para o original. */
+    public int getLadoMaximo() {
+        return ladoMaximo;
+    }
+}
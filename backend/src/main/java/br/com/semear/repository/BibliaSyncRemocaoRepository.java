@@ -0,0 +1,42 @@
+package br.com.semear.repository;
+
+import br.com.semear.domain.BibliaSyncRemocao;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Lápides e contador de versão da sincronização incremental dos dados bíblicos pessoais.
+ */
+@Repository
+public interface BibliaSyncRemocaoRepository extends JpaRepository<BibliaSyncRemocao, Long> {
+    @Query(
+        "select r from BibliaSyncRemocao r where r.usuarioId = :usuarioId and r.versaoSync > :desde and r.versaoSync <= :ate " +
+        "order by r.versaoSync, r.id"
+    )
+    List<BibliaSyncRemocao> findAlteradosDesde(
+        @Param("usuarioId") Long usuarioId,
+        @Param("desde") long desde,
+        @Param("ate") long ate,
+        Limit limite
+    );
+
+    /**
+     * Avança o contador do usuário. A linha fica travada até o fim da transação, então as escritas de um mesmo
+     * usuário são confirmadas na ordem das versões.
+     */
+    @Modifying
+    @Query(
+        value = "INSERT INTO biblia_sync_usuario (usuario_id, versao) VALUES (:usuarioId, 1) " +
+        "ON CONFLICT (usuario_id) DO UPDATE SET versao = biblia_sync_usuario.versao + 1",
+        nativeQuery = true
+    )
+    int incrementarVersao(@Param("usuarioId") Long usuarioId);
+
+    @Query(value = "SELECT COALESCE((SELECT s.versao FROM biblia_sync_usuario s WHERE s.usuario_id = :usuarioId), 0)", nativeQuery = true)
+    long versaoAtual(@Param("usuarioId") Long usuarioId);
+}
@@ -0,0 +1,32 @@
+package br.com.semear.repository;
+
+import br.com.semear.domain.CifraConteudoCache;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CifraConteudoCacheRepository extends JpaRepository<CifraConteudoCache, Long> {
+    Optional<CifraConteudoCache> findByChave(String chave);
+
+    /** Grava ou substitui a entrada da chave; duas instâncias gravando a mesma música não conflitam. */
+    @Modifying
+    @Query(
+        value = "INSERT INTO cifra_conteudo_cache (id, chave, url, linhas, encontrado, buscado_em) " +
+        "VALUES (nextval('sequence_generator'), :chave, :url, :linhas, :encontrado, :buscadoEm) " +
+        "ON CONFLICT (chave) DO UPDATE SET url = EXCLUDED.url, linhas = EXCLUDED.linhas, " +
+        "encontrado = EXCLUDED.encontrado, buscado_em = EXCLUDED.buscado_em",
+        nativeQuery = true
+    )
+    int gravar(
+        @Param("chave") String chave,
+        @Param("url") String url,
+        @Param("linhas") String linhas,
+        @Param("encontrado") boolean encontrado,
+        @Param("buscadoEm") Instant buscadoEm
+    );
+}
@@ -2,6 +2,7 @@ package br.com.semear.repository;
 
 import br.com.semear.domain.CultoOcorrencia;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -15,6 +16,12 @@ public interface CultoOcorrenciaRepository extends JpaRepository<CultoOcorrencia
 
     Optional<CultoOcorrencia> findByCultoRegistroIdAndDataEvento(Long cultoRegistroId, LocalDate dataEvento);
 
+    /** Ocorrências canceladas entre os cultos e datas informados. */
+    @Query(
+        "SELECT o FROM CultoOcorrencia o WHERE o.cultoRegistro.id IN :cultoIds AND o.dataEvento IN :datas AND o.cancelado = true"
+    )
+    List<CultoOcorrencia> findCanceladas(@Param("cultoIds") Collection<Long> cultoIds, @Param("datas") Collection<LocalDate> datas);
+
     @Query(
         """
         SELECT o FROM CultoOcorrencia o
@@ -10,4 +10,6 @@ import org.springframework.stereotype.Repository;
 public interface CultoRegistroRepository extends JpaRepository<CultoRegistro, Long> {
     List<CultoRegistro> findByIgrejaIdOrderByNomeAsc(Long igrejaId);
     Optional<CultoRegistro> findByIdAndIgrejaId(Long id, Long igrejaId);
+
+    List<CultoRegistro> findByAtivoTrue();
 }
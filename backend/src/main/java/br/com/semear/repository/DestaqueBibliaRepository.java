@@ -3,6 +3,7 @@ package br.com.semear.repository;
 import br.com.semear.domain.DestaqueBiblia;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
@@ -40,4 +41,16 @@ public interface DestaqueBibliaRepository extends JpaRepository<DestaqueBiblia,
 
     @Query("select destaqueBiblia from DestaqueBiblia destaqueBiblia left join fetch destaqueBiblia.usuario where destaqueBiblia.id =:id")
     Optional<DestaqueBiblia> findOneWithToOneRelationships(@Param("id") Long id);
+
+    /** Linhas do usuário gravadas nas versões {@code (desde, ate]}, na ordem da sincronização. */
+    @Query(
+        "select x from DestaqueBiblia x where x.usuario.id = :usuarioId and x.versaoSync > :desde and x.versaoSync <= :ate " +
+        "order by x.versaoSync, x.id"
+    )
+    List<DestaqueBiblia> findAlteradosDesde(
+        @Param("usuarioId") Long usuarioId,
+        @Param("desde") long desde,
+        @Param("ate") long ate,
+        Limit limite
+    );
 }
@@ -4,10 +4,13 @@ import br.com.semear.domain.EscalaConfigAutomatica;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface EscalaConfigAutomaticaRepository extends JpaRepository<EscalaConfigAutomatica, Long> {
     Optional<EscalaConfigAutomatica> findByIgrejaId(Long igrejaId);
-    List<EscalaConfigAutomatica> findByAtivoTrue();
+
+    @Query("SELECT c.igreja.id FROM EscalaConfigAutomatica c WHERE c.ativo = true ORDER BY c.igreja.id")
+    List<Long> findIgrejaIdsAtivas();
 }
@@ -18,6 +18,17 @@ public interface EscalaRepository extends JpaRepository<Escala, Long> {
     List<Escala> findByIgrejaIdOrderByDataEventoDesc(Long igrejaId);
     List<Escala> findByIgrejaIdAndStatusOrderByDataEventoDesc(Long igrejaId, StatusEscalaPublicacao status);
     Optional<Escala> findByIdAndIgrejaId(Long id, Long igrejaId);
+
+    /** Escalas de todas as igrejas com data no intervalo [inicio, fim), com o que os lembretes precisam já carregado. */
+    @Query(
+        "SELECT e FROM Escala e LEFT JOIN FETCH e.departamento LEFT JOIN FETCH e.cultoRegistro " +
+        "WHERE e.status = :status AND e.dataEvento >= :inicio AND e.dataEvento < :fim"
+    )
+    List<Escala> findByStatusNoPeriodo(
+        @Param("status") StatusEscalaPublicacao status,
+        @Param("inicio") Instant inicio,
+        @Param("fim") Instant fim
+    );
     List<Escala> findByGeracaoId(Long geracaoId);
 
     boolean existsByGeracaoId(Long geracaoId);
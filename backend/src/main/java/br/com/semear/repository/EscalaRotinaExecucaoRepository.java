@@ -0,0 +1,16 @@
+package br.com.semear.repository;
+
+import br.com.semear.domain.EscalaRotinaExecucao;
+import br.com.semear.domain.enumeration.StatusRotinaExecucao;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EscalaRotinaExecucaoRepository extends JpaRepository<EscalaRotinaExecucao, Long> {
+    Optional<EscalaRotinaExecucao> findByIgrejaIdAndDataReferencia(Long igrejaId, LocalDate dataReferencia);
+    List<EscalaRotinaExecucao> findByDataReferenciaAndStatus(LocalDate dataReferencia, StatusRotinaExecucao status);
+    boolean existsByDataReferenciaAndStatus(LocalDate dataReferencia, StatusRotinaExecucao status);
+}
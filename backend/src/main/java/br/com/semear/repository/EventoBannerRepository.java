@@ -1,7 +1,9 @@
 package br.com.semear.repository;
 
 import br.com.semear.domain.EventoBanner;
+import br.com.semear.repository.projection.BannerMetadadosProjection;
 import java.time.Instant;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,4 +13,10 @@ import org.springframework.stereotype.Repository;
 public interface EventoBannerRepository extends JpaRepository<EventoBanner, Long> {
     @Query("select b.atualizadoEm from EventoBanner b where b.eventoId = :eventoId")
     Instant findAtualizadoEmByEventoId(@Param("eventoId") Long eventoId);
+
+    @Query("select b.contentType as contentType, b.hashMidia as hashMidia from EventoBanner b where b.eventoId = :eventoId")
+    Optional<BannerMetadadosProjection> findMetadadosByEventoId(@Param("eventoId") Long eventoId);
+
+    @Query("select b.dados from EventoBanner b where b.eventoId = :eventoId")
+    Optional<byte[]> findDadosByEventoId(@Param("eventoId") Long eventoId);
 }
@@ -2,9 +2,20 @@ package br.com.semear.repository;
 
 import br.com.semear.domain.EventoInscricao;
 import br.com.semear.domain.enumeration.StatusInscricaoEvento;
+import br.com.semear.repository.projection.InscricaoExportacaoProjection;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -17,6 +28,60 @@ public interface EventoInscricaoRepository extends JpaRepository<EventoInscricao
 
     Optional<EventoInscricao> findByIdAndEventoId(Long id, Long eventoId);
 
+    /**
+     * Carrega a inscrição do usuário travando a linha até o fim da transação. Se a promoção da fila já a travou, espera
+     * o commit dela e devolve o status promovido.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM EventoInscricao i WHERE i.evento.id = :eventoId AND i.user.id = :userId")
+    Optional<EventoInscricao> travarPorEventoEUsuario(@Param("eventoId") Long eventoId, @Param("userId") Long userId);
+
+    /** Inscritos com os dados de contato, em cursor somente-avanço; deve ser consumido dentro de transação. */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(
+        "SELECT u.firstName AS firstName, u.lastName AS lastName, u.login AS login, u.email AS email, u.phone AS phone, " +
+        "u.phoneSecondary AS phoneSecondary, i.criadoEm AS criadoEm, i.status AS status, i.confirmado AS confirmado " +
+        "FROM EventoInscricao i JOIN i.user u WHERE i.evento.id = :eventoId AND (:status IS NULL OR i.status = :status) " +
+        "ORDER BY i.criadoEm, i.id"
+    )
+    Stream<InscricaoExportacaoProjection> streamParaExportacao(
+        @Param("eventoId") Long eventoId,
+        @Param("status") StatusInscricaoEvento status
+    );
+
+    /** Inscrições ativas de membros ativos da própria igreja do evento, para vários eventos de uma vez. */
+    @Query(
+        "SELECT i.evento.id AS eventoId, u.id AS userId FROM EventoInscricao i JOIN i.user u " +
+        "WHERE i.evento.id IN :eventoIds AND i.status = :status AND u.activated = true AND u.igreja.id = i.evento.igreja.id"
+    )
+    List<InscritoProjection> findInscritosPorEventos(
+        @Param("eventoIds") Collection<Long> eventoIds,
+        @Param("status") StatusInscricaoEvento status
+    );
+
+    /**
+     * Trava e devolve a inscrição mais antiga da fila de espera. Linhas já travadas por outra transação (quem está
+     * saindo da fila, por exemplo) são puladas em vez de esperadas.
+     */
+    @Query(
+        value = "SELECT * FROM evento_inscricao WHERE evento_id = :eventoId AND status = 'ESPERA' " +
+        "ORDER BY criado_em, id LIMIT 1 FOR UPDATE SKIP LOCKED",
+        nativeQuery = true
+    )
+    Optional<EventoInscricao> travarPrimeiraDaEspera(@Param("eventoId") Long eventoId);
+
+    /** Quantas inscrições da fila de espera chegaram antes da informada. */
+    @Query(
+        "SELECT count(i) FROM EventoInscricao i WHERE i.evento.id = :eventoId AND i.status = :status " +
+        "AND (i.criadoEm < :criadoEm OR (i.criadoEm = :criadoEm AND i.id < :id))"
+    )
+    long countAFrenteNaFila(
+        @Param("eventoId") Long eventoId,
+        @Param("status") StatusInscricaoEvento status,
+        @Param("criadoEm") Instant criadoEm,
+        @Param("id") Long id
+    );
+
     long countByEventoId(Long eventoId);
 
     long countByEventoIdAndStatus(Long eventoId, StatusInscricaoEvento status);
@@ -28,4 +93,10 @@ public interface EventoInscricaoRepository extends JpaRepository<EventoInscricao
         StatusInscricaoEvento status,
         Long igrejaId
     );
+
+    interface InscritoProjection {
+        Long getEventoId();
+
+        Long getUserId();
+    }
 }
@@ -8,6 +8,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -35,6 +36,14 @@ public interface EventoRepository extends JpaRepository<Evento, Long> {
 
     Optional<Evento> findByIdAndIgrejaId(Long id, Long igrejaId);
 
+    /** Eventos de todas as igrejas que começam no intervalo [inicio, fim). */
+    @Query("SELECT e FROM Evento e WHERE e.status = :status AND e.dataInicio >= :inicio AND e.dataInicio < :fim")
+    List<Evento> findByStatusNoPeriodo(
+        @Param("status") StatusEvento status,
+        @Param("inicio") Instant inicio,
+        @Param("fim") Instant fim
+    );
+
     @Query("SELECT e FROM Evento e JOIN FETCH e.igreja WHERE e.id = :id")
     Optional<Evento> findByIdWithIgreja(@Param("id") Long id);
 
@@ -73,4 +82,28 @@ public interface EventoRepository extends JpaRepository<Evento, Long> {
         @Param("apos") Instant apos,
         @Param("antes") Instant antes
     );
+
+    /**
+     * Ocupa uma vaga se ainda houver. A linha do evento fica travada até o fim da transação, então inscrições
+     * simultâneas nunca passam da capacidade; devolve 0 quando o evento está lotado.
+     */
+    @Modifying
+    @Query(
+        "UPDATE Evento e SET e.vagasOcupadas = e.vagasOcupadas + 1 " +
+        "WHERE e.id = :id AND (e.capacidade IS NULL OR e.vagasOcupadas < e.capacidade)"
+    )
+    int ocuparVaga(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Evento e SET e.vagasOcupadas = e.vagasOcupadas - 1 WHERE e.id = :id AND e.vagasOcupadas > 0")
+    int liberarVaga(@Param("id") Long id);
+
+    /** Refaz o contador a partir das inscrições ativas, para cargas que gravam inscrições direto no repositório. */
+    @Modifying
+    @Query(
+        value = "UPDATE evento SET vagas_ocupadas = (SELECT count(*) FROM evento_inscricao i " +
+        "WHERE i.evento_id = evento.id AND i.status = 'ATIVA') WHERE id = :id",
+        nativeQuery = true
+    )
+    int recalcularVagasOcupadas(@Param("id") Long id);
 }
@@ -3,6 +3,7 @@ package br.com.semear.repository;
 import br.com.semear.domain.FavoritoBiblia;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
@@ -40,4 +41,16 @@ public interface FavoritoBibliaRepository extends JpaRepository<FavoritoBiblia,
 
     @Query("select favoritoBiblia from FavoritoBiblia favoritoBiblia left join fetch favoritoBiblia.usuario where favoritoBiblia.id =:id")
     Optional<FavoritoBiblia> findOneWithToOneRelationships(@Param("id") Long id);
+
+    /** Linhas do usuário gravadas nas versões {@code (desde, ate]}, na ordem da sincronização. */
+    @Query(
+        "select x from FavoritoBiblia x where x.usuario.id = :usuarioId and x.versaoSync > :desde and x.versaoSync <= :ate " +
+        "order by x.versaoSync, x.id"
+    )
+    List<FavoritoBiblia> findAlteradosDesde(
+        @Param("usuarioId") Long usuarioId,
+        @Param("desde") long desde,
+        @Param("ate") long ate,
+        Limit limite
+    );
 }
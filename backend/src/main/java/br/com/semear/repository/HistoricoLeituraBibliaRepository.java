@@ -3,6 +3,7 @@ package br.com.semear.repository;
 import br.com.semear.domain.HistoricoLeituraBiblia;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
@@ -46,4 +47,16 @@ public interface HistoricoLeituraBibliaRepository extends JpaRepository<Historic
         "select historicoLeituraBiblia from HistoricoLeituraBiblia historicoLeituraBiblia left join fetch historicoLeituraBiblia.usuario where historicoLeituraBiblia.id =:id"
     )
     Optional<HistoricoLeituraBiblia> findOneWithToOneRelationships(@Param("id") Long id);
+
+    /** Linhas do usuário gravadas nas versões {@code (desde, ate]}, na ordem da sincronização. */
+    @Query(
+        "select x from HistoricoLeituraBiblia x where x.usuario.id = :usuarioId and x.versaoSync > :desde and x.versaoSync <= :ate " +
+        "order by x.versaoSync, x.id"
+    )
+    List<HistoricoLeituraBiblia> findAlteradosDesde(
+        @Param("usuarioId") Long usuarioId,
+        @Param("desde") long desde,
+        @Param("ate") long ate,
+        Limit limite
+    );
 }
@@ -2,6 +2,7 @@ package br.com.semear.repository;
 
 import br.com.semear.domain.Igreja;
 import br.com.semear.domain.enumeration.StatusIgreja;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Sort;
@@ -21,4 +22,6 @@ public interface IgrejaRepository extends JpaRepository<Igreja, Long>, JpaSpecif
     Optional<Igreja> findBySlugAndSiteAtivoTrue(String slug);
 
     Optional<Igreja> findBySlug(String slug);
+
+    List<Igreja> findByDataInicioPlanoLeituraLessThanEqual(LocalDate data);
 }
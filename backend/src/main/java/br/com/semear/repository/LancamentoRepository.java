@@ -2,10 +2,22 @@ package br.com.semear.repository;
 
 import br.com.semear.domain.Lancamento;
 import br.com.semear.domain.enumerations.TipoLancamento;
+import br.com.semear.repository.projection.LancamentoExportacaoProjection;
+import br.com.semear.repository.projection.TotalFinanceiroProjection;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -14,6 +26,14 @@ public interface LancamentoRepository extends JpaRepository<Lancamento, Long> {
 
     List<Lancamento> findAllByOrderByDataLancamentoDescCriadoEmDesc();
 
+    /**
+     * Trava o lançamento até o fim da transação. Edição e exclusão estornam do resumo mensal os valores que leram;
+     * sem a trava, duas operações simultâneas estornariam o mesmo valor original.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM Lancamento l WHERE l.id = :id")
+    Optional<Lancamento> travarPorId(@Param("id") Long id);
+
     List<Lancamento> findByIgrejaIdOrderByDataLancamentoDescCriadoEmDesc(Long igrejaId);
 
     List<Lancamento> findByTipoOrderByDataLancamentoDescCriadoEmDesc(TipoLancamento tipo);
@@ -27,4 +47,116 @@ public interface LancamentoRepository extends JpaRepository<Lancamento, Long> {
         "SELECT l FROM Lancamento l WHERE l.igreja.id = :igrejaId AND l.dataLancamento >= :inicio AND l.dataLancamento <= :fim ORDER BY l.dataLancamento DESC, l.criadoEm DESC"
     )
     List<Lancamento> findByIgrejaIdAndPeriodo(@Param("igrejaId") Long igrejaId, @Param("inicio") LocalDate inicio, @Param("fim") LocalDate fim);
+
+    /**
+     * Cursor somente-avanço para exportação: o driver busca as linhas em blocos de {@code fetchSize} e nada é
+     * guardado no contexto de persistência. Filtros nulos são ignorados. Deve ser consumido dentro de transação.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(
+        "SELECT l.id AS id, l.tipo AS tipo, l.categoria AS categoria, l.descricao AS descricao, l.valor AS valor, " +
+        "l.dataLancamento AS dataLancamento, l.centroCusto AS centroCusto, l.metodoPagamento AS metodoPagamento, l.referencia AS referencia " +
+        "FROM Lancamento l WHERE l.igreja.id = :igrejaId AND l.dataLancamento >= :inicio AND l.dataLancamento <= :fim " +
+        "AND (:tipo IS NULL OR l.tipo = :tipo) AND (:categoria IS NULL OR l.categoria = :categoria) " +
+        "AND (:centroCusto IS NULL OR l.centroCusto = :centroCusto) ORDER BY l.dataLancamento DESC, l.id DESC"
+    )
+    Stream<LancamentoExportacaoProjection> streamParaExportacao(
+        @Param("igrejaId") Long igrejaId,
+        @Param("inicio") LocalDate inicio,
+        @Param("fim") LocalDate fim,
+        @Param("tipo") TipoLancamento tipo,
+        @Param("categoria") String categoria,
+        @Param("centroCusto") String centroCusto
+    );
+
+    /** Primeira página do livro caixa, do mais recente para o mais antigo. */
+    @Query("SELECT l FROM Lancamento l WHERE l.igreja.id = :igrejaId ORDER BY l.dataLancamento DESC, l.id DESC")
+    List<Lancamento> findPrimeiraPagina(@Param("igrejaId") Long igrejaId, Limit limite);
+
+    /** Página seguinte ao cursor (data, id) do último lançamento já entregue. */
+    @Query(
+        "SELECT l FROM Lancamento l WHERE l.igreja.id = :igrejaId " +
+        "AND (l.dataLancamento < :data OR (l.dataLancamento = :data AND l.id < :id)) " +
+        "ORDER BY l.dataLancamento DESC, l.id DESC"
+    )
+    List<Lancamento> findPaginaApos(@Param("igrejaId") Long igrejaId, @Param("data") LocalDate data, @Param("id") Long id, Limit limite);
+
+    @Query("SELECT l FROM Lancamento l WHERE l.igreja.id = :igrejaId AND l.tipo = :tipo ORDER BY l.dataLancamento DESC, l.id DESC")
+    List<Lancamento> findPrimeiraPaginaPorTipo(@Param("igrejaId") Long igrejaId, @Param("tipo") TipoLancamento tipo, Limit limite);
+
+    @Query(
+        "SELECT l FROM Lancamento l WHERE l.igreja.id = :igrejaId AND l.tipo = :tipo " +
+        "AND (l.dataLancamento < :data OR (l.dataLancamento = :data AND l.id < :id)) " +
+        "ORDER BY l.dataLancamento DESC, l.id DESC"
+    )
+    List<Lancamento> findPaginaAposPorTipo(
+        @Param("igrejaId") Long igrejaId,
+        @Param("tipo") TipoLancamento tipo,
+        @Param("data") LocalDate data,
+        @Param("id") Long id,
+        Limit limite
+    );
+
+    /** Soma (ou subtrai, com valor e quantidade negativos) um lançamento no resumo mensal. */
+    @Modifying
+    @Query(
+        value = "INSERT INTO lancamento_resumo_mensal (igreja_id, mes, tipo, categoria, centro_custo, total, quantidade) " +
+        "VALUES (:igrejaId, :mes, :tipo, :categoria, :centroCusto, :valor, :quantidade) " +
+        "ON CONFLICT (igreja_id, mes, tipo, categoria, centro_custo) DO UPDATE SET " +
+        "total = lancamento_resumo_mensal.total + EXCLUDED.total, " +
+        "quantidade = lancamento_resumo_mensal.quantidade + EXCLUDED.quantidade",
+        nativeQuery = true
+    )
+    int acumularResumoMensal(
+        @Param("igrejaId") Long igrejaId,
+        @Param("mes") LocalDate mes,
+        @Param("tipo") String tipo,
+        @Param("categoria") String categoria,
+        @Param("centroCusto") String centroCusto,
+        @Param("valor") BigDecimal valor,
+        @Param("quantidade") long quantidade
+    );
+
+    @Modifying
+    @Query(value = "DELETE FROM lancamento_resumo_mensal WHERE igreja_id = :igrejaId AND mes = :mes AND quantidade <= 0", nativeQuery = true)
+    int removerResumosVazios(@Param("igrejaId") Long igrejaId, @Param("mes") LocalDate mes);
+
+    @Query(
+        value = "SELECT to_char(r.mes, 'YYYY-MM') AS chave, r.tipo AS tipo, SUM(r.total) AS total, SUM(r.quantidade) AS quantidade " +
+        "FROM lancamento_resumo_mensal r WHERE r.igreja_id = :igrejaId AND r.mes BETWEEN :inicio AND :fim " +
+        "GROUP BY r.mes, r.tipo ORDER BY r.mes",
+        nativeQuery = true
+    )
+    List<TotalFinanceiroProjection> totaisPorMes(@Param("igrejaId") Long igrejaId, @Param("inicio") LocalDate inicio, @Param("fim") LocalDate fim);
+
+    @Query(
+        value = "SELECT r.categoria AS chave, r.tipo AS tipo, SUM(r.total) AS total, SUM(r.quantidade) AS quantidade " +
+        "FROM lancamento_resumo_mensal r WHERE r.igreja_id = :igrejaId AND r.mes BETWEEN :inicio AND :fim " +
+        "GROUP BY r.categoria, r.tipo ORDER BY r.categoria",
+        nativeQuery = true
+    )
+    List<TotalFinanceiroProjection> totaisPorCategoria(
+        @Param("igrejaId") Long igrejaId,
+        @Param("inicio") LocalDate inicio,
+        @Param("fim") LocalDate fim
+    );
+
+    @Query(
+        value = "SELECT r.centro_custo AS chave, r.tipo AS tipo, SUM(r.total) AS total, SUM(r.quantidade) AS quantidade " +
+        "FROM lancamento_resumo_mensal r WHERE r.igreja_id = :igrejaId AND r.mes BETWEEN :inicio AND :fim " +
+        "GROUP BY r.centro_custo, r.tipo ORDER BY r.centro_custo",
+        nativeQuery = true
+    )
+    List<TotalFinanceiroProjection> totaisPorCentroCusto(
+        @Param("igrejaId") Long igrejaId,
+        @Param("inicio") LocalDate inicio,
+        @Param("fim") LocalDate fim
+    );
+
+    @Query(
+        value = "SELECT COALESCE(SUM(CASE WHEN r.tipo = 'INCOME' THEN r.total ELSE -r.total END), 0) " +
+        "FROM lancamento_resumo_mensal r WHERE r.igreja_id = :igrejaId AND r.mes BETWEEN :inicio AND :fim",
+        nativeQuery = true
+    )
+    BigDecimal saldoResumo(@Param("igrejaId") Long igrejaId, @Param("inicio") LocalDate inicio, @Param("fim") LocalDate fim);
 }
@@ -2,9 +2,16 @@ package br.com.semear.repository;
 
 import br.com.semear.domain.NotificacaoAgendamento;
 import br.com.semear.domain.enumeration.StatusNotificacaoAgendamento;
+import jakarta.persistence.LockModeType;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -17,8 +24,49 @@ public interface NotificacaoAgendamentoRepository extends JpaRepository<Notifica
 
     List<NotificacaoAgendamento> findByEntidadeTipoAndEntidadeId(String entidadeTipo, Long entidadeId);
 
-    List<NotificacaoAgendamento> findByStatusAndAgendadoParaLessThanEqual(
-        StatusNotificacaoAgendamento status,
-        Instant limite
+    /** Horário de disparo dos pendentes até o limite, para carregar a roda temporal. */
+    @Query(
+        "SELECT a.id AS id, a.agendadoPara AS agendadoPara, a.proximaTentativaEm AS proximaTentativaEm FROM NotificacaoAgendamento a " +
+        "WHERE a.status = br.com.semear.domain.enumeration.StatusNotificacaoAgendamento.PENDENTE AND a.agendadoPara <= :limite " +
+        "AND (a.proximaTentativaEm IS NULL OR a.proximaTentativaEm <= :limite)"
+    )
+    List<DisparoProjection> findDisparosPendentesAte(@Param("limite") Instant limite);
+
+    /** Trava os próximos vencidos; instâncias concorrentes pulam os já travados. */
+    @Query(
+        value = "SELECT id FROM notificacao_agendamento WHERE status = 'PENDENTE' AND agendado_para <= :agora " +
+        "AND (proxima_tentativa_em IS NULL OR proxima_tentativa_em <= :agora) " +
+        "ORDER BY agendado_para, id LIMIT :limite FOR UPDATE SKIP LOCKED",
+        nativeQuery = true
+    )
+    List<Long> travarProximosVencidos(@Param("agora") Instant agora, @Param("limite") int limite);
+
+    @Modifying
+    @Query("UPDATE NotificacaoAgendamento a SET a.status = :status, a.reivindicadoEm = :agora WHERE a.id IN :ids")
+    int marcarStatus(
+        @Param("ids") Collection<Long> ids,
+        @Param("status") StatusNotificacaoAgendamento status,
+        @Param("agora") Instant agora
     );
+
+    /** Carrega o agendamento reivindicado travando a linha até o fim da transação do disparo. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM NotificacaoAgendamento a WHERE a.id = :id")
+    Optional<NotificacaoAgendamento> findByIdParaDisparo(@Param("id") Long id);
+
+    /** Devolve à fila o que ficou em processamento numa instância que caiu. */
+    @Modifying
+    @Query(
+        "UPDATE NotificacaoAgendamento a SET a.status = br.com.semear.domain.enumeration.StatusNotificacaoAgendamento.PENDENTE " +
+        "WHERE a.status = br.com.semear.domain.enumeration.StatusNotificacaoAgendamento.EM_PROCESSAMENTO AND a.reivindicadoEm < :limite"
+    )
+    int liberarTravadosAntesDe(@Param("limite") Instant limite);
+
+    interface DisparoProjection {
+        Long getId();
+
+        Instant getAgendadoPara();
+
+        Instant getProximaTentativaEm();
+    }
 }
@@ -2,12 +2,19 @@ package br.com.semear.repository;
 
 import br.com.semear.domain.NotificacaoEnvioLog;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface NotificacaoEnvioLogRepository extends JpaRepository<NotificacaoEnvioLog, Long> {
     boolean existsByChaveDeduplicacao(String chaveDeduplicacao);
 
+    @Query("SELECT l.chaveDeduplicacao FROM NotificacaoEnvioLog l WHERE l.chaveDeduplicacao IN :chaves")
+    Set<String> findChavesExistentes(@Param("chaves") Collection<String> chaves);
+
     long countByCriadoEmAfter(Instant desde);
 }
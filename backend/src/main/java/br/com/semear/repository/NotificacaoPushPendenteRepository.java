@@ -0,0 +1,68 @@
+package br.com.semear.repository;
+
+import br.com.semear.domain.NotificacaoPushPendente;
+import br.com.semear.domain.enumeration.StatusPushPendente;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificacaoPushPendenteRepository extends JpaRepository<NotificacaoPushPendente, Long> {
+    /** Trava as próximas pendentes vencidas; instâncias concorrentes pulam as já travadas. */
+    @Query(
+        value = "SELECT id FROM notificacao_push_pendente WHERE status = 'PENDENTE' AND proxima_tentativa_em <= :agora " +
+        "ORDER BY id LIMIT :limite FOR UPDATE SKIP LOCKED",
+        nativeQuery = true
+    )
+    List<Long> travarProximasPendentes(@Param("agora") Instant agora, @Param("limite") int limite);
+
+    @Modifying
+    @Query(
+        "UPDATE NotificacaoPushPendente p SET p.status = br.com.semear.domain.enumeration.StatusPushPendente.EM_ENVIO, " +
+        "p.reivindicadoEm = :agora, p.reivindicadoPor = :dono WHERE p.id IN :ids"
+    )
+    int reivindicar(@Param("ids") Collection<Long> ids, @Param("agora") Instant agora, @Param("dono") String dono);
+
+    /** Mantém vivas as reivindicações de despachos ainda em andamento, para a varredura não devolvê-las à fila. */
+    @Modifying
+    @Query(
+        "UPDATE NotificacaoPushPendente p SET p.reivindicadoEm = :agora " +
+        "WHERE p.status = br.com.semear.domain.enumeration.StatusPushPendente.EM_ENVIO AND p.reivindicadoPor IN :donos"
+    )
+    int renovarReivindicacoes(@Param("donos") Collection<String> donos, @Param("agora") Instant agora);
+
+    @Query(
+        "SELECT p FROM NotificacaoPushPendente p JOIN FETCH p.notificacao n JOIN FETCH n.user JOIN FETCH n.igreja " +
+        "WHERE p.id IN :ids ORDER BY p.id"
+    )
+    List<NotificacaoPushPendente> findByIdInWithNotificacao(@Param("ids") Collection<Long> ids);
+
+    /** Devolve à fila o que ficou em envio numa instância que caiu, exceto o que ela chegou a entregar. */
+    @Modifying
+    @Query(
+        "UPDATE NotificacaoPushPendente p SET p.status = br.com.semear.domain.enumeration.StatusPushPendente.PENDENTE, " +
+        "p.reivindicadoPor = NULL " +
+        "WHERE p.status = br.com.semear.domain.enumeration.StatusPushPendente.EM_ENVIO AND p.reivindicadoEm < :limite " +
+        "AND p.notificacao.id IN (SELECT n.id FROM NotificacaoUsuario n WHERE n.enviadaPush = false)"
+    )
+    int liberarTravadasAntesDe(@Param("limite") Instant limite);
+
+    /** Remove as travadas de uma instância que caiu depois de entregar o push. */
+    @Modifying
+    @Query(
+        "DELETE FROM NotificacaoPushPendente p " +
+        "WHERE p.status = br.com.semear.domain.enumeration.StatusPushPendente.EM_ENVIO AND p.reivindicadoEm < :limite " +
+        "AND p.notificacao.id IN (SELECT n.id FROM NotificacaoUsuario n WHERE n.enviadaPush = true)"
+    )
+    int removerTravadasEnviadasAntesDe(@Param("limite") Instant limite);
+
+    /** Conclui só as pendências que ainda pertencem ao despacho; as devolvidas à fila ficam para o novo dono. */
+    @Modifying
+    @Query("DELETE FROM NotificacaoPushPendente p WHERE p.id IN :ids AND p.reivindicadoPor = :dono")
+    int concluir(@Param("ids") Collection<Long> ids, @Param("dono") String dono);
+}
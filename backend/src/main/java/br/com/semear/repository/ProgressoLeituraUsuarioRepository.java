@@ -3,6 +3,7 @@ package br.com.semear.repository;
 import br.com.semear.domain.ProgressoLeituraUsuario;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
@@ -46,4 +47,16 @@ public interface ProgressoLeituraUsuarioRepository extends JpaRepository<Progres
         "select progressoLeituraUsuario from ProgressoLeituraUsuario progressoLeituraUsuario left join fetch progressoLeituraUsuario.usuario where progressoLeituraUsuario.id =:id"
     )
     Optional<ProgressoLeituraUsuario> findOneWithToOneRelationships(@Param("id") Long id);
+
+    /** Linhas do usuário gravadas nas versões {@code (desde, ate]}, na ordem da sincronização. */
+    @Query(
+        "select x from ProgressoLeituraUsuario x where x.usuario.id = :usuarioId and x.versaoSync > :desde and x.versaoSync <= :ate " +
+        "order by x.versaoSync, x.id"
+    )
+    List<ProgressoLeituraUsuario> findAlteradosDesde(
+        @Param("usuarioId") Long usuarioId,
+        @Param("desde") long desde,
+        @Param("ate") long ate,
+        Limit limite
+    );
 }
@@ -2,7 +2,10 @@ package br.com.semear.repository;
 
 import br.com.semear.domain.User;
 import br.com.semear.repository.projection.AniversarianteProjection;
+import br.com.semear.repository.projection.DatasComemorativasProjection;
+import br.com.semear.repository.projection.DestinatarioProjection;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.cache.annotation.Cacheable;
@@ -28,8 +31,6 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findOneByLogin(String login);
     List<User> findAllByBirthDateIsNotNullAndActivatedIsTrue();
 
-    List<User> findAllByIgrejaIdAndBirthDateIsNotNullAndActivatedIsTrue(Long igrejaId);
-
     List<User> findAllByIgrejaIdAndActivatedIsTrue(Long igrejaId);
 
     @Query("SELECT u FROM User u WHERE u.birthDate IS NOT NULL AND (u.activated = true OR u.isDependente = true)")
@@ -52,18 +53,44 @@ public interface UserRepository extends JpaRepository<User, Long> {
         SELECT u.id AS id, u.firstName AS firstName, u.lastName AS lastName, u.login AS login,
         u.birthDate AS birthDate, u.imageUrl AS imageUrl
         FROM User u
+        WHERE u.id IN :ids
+        """
+    )
+    List<AniversarianteProjection> findAniversariantesPorIds(@Param("ids") Collection<Long> ids);
+
+    /** Ordenado por nome: o índice de aniversários preserva essa ordem dentro de cada dia. */
+    @Query(
+        """
+        SELECT u.id AS id, u.activated AS activated, u.birthDate AS birthDate, u.dataBatismo AS dataBatismo,
+        u.dataCasamento AS dataCasamento, u.dataMembroSince AS dataMembroSince
+        FROM User u
         WHERE u.igreja.id = :igrejaId
-        AND u.activated = true
+        AND (u.activated = true OR u.isDependente = true)
+        AND (u.birthDate IS NOT NULL OR u.dataBatismo IS NOT NULL OR u.dataCasamento IS NOT NULL OR u.dataMembroSince IS NOT NULL)
+        ORDER BY u.firstName ASC, u.lastName ASC, u.id ASC
+        """
+    )
+    List<DatasComemorativasProjection> findDatasComemorativasPorIgreja(@Param("igrejaId") Long igrejaId);
+
+    /**
+     * Membros ativos de todas as igrejas que fazem aniversário no dia; com {@code incluir29Fevereiro}, também os
+     * nascidos em 29/02 (celebrados em 28/02 nos anos não bissextos).
+     */
+    @Query(
+        """
+        SELECT u.id AS userId, u.igreja.id AS igrejaId, u.firstName AS firstName
+        FROM User u
+        WHERE u.activated = true
+        AND u.igreja IS NOT NULL
         AND u.birthDate IS NOT NULL
-        AND EXTRACT(MONTH FROM u.birthDate) = :mes
-        AND EXTRACT(DAY FROM u.birthDate) = :dia
-        ORDER BY u.firstName ASC, u.lastName ASC
+        AND extract(month from u.birthDate) = :mes
+        AND (extract(day from u.birthDate) = :dia OR (:incluir29Fevereiro = true AND extract(day from u.birthDate) = 29))
         """
     )
-    List<AniversarianteProjection> findAniversariantesDoDiaPorIgreja(
-        @Param("igrejaId") Long igrejaId,
+    List<DestinatarioProjection> findAniversariantesDoDia(
         @Param("mes") int mes,
-        @Param("dia") int dia
+        @Param("dia") int dia,
+        @Param("incluir29Fevereiro") boolean incluir29Fevereiro
     );
 
     @EntityGraph(attributePaths = { "authorities", "igreja" })
@@ -0,0 +1,28 @@
+package br.com.semear.repository;
+
+import br.com.semear.domain.UsuarioAvatar;
+import br.com.semear.domain.enumeration.VarianteAvatar;
+import br.com.semear.repository.projection.AvatarMetadadosProjection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UsuarioAvatarRepository extends JpaRepository<UsuarioAvatar, Long> {
+    @Query(
+        "SELECT a.variante AS variante, a.contentType AS contentType, a.tamanhoBytes AS tamanhoBytes, a.hash AS hash, " +
+        "a.atualizadoEm AS atualizadoEm FROM UsuarioAvatar a WHERE a.userId = :userId"
+    )
+    List<AvatarMetadadosProjection> findMetadadosByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT a.dados FROM UsuarioAvatar a WHERE a.userId = :userId AND a.variante = :variante")
+    Optional<byte[]> findDados(@Param("userId") Long userId, @Param("variante") VarianteAvatar variante);
+
+    @Modifying
+    @Query("DELETE FROM UsuarioAvatar a WHERE a.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
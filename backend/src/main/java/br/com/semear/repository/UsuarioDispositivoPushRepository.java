@@ -1,9 +1,12 @@
 package br.com.semear.repository;
 
 import br.com.semear.domain.UsuarioDispositivoPush;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -23,4 +26,17 @@ public interface UsuarioDispositivoPushRepository extends JpaRepository<UsuarioD
     List<UsuarioDispositivoPush> findByUserIdAndAtivoTrue(Long userId);
 
     boolean existsByUserIdAndIgrejaIdAndAtivoTrue(Long userId, Long igrejaId);
+
+    @Query("SELECT d FROM UsuarioDispositivoPush d WHERE d.user.id IN :userIds AND d.ativo = true")
+    List<UsuarioDispositivoPush> findByUserIdInAndAtivoTrue(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("UPDATE UsuarioDispositivoPush d SET d.ultimoUso = :agora, d.atualizadoEm = :agora WHERE d.id IN :ids")
+    int registrarUso(@Param("ids") Collection<Long> ids, @Param("agora") Instant agora);
+
+    @Modifying
+    @Query(
+        "UPDATE UsuarioDispositivoPush d SET d.ativo = false, d.desativadoEm = :agora, d.atualizadoEm = :agora WHERE d.id IN :ids"
+    )
+    int desativar(@Param("ids") Collection<Long> ids, @Param("agora") Instant agora);
 }
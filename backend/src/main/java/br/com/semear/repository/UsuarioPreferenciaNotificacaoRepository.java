@@ -1,6 +1,8 @@
 package br.com.semear.repository;
 
 import br.com.semear.domain.UsuarioPreferenciaNotificacao;
+import br.com.semear.repository.projection.DestinatarioProjection;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,27 +14,38 @@ import org.springframework.stereotype.Repository;
 public interface UsuarioPreferenciaNotificacaoRepository extends JpaRepository<UsuarioPreferenciaNotificacao, Long> {
     Optional<UsuarioPreferenciaNotificacao> findByUserIdAndIgrejaId(Long userId, Long igrejaId);
 
+    @Query("SELECT p FROM UsuarioPreferenciaNotificacao p WHERE p.user.id IN :userIds")
+    List<UsuarioPreferenciaNotificacao> findByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
     @Query(
         "SELECT p FROM UsuarioPreferenciaNotificacao p JOIN FETCH p.user " +
-        "WHERE p.igreja.id = :igrejaId AND p.devocionalAtivo = true AND p.pushAtivo = true"
+        "WHERE p.igreja.id = :igrejaId AND p.pushAtivo = true AND p.cultosAtivo = true"
     )
-    List<UsuarioPreferenciaNotificacao> findByIgrejaIdAndDevocionalAtivoTrueAndPushAtivoTrue(@Param("igrejaId") Long igrejaId);
+    List<UsuarioPreferenciaNotificacao> findByIgrejaIdAndPushAtivoTrueAndCultosAtivoTrue(@Param("igrejaId") Long igrejaId);
 
+    /** Usuários ativos com push ligado, de todas as igrejas — lembretes diários gerais. */
     @Query(
-        "SELECT p FROM UsuarioPreferenciaNotificacao p JOIN FETCH p.user " +
-        "WHERE p.igreja.id = :igrejaId AND p.pushAtivo = true"
+        "SELECT u.id AS userId, p.igreja.id AS igrejaId, u.firstName AS firstName FROM UsuarioPreferenciaNotificacao p JOIN p.user u " +
+        "WHERE p.pushAtivo = true AND u.activated = true AND u.igreja.id = p.igreja.id"
     )
-    List<UsuarioPreferenciaNotificacao> findByIgrejaIdAndPushAtivoTrue(@Param("igrejaId") Long igrejaId);
+    List<DestinatarioProjection> findDestinatariosPush();
 
     @Query(
-        "SELECT p FROM UsuarioPreferenciaNotificacao p JOIN FETCH p.user " +
-        "WHERE p.igreja.id = :igrejaId AND p.pushAtivo = true AND p.avisosGeraisAtivo = true"
+        "SELECT u.id AS userId, p.igreja.id AS igrejaId, u.firstName AS firstName FROM UsuarioPreferenciaNotificacao p JOIN p.user u " +
+        "WHERE p.pushAtivo = true AND p.devocionalAtivo = true AND u.activated = true AND u.igreja.id = p.igreja.id"
     )
-    List<UsuarioPreferenciaNotificacao> findByIgrejaIdAndPushAtivoTrueAndAvisosGeraisAtivoTrue(@Param("igrejaId") Long igrejaId);
+    List<DestinatarioProjection> findDestinatariosDevocional();
 
     @Query(
-        "SELECT p FROM UsuarioPreferenciaNotificacao p JOIN FETCH p.user " +
-        "WHERE p.igreja.id = :igrejaId AND p.pushAtivo = true AND p.cultosAtivo = true"
+        "SELECT u.id AS userId, p.igreja.id AS igrejaId, u.firstName AS firstName FROM UsuarioPreferenciaNotificacao p JOIN p.user u " +
+        "WHERE p.igreja.id IN :igrejaIds AND p.pushAtivo = true AND u.activated = true AND u.igreja.id = p.igreja.id"
     )
-    List<UsuarioPreferenciaNotificacao> findByIgrejaIdAndPushAtivoTrueAndCultosAtivoTrue(@Param("igrejaId") Long igrejaId);
+    List<DestinatarioProjection> findDestinatariosPushPorIgrejas(@Param("igrejaIds") Collection<Long> igrejaIds);
+
+    @Query(
+        "SELECT u.id AS userId, p.igreja.id AS igrejaId, u.firstName AS firstName FROM UsuarioPreferenciaNotificacao p JOIN p.user u " +
+        "WHERE p.igreja.id IN :igrejaIds AND p.pushAtivo = true AND p.avisosGeraisAtivo = true AND u.activated = true " +
+        "AND u.igreja.id = p.igreja.id"
+    )
+    List<DestinatarioProjection> findDestinatariosAvisosGeraisPorIgrejas(@Param("igrejaIds") Collection<Long> igrejaIds);
 }
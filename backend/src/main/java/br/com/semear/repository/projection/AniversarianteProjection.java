@@ -3,7 +3,7 @@ package br.com.semear.repository.projection;
 import java.time.LocalDate;
 
 /**
- * Projeção leve para aniversariantes — evita carregar {@code image_data} (bytea).
+ * Projeção leve para aniversariantes — evita carregar a entidade {@code User} inteira.
  */
 public interface AniversarianteProjection {
     Long getId();
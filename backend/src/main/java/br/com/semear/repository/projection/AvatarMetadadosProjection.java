@@ -0,0 +1,19 @@
+package br.com.semear.repository.projection;
+
+import br.com.semear.domain.enumeration.VarianteAvatar;
+import java.time.Instant;
+
+/**
+ * Metadados de uma variante de avatar sem a coluna {@code dados} — suficiente para responder 304.
+ */
+public interface AvatarMetadadosProjection {
+    VarianteAvatar getVariante();
+
+    String getContentType();
+
+    Long getTamanhoBytes();
+
+    String getHash();
+
+    Instant getAtualizadoEm();
+}
@@ -0,0 +1,11 @@
+package br.com.semear.repository.projection;
+
+/**
+ * Metadados do banner de evento sem a coluna {@code dados}: quando o conteúdo está no {@code MidiaStore}, os bytes
+ * do banco nem são lidos.
+ */
+public interface BannerMetadadosProjection {
+    String getContentType();
+
+    String getHashMidia();
+}
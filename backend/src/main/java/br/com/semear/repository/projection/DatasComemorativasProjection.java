@@ -0,0 +1,20 @@
+package br.com.semear.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Projeção com as datas comemorativas do membro, usada para montar o índice de aniversários da igreja.
+ */
+public interface DatasComemorativasProjection {
+    Long getId();
+
+    Boolean getActivated();
+
+    LocalDate getBirthDate();
+
+    LocalDate getDataBatismo();
+
+    LocalDate getDataCasamento();
+
+    LocalDate getDataMembroSince();
+}
@@ -0,0 +1,12 @@
+package br.com.semear.repository.projection;
+
+/**
+ * Usuário ativo apto a receber um lembrete, com a igreja em que o recebe.
+ */
+public interface DestinatarioProjection {
+    Long getUserId();
+
+    Long getIgrejaId();
+
+    String getFirstName();
+}
@@ -0,0 +1,27 @@
+package br.com.semear.repository.projection;
+
+import br.com.semear.domain.enumeration.StatusInscricaoEvento;
+import java.time.Instant;
+
+/**
+ * Inscrição de evento com os dados de contato do inscrito, para exportação da lista de inscritos.
+ */
+public interface InscricaoExportacaoProjection {
+    String getFirstName();
+
+    String getLastName();
+
+    String getLogin();
+
+    String getEmail();
+
+    String getPhone();
+
+    String getPhoneSecondary();
+
+    Instant getCriadoEm();
+
+    StatusInscricaoEvento getStatus();
+
+    Boolean getConfirmado();
+}
@@ -0,0 +1,28 @@
+package br.com.semear.repository.projection;
+
+import br.com.semear.domain.enumerations.TipoLancamento;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Colunas de um lançamento usadas na exportação do livro caixa, lidas sem materializar a entidade.
+ */
+public interface LancamentoExportacaoProjection {
+    Long getId();
+
+    TipoLancamento getTipo();
+
+    String getCategoria();
+
+    String getDescricao();
+
+    BigDecimal getValor();
+
+    LocalDate getDataLancamento();
+
+    String getCentroCusto();
+
+    String getMetodoPagamento();
+
+    String getReferencia();
+}
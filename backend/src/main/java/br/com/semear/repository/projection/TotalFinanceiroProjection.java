@@ -0,0 +1,17 @@
+package br.com.semear.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Linha agregada de {@code lancamento_resumo_mensal}: total de um tipo de lançamento dentro de um agrupamento
+ * (mês, categoria ou centro de custo).
+ */
+public interface TotalFinanceiroProjection {
+    String getChave();
+
+    String getTipo();
+
+    BigDecimal getTotal();
+
+    Long getQuantidade();
+}
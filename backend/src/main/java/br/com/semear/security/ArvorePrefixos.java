@@ -0,0 +1,48 @@
+package br.com.semear.security;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Trie de prefixos de caminho, montada uma vez: {@link #correspondeAlgumPrefixo(String)} percorre o
+ * caminho um caractere por vez e para no primeiro prefixo completo, sem varrer a lista inteira.
+ */
+final class ArvorePrefixos {
+
+    private final No raiz = new No();
+
+    ArvorePrefixos(Collection<String> prefixos) {
+        for (String prefixo : prefixos) {
+            No no = raiz;
+            for (int i = 0; i < prefixo.length(); i++) {
+                no = no.filhos.computeIfAbsent(prefixo.charAt(i), c -> new No());
+            }
+            no.terminal = true;
+        }
+    }
+
+    /** Equivale a {@code prefixos.stream().anyMatch(caminho::startsWith)}. */
+    boolean correspondeAlgumPrefixo(String caminho) {
+        No no = raiz;
+        if (no.terminal) {
+            return true;
+        }
+        for (int i = 0; i < caminho.length(); i++) {
+            no = no.filhos.get(caminho.charAt(i));
+            if (no == null) {
+                return false;
+            }
+            if (no.terminal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class No {
+
+        private final Map<Character, No> filhos = new HashMap<>(4);
+        private boolean terminal;
+    }
+}
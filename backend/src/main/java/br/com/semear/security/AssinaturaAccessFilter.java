@@ -1,6 +1,6 @@
 package br.com.semear.security;
 
-import br.com.semear.service.AssinaturaIgrejaService;
+import br.com.semear.service.AssinaturaAcessoCache;
 import br.com.semear.service.TenantService;
 import br.com.semear.service.dto.AssinaturaAcessoDTO;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -17,11 +17,12 @@ import org.springframework.web.filter.OncePerRequestFilter;
 /**
  * Bloqueia APIs da igreja quando assinatura/teste não permite acesso.
  * SUPER_ADMIN e rotas essenciais (conta, suporte, notificações) continuam liberadas.
+ * A decisão por igreja vem de {@link AssinaturaAcessoCache}: no caso comum a requisição não consulta o banco.
  */
 @Component
 public class AssinaturaAccessFilter extends OncePerRequestFilter {
 
-    private static final List<String> PREFIXOS_LIBERADOS = List.of(
+    private static final ArvorePrefixos PREFIXOS_LIBERADOS = new ArvorePrefixos(List.of(
         "/api/account",
         "/api/authenticate",
         "/api/suporte",
@@ -37,19 +38,19 @@ public class AssinaturaAccessFilter extends OncePerRequestFilter {
         "/api/igrejas/publicas",
         "/management/health",
         "/management/info"
-    );
+    ));
 
     private final TenantService tenantService;
-    private final AssinaturaIgrejaService assinaturaIgrejaService;
+    private final AssinaturaAcessoCache assinaturaAcessoCache;
     private final ObjectMapper objectMapper;
 
     public AssinaturaAccessFilter(
         TenantService tenantService,
-        AssinaturaIgrejaService assinaturaIgrejaService,
+        AssinaturaAcessoCache assinaturaAcessoCache,
         ObjectMapper objectMapper
     ) {
         this.tenantService = tenantService;
-        this.assinaturaIgrejaService = assinaturaIgrejaService;
+        this.assinaturaAcessoCache = assinaturaAcessoCache;
         this.objectMapper = objectMapper;
     }
 
@@ -65,16 +66,17 @@ public class AssinaturaAccessFilter extends OncePerRequestFilter {
         if (SecurityUtils.hasCurrentUserAnyOfAuthorities(AuthoritiesConstants.SUPER_ADMIN, AuthoritiesConstants.ADMIN)) {
             return true;
         }
-        return PREFIXOS_LIBERADOS.stream().anyMatch(path::startsWith);
+        return PREFIXOS_LIBERADOS.correspondeAlgumPrefixo(path);
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
         throws ServletException, IOException {
         try {
-            Long igrejaId = tenantService.getIgrejaIdAtual();
-            AssinaturaAcessoDTO acesso = assinaturaIgrejaService.verificarAcesso(igrejaId);
-            if (!acesso.isAcessoPermitido()) {
+            // Contexto fica nos atributos da requisição e é reaproveitado pelos serviços adiante
+            Long igrejaId = tenantService.getContextoAtual().getIgrejaId();
+            AssinaturaAcessoDTO acesso = igrejaId != null ? assinaturaAcessoCache.verificarAcesso(igrejaId) : null;
+            if (acesso != null && !acesso.isAcessoPermitido()) {
                 response.setStatus(HttpServletResponse.SC_FORBIDDEN);
                 response.setContentType(MediaType.APPLICATION_JSON_VALUE);
                 var body = java.util.Map.of(
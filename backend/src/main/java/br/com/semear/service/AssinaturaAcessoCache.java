@@ -0,0 +1,30 @@
+package br.com.semear.service;
+
+import br.com.semear.service.dto.AssinaturaAcessoDTO;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+/**
+ * Decisão de acesso por igreja usada pelo {@code AssinaturaAccessFilter} em toda requisição.
+ * <p>
+ * A chave inclui a data, então o fim de um teste grátis vale a partir da virada do dia mesmo
+ * com a entrada ainda em cache. Mudanças de status limpam o cache após o commit
+ * ({@link AssinaturaIgrejaService#limparCacheAcesso()}). Sem transação própria: um acerto
+ * no cache não abre conexão com o banco.
+ */
+@Service
+public class AssinaturaAcessoCache {
+
+    public static final String CACHE = "assinaturaAcesso";
+
+    private final AssinaturaIgrejaService assinaturaIgrejaService;
+
+    public AssinaturaAcessoCache(AssinaturaIgrejaService assinaturaIgrejaService) {
+        this.assinaturaIgrejaService = assinaturaIgrejaService;
+    }
+
+    @Cacheable(cacheNames = CACHE, key = "#igrejaId + ':' + T(java.time.LocalDate).now()")
+    public AssinaturaAcessoDTO verificarAcesso(Long igrejaId) {
+        return assinaturaIgrejaService.verificarAcesso(igrejaId);
+    }
+}
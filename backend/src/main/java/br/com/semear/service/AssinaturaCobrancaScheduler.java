@@ -46,11 +46,13 @@ public class AssinaturaCobrancaScheduler {
     public void executarRotinaDiaria() {
         LOG.debug("Iniciando rotina diária de cobrança da plataforma");
         assinaturaIgrejaService.sincronizarVencimentos();
-        marcarMensalidadesAtrasadas();
+        if (marcarMensalidadesAtrasadas() > 0) {
+            assinaturaIgrejaService.limparCacheAcesso();
+        }
         marcarPagamentosAtrasados();
     }
 
-    private void marcarMensalidadesAtrasadas() {
+    private int marcarMensalidadesAtrasadas() {
         LocalDate hoje = LocalDate.now();
         List<AssinaturaIgreja> candidatas = assinaturaIgrejaRepository.findByStatusAssinaturaAndStatusMensalidadeAndProximoVencimentoBefore(
             StatusAssinatura.ATIVA,
@@ -68,6 +70,7 @@ public class AssinaturaCobrancaScheduler {
             }
             LOG.info("Mensalidade marcada como ATRASADA — igreja id={}", a.getIgreja() != null ? a.getIgreja().getId() : "?");
         }
+        return candidatas.size();
     }
 
     private void marcarPagamentosAtrasados() {
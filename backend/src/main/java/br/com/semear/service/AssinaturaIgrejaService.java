@@ -22,8 +22,12 @@ import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @Transactional
@@ -36,17 +40,20 @@ public class AssinaturaIgrejaService {
     private final PagamentoPlataformaRepository pagamentoPlataformaRepository;
     private final PlanoRepository planoRepository;
     private final NotificacaoService notificacaoService;
+    private final CacheManager cacheManager;
 
     public AssinaturaIgrejaService(
         AssinaturaIgrejaRepository assinaturaIgrejaRepository,
         PagamentoPlataformaRepository pagamentoPlataformaRepository,
         PlanoRepository planoRepository,
-        NotificacaoService notificacaoService
+        NotificacaoService notificacaoService,
+        CacheManager cacheManager
     ) {
         this.assinaturaIgrejaRepository = assinaturaIgrejaRepository;
         this.pagamentoPlataformaRepository = pagamentoPlataformaRepository;
         this.planoRepository = planoRepository;
         this.notificacaoService = notificacaoService;
+        this.cacheManager = cacheManager;
     }
 
     public AssinaturaIgreja iniciarTesteGratis(Igreja igreja, String responsavelNome) {
@@ -82,6 +89,7 @@ public class AssinaturaIgrejaService {
         criarPagamentoPendente(assinatura, TipoPagamentoPlataforma.IMPLANTACAO, plano.getValorImplantacao(), null);
 
         notificacaoService.notificarTesteIniciado(igreja, assinatura);
+        limparCacheAcesso();
         return assinatura;
     }
 
@@ -138,6 +146,7 @@ public class AssinaturaIgrejaService {
             a.getIgreja().setStatus(StatusIgreja.ATIVA);
         }
         notificacaoService.notificarAssinaturaAtivada(a.getIgreja());
+        limparCacheAcesso();
         return toDto(assinaturaIgrejaRepository.save(a));
     }
 
@@ -155,6 +164,7 @@ public class AssinaturaIgrejaService {
         if (a.getIgreja() != null) {
             a.getIgreja().setStatus(StatusIgreja.EM_TESTE);
         }
+        limparCacheAcesso();
         return toDto(assinaturaIgrejaRepository.save(a));
     }
 
@@ -168,6 +178,7 @@ public class AssinaturaIgrejaService {
             a.getIgreja().setStatus(StatusIgreja.INATIVA);
         }
         notificacaoService.notificarAcessoSuspenso(a.getIgreja());
+        limparCacheAcesso();
         return toDto(assinaturaIgrejaRepository.save(a));
     }
 
@@ -181,6 +192,7 @@ public class AssinaturaIgrejaService {
             a.getIgreja().setStatus(StatusIgreja.ATIVA);
         }
         notificacaoService.notificarAcessoReativado(a.getIgreja());
+        limparCacheAcesso();
         return toDto(assinaturaIgrejaRepository.save(a));
     }
 
@@ -192,6 +204,7 @@ public class AssinaturaIgrejaService {
         if (a.getIgreja() != null) {
             a.getIgreja().setStatus(StatusIgreja.INATIVA);
         }
+        limparCacheAcesso();
         return toDto(assinaturaIgrejaRepository.save(a));
     }
 
@@ -213,6 +226,7 @@ public class AssinaturaIgrejaService {
         a.setProximoVencimento(LocalDate.now().plusMonths(1));
         a.setDataAtualizacao(Instant.now());
         registrarPagamentoRecebido(a, TipoPagamentoPlataforma.MENSALIDADE, a.getValorMensalContratado(), forma);
+        limparCacheAcesso();
         return toDto(assinaturaIgrejaRepository.save(a));
     }
 
@@ -234,6 +248,7 @@ public class AssinaturaIgrejaService {
         }
         registrarPagamentoRecebido(a, TipoPagamentoPlataforma.ANUALIDADE, a.getValorAnualContratado(), forma);
         notificacaoService.notificarAssinaturaAtivada(a.getIgreja());
+        limparCacheAcesso();
         return toDto(assinaturaIgrejaRepository.save(a));
     }
 
@@ -274,6 +289,29 @@ public class AssinaturaIgrejaService {
         }
     }
 
+    /**
+     * Limpa as decisões de acesso em cache ({@link AssinaturaAcessoCache}) após o commit da transação
+     * atual, para que a próxima requisição já leia o status novo. Sem transação ativa, limpa na hora.
+     */
+    public void limparCacheAcesso() {
+        Cache cache = cacheManager.getCache(AssinaturaAcessoCache.CACHE);
+        if (cache == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.clear();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.clear();
+                }
+            }
+        );
+    }
+
     public int calcularDiasRestantes(AssinaturaIgreja a) {
         if (a.getDataFimTeste() == null) {
             return 0;
@@ -23,8 +23,12 @@ public class BibliaUsuarioAccessService {
         return tenantService.getUsuarioAtual();
     }
 
+    public Long getUsuarioIdAtual() {
+        return tenantService.getUsuarioIdAtual();
+    }
+
     public void validarPropriedade(User dono) {
-        if (dono == null || !getUsuarioAtual().getId().equals(dono.getId())) {
+        if (dono == null || !tenantService.getUsuarioIdAtual().equals(dono.getId())) {
             throw new BadRequestAlertException("Acesso negado ao recurso de outro usuário", ENTITY, "acessonegado");
         }
     }
@@ -38,7 +42,7 @@ public class BibliaUsuarioAccessService {
     public <T> Optional<T> filtrarPropriedade(Optional<T> entidade, Function<T, User> extrairDono) {
         return entidade.filter(item -> {
             User dono = extrairDono.apply(item);
-            return dono != null && getUsuarioAtual().getId().equals(dono.getId());
+            return dono != null && tenantService.getUsuarioIdAtual().equals(dono.getId());
         });
     }
 }
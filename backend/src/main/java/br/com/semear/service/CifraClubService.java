@@ -1,27 +1,42 @@
 package br.com.semear.service;
 
+import br.com.semear.service.cifra.CacheCifras;
+import br.com.semear.service.cifra.CandidataCifra;
+import br.com.semear.service.cifra.CifraIndisponivelException;
+import br.com.semear.service.cifra.ConteudoCifra;
+import br.com.semear.service.cifra.LimitadorHost;
+import br.com.semear.service.cifra.ResolvedorCandidatas;
 import br.com.semear.service.util.LouvorLetraUtils;
 import java.text.Normalizer;
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import org.jsoup.HttpStatusException;
 import org.jsoup.Jsoup;
+import org.jsoup.UnsupportedMimeTypeException;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.safety.Safelist;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+/**
+ * Cifras e letras do Cifra Club. As buscas passam pelo {@link CacheCifras} global, então a mesma música pedida por
+ * várias igrejas é raspada uma vez; as páginas são baixadas respeitando o {@link LimitadorHost} e as URLs candidatas
+ * de uma música são testadas em paralelo pelo {@link ResolvedorCandidatas}.
+ */
 @Service
 public class CifraClubService {
 
     private static final Logger log = LoggerFactory.getLogger(CifraClubService.class);
-    private static final String BASE_URL = "https://www.cifraclub.com.br/";
     private static final Pattern URL_CIFRA_CLUB = Pattern.compile(
         "cifraclub\\.com\\.br/([^/]+)/([^/?#]+)",
         Pattern.CASE_INSENSITIVE
@@ -31,183 +46,239 @@ public class CifraClubService {
         Pattern.CASE_INSENSITIVE
     );
 
+    private final String baseUrl;
+    private final CacheCifras cache;
+    private final LimitadorHost limitador;
+    private final ResolvedorCandidatas resolvedor;
+
     public record ResultadoCifra(String url, List<String> linhas) {}
 
+    public CifraClubService(
+        @Value("${semear.cifras.base-url:https://www.cifraclub.com.br/}") String baseUrl,
+        CacheCifras cache,
+        LimitadorHost limitador,
+        ResolvedorCandidatas resolvedor
+    ) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        this.cache = cache;
+        this.limitador = limitador;
+        this.resolvedor = resolvedor;
+    }
+
     public Optional<ResultadoCifra> buscarCifra(String artista, String titulo, String cifraUrlInformada) {
-        for (String url : gerarUrlsCandidatas(artista, titulo, cifraUrlInformada)) {
-            Optional<ResultadoCifra> resultado = buscarPorUrl(url);
-            if (resultado.isPresent()) {
-                return resultado;
-            }
-        }
-        return Optional.empty();
+        return cache
+            .obter(chave("cifra", artista, titulo, cifraUrlInformada), () -> rasparCifra(artista, titulo, cifraUrlInformada))
+            .map(conteudo -> new ResultadoCifra(conteudo.url(), conteudo.linhas()));
     }
 
     public Optional<ResultadoCifra> buscarLetra(String artista, String titulo, String cifraUrlInformada) {
-        for (String url : gerarUrlsCandidatas(artista, titulo, cifraUrlInformada)) {
-            String letraUrl = url.endsWith("/letra/") ? url : url + "letra/";
-            Optional<ResultadoCifra> resultado = buscarLetraPorUrl(letraUrl);
-            if (resultado.isPresent()) {
-                return resultado;
-            }
+        return cache
+            .obter(chave("letra", artista, titulo, cifraUrlInformada), () -> rasparLetra(artista, titulo, cifraUrlInformada))
+            .map(conteudo -> new ResultadoCifra(conteudo.url(), conteudo.linhas()));
+    }
+
+    /** Chave global: tipo, artista e título em slug e o link informado já normalizado. */
+    private String chave(String tipo, String artista, String titulo, String cifraUrlInformada) {
+        String url = cifraUrlInformada == null || cifraUrlInformada.isBlank() ? null : normalizarUrl(cifraUrlInformada.trim());
+        return tipo + "|" + slugify(artista) + "|" + slugify(titulo) + "|" + (url != null ? url : "");
+    }
+
+    private Optional<ConteudoCifra> rasparCifra(String artista, String titulo, String cifraUrlInformada) {
+        long prazo = resolvedor.novoPrazo();
+        ResolvedorCandidatas.Coleta<CandidataCifra> candidatas = gerarCandidatas(artista, titulo, cifraUrlInformada, prazo);
+        return confirmarAusencia(resolvedor.primeira(candidatas.itens(), this::buscarPorUrl, prazo), candidatas).map(r ->
+            new ConteudoCifra(r.url(), r.linhas())
+        );
+    }
+
+    private Optional<ConteudoCifra> rasparLetra(String artista, String titulo, String cifraUrlInformada) {
+        long prazo = resolvedor.novoPrazo();
+        ResolvedorCandidatas.Coleta<CandidataCifra> candidatas = gerarCandidatas(artista, titulo, cifraUrlInformada, prazo);
+        List<CandidataCifra> deLetra = candidatas
+            .itens()
+            .stream()
+            .map(c -> new CandidataCifra(c.url().endsWith("/letra/") ? c.url() : c.url() + "letra/", "letra:" + c.padrao()))
+            .toList();
+        return confirmarAusencia(resolvedor.primeira(deLetra, this::buscarLetraPorUrl, prazo), candidatas).map(r ->
+            new ConteudoCifra(r.url(), r.linhas())
+        );
+    }
+
+    /** Sem resultado só é definitivo se a lista de candidatas saiu completa (todas as páginas de artista responderam). */
+    private static Optional<ResultadoCifra> confirmarAusencia(
+        Optional<ResultadoCifra> resultado,
+        ResolvedorCandidatas.Coleta<CandidataCifra> candidatas
+    ) {
+        if (resultado.isEmpty() && !candidatas.completa()) {
+            throw new CifraIndisponivelException("Páginas de artista sem resposta; candidatas incompletas");
         }
-        return Optional.empty();
+        return resultado;
     }
 
+    /**
+     * Cifra da página; vazio quando a página não existe ou não tem cifra. Falhas que não permitem concluir isso saem
+     * como {@link CifraIndisponivelException}.
+     */
     public Optional<ResultadoCifra> buscarPorUrl(String url) {
-        try {
-            Document doc = conectar(url);
-            if (doc == null) {
-                return Optional.empty();
-            }
+        Document doc = conectar(url);
+        if (doc == null) {
+            return Optional.empty();
+        }
 
-            Element pre = doc.selectFirst("pre");
-            if (pre != null) {
-                List<String> linhas = htmlPreParaLinhas(pre.html());
-                if (!linhas.isEmpty()) {
-                    return Optional.of(new ResultadoCifra(url, linhas));
-                }
+        Element pre = doc.selectFirst("pre");
+        if (pre != null) {
+            List<String> linhas = htmlPreParaLinhas(pre.html());
+            if (!linhas.isEmpty()) {
+                return Optional.of(new ResultadoCifra(url, linhas));
             }
-
-            return Optional.empty();
-        } catch (Exception e) {
-            log.debug("Cifra Club sem resultado em {}: {}", url, e.getMessage());
-            return Optional.empty();
         }
+
+        return Optional.empty();
     }
 
+    /** Letra da página, com as mesmas regras de {@link #buscarPorUrl}. */
     public Optional<ResultadoCifra> buscarLetraPorUrl(String url) {
-        try {
-            Document doc = conectar(url);
-            if (doc == null) {
-                return Optional.empty();
-            }
+        Document doc = conectar(url);
+        if (doc == null) {
+            return Optional.empty();
+        }
 
-            Element pre = doc.selectFirst("pre");
-            if (pre != null) {
-                List<String> linhas = htmlPreParaLinhas(pre.html());
-                if (!linhas.isEmpty() && LouvorLetraUtils.pareceLetra(linhas)) {
-                    return Optional.of(new ResultadoCifra(url, linhas));
-                }
+        Element pre = doc.selectFirst("pre");
+        if (pre != null) {
+            List<String> linhas = htmlPreParaLinhas(pre.html());
+            if (!linhas.isEmpty() && LouvorLetraUtils.pareceLetra(linhas)) {
+                return Optional.of(new ResultadoCifra(url, linhas));
             }
+        }
 
-            Element letra = doc.selectFirst("div.letra");
-            if (letra != null) {
-                List<String> linhas = htmlLetraParaLinhas(letra.html());
-                if (!linhas.isEmpty() && !LouvorLetraUtils.pareceCifra(String.join("\n", linhas))) {
-                    return Optional.of(new ResultadoCifra(url, linhas));
-                }
+        Element letra = doc.selectFirst("div.letra");
+        if (letra != null) {
+            List<String> linhas = htmlLetraParaLinhas(letra.html());
+            if (!linhas.isEmpty() && !LouvorLetraUtils.pareceCifra(String.join("\n", linhas))) {
+                return Optional.of(new ResultadoCifra(url, linhas));
             }
-
-            return Optional.empty();
-        } catch (Exception e) {
-            log.debug("Cifra Club letra sem resultado em {}: {}", url, e.getMessage());
-            return Optional.empty();
         }
+
+        return Optional.empty();
     }
 
-    private List<String> gerarUrlsCandidatas(String artista, String titulo, String cifraUrlInformada) {
-        LinkedHashSet<String> urls = new LinkedHashSet<>();
+    /**
+     * Candidatas na ordem de tentativa: preferência de idioma e, no empate, os padrões que mais acertaram. As páginas
+     * dos artistas são lidas em paralelo, dentro do mesmo prazo da busca.
+     */
+    private ResolvedorCandidatas.Coleta<CandidataCifra> gerarCandidatas(
+        String artista,
+        String titulo,
+        String cifraUrlInformada,
+        long prazo
+    ) {
+        LinkedHashMap<String, CandidataCifra> candidatas = new LinkedHashMap<>();
 
         if (cifraUrlInformada != null && !cifraUrlInformada.isBlank()) {
             String normalizada = normalizarUrl(cifraUrlInformada.trim());
             if (normalizada != null) {
-                urls.add(normalizada);
+                candidatas.put(normalizada, new CandidataCifra(normalizada, "informada"));
             }
         }
 
         if (artista == null || artista.isBlank() || titulo == null || titulo.isBlank()) {
-            return new ArrayList<>(urls);
+            return new ResolvedorCandidatas.Coleta<>(new ArrayList<>(candidatas.values()), true);
         }
 
-        List<String> artistSlugs = gerarSlugsArtista(artista);
-        List<String> titleSlugs = gerarSlugsTitulo(titulo);
+        Map<String, String> artistSlugs = gerarSlugsArtista(artista);
+        Map<String, String> titleSlugs = gerarSlugsTitulo(titulo);
 
-        for (String artistSlug : artistSlugs) {
-            for (String titleSlug : titleSlugs) {
-                urls.add(BASE_URL + artistSlug + "/" + titleSlug + "/");
+        for (Map.Entry<String, String> artistSlug : artistSlugs.entrySet()) {
+            for (Map.Entry<String, String> titleSlug : titleSlugs.entrySet()) {
+                String url = baseUrl + artistSlug.getKey() + "/" + titleSlug.getKey() + "/";
+                candidatas.putIfAbsent(url, new CandidataCifra(url, artistSlug.getValue() + "/" + titleSlug.getValue()));
             }
-            urls.addAll(buscarSlugsNaPaginaArtista(artistSlug, titulo));
+        }
+        ResolvedorCandidatas.Coleta<String> daPaginaArtista = resolvedor.todas(
+            new ArrayList<>(artistSlugs.keySet()),
+            artistSlug -> buscarSlugsNaPaginaArtista(artistSlug, titulo),
+            prazo
+        );
+        for (String url : daPaginaArtista.itens()) {
+            candidatas.putIfAbsent(url, new CandidataCifra(url, "pagina-artista"));
         }
 
-        return ordenarUrlsPorPreferenciaIdioma(new ArrayList<>(urls), titulo);
+        Comparator<CandidataCifra> idioma = Comparator.comparingInt(c -> -pontuacaoIdiomaUrl(c.url(), titulo));
+        return new ResolvedorCandidatas.Coleta<>(
+            resolvedor.ordenarPorAcerto(new ArrayList<>(candidatas.values()), idioma),
+            daPaginaArtista.completa()
+        );
     }
 
     private List<String> buscarSlugsNaPaginaArtista(String artistSlug, String titulo) {
         List<String> urls = new ArrayList<>();
-        try {
-            Document doc = Jsoup.connect(BASE_URL + artistSlug + "/")
-                .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
-                .timeout(12_000)
-                .get();
-
-            String tituloSlug = slugify(titulo);
-            String tituloNorm = normalizar(titulo);
-
-            Matcher matcher = LINK_MUSICA.matcher(doc.html());
-            while (matcher.find()) {
-                String slugArtista = matcher.group(1);
-                String slugMusica = matcher.group(2);
-                if (!slugArtista.equals(artistSlug)) {
-                    continue;
-                }
-                if (
-                    slugMusica.equals(tituloSlug) ||
-                    slugMusica.startsWith(tituloSlug) ||
-                    slugMusica.contains(tituloSlug) ||
-                    normalizar(slugMusica).contains(tituloNorm)
-                ) {
-                    urls.add(BASE_URL + slugArtista + "/" + slugMusica + "/");
-                }
+        String paginaArtista = baseUrl + artistSlug + "/";
+        Document doc = conectar(paginaArtista, "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36", 12_000);
+        if (doc == null) {
+            return urls;
+        }
+
+        String tituloSlug = slugify(titulo);
+        String tituloNorm = normalizar(titulo);
+
+        Matcher matcher = LINK_MUSICA.matcher(doc.html());
+        while (matcher.find()) {
+            String slugArtista = matcher.group(1);
+            String slugMusica = matcher.group(2);
+            if (!slugArtista.equals(artistSlug)) {
+                continue;
+            }
+            if (
+                slugMusica.equals(tituloSlug) ||
+                slugMusica.startsWith(tituloSlug) ||
+                slugMusica.contains(tituloSlug) ||
+                normalizar(slugMusica).contains(tituloNorm)
+            ) {
+                urls.add(baseUrl + slugArtista + "/" + slugMusica + "/");
             }
-        } catch (Exception e) {
-            log.debug("Não foi possível listar músicas de {}: {}", artistSlug, e.getMessage());
         }
         return urls;
     }
 
-    private List<String> gerarSlugsArtista(String artista) {
+    /** Slugs de artista a tentar, cada um com o nome do padrão que o gerou. */
+    private Map<String, String> gerarSlugsArtista(String artista) {
         String base = slugify(artista);
-        LinkedHashSet<String> slugs = new LinkedHashSet<>();
+        LinkedHashMap<String, String> slugs = new LinkedHashMap<>();
         if (!base.isBlank()) {
-            slugs.add(base);
+            slugs.put(base, "artista");
             if (!base.endsWith("-united")) {
-                slugs.add(base + "-united");
+                slugs.putIfAbsent(base + "-united", "artista-united");
             }
             if (!base.endsWith("-worship")) {
-                slugs.add(base + "-worship");
+                slugs.putIfAbsent(base + "-worship", "artista-worship");
             }
             if (base.contains("hillsong")) {
-                slugs.add("hillsong-em-portugues");
-                slugs.add("hillsong-brasil");
+                slugs.putIfAbsent("hillsong-em-portugues", "hillsong-pt");
+                slugs.putIfAbsent("hillsong-brasil", "hillsong-pt");
             }
         }
-        return new ArrayList<>(slugs);
+        return slugs;
     }
 
-    private List<String> gerarSlugsTitulo(String titulo) {
+    /** Slugs de título a tentar, cada um com o nome do padrão que o gerou. */
+    private Map<String, String> gerarSlugsTitulo(String titulo) {
         String base = slugify(titulo);
-        LinkedHashSet<String> slugs = new LinkedHashSet<>();
+        LinkedHashMap<String, String> slugs = new LinkedHashMap<>();
         if (!base.isBlank()) {
             if (base.contains("oceanos") || base.contains("oceano")) {
-                slugs.add("oceanos-versao-em-portugues");
-                slugs.add("oceanos-onde-meus-pes-podem-falhar");
+                slugs.putIfAbsent("oceanos-versao-em-portugues", "titulo-traducao");
+                slugs.putIfAbsent("oceanos-onde-meus-pes-podem-falhar", "titulo-traducao");
             }
-            slugs.add(base);
+            slugs.putIfAbsent(base, "titulo");
             if (base.contains("oceanos")) {
-                slugs.add("oceans-where-feet-may-fail");
+                slugs.putIfAbsent("oceans-where-feet-may-fail", "titulo-traducao");
             }
             if (base.contains("oceans")) {
-                slugs.add("oceanos-versao-em-portugues");
-                slugs.add("oceans-where-feet-may-fail");
+                slugs.putIfAbsent("oceanos-versao-em-portugues", "titulo-traducao");
+                slugs.putIfAbsent("oceans-where-feet-may-fail", "titulo-traducao");
             }
         }
-        return new ArrayList<>(slugs);
-    }
-
-    private List<String> ordenarUrlsPorPreferenciaIdioma(List<String> urls, String titulo) {
-        urls.sort((a, b) -> Integer.compare(pontuacaoIdiomaUrl(b, titulo), pontuacaoIdiomaUrl(a, titulo)));
-        return urls;
+        return slugs;
     }
 
     private int pontuacaoIdiomaUrl(String url, String titulo) {
@@ -250,7 +321,7 @@ public class CifraClubService {
         }
         var matcher = URL_CIFRA_CLUB.matcher(url);
         if (matcher.find()) {
-            return BASE_URL + matcher.group(1) + "/" + matcher.group(2) + "/";
+            return baseUrl + matcher.group(1) + "/" + matcher.group(2) + "/";
         }
         if (url.startsWith("http")) {
             return url.endsWith("/") ? url : url + "/";
@@ -312,14 +383,34 @@ public class CifraClubService {
     }
 
     private Document conectar(String url) {
+        return conectar(
+            url,
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36",
+            15_000
+        );
+    }
+
+    /**
+     * Baixa a página; {@code null} quando ela não existe (404/410), o endereço é inválido ou não é HTML. Qualquer
+     * outra falha (rede, timeout, 429, 5xx, recusa do limitador) vira {@link CifraIndisponivelException}, para não ser
+     * guardada como música inexistente.
+     */
+    private Document conectar(String url, String userAgent, int timeoutMs) {
         try {
-            return Jsoup.connect(url)
-                .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36")
-                .timeout(15_000)
-                .get();
-        } catch (Exception e) {
-            log.debug("Falha ao acessar {}: {}", url, e.getMessage());
+            return limitador.executar(url, () -> Jsoup.connect(url).userAgent(userAgent).timeout(timeoutMs).get());
+        } catch (HttpStatusException e) {
+            if (e.getStatusCode() == 404 || e.getStatusCode() == 410) {
+                return null;
+            }
+            throw new CifraIndisponivelException("Cifra Club respondeu " + e.getStatusCode() + " em " + url, e);
+        } catch (IllegalArgumentException | UnsupportedMimeTypeException e) {
+            log.debug("Endereço sem página de cifra {}: {}", url, e.getMessage());
             return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CifraIndisponivelException("Busca interrompida em " + url, e);
+        } catch (Exception e) {
+            throw new CifraIndisponivelException("Falha ao acessar " + url + ": " + e.getMessage(), e);
         }
     }
 }
@@ -0,0 +1,56 @@
+package br.com.semear.service;
+
+import br.com.semear.domain.Igreja;
+import br.com.semear.domain.User;
+import br.com.semear.domain.enumeration.NivelAcessoModulo;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Usuário e igreja resolvidos uma única vez por requisição (ver {@link TenantService#getContextoAtual()}).
+ * Autoridades vêm do JWT; usuário e igreja vêm de uma única carga do banco.
+ */
+public final class ContextoTenant {
+
+    private final String login;
+    private final Long usuarioId;
+    private final Set<String> autoridades;
+    private final User usuario;
+    private final Igreja igreja;
+    private Map<String, NivelAcessoModulo> permissoesModulos;
+
+    ContextoTenant(String login, Long usuarioId, Set<String> autoridades, User usuario, Igreja igreja) {
+        this.login = login;
+        this.usuarioId = usuarioId;
+        this.autoridades = Set.copyOf(autoridades);
+        this.usuario = usuario;
+        this.igreja = igreja;
+    }
+
+    public String getLogin() { return login; }
+
+    public Long getUsuarioId() { return usuarioId; }
+
+    public Set<String> getAutoridades() { return autoridades; }
+
+    public User getUsuario() { return usuario; }
+
+    /** Igreja do usuário ou, para quem não tem vínculo, a igreja padrão; {@code null} se nenhuma existir. */
+    public Igreja getIgreja() { return igreja; }
+
+    public Long getIgrejaId() { return igreja != null ? igreja.getId() : null; }
+
+    public boolean possuiAlgumaAutoridade(Set<String> nomes) {
+        return autoridades.stream().anyMatch(nomes::contains);
+    }
+
+    /** Permissões efetivas por módulo, calculadas na primeira consulta da requisição. */
+    Map<String, NivelAcessoModulo> permissoesModulos(Function<User, Map<String, NivelAcessoModulo>> calculo) {
+        if (permissoesModulos == null) {
+            permissoesModulos = Collections.unmodifiableMap(calculo.apply(usuario));
+        }
+        return permissoesModulos;
+    }
+}
@@ -6,11 +6,15 @@ import br.com.semear.domain.enumeration.PapelCultoResponsavel;
 import br.com.semear.domain.enumeration.StatusEscalaPublicacao;
 import br.com.semear.domain.enumeration.TipoCulto;
 import br.com.semear.repository.*;
+import br.com.semear.service.culto.AgendaCulto;
+import br.com.semear.service.culto.VersoesAgendaCulto;
 import br.com.semear.service.dto.CultoAgendaItemDTO;
 import br.com.semear.service.dto.CultoAgendaListaDTO;
 import br.com.semear.service.dto.CultoCancelarDTO;
 import br.com.semear.service.dto.CultoOcorrenciaSalvarDTO;
 import br.com.semear.service.dto.NotificacaoPayloadDTO;
+import br.com.semear.service.notificacao.SecaoResumo;
+import br.com.semear.service.notificacao.VersoesResumoNotificacao;
 import br.com.semear.service.util.CultoRecorrenciaUtils;
 import br.com.semear.web.rest.errors.BadRequestAlertException;
 import jakarta.persistence.EntityManager;
@@ -22,14 +26,22 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.WeekFields;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Transactional
 public class CultoAgendaService {
 
+    public static final String CACHE_AGENDA = "agendaCultos";
+
     private static final String ENTITY = "culto";
     private static final ZoneId ZONE = ZoneId.of("America/Fortaleza");
     /** Janela alinhada à UI (mês atual + próximo) com folga para passados. */
@@ -52,6 +64,11 @@ public class CultoAgendaService {
     private final UserRepository userRepository;
     private final TenantService tenantService;
     private final NotificacaoEnvioService notificacaoEnvioService;
+    private final VersoesAgendaCulto versoesAgenda;
+    private final VersoesResumoNotificacao versoesResumo;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transacaoLeitura;
+    private final ConcurrentHashMap<Long, Object> montagens = new ConcurrentHashMap<>();
 
     public CultoAgendaService(
         CultoRegistroRepository cultoRegistroRepository,
@@ -65,7 +82,11 @@ public class CultoAgendaService {
         LouvorRepository louvorRepository,
         UserRepository userRepository,
         TenantService tenantService,
-        NotificacaoEnvioService notificacaoEnvioService
+        NotificacaoEnvioService notificacaoEnvioService,
+        VersoesAgendaCulto versoesAgenda,
+        VersoesResumoNotificacao versoesResumo,
+        CacheManager cacheManager,
+        PlatformTransactionManager transactionManager
     ) {
         this.cultoRegistroRepository = cultoRegistroRepository;
         this.cultoOcorrenciaRepository = cultoOcorrenciaRepository;
@@ -79,12 +100,50 @@ public class CultoAgendaService {
         this.userRepository = userRepository;
         this.tenantService = tenantService;
         this.notificacaoEnvioService = notificacaoEnvioService;
+        this.versoesAgenda = versoesAgenda;
+        this.versoesResumo = versoesResumo;
+        this.cacheManager = cacheManager;
+        this.transacaoLeitura = new TransactionTemplate(transactionManager);
+        this.transacaoLeitura.setReadOnly(true);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * A agenda é a mesma para todos os membros da igreja: é montada uma vez e servida do cache
+     * {@value #CACHE_AGENDA} até a versão da agenda ou das escalas da igreja mudar ou o dia virar. Sem transação
+     * própria: um acerto no cache não abre conexão com o banco.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CultoAgendaListaDTO listarAgenda() {
         Long igrejaId = tenantService.getIgrejaIdAtual();
         LocalDate hoje = LocalDate.now(ZONE);
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(CACHE_AGENDA), CACHE_AGENDA);
+        AgendaCulto agenda = agendaAtual(cache, igrejaId, hoje);
+        if (agenda == null) {
+            // Uma montagem por igreja de cada vez; quem esperou encontra a agenda pronta no cache.
+            synchronized (montagens.computeIfAbsent(igrejaId, id -> new Object())) {
+                agenda = agendaAtual(cache, igrejaId, hoje);
+                if (agenda == null) {
+                    // Versões lidas antes da consulta: uma alteração concorrente deixa a agenda com versão antiga e
+                    // ela é remontada na próxima leitura.
+                    long versaoAgenda = versoesAgenda.versao(igrejaId);
+                    long versaoEscala = versoesResumo.versaoIgreja(igrejaId, SecaoResumo.ESCALA);
+                    agenda = transacaoLeitura.execute(status -> montarAgenda(igrejaId, hoje, versaoAgenda, versaoEscala));
+                    cache.put(igrejaId, agenda);
+                }
+            }
+        }
+        return agenda.paraLista();
+    }
+
+    private AgendaCulto agendaAtual(Cache cache, Long igrejaId, LocalDate hoje) {
+        AgendaCulto agenda = cache.get(igrejaId, AgendaCulto.class);
+        boolean atual =
+            agenda != null &&
+            agenda.atual(versoesAgenda.versao(igrejaId), versoesResumo.versaoIgreja(igrejaId, SecaoResumo.ESCALA), hoje);
+        return atual ? agenda : null;
+    }
+
+    private AgendaCulto montarAgenda(Long igrejaId, LocalDate hoje, long versaoAgenda, long versaoEscala) {
         LocalDate inicio = hoje.minusDays(DIAS_PASSADOS);
         LocalDate fim = hoje.plusDays(DIAS_FUTUROS);
 
@@ -163,18 +222,17 @@ public class CultoAgendaService {
             todos.add(item);
         }
 
-        CultoAgendaListaDTO lista = new CultoAgendaListaDTO();
-        lista.setProximos(
-            todos.stream().filter(i -> !i.getData().isBefore(hoje)).sorted(Comparator.comparing(CultoAgendaItemDTO::getData)).toList()
-        );
-        lista.setPassados(
+        return new AgendaCulto(
+            versaoAgenda,
+            versaoEscala,
+            hoje,
+            todos.stream().filter(i -> !i.getData().isBefore(hoje)).sorted(Comparator.comparing(CultoAgendaItemDTO::getData)).toList(),
             todos
                 .stream()
                 .filter(i -> i.getData().isBefore(hoje))
                 .sorted(Comparator.comparing(CultoAgendaItemDTO::getData).reversed())
                 .toList()
         );
-        return lista;
     }
 
     @Transactional(readOnly = true)
@@ -624,17 +682,8 @@ public class CultoAgendaService {
     private List<Slot> projetarSlots(List<CultoRegistro> cultos, LocalDate inicio, LocalDate fim) {
         List<Slot> slots = new ArrayList<>();
         for (CultoRegistro culto : cultos) {
-            TipoCulto tipo = culto.getTipo() != null ? culto.getTipo() : TipoCulto.RECORRENTE;
-            if (tipo == TipoCulto.EXTRAORDINARIO) {
-                if (culto.getDataEspecifica() != null && !culto.getDataEspecifica().isBefore(inicio) && !culto.getDataEspecifica().isAfter(fim)) {
-                    slots.add(new Slot(culto, culto.getDataEspecifica()));
-                }
-                continue;
-            }
-            for (LocalDate d = inicio; !d.isAfter(fim); d = d.plusDays(1)) {
-                if (CultoRecorrenciaUtils.cultoOcorreNaData(culto, d)) {
-                    slots.add(new Slot(culto, d));
-                }
+            for (LocalDate d : CultoRecorrenciaUtils.datasNoPeriodo(culto, inicio, fim)) {
+                slots.add(new Slot(culto, d));
             }
         }
         return slots;
@@ -1,24 +1,30 @@
 package br.com.semear.service;
 
 import br.com.semear.domain.Comunicado;
-import br.com.semear.domain.Lancamento;
 import br.com.semear.domain.User;
 import br.com.semear.domain.enumeration.StatusCadastro;
 import br.com.semear.domain.enumeration.StatusPedidoOracao;
-import br.com.semear.domain.enumerations.TipoLancamento;
 import br.com.semear.repository.ComunicadoRepository;
 import br.com.semear.repository.DocumentoIgrejaRepository;
-import br.com.semear.repository.LancamentoRepository;
 import br.com.semear.repository.PedidoOracaoRepository;
 import br.com.semear.repository.PreCadastroRepository;
 import br.com.semear.repository.UserRepository;
 import br.com.semear.repository.VisitanteRepository;
+import br.com.semear.repository.projection.AniversarianteProjection;
 import br.com.semear.security.AuthoritiesConstants;
+import br.com.semear.service.aniversario.Aniversario;
+import br.com.semear.service.aniversario.IndiceAniversariosService;
+import br.com.semear.service.aniversario.TipoAniversario;
 import br.com.semear.service.dto.DashboardResumoDTO;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -42,29 +48,32 @@ public class DashboardService {
     private final VisitanteRepository visitanteRepository;
     private final PedidoOracaoRepository pedidoOracaoRepository;
     private final PreCadastroRepository preCadastroRepository;
-    private final LancamentoRepository lancamentoRepository;
+    private final ResumoFinanceiroService resumoFinanceiroService;
     private final ComunicadoRepository comunicadoRepository;
     private final DocumentoIgrejaRepository documentoIgrejaRepository;
     private final TenantService tenantService;
+    private final IndiceAniversariosService indiceAniversariosService;
 
     public DashboardService(
         UserRepository userRepository,
         VisitanteRepository visitanteRepository,
         PedidoOracaoRepository pedidoOracaoRepository,
         PreCadastroRepository preCadastroRepository,
-        LancamentoRepository lancamentoRepository,
+        ResumoFinanceiroService resumoFinanceiroService,
         ComunicadoRepository comunicadoRepository,
         DocumentoIgrejaRepository documentoIgrejaRepository,
-        TenantService tenantService
+        TenantService tenantService,
+        IndiceAniversariosService indiceAniversariosService
     ) {
         this.userRepository = userRepository;
         this.visitanteRepository = visitanteRepository;
         this.pedidoOracaoRepository = pedidoOracaoRepository;
         this.preCadastroRepository = preCadastroRepository;
-        this.lancamentoRepository = lancamentoRepository;
+        this.resumoFinanceiroService = resumoFinanceiroService;
         this.comunicadoRepository = comunicadoRepository;
         this.documentoIgrejaRepository = documentoIgrejaRepository;
         this.tenantService = tenantService;
+        this.indiceAniversariosService = indiceAniversariosService;
     }
 
     public DashboardResumoDTO obterResumo() {
@@ -87,26 +96,11 @@ public class DashboardService {
             dto.setSaldoMes(calcularSaldoMes(igrejaId, inicioMes, fimMes));
         }
 
-        List<User> usuariosAtivos = userRepository.findAllByIgrejaIdAndActivatedIsTrue(igrejaId);
-        List<DashboardResumoDTO.AniversarianteResumoDTO> aniversariantes = new java.util.ArrayList<>();
-
-        for (User u : usuariosAtivos) {
-            if (dataCoincideHoje(u.getBirthDate(), hoje)) {
-                aniversariantes.add(new DashboardResumoDTO.AniversarianteResumoDTO(u.getId(), montarNome(u), "NASCIMENTO"));
-            }
-            if (dataCoincideHoje(u.getDataBatismo(), hoje)) {
-                aniversariantes.add(new DashboardResumoDTO.AniversarianteResumoDTO(u.getId(), montarNome(u), "BATISMO"));
-            }
-            if (dataCoincideHoje(u.getDataCasamento(), hoje)) {
-                aniversariantes.add(new DashboardResumoDTO.AniversarianteResumoDTO(u.getId(), montarNome(u), "CASAMENTO"));
-            }
-            if (dataCoincideHoje(u.getDataMembroSince(), hoje)) {
-                aniversariantes.add(new DashboardResumoDTO.AniversarianteResumoDTO(u.getId(), montarNome(u), "MEMBRO"));
-            }
-        }
-
+        List<Aniversario> aniversariantes = indiceAniversariosService
+            .daIgreja(igrejaId)
+            .doDia(hoje, EnumSet.allOf(TipoAniversario.class), false);
         dto.setAniversariantesHoje(aniversariantes.size());
-        dto.setAniversariantes(aniversariantes.stream().limit(10).toList());
+        dto.setAniversariantes(resumirAniversariantes(aniversariantes.stream().limit(10).toList()));
 
         dto.setComunicadosAtivos(contarComunicadosAtivos(igrejaId, hoje));
         dto.setDocumentosVencendo(
@@ -138,16 +132,7 @@ public class DashboardService {
     }
 
     private BigDecimal calcularSaldoMes(Long igrejaId, LocalDate inicio, LocalDate fim) {
-        List<Lancamento> lancamentos = lancamentoRepository.findByIgrejaIdAndPeriodo(igrejaId, inicio, fim);
-        BigDecimal saldo = BigDecimal.ZERO;
-        for (Lancamento l : lancamentos) {
-            if (l.getTipo() == TipoLancamento.INCOME) {
-                saldo = saldo.add(l.getValor());
-            } else if (l.getTipo() == TipoLancamento.EXPENSE) {
-                saldo = saldo.subtract(l.getValor());
-            }
-        }
-        return saldo;
+        return resumoFinanceiroService.saldo(igrejaId, YearMonth.from(inicio), YearMonth.from(fim));
     }
 
     private boolean usuarioTemAcessoFinanceiro(User user) {
@@ -163,17 +148,26 @@ public class DashboardService {
             );
     }
 
-    private String montarNome(User user) {
+    /** Só os nomes dos exibidos são buscados, não a igreja inteira. */
+    private List<DashboardResumoDTO.AniversarianteResumoDTO> resumirAniversariantes(List<Aniversario> aniversariantes) {
+        if (aniversariantes.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, AniversarianteProjection> porId = userRepository
+            .findAniversariantesPorIds(aniversariantes.stream().map(Aniversario::userId).collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(AniversarianteProjection::getId, Function.identity()));
+        return aniversariantes
+            .stream()
+            .filter(a -> porId.containsKey(a.userId()))
+            .map(a -> new DashboardResumoDTO.AniversarianteResumoDTO(a.userId(), montarNome(porId.get(a.userId())), a.tipo().name()))
+            .toList();
+    }
+
+    private String montarNome(AniversarianteProjection user) {
         String primeiro = Objects.toString(user.getFirstName(), "").trim();
         String ultimo = Objects.toString(user.getLastName(), "").trim();
         String nome = (primeiro + " " + ultimo).trim();
         return nome.isBlank() ? user.getLogin() : nome;
     }
-
-    private boolean dataCoincideHoje(LocalDate data, LocalDate hoje) {
-        if (data == null) {
-            return false;
-        }
-        return LocalDate.of(hoje.getYear(), data.getMonth(), data.getDayOfMonth()).equals(hoje);
-    }
 }
@@ -7,9 +7,12 @@ import br.com.semear.domain.enumeration.CategoriaDocumentoIgreja;
 import br.com.semear.repository.DocumentoIgrejaRepository;
 import br.com.semear.service.dto.DocumentoIgrejaDTO;
 import br.com.semear.service.mapper.DocumentoIgrejaMapper;
+import br.com.semear.service.midia.ArquivoMidia;
+import br.com.semear.service.midia.MidiaGuardada;
+import br.com.semear.service.midia.MidiaService;
 import br.com.semear.web.rest.errors.BadRequestAlertException;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Instant;
@@ -18,7 +21,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -63,6 +65,7 @@ public class DocumentoIgrejaService {
     private final DocumentoIgrejaRepository documentoIgrejaRepository;
     private final DocumentoIgrejaMapper documentoIgrejaMapper;
     private final TenantService tenantService;
+    private final MidiaService midiaService;
 
     @Value("${semear.upload-dir:${user.home}/semear-app/uploads}")
     private String uploadDir;
@@ -70,15 +73,15 @@ public class DocumentoIgrejaService {
     public DocumentoIgrejaService(
         DocumentoIgrejaRepository documentoIgrejaRepository,
         DocumentoIgrejaMapper documentoIgrejaMapper,
-        TenantService tenantService
+        TenantService tenantService,
+        MidiaService midiaService
     ) {
         this.documentoIgrejaRepository = documentoIgrejaRepository;
         this.documentoIgrejaMapper = documentoIgrejaMapper;
         this.tenantService = tenantService;
+        this.midiaService = midiaService;
     }
 
-    public record ArquivoDownload(byte[] bytes, String contentType, String fileName) {}
-
     @Transactional(readOnly = true)
     public List<DocumentoIgrejaDTO> listar(
         String nome,
@@ -130,14 +133,8 @@ public class DocumentoIgrejaService {
             throw new BadRequestAlertException("Tipo de arquivo não permitido", ENTITY, "arquivoinvalido");
         }
 
-        String storedName = UUID.randomUUID() + ext;
-        String storedRelative = "igrejas/" + igreja.getId() + "/documentos/" + storedName;
-        Path targetPath = Paths.get(uploadDir, storedRelative).toAbsolutePath().normalize();
-
-        try {
-            Files.createDirectories(targetPath.getParent());
-            byte[] bytes = arquivo.getBytes();
-            Files.write(targetPath, bytes);
+        try (InputStream entrada = arquivo.getInputStream()) {
+            MidiaGuardada midia = midiaService.guardar(entrada);
 
             DocumentoIgreja documento = new DocumentoIgreja();
             documento.setIgreja(igreja);
@@ -146,10 +143,11 @@ public class DocumentoIgrejaService {
             documento.setDescricao(descricao != null && !descricao.isBlank() ? descricao.trim() : null);
             documento.setCategoria(categoria);
             documento.setNomeArquivoOriginal(sanitizarNomeArquivo(originalName));
-            documento.setNomeArquivoArmazenado(storedName);
+            documento.setNomeArquivoArmazenado(midia.hash() + ext);
             documento.setTipoArquivo(arquivo.getContentType());
-            documento.setTamanhoArquivo((long) bytes.length);
-            documento.setCaminhoArquivo(storedRelative);
+            documento.setTamanhoArquivo(midia.tamanho());
+            documento.setCaminhoArquivo("midia/" + midia.hash());
+            documento.setHashMidia(midia.hash());
             documento.setDataDocumento(dataDocumento);
             documento.setDataValidade(dataValidade);
             documento.setDataUpload(Instant.now());
@@ -202,7 +200,7 @@ public class DocumentoIgrejaService {
     }
 
     @Transactional(readOnly = true)
-    public Optional<ArquivoDownload> obterArquivo(Long id, boolean inline) {
+    public Optional<ArquivoMidia> obterArquivo(Long id) {
         DocumentoIgreja documento = obterDocumentoDaIgrejaAtual(id)
             .filter(DocumentoIgreja::getAtivo)
             .orElse(null);
@@ -210,19 +208,11 @@ public class DocumentoIgrejaService {
             return Optional.empty();
         }
 
-        Path path = resolverCaminhoSeguro(documento.getCaminhoArquivo());
-        if (path == null || !Files.exists(path)) {
-            return Optional.empty();
-        }
-
-        try {
-            byte[] bytes = Files.readAllBytes(path);
-            String fileName = documento.getNomeArquivoOriginal() != null ? documento.getNomeArquivoOriginal() : "documento";
-            return Optional.of(new ArquivoDownload(bytes, documento.getTipoArquivo(), fileName));
-        } catch (IOException e) {
-            LOG.error("Erro ao ler documento {}", id, e);
-            return Optional.empty();
+        String fileName = documento.getNomeArquivoOriginal() != null ? documento.getNomeArquivoOriginal() : "documento";
+        if (documento.getHashMidia() != null) {
+            return midiaService.abrir(documento.getHashMidia(), documento.getTipoArquivo(), fileName);
         }
+        return midiaService.abrirLegado(resolverCaminhoSeguro(documento.getCaminhoArquivo()), documento.getTipoArquivo(), fileName);
     }
 
     private Optional<DocumentoIgreja> obterDocumentoDaIgrejaAtual(Long id) {
@@ -1,38 +1,203 @@
 package br.com.semear.service;
 
-import br.com.semear.domain.EscalaConfigAutomatica;
+import br.com.semear.domain.EscalaRotinaExecucao;
+import br.com.semear.domain.enumeration.StatusRotinaExecucao;
 import br.com.semear.repository.EscalaConfigAutomaticaRepository;
+import br.com.semear.repository.EscalaRotinaExecucaoRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Rotina diária de escalas automáticas, executada em paralelo e isolada por igreja.
+ * <p>
+ * Cada igreja roda na própria transação ({@link EscalaAutomacaoService#executarRotinaAgendadaIgreja})
+ * num pool limitado pelo número de núcleos e pelo pool de conexões, de modo que uma igreja lenta
+ * ou com erro não segura as demais. O resultado de cada igreja fica em {@link EscalaRotinaExecucao};
+ * se a aplicação cair no meio da rotina, ela é retomada na subida pulando as igrejas já concluídas.
+ */
 @Component
 public class EscalaAutomacaoScheduler {
 
     private static final Logger LOG = LoggerFactory.getLogger(EscalaAutomacaoScheduler.class);
+    private static final ZoneId FUSO = ZoneId.of("America/Sao_Paulo");
+    private static final LocalTime HORARIO_ROTINA = LocalTime.of(6, 30);
+    private static final int CONEXOES_RESERVADAS = 2;
 
     private final EscalaConfigAutomaticaRepository configRepository;
+    private final EscalaRotinaExecucaoRepository execucaoRepository;
     private final EscalaAutomacaoService escalaAutomacaoService;
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final int paralelismoConfigurado;
 
-    public EscalaAutomacaoScheduler(EscalaConfigAutomaticaRepository configRepository, EscalaAutomacaoService escalaAutomacaoService) {
+    public EscalaAutomacaoScheduler(
+        EscalaConfigAutomaticaRepository configRepository,
+        EscalaRotinaExecucaoRepository execucaoRepository,
+        EscalaAutomacaoService escalaAutomacaoService,
+        DataSource dataSource,
+        MeterRegistry meterRegistry,
+        @Value("${semear.escalas.rotina.paralelismo:0}") int paralelismoConfigurado
+    ) {
         this.configRepository = configRepository;
+        this.execucaoRepository = execucaoRepository;
         this.escalaAutomacaoService = escalaAutomacaoService;
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.paralelismoConfigurado = paralelismoConfigurado;
     }
 
     /** Diariamente às 06:30 — gera rascunho do próximo ciclo quando faltar antecedência configurada. */
-    @Scheduled(cron = "0 30 6 * * ?")
-    @Transactional
+    @Scheduled(cron = "0 30 6 * * ?", zone = "America/Sao_Paulo")
     public void executarRotinaDiaria() {
-        LOG.debug("Iniciando rotina diária de escalas automáticas");
-        List<EscalaConfigAutomatica> configs = configRepository.findByAtivoTrue();
-        for (EscalaConfigAutomatica config : configs) {
-            if (config.getIgreja() == null) {
-                continue;
+        executarRotina(LocalDate.now(FUSO));
+    }
+
+    /** Retoma a rotina do dia se a aplicação caiu com igrejas ainda em execução. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void retomarRotinaInterrompida() {
+        LocalDate hoje = LocalDate.now(FUSO);
+        if (LocalTime.now(FUSO).isBefore(HORARIO_ROTINA)) {
+            return;
+        }
+        try {
+            if (execucaoRepository.existsByDataReferenciaAndStatus(hoje, StatusRotinaExecucao.EM_EXECUCAO)) {
+                LOG.info("Retomando rotina de escalas automáticas interrompida em {}", hoje);
+                executarRotina(hoje);
             }
-            escalaAutomacaoService.executarRotinaAgendadaIgreja(config.getIgreja().getId());
+        } catch (Exception e) {
+            LOG.warn("Não foi possível verificar retomada da rotina de escalas: {}", e.getMessage());
+        }
+    }
+
+    void executarRotina(LocalDate dataReferencia) {
+        Set<Long> concluidas = execucaoRepository
+            .findByDataReferenciaAndStatus(dataReferencia, StatusRotinaExecucao.CONCLUIDA)
+            .stream()
+            .map(EscalaRotinaExecucao::getIgrejaId)
+            .collect(Collectors.toSet());
+        List<Long> pendentes = configRepository.findIgrejaIdsAtivas().stream().filter(id -> !concluidas.contains(id)).toList();
+        if (pendentes.isEmpty()) {
+            LOG.debug("Rotina diária de escalas automáticas sem igrejas pendentes");
+            return;
         }
+
+        int paralelismo = Math.min(resolverParalelismo(), pendentes.size());
+        LOG.info("Rotina diária de escalas automáticas: {} igrejas, paralelismo {}", pendentes.size(), paralelismo);
+        long inicio = System.nanoTime();
+        AtomicInteger sequencia = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(paralelismo, r -> {
+            Thread t = new Thread(r, "semear-escala-rotina-" + sequencia.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        int falhas = 0;
+        try {
+            List<Future<Boolean>> futuros = new ArrayList<>(pendentes.size());
+            for (Long igrejaId : pendentes) {
+                futuros.add(executor.submit(() -> executarIgreja(igrejaId, dataReferencia)));
+            }
+            for (Future<Boolean> futuro : futuros) {
+                try {
+                    if (!futuro.get()) {
+                        falhas++;
+                    }
+                } catch (ExecutionException e) {
+                    falhas++;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn("Rotina diária de escalas interrompida; igrejas pendentes serão retomadas");
+        } finally {
+            executor.shutdownNow();
+        }
+        LOG.info(
+            "Rotina diária de escalas concluída em {} ms ({} igrejas, {} falhas)",
+            Duration.ofNanos(System.nanoTime() - inicio).toMillis(),
+            pendentes.size(),
+            falhas
+        );
+    }
+
+    private boolean executarIgreja(Long igrejaId, LocalDate dataReferencia) {
+        EscalaRotinaExecucao execucao = execucaoRepository
+            .findByIgrejaIdAndDataReferencia(igrejaId, dataReferencia)
+            .orElseGet(EscalaRotinaExecucao::new);
+        execucao.setIgrejaId(igrejaId);
+        execucao.setDataReferencia(dataReferencia);
+        execucao.setStatus(StatusRotinaExecucao.EM_EXECUCAO);
+        execucao.setIniciadoEm(Instant.now());
+        execucao.setConcluidoEm(null);
+        execucao.setErro(null);
+        execucao.setTentativas((execucao.getTentativas() != null ? execucao.getTentativas() : 0) + 1);
+        execucao = execucaoRepository.save(execucao);
+
+        long inicio = System.nanoTime();
+        boolean sucesso = true;
+        try {
+            escalaAutomacaoService.executarRotinaAgendadaIgreja(igrejaId);
+            execucao.setStatus(StatusRotinaExecucao.CONCLUIDA);
+        } catch (Exception e) {
+            sucesso = false;
+            LOG.warn("Falha na rotina de escalas da igreja {}: {}", igrejaId, e.getMessage());
+            execucao.setStatus(StatusRotinaExecucao.FALHOU);
+            execucao.setErro(resumirErro(e));
+        }
+        long duracaoNanos = System.nanoTime() - inicio;
+        execucao.setConcluidoEm(Instant.now());
+        execucao.setDuracaoMs(Duration.ofNanos(duracaoNanos).toMillis());
+        execucaoRepository.save(execucao);
+        Timer.builder("semear.escalas.rotina.igreja")
+            .description("Duração da rotina automática de escalas por igreja")
+            .tag("resultado", sucesso ? "sucesso" : "falha")
+            .register(meterRegistry)
+            .record(Duration.ofNanos(duracaoNanos));
+        return sucesso;
+    }
+
+    /**
+     * Núcleos disponíveis, ou o valor configurado, sem ultrapassar o pool de conexões: cada igreja segura uma
+     * conexão durante a transação, e o restante da aplicação precisa das reservadas.
+     */
+    int resolverParalelismo() {
+        int teto = Integer.MAX_VALUE;
+        if (dataSource instanceof HikariDataSource hikari) {
+            teto = Math.max(1, hikari.getMaximumPoolSize() - CONEXOES_RESERVADAS);
+        }
+        if (paralelismoConfigurado > 0) {
+            if (paralelismoConfigurado > teto) {
+                LOG.warn("semear.escalas.rotina.paralelismo={} acima do pool de conexões; usando {}", paralelismoConfigurado, teto);
+            }
+            return Math.min(paralelismoConfigurado, teto);
+        }
+        return Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), teto));
+    }
+
+    private String resumirErro(Exception e) {
+        String msg = e.getClass().getSimpleName() + (e.getMessage() != null ? ": " + e.getMessage() : "");
+        return msg.length() > 500 ? msg.substring(0, 500) : msg;
     }
 }
@@ -5,6 +5,10 @@ import br.com.semear.domain.enumeration.*;
 import br.com.semear.repository.*;
 import br.com.semear.security.AuthoritiesConstants;
 import br.com.semear.service.dto.*;
+import br.com.semear.service.notificacao.SecaoResumo;
+import br.com.semear.service.notificacao.VersoesResumoNotificacao;
+import br.com.semear.service.sorteio.PoliticaRodizio;
+import br.com.semear.service.sorteio.SorteioRodizio;
 import br.com.semear.service.util.CultoRecorrenciaUtils;
 import br.com.semear.service.util.EscalaNotificacaoUtils;
 import br.com.semear.web.rest.errors.BadRequestAlertException;
@@ -42,6 +46,7 @@ public class EscalaAutomacaoService {
     private final TenantService tenantService;
     private final NotificacaoService notificacaoService;
     private final EscalaPublicacaoAsyncService escalaPublicacaoAsyncService;
+    private final VersoesResumoNotificacao versoesResumo;
 
     public EscalaAutomacaoService(
         CultoRegistroRepository cultoRegistroRepository,
@@ -56,7 +61,8 @@ public class EscalaAutomacaoService {
         EscalaLoginAvisoVistoRepository avisoVistoRepository,
         TenantService tenantService,
         NotificacaoService notificacaoService,
-        EscalaPublicacaoAsyncService escalaPublicacaoAsyncService
+        EscalaPublicacaoAsyncService escalaPublicacaoAsyncService,
+        VersoesResumoNotificacao versoesResumo
     ) {
         this.cultoRegistroRepository = cultoRegistroRepository;
         this.cultoEscalaRegraRepository = cultoEscalaRegraRepository;
@@ -71,6 +77,7 @@ public class EscalaAutomacaoService {
         this.tenantService = tenantService;
         this.notificacaoService = notificacaoService;
         this.escalaPublicacaoAsyncService = escalaPublicacaoAsyncService;
+        this.versoesResumo = versoesResumo;
     }
 
     @Transactional(readOnly = true)
@@ -335,6 +342,7 @@ public class EscalaAutomacaoService {
         geracaoRepository.saveAndFlush(geracao);
 
         escalaRepository.atualizarStatusPorGeracao(geracao.getId(), StatusEscalaPublicacao.PUBLICADA);
+        versoesResumo.alterouIgreja(igrejaId, SecaoResumo.ESCALA);
         List<Long> escalaIds = escalaRepository.findIdsByGeracaoId(geracao.getId());
         agendarNotificacoesPublicacao(escalaIds);
 
@@ -356,6 +364,7 @@ public class EscalaAutomacaoService {
         List<Long> ids = alvo.stream().map(Escala::getId).filter(Objects::nonNull).toList();
         if (!ids.isEmpty()) {
             escalaRepository.atualizarStatusPorIds(ids, StatusEscalaPublicacao.PUBLICADA);
+            versoesResumo.alterouIgreja(tenantService.getIgrejaIdAtual(), SecaoResumo.ESCALA);
         }
         for (Escala escala : alvo) {
             escala.setStatus(StatusEscalaPublicacao.PUBLICADA);
@@ -497,6 +506,13 @@ public class EscalaAutomacaoService {
         }
         escalaItemRepository.deleteByEscalaIdIn(ids);
         escalaRepository.deleteByIdIn(ids);
+        escalas
+            .stream()
+            .map(Escala::getIgreja)
+            .filter(Objects::nonNull)
+            .map(Igreja::getId)
+            .distinct()
+            .forEach(igrejaId -> versoesResumo.alterouIgreja(igrejaId, SecaoResumo.ESCALA));
     }
 
     @Transactional(readOnly = true)
@@ -1143,8 +1159,8 @@ public class EscalaAutomacaoService {
         LocalDate data,
         ContextoSorteio ctx
     ) {
-        User homem = escolherMembro(deptPortaria, regraPortaria.getRegraGenero(), ctx);
-        User mulher = escolherMembro(deptRecepcao, regraRecepcao.getRegraGenero(), ctx);
+        User homem = escolherMembro(deptPortaria, regraPortaria.getRegraGenero(), data, ctx);
+        User mulher = escolherMembro(deptRecepcao, regraRecepcao.getRegraGenero(), data, ctx);
         if (homem == null || mulher == null) {
             if (homem != null) {
                 criarEscalaSorteada(geracao, culto, regraPortaria, deptPortaria, data, ctx, null);
@@ -1183,24 +1199,15 @@ public class EscalaAutomacaoService {
         ctx.itensPendentes.add(itemRecepcao);
     }
 
-    private User escolherMembro(Departamento departamento, RegraGeneroEscala regraGenero, ContextoSorteio ctx) {
-        List<User> base = ctx.membrosPorDepartamento.getOrDefault(departamento.getId(), List.of());
-        List<User> elegiveis = base.stream().filter(u -> compativelGenero(u, regraGenero)).toList();
-        if (elegiveis.isEmpty()) {
+    private User escolherMembro(
+        Departamento departamento,
+        RegraGeneroEscala regraGenero,
+        LocalDate data,
+        ContextoSorteio ctx
+    ) {
+        User escolhido = ctx.sorteio.sortear(departamento.getId(), regraGenero, data);
+        if (escolhido == null) {
             LOG.warn("Sem membros elegíveis para departamento {}", departamento.getId());
-            return null;
-        }
-        Map<Long, Long> cargasDept = ctx.cargaHistoricaPorDepartamento.getOrDefault(departamento.getId(), Map.of());
-        User escolhido = elegiveis
-            .stream()
-            .min(
-                Comparator.comparingLong((User u) ->
-                    cargasDept.getOrDefault(u.getId(), 0L) + ctx.cargaGeracao.getOrDefault(u.getId(), 0)
-                ).thenComparing(User::getId)
-            )
-            .orElse(null);
-        if (escolhido != null) {
-            ctx.cargaGeracao.merge(escolhido.getId(), 1, Integer::sum);
         }
         return escolhido;
     }
@@ -1214,7 +1221,7 @@ public class EscalaAutomacaoService {
         ContextoSorteio ctx,
         String loteLimpezaChave
     ) {
-        User escolhido = escolherMembro(departamento, regra.getRegraGenero(), ctx);
+        User escolhido = escolherMembro(departamento, regra.getRegraGenero(), data, ctx);
         if (escolhido == null) {
             return;
         }
@@ -1252,7 +1259,7 @@ public class EscalaAutomacaoService {
         Map<Long, Integer> cargaGeracao,
         Instant historicoDesde
     ) {
-        ContextoSorteio ctx = new ContextoSorteio(cargaGeracao, historicoDesde);
+        ContextoSorteio ctx = new ContextoSorteio(cargaGeracao, historicoDesde, politicaRodizio(config));
 
         List<Long> cultoIds = cultos.stream().map(CultoRegistro::getId).filter(Objects::nonNull).toList();
         if (!cultoIds.isEmpty()) {
@@ -1339,7 +1346,15 @@ public class EscalaAutomacaoService {
     }
 
     /**
-     * Cache em memória para o sorteio: regras, membros, cargas históricas e buffers de persistência.
+     * Política de justiça do rodízio. Hoje a configuração automática não expõe pesos, intervalo mínimo
+     * nem datas excluídas, então vale o comportamento padrão (histórico + ciclo, desempate por id).
+     */
+    private PoliticaRodizio politicaRodizio(EscalaConfigAutomatica config) {
+        return PoliticaRodizio.padrao();
+    }
+
+    /**
+     * Cache em memória para o sorteio: regras, membros, cargas históricas, filas do rodízio e buffers de persistência.
      */
     private static final class ContextoSorteio {
         final Map<Long, Integer> cargaGeracao;
@@ -1350,10 +1365,12 @@ public class EscalaAutomacaoService {
         final Map<Long, Map<Long, Long>> cargaHistoricaPorDepartamento = new HashMap<>();
         final List<Escala> escalasPendentes = new ArrayList<>();
         final List<EscalaItem> itensPendentes = new ArrayList<>();
+        final SorteioRodizio sorteio;
 
-        ContextoSorteio(Map<Long, Integer> cargaGeracao, Instant historicoDesde) {
+        ContextoSorteio(Map<Long, Integer> cargaGeracao, Instant historicoDesde, PoliticaRodizio politica) {
             this.cargaGeracao = cargaGeracao;
             this.historicoDesde = historicoDesde;
+            this.sorteio = new SorteioRodizio(membrosPorDepartamento, cargaHistoricaPorDepartamento, cargaGeracao, politica);
         }
     }
 
@@ -1407,20 +1424,6 @@ public class EscalaAutomacaoService {
         return new LocalDate[] { inicio, fim };
     }
 
-    private boolean compativelGenero(User user, RegraGeneroEscala regra) {
-        if (regra == null || regra == RegraGeneroEscala.QUALQUER) {
-            return true;
-        }
-        if (user.getSexo() == null) {
-            return false;
-        }
-        return switch (regra) {
-            case MASCULINO -> user.getSexo() == Sexo.MASCULINO;
-            case FEMININO -> user.getSexo() == Sexo.FEMININO;
-            case QUALQUER -> true;
-        };
-    }
-
     private boolean diaCompativel(LocalDate data, DiaSemanaCulto diaSemana) {
         return CultoRecorrenciaUtils.diaCompativel(data, diaSemana);
     }
@@ -41,6 +41,28 @@ public class EventoNotificacaoService {
         criar(evento, user, TIPO_EVENTO_CONFIRMACAO, "Inscrição confirmada", "Você está inscrito em \"" + evento.getTitulo() + "\".", linkEvento(evento));
     }
 
+    public void notificarListaEspera(Evento evento, User user) {
+        criar(
+            evento,
+            user,
+            TIPO_EVENTO_CONFIRMACAO,
+            "Lista de espera",
+            "\"" + evento.getTitulo() + "\" está lotado. Você entrou na lista de espera e será avisado se abrir uma vaga.",
+            linkEvento(evento)
+        );
+    }
+
+    public void notificarPromocaoListaEspera(Evento evento, User user) {
+        criar(
+            evento,
+            user,
+            TIPO_EVENTO_CONFIRMACAO,
+            "Vaga confirmada",
+            "Abriu uma vaga e sua inscrição em \"" + evento.getTitulo() + "\" foi confirmada.",
+            linkEvento(evento)
+        );
+    }
+
     public void notificarAlteracaoEvento(Evento evento, User user, String detalhe) {
         criar(
             evento,
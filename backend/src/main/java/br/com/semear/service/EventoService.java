@@ -11,14 +11,22 @@ import br.com.semear.domain.enumeration.StatusInscricaoEvento;
 import br.com.semear.repository.EventoBannerRepository;
 import br.com.semear.repository.EventoInscricaoRepository;
 import br.com.semear.repository.EventoRepository;
+import br.com.semear.repository.projection.BannerMetadadosProjection;
 import br.com.semear.security.AuthoritiesConstants;
 import br.com.semear.service.dto.ConfigNotificacaoDTO;
 import br.com.semear.service.dto.EventoDTO;
 import br.com.semear.service.dto.EventoFiltroDTO;
 import br.com.semear.service.dto.EventoInscricaoDTO;
+import br.com.semear.service.evento.FilaInscricaoEvento;
+import br.com.semear.service.exportacao.ExportacaoService;
+import br.com.semear.service.exportacao.FormatoExportacao;
+import br.com.semear.service.midia.ArquivoMidia;
+import br.com.semear.service.midia.MidiaGuardada;
+import br.com.semear.service.midia.MidiaService;
 import br.com.semear.service.util.ConfigNotificacaoJsonUtil;
 import br.com.semear.web.rest.errors.BadRequestAlertException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -32,11 +40,13 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Service
 @Transactional
@@ -57,6 +67,9 @@ public class EventoService {
     private final EventoNotificacaoService eventoNotificacaoService;
     private final NotificacaoProgramadaService notificacaoProgramadaService;
     private final EventoNotificacaoAsyncService eventoNotificacaoAsyncService;
+    private final ExportacaoService exportacaoService;
+    private final FilaInscricaoEvento filaInscricaoEvento;
+    private final MidiaService midiaService;
 
     public EventoService(
         EventoRepository eventoRepository,
@@ -65,7 +78,10 @@ public class EventoService {
         TenantService tenantService,
         EventoNotificacaoService eventoNotificacaoService,
         NotificacaoProgramadaService notificacaoProgramadaService,
-        EventoNotificacaoAsyncService eventoNotificacaoAsyncService
+        EventoNotificacaoAsyncService eventoNotificacaoAsyncService,
+        ExportacaoService exportacaoService,
+        FilaInscricaoEvento filaInscricaoEvento,
+        MidiaService midiaService
     ) {
         this.eventoRepository = eventoRepository;
         this.eventoBannerRepository = eventoBannerRepository;
@@ -74,6 +90,9 @@ public class EventoService {
         this.eventoNotificacaoService = eventoNotificacaoService;
         this.notificacaoProgramadaService = notificacaoProgramadaService;
         this.eventoNotificacaoAsyncService = eventoNotificacaoAsyncService;
+        this.exportacaoService = exportacaoService;
+        this.filaInscricaoEvento = filaInscricaoEvento;
+        this.midiaService = midiaService;
     }
 
     @Transactional(readOnly = true)
@@ -175,6 +194,7 @@ public class EventoService {
         Evento entity = obterEntidade(id).orElseThrow(this::naoEncontrado);
         EventoSnapshot antes = EventoSnapshot.from(entity);
         String imagemAnterior = entity.getImagemUrl();
+        Integer capacidadeAnterior = entity.getCapacidade();
         aplicarDados(entity, dto);
         if (dto.getImagemUrl() == null && ehBannerInterno(imagemAnterior)) {
             eventoBannerRepository.deleteById(entity.getId());
@@ -186,6 +206,9 @@ public class EventoService {
             entity.setImagemUrl(limpa);
         }
         Evento salvo = eventoRepository.saveAndFlush(entity);
+        if (!Objects.equals(capacidadeAnterior, salvo.getCapacidade())) {
+            notificarPromovidas(salvo, filaInscricaoEvento.promover(salvo.getId()));
+        }
         ConfigNotificacaoDTO config = dto.getConfigNotificacao();
         executarAposCommit(() ->
             eventoNotificacaoAsyncService.processarAposAtualizar(
@@ -240,9 +263,12 @@ public class EventoService {
             throw new BadRequestAlertException("Use JPEG, PNG, GIF ou WebP", ENTITY, "tipoinvalido");
         }
         Evento entity = obterEntidade(id).orElseThrow(this::naoEncontrado);
-        final byte[] bytes;
-        try {
-            bytes = file.getBytes();
+        final MidiaGuardada midia;
+        final byte[] copiaNoBanco;
+        try (InputStream entrada = file.getInputStream()) {
+            midia = midiaService.guardar(entrada);
+            // O disco local some no redeploy do Render: nesse caso o banco guarda a cópia durável.
+            copiaNoBanco = midiaService.storeDuravel() ? null : file.getBytes();
         } catch (IOException e) {
             LOG.error("Erro ao ler bytes do banner do evento {}", entity.getId(), e);
             throw new BadRequestAlertException("Erro ao ler o arquivo do banner", ENTITY, "errosalvar");
@@ -252,7 +278,8 @@ public class EventoService {
             EventoBanner banner = eventoBannerRepository.findById(entity.getId()).orElseGet(EventoBanner::new);
             banner.setEventoId(entity.getId());
             banner.setContentType(contentType);
-            banner.setDados(bytes);
+            banner.setHashMidia(midia.hash());
+            banner.setDados(copiaNoBanco);
             banner.setAtualizadoEm(Instant.now());
             eventoBannerRepository.saveAndFlush(banner);
         } catch (RuntimeException e) {
@@ -264,29 +291,31 @@ public class EventoService {
             );
         }
 
-        // Mantém cópia em disco quando possível (dev/local); o banco é a fonte da verdade.
-        try {
-            removerArquivoBanner(entity.getId());
-            String ext = extensaoPorContentType(contentType);
-            Path dir = diretorioBanner(entity.getId());
-            Files.createDirectories(dir);
-            Files.write(dir.resolve("banner." + ext), bytes);
-        } catch (IOException e) {
-            LOG.warn("Banner salvo no banco, mas falhou cópia em disco do evento {}: {}", entity.getId(), e.getMessage());
-        }
+        // Cópia em disco do formato antigo, substituída pelo MidiaStore.
+        removerArquivoBanner(entity.getId());
 
         entity.setImagemUrl("/api/eventos/" + entity.getId() + "/banner");
         Evento salvo = eventoRepository.saveAndFlush(entity);
-        LOG.info("Banner do evento {} persistido ({} bytes, {})", entity.getId(), bytes.length, contentType);
+        LOG.info("Banner do evento {} persistido ({} bytes, {})", entity.getId(), midia.tamanho(), contentType);
         return toDtoComInscricoes(salvo, tenantService.getUsuarioAtual(), null, null);
     }
 
+    /** Banner do MidiaStore; cai na cópia do banco e, para banners antigos, no arquivo em disco. */
     @Transactional(readOnly = true)
-    public Optional<BannerArquivo> obterBanner(Long id) {
-        Optional<EventoBanner> noBanco = eventoBannerRepository.findById(id);
-        if (noBanco.isPresent() && noBanco.get().getDados() != null && noBanco.get().getDados().length > 0) {
-            EventoBanner b = noBanco.get();
-            return Optional.of(new BannerArquivo(b.getDados(), b.getContentType()));
+    public Optional<ArquivoMidia> obterBanner(Long id) {
+        Optional<BannerMetadadosProjection> metadados = eventoBannerRepository.findMetadadosByEventoId(id);
+        if (metadados.isPresent()) {
+            String hash = metadados.get().getHashMidia();
+            String contentType = metadados.get().getContentType();
+            Optional<ArquivoMidia> noStore = hash != null ? midiaService.abrir(hash, contentType, null) : Optional.empty();
+            if (noStore.isPresent()) {
+                return noStore;
+            }
+            Optional<byte[]> dados = eventoBannerRepository.findDadosByEventoId(id).filter(d -> d.length > 0);
+            if (dados.isPresent()) {
+                String etag = hash != null ? MidiaService.etag(hash) : null;
+                return Optional.of(new ArquivoMidia(new ByteArrayResource(dados.get()), contentType, null, etag));
+            }
         }
 
         Path dir = diretorioBanner(id);
@@ -303,7 +332,7 @@ public class EventoService {
             Path path = arquivo.get();
             String nome = path.getFileName().toString();
             String ext = nome.substring(nome.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
-            return Optional.of(new BannerArquivo(Files.readAllBytes(path), contentTypePorExtensao(ext)));
+            return midiaService.abrirLegado(path, contentTypePorExtensao(ext), null);
         } catch (IOException e) {
             LOG.warn("Erro ao ler banner do evento {}", id, e);
             return Optional.empty();
@@ -325,44 +354,60 @@ public class EventoService {
         validarInscricaoPermitida(evento);
         User user = tenantService.getUsuarioAtual();
         Optional<EventoInscricao> existente = eventoInscricaoRepository.findByEventoIdAndUserId(evento.getId(), user.getId());
+        EventoInscricao inscricao;
         if (existente.isPresent()) {
-            EventoInscricao inscricao = existente.get();
-            if (inscricao.getStatus() == StatusInscricaoEvento.ATIVA) {
+            inscricao = existente.get();
+            if (inscricao.getStatus() != StatusInscricaoEvento.CANCELADA) {
                 return toInscricaoDto(inscricao);
             }
-            inscricao.setStatus(StatusInscricaoEvento.ATIVA);
             inscricao.setCanceladoEm(null);
-            inscricao.setConfirmado(false);
-            inscricao.setCriadoEm(Instant.now());
-            EventoInscricao salva = eventoInscricaoRepository.save(inscricao);
-            eventoNotificacaoService.notificarConfirmacaoInscricao(evento, user);
-            return toInscricaoDto(salva);
+        } else {
+            inscricao = new EventoInscricao();
+            inscricao.setEvento(evento);
+            inscricao.setUser(user);
         }
-        validarCapacidade(evento);
-        EventoInscricao inscricao = new EventoInscricao();
-        inscricao.setEvento(evento);
-        inscricao.setUser(user);
         inscricao.setConfirmado(false);
-        inscricao.setStatus(StatusInscricaoEvento.ATIVA);
         inscricao.setCriadoEm(Instant.now());
+        // A vaga é ocupada por último: a linha do evento fica travada só até o commit logo em seguida.
+        inscricao.setStatus(filaInscricaoEvento.reservar(evento.getId()));
         EventoInscricao salva = eventoInscricaoRepository.save(inscricao);
-        eventoNotificacaoService.notificarConfirmacaoInscricao(evento, user);
+        if (salva.getStatus() == StatusInscricaoEvento.ATIVA) {
+            eventoNotificacaoService.notificarConfirmacaoInscricao(evento, user);
+        } else {
+            eventoNotificacaoService.notificarListaEspera(evento, user);
+        }
         return toInscricaoDto(salva);
     }
 
     public void desinscrever(Long id) {
         Evento evento = obterEntidade(id).orElseThrow(this::naoEncontrado);
         User user = tenantService.getUsuarioAtual();
+        // Travada antes de ler o status: uma promoção simultânea da fila pode tê-la passado para ATIVA, e cancelar
+        // sem devolver essa vaga deixaria o contador com uma vaga ocupada por ninguém.
         EventoInscricao inscricao = eventoInscricaoRepository
-            .findByEventoIdAndUserId(evento.getId(), user.getId())
+            .travarPorEventoEUsuario(evento.getId(), user.getId())
             .orElseThrow(() -> new BadRequestAlertException("Inscrição não encontrada", ENTITY, "inscricaonaoencontrada"));
         if (inscricao.getStatus() == StatusInscricaoEvento.CANCELADA) {
             return;
         }
-        validarPrazoCancelamento(evento);
+        boolean ocupavaVaga = inscricao.getStatus() == StatusInscricaoEvento.ATIVA;
+        if (ocupavaVaga) {
+            validarPrazoCancelamento(evento);
+        }
         inscricao.setStatus(StatusInscricaoEvento.CANCELADA);
         inscricao.setCanceladoEm(Instant.now());
-        eventoInscricaoRepository.save(inscricao);
+        eventoInscricaoRepository.saveAndFlush(inscricao);
+        if (ocupavaVaga) {
+            notificarPromovidas(evento, filaInscricaoEvento.liberar(evento.getId()));
+        }
+    }
+
+    private void notificarPromovidas(Evento evento, List<EventoInscricao> promovidas) {
+        for (EventoInscricao promovida : promovidas) {
+            if (promovida.getUser() != null) {
+                eventoNotificacaoService.notificarPromocaoListaEspera(evento, promovida.getUser());
+            }
+        }
     }
 
     public EventoInscricaoDTO checkIn(Long eventoId, Long inscricaoId) {
@@ -394,33 +439,17 @@ public class EventoService {
         return resultados;
     }
 
+    /**
+     * Valida o acesso na thread da requisição e devolve o corpo que escreve os inscritos em fluxo.
+     *
+     * @param status filtra pela situação da inscrição; {@code null} exporta todas.
+     */
     @Transactional(readOnly = true)
-    public String exportarInscritosCsv(Long eventoId) {
+    public StreamingResponseBody exportarInscritos(Long eventoId, StatusInscricaoEvento status, FormatoExportacao formato) {
         validarLideranca();
         Evento evento = obterEntidade(eventoId).orElseThrow(this::naoEncontrado);
-        List<EventoInscricaoDTO> inscritos = eventoInscricaoRepository
-            .findByEventoId(evento.getId())
-            .stream()
-            .map(this::toInscricaoDto)
-            .toList();
-        StringBuilder csv = new StringBuilder();
-        csv.append("Nome,E-mail,Telefone,Data inscrição,Status,Check-in\n");
-        for (EventoInscricaoDTO i : inscritos) {
-            csv
-                .append(csvValor(i.getUserNome()))
-                .append(',')
-                .append(csvValor(i.getUserEmail()))
-                .append(',')
-                .append(csvValor(i.getUserTelefone()))
-                .append(',')
-                .append(csvValor(i.getCriadoEm() != null ? i.getCriadoEm().toString() : ""))
-                .append(',')
-                .append(csvValor(i.getStatus() != null ? i.getStatus().name() : ""))
-                .append(',')
-                .append(csvValor(Boolean.TRUE.equals(i.getConfirmado()) ? "Confirmado" : "Pendente"))
-                .append('\n');
-        }
-        return csv.toString();
+        Long id = evento.getId();
+        return saida -> exportacaoService.inscritos(id, status, formato, saida);
     }
 
     private List<Evento> buscarComFiltros(EventoFiltroDTO filtro) {
@@ -484,7 +513,6 @@ public class EventoService {
         if (evento.getDataInicio() != null && evento.getDataInicio().isBefore(Instant.now())) {
             throw new BadRequestAlertException("Evento já ocorreu", ENTITY, "eventopassado");
         }
-        validarCapacidade(evento);
     }
 
     private void validarPrazoCancelamento(Evento evento) {
@@ -493,16 +521,6 @@ public class EventoService {
         }
     }
 
-    private void validarCapacidade(Evento evento) {
-        if (evento.getCapacidade() == null) {
-            return;
-        }
-        long total = eventoInscricaoRepository.countByEventoIdAndStatus(evento.getId(), StatusInscricaoEvento.ATIVA);
-        if (total >= evento.getCapacidade()) {
-            throw new BadRequestAlertException("Capacidade máxima do evento atingida", ENTITY, "capacidadeesgotada");
-        }
-    }
-
     private void notificarAlteracoesImportantes(EventoSnapshot antes, Evento depois) {
         // Mantido apenas para exclusão / caminhos síncronos legados.
         // Create/update usam EventoNotificacaoAsyncService (não bloqueia a API).
@@ -624,13 +642,24 @@ public class EventoService {
 
     private EventoDTO toDtoResumo(Evento entity, User usuario) {
         EventoDTO dto = preencherDtoBase(entity);
-        long total = eventoInscricaoRepository.countByEventoIdAndStatus(entity.getId(), StatusInscricaoEvento.ATIVA);
+        long total = entity.getVagasOcupadas() != null ? entity.getVagasOcupadas() : 0;
         dto.setTotalInscritos((int) total);
         Optional<EventoInscricao> inscricaoOpt = eventoInscricaoRepository.findByEventoIdAndUserId(entity.getId(), usuario.getId());
         if (inscricaoOpt.isPresent()) {
             EventoInscricao inscricao = inscricaoOpt.get();
             dto.setInscrito(inscricao.getStatus() == StatusInscricaoEvento.ATIVA);
             dto.setSituacaoInscricao(inscricao.getStatus().name());
+            if (inscricao.getStatus() == StatusInscricaoEvento.ESPERA) {
+                dto.setPosicaoEspera(
+                    (int) eventoInscricaoRepository.countAFrenteNaFila(
+                        entity.getId(),
+                        StatusInscricaoEvento.ESPERA,
+                        inscricao.getCriadoEm(),
+                        inscricao.getId()
+                    ) +
+                    1
+                );
+            }
         } else {
             dto.setInscrito(false);
             dto.setSituacaoInscricao(null);
@@ -726,6 +755,7 @@ public class EventoService {
         return switch (filtroStatus.toUpperCase(Locale.ROOT)) {
             case "ATIVOS", "ATIVAS", "CONFIRMADOS", "PENDENTES" -> inscricao.getStatus() == StatusInscricaoEvento.ATIVA;
             case "CANCELADOS" -> inscricao.getStatus() == StatusInscricaoEvento.CANCELADA;
+            case "ESPERA", "LISTA_ESPERA" -> inscricao.getStatus() == StatusInscricaoEvento.ESPERA;
             default -> true;
         };
     }
@@ -768,17 +798,6 @@ public class EventoService {
         return nome.isBlank() ? user.getLogin() : nome;
     }
 
-    private String csvValor(String valor) {
-        if (valor == null) {
-            return "";
-        }
-        String escapado = valor.replace("\"", "\"\"");
-        if (escapado.contains(",") || escapado.contains("\"") || escapado.contains("\n")) {
-            return "\"" + escapado + "\"";
-        }
-        return escapado;
-    }
-
     private BadRequestAlertException naoEncontrado() {
         return new BadRequestAlertException("Evento não encontrado", ENTITY, "naoencontrado");
     }
@@ -820,16 +839,6 @@ public class EventoService {
         );
     }
 
-    private String extensaoPorContentType(String contentType) {
-        return switch (contentType) {
-            case "image/jpeg" -> "jpg";
-            case "image/png" -> "png";
-            case "image/gif" -> "gif";
-            case "image/webp" -> "webp";
-            default -> "jpg";
-        };
-    }
-
     private String contentTypePorExtensao(String ext) {
         return switch (ext) {
             case "jpg", "jpeg" -> "image/jpeg";
@@ -840,8 +849,6 @@ public class EventoService {
         };
     }
 
-    public record BannerArquivo(byte[] bytes, String contentType) {}
-
     private record EventoSnapshot(String titulo, Instant dataInicio, Instant dataFim, String local, StatusEvento status) {
         static EventoSnapshot from(Evento evento) {
             return new EventoSnapshot(
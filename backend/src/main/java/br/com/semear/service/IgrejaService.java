@@ -12,8 +12,12 @@ import br.com.semear.service.dto.IgrejaDTO;
 import br.com.semear.service.dto.IgrejaPixDTO;
 import br.com.semear.service.dto.IgrejaPublicaDTO;
 import br.com.semear.service.mapper.IgrejaMapper;
+import br.com.semear.service.midia.ArquivoMidia;
+import br.com.semear.service.midia.MidiaGuardada;
+import br.com.semear.service.midia.MidiaService;
 import br.com.semear.web.rest.errors.BadRequestAlertException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -42,6 +46,8 @@ public class IgrejaService {
     private final UserRepository userRepository;
     private final IgrejaMapper igrejaMapper;
     private final AssinaturaIgrejaService assinaturaIgrejaService;
+    private final NotificacaoService notificacaoService;
+    private final MidiaService midiaService;
 
     @Value("${semear.upload-dir:${user.home}/semear-app/uploads}")
     private String uploadDir;
@@ -50,16 +56,18 @@ public class IgrejaService {
         IgrejaRepository igrejaRepository,
         UserRepository userRepository,
         IgrejaMapper igrejaMapper,
-        AssinaturaIgrejaService assinaturaIgrejaService
+        AssinaturaIgrejaService assinaturaIgrejaService,
+        NotificacaoService notificacaoService,
+        MidiaService midiaService
     ) {
         this.igrejaRepository = igrejaRepository;
         this.userRepository = userRepository;
         this.igrejaMapper = igrejaMapper;
         this.assinaturaIgrejaService = assinaturaIgrejaService;
+        this.notificacaoService = notificacaoService;
+        this.midiaService = midiaService;
     }
 
-    public record LogoArquivo(byte[] bytes, String contentType) {}
-
     @Transactional(readOnly = true)
     public Optional<IgrejaDTO> findOne(Long id) {
         return igrejaRepository.findById(id).map(igrejaMapper::toDto);
@@ -188,12 +196,10 @@ public class IgrejaService {
         Igreja igreja = resolverIgrejaDoUsuarioLogado()
             .orElseThrow(() -> new BadRequestAlertException("Usuário sem igreja vinculada", ENTITY_NAME, "semigreja"));
         validarAcessoIgreja(igreja);
-        try {
-            String ext = extensaoPorContentType(contentType);
-            Path dir = Paths.get(uploadDir, "igrejas", igreja.getId().toString()).toAbsolutePath().normalize();
-            Files.createDirectories(dir);
-            Path target = dir.resolve("logo." + ext);
-            Files.write(target, file.getBytes());
+        try (InputStream entrada = file.getInputStream()) {
+            MidiaGuardada midia = midiaService.guardar(entrada);
+            igreja.setLogoHashMidia(midia.hash());
+            igreja.setLogoContentType(contentType);
             igreja.setLogoUrl("/api/igrejas/" + igreja.getId() + "/logo");
             igreja.setDataAtualizacao(Instant.now());
             return igrejaMapper.toDto(igrejaRepository.save(igreja));
@@ -203,8 +209,13 @@ public class IgrejaService {
         }
     }
 
+    /** Logo do MidiaStore; logos enviados antes dele continuam lidos de {@code igrejas/<id>/logo.*}. */
     @Transactional(readOnly = true)
-    public Optional<LogoArquivo> obterLogo(Long igrejaId) {
+    public Optional<ArquivoMidia> obterLogo(Long igrejaId) {
+        Optional<Igreja> igreja = igrejaRepository.findById(igrejaId);
+        if (igreja.isPresent() && igreja.get().getLogoHashMidia() != null) {
+            return midiaService.abrir(igreja.get().getLogoHashMidia(), igreja.get().getLogoContentType(), null);
+        }
         Path dir = Paths.get(uploadDir, "igrejas", igrejaId.toString()).toAbsolutePath().normalize();
         if (!Files.isDirectory(dir)) {
             return Optional.empty();
@@ -219,8 +230,7 @@ public class IgrejaService {
             Path path = arquivo.get();
             String nome = path.getFileName().toString();
             String ext = nome.substring(nome.lastIndexOf('.') + 1).toLowerCase();
-            String contentType = contentTypePorExtensao(ext);
-            return Optional.of(new LogoArquivo(Files.readAllBytes(path), contentType));
+            return midiaService.abrirLegado(path, contentTypePorExtensao(ext), null);
         } catch (IOException e) {
             LOG.warn("Erro ao ler logo da igreja {}", igrejaId, e);
             return Optional.empty();
@@ -286,6 +296,7 @@ public class IgrejaService {
             .orElseThrow(() -> new BadRequestAlertException("Igreja não encontrada", ENTITY_NAME, "idnotfound"));
         igreja.setStatus(status);
         igreja.setDataAtualizacao(Instant.now());
+        notificacaoService.invalidarResumosDaIgreja(igreja.getId());
         return igrejaMapper.toDto(igrejaRepository.save(igreja));
     }
 
@@ -377,16 +388,6 @@ public class IgrejaService {
         );
     }
 
-    private String extensaoPorContentType(String contentType) {
-        return switch (contentType) {
-            case "image/jpeg" -> "jpg";
-            case "image/png" -> "png";
-            case "image/gif" -> "gif";
-            case "image/webp" -> "webp";
-            default -> "png";
-        };
-    }
-
     private String contentTypePorExtensao(String ext) {
         return switch (ext) {
             case "jpg", "jpeg" -> "image/jpeg";
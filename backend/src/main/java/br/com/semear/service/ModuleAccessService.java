@@ -112,8 +112,16 @@ public class ModuleAccessService {
         this.igrejaCargoService = igrejaCargoService;
     }
 
+    /** Usa o contexto da requisição: permissões efetivas do usuário atual são calculadas uma vez. */
     public boolean hasModuleAccess(String module, NivelAcessoModulo nivel) {
-        return hasModuleAccess(tenantService.getUsuarioAtual(), module, nivel);
+        if (module == null || nivel == null) {
+            return false;
+        }
+        ContextoTenant contexto = tenantService.getContextoAtual();
+        if (tenantService.isSuperAdmin() || temAcessoTotalPorRole(contexto.getUsuario())) {
+            return true;
+        }
+        return hasModuleAccess(contexto.permissoesModulos(this::obterPermissoesEfetivas), module, nivel);
     }
 
     public boolean hasModuleAccess(User user, String module, NivelAcessoModulo nivel) {
@@ -123,22 +131,25 @@ public class ModuleAccessService {
         if (tenantService.isSuperAdmin() || temAcessoTotalPorRole(user)) {
             return true;
         }
-        if (temAcessoModulo(user, module, nivel)) {
+        return hasModuleAccess(obterPermissoesEfetivas(user), module, nivel);
+    }
+
+    private boolean hasModuleAccess(Map<String, NivelAcessoModulo> perms, String module, NivelAcessoModulo nivel) {
+        if (temAcessoModulo(perms, module, nivel)) {
             return true;
         }
         if ("comunicados".equals(module)) {
-            if (temAcessoModulo(user, "avisos", nivel) || temAcessoModulo(user, "informativos", nivel)) {
+            if (temAcessoModulo(perms, "avisos", nivel) || temAcessoModulo(perms, "informativos", nivel)) {
                 return true;
             }
         }
-        if (("avisos".equals(module) || "informativos".equals(module)) && temAcessoModulo(user, "comunicados", nivel)) {
+        if (("avisos".equals(module) || "informativos".equals(module)) && temAcessoModulo(perms, "comunicados", nivel)) {
             return true;
         }
         return false;
     }
 
-    private boolean temAcessoModulo(User user, String module, NivelAcessoModulo nivel) {
-        Map<String, NivelAcessoModulo> perms = obterPermissoesEfetivas(user);
+    private boolean temAcessoModulo(Map<String, NivelAcessoModulo> perms, String module, NivelAcessoModulo nivel) {
         NivelAcessoModulo access = perms.get(module);
         if (access == null) {
             return false;
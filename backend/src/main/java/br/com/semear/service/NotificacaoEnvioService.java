@@ -6,13 +6,19 @@ import br.com.semear.domain.enumeration.StatusInscricaoEvento;
 import br.com.semear.domain.enumeration.StatusEscalaPublicacao;
 import br.com.semear.repository.*;
 import br.com.semear.service.dto.NotificacaoPayloadDTO;
+import br.com.semear.service.notificacao.EnvioNotificacao;
+import br.com.semear.service.notificacao.ResultadoEnvio;
 import br.com.semear.web.rest.errors.BadRequestAlertException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,10 +31,12 @@ public class NotificacaoEnvioService {
 
     private static final Logger LOG = LoggerFactory.getLogger(NotificacaoEnvioService.class);
     private static final ZoneId ZONE_BR = ZoneId.of("America/Sao_Paulo");
+    /** Limite de chaves por consulta {@code IN}, longe do teto de parâmetros do driver. */
+    private static final int LOTE_CONSULTA_CHAVES = 1000;
 
     private final NotificacaoUsuarioRepository notificacaoUsuarioRepository;
     private final NotificacaoEnvioLogRepository envioLogRepository;
-    private final PushNotificationService pushNotificationService;
+    private final PushDespachoService pushDespachoService;
     private final TenantService tenantService;
     private final UserRepository userRepository;
     private final DepartamentoRepository departamentoRepository;
@@ -42,7 +50,7 @@ public class NotificacaoEnvioService {
     public NotificacaoEnvioService(
         NotificacaoUsuarioRepository notificacaoUsuarioRepository,
         NotificacaoEnvioLogRepository envioLogRepository,
-        PushNotificationService pushNotificationService,
+        PushDespachoService pushDespachoService,
         TenantService tenantService,
         UserRepository userRepository,
         DepartamentoRepository departamentoRepository,
@@ -55,7 +63,7 @@ public class NotificacaoEnvioService {
     ) {
         this.notificacaoUsuarioRepository = notificacaoUsuarioRepository;
         this.envioLogRepository = envioLogRepository;
-        this.pushNotificationService = pushNotificationService;
+        this.pushDespachoService = pushDespachoService;
         this.tenantService = tenantService;
         this.userRepository = userRepository;
         this.departamentoRepository = departamentoRepository;
@@ -77,12 +85,15 @@ public class NotificacaoEnvioService {
     }
 
     public void enviarParaUsuarios(List<Long> usuarioIds, NotificacaoPayloadDTO payload) {
+        Map<Long, User> encontrados = new HashMap<>();
+        userRepository.findAllById(usuarioIds).forEach(u -> encontrados.put(u.getId(), u));
         List<User> users = new ArrayList<>();
         for (Long id : usuarioIds) {
-            userRepository.findById(id).ifPresent(u -> {
+            User u = encontrados.get(id);
+            if (u != null) {
                 validarUsuarioIgreja(u, payload.getIgrejaId());
                 users.add(u);
-            });
+            }
         }
         enviarParaUsuariosResolvidos(users, payload);
     }
@@ -164,83 +175,191 @@ public class NotificacaoEnvioService {
     }
 
     /** Cria notificação interna e tenta push — usado por jobs e integrações. */
-    public void enviarParaUsuariosResolvidosPublico(List<User> usuarios, NotificacaoPayloadDTO payload) {
-        enviarParaUsuariosResolvidos(usuarios, payload);
+    public ResultadoEnvio enviarParaUsuariosResolvidosPublico(List<User> usuarios, NotificacaoPayloadDTO payload) {
+        return enviarParaUsuariosResolvidos(usuarios, payload);
     }
 
-    /** Cria notificação interna e tenta push — usado por jobs e integrações. */
-    private void enviarParaUsuariosResolvidos(List<User> usuarios, NotificacaoPayloadDTO payload) {
+    /**
+     * Cria notificação interna e tenta push — usado por jobs e integrações.
+     * <p>
+     * O disparo é feito em conjunto: as chaves de deduplicação de todos os destinatários são conferidas em poucas
+     * consultas {@code IN} e os registros de envio e as notificações são gravados com {@code saveAll}, que o
+     * Hibernate agrupa em lotes JDBC com ids já reservados da sequência.
+     */
+    private ResultadoEnvio enviarParaUsuariosResolvidos(List<User> usuarios, NotificacaoPayloadDTO payload) {
         if (usuarios == null || usuarios.isEmpty() || payload == null) {
-            return;
+            return ResultadoEnvio.VAZIO;
         }
         Igreja igreja = igrejaRepository
             .findById(payload.getIgrejaId())
             .orElseThrow(() -> new BadRequestAlertException("Igreja não encontrada", "igreja", "naoencontrada"));
         LocalDate hoje = LocalDate.now(ZONE_BR);
-        Set<Long> enviados = new LinkedHashSet<>();
-        int internas = 0;
-        int pushEnviados = 0;
-        int ignoradosDedup = 0;
+        Instant agora = Instant.now();
 
+        Map<Long, User> destinatarios = new LinkedHashMap<>();
         for (User user : usuarios) {
-            if (user == null || user.getId() == null || !enviados.add(user.getId())) {
-                continue;
+            if (user != null && user.getId() != null && pertenceIgreja(user, igreja.getId())) {
+                destinatarios.putIfAbsent(user.getId(), user);
             }
-            if (!pertenceIgreja(user, igreja.getId())) {
-                continue;
-            }
-            if (payload.isRegistrarDeduplicacao()) {
+        }
+
+        List<User> aNotificar = new ArrayList<>(destinatarios.size());
+        List<NotificacaoEnvioLog> logs = new ArrayList<>();
+        int ignoradosDedup = 0;
+        if (payload.isRegistrarDeduplicacao()) {
+            Map<String, User> porChave = new LinkedHashMap<>();
+            for (User user : destinatarios.values()) {
                 String chave = payload.getChaveDeduplicacao() != null
                     ? payload.getChaveDeduplicacao()
                     : montarChaveDeduplicacao(payload.getTipo(), payload.getEntidadeTipo(), payload.getEntidadeId(), user.getId(), hoje);
-                if (envioLogRepository.existsByChaveDeduplicacao(chave)) {
+                if (porChave.putIfAbsent(chave, user) != null) {
                     ignoradosDedup++;
-                    continue;
                 }
-                registrarDeduplicacao(chave, igreja, user, payload, hoje);
             }
-            NotificacaoUsuario notificacao = criarNotificacaoInterna(igreja, user, payload);
-            internas++;
-            try {
-                if (pushNotificationService.tentarEnviarPush(notificacao, user, payload.isRespeitarHorarioSilencioso())) {
-                    pushEnviados++;
+            Set<String> existentes = buscarChavesExistentes(porChave.keySet());
+            for (Map.Entry<String, User> entrada : porChave.entrySet()) {
+                if (existentes.contains(entrada.getKey())) {
+                    ignoradosDedup++;
+                    continue;
                 }
-            } catch (Exception e) {
-                LOG.debug("Push falhou para usuário {} — notificação interna mantida: {}", user.getId(), e.getMessage());
+                logs.add(novoRegistroDeduplicacao(entrada.getKey(), igreja, entrada.getValue(), payload, hoje, agora));
+                aNotificar.add(entrada.getValue());
             }
+        } else {
+            aNotificar.addAll(destinatarios.values());
         }
 
+        envioLogRepository.saveAll(logs);
+        List<NotificacaoUsuario> criadas = notificacaoUsuarioRepository.saveAll(
+            aNotificar.stream().map(user -> novaNotificacaoInterna(igreja, user, payload, agora)).toList()
+        );
+        int pushEnfileirados = pushDespachoService.enfileirar(criadas, payload.isRespeitarHorarioSilencioso());
+
         String destino = payload.getContextoDestinatarios() != null ? payload.getContextoDestinatarios() : usuarios.size() + " usuário(s)";
         LOG.info(
-            "[NOTIFICAÇÃO] tipo={} titulo=\"{}\" | igreja={} (id={}) | destino: {} | internas={} push={} ignorados_dedup={}",
+            "[NOTIFICAÇÃO] tipo={} titulo=\"{}\" | igreja={} (id={}) | destino: {} | internas={} push_enfileirados={} ignorados_dedup={}",
             payload.getTipo(),
             payload.getTitulo(),
             igreja.getNome(),
             igreja.getId(),
             destino,
-            internas,
-            pushEnviados,
+            criadas.size(),
+            pushEnfileirados,
             ignoradosDedup
         );
+        return new ResultadoEnvio(destinatarios.size(), criadas.size(), ignoradosDedup, pushEnfileirados);
     }
 
-    /** Após criar notificação em outro serviço, delega o push. */
+    /**
+     * Envio em lote de pares (destinatário, payload) montados pelos jobs de lembrete, de várias igrejas e tipos
+     * de uma vez.
+     * <p>
+     * Os destinatários já vêm filtrados por igreja e ativação nas consultas do planejador, então usuários e
+     * igrejas entram só como referência, sem nova leitura. A deduplicação e a gravação seguem o mesmo caminho em
+     * massa de {@link #enviarParaUsuariosResolvidosPublico}.
+     */
+    public ResultadoEnvio enviarLote(List<EnvioNotificacao> envios) {
+        if (envios == null || envios.isEmpty()) {
+            return ResultadoEnvio.VAZIO;
+        }
+        LocalDate hoje = LocalDate.now(ZONE_BR);
+        Instant agora = Instant.now();
+
+        List<EnvioNotificacao> aNotificar = new ArrayList<>(envios.size());
+        Map<String, EnvioNotificacao> porChave = new LinkedHashMap<>();
+        int ignoradosDedup = 0;
+        for (EnvioNotificacao envio : envios) {
+            NotificacaoPayloadDTO payload = envio.payload();
+            if (!payload.isRegistrarDeduplicacao()) {
+                aNotificar.add(envio);
+                continue;
+            }
+            String chave = payload.getChaveDeduplicacao() != null
+                ? payload.getChaveDeduplicacao()
+                : montarChaveDeduplicacao(payload.getTipo(), payload.getEntidadeTipo(), payload.getEntidadeId(), envio.userId(), hoje);
+            if (porChave.putIfAbsent(chave, envio) != null) {
+                ignoradosDedup++;
+            }
+        }
+
+        Map<Long, Igreja> igrejas = new HashMap<>();
+        Map<Long, User> usuarios = new HashMap<>();
+        List<NotificacaoEnvioLog> logs = new ArrayList<>();
+        Set<String> existentes = buscarChavesExistentes(porChave.keySet());
+        for (Map.Entry<String, EnvioNotificacao> entrada : porChave.entrySet()) {
+            if (existentes.contains(entrada.getKey())) {
+                ignoradosDedup++;
+                continue;
+            }
+            EnvioNotificacao envio = entrada.getValue();
+            logs.add(
+                novoRegistroDeduplicacao(
+                    entrada.getKey(),
+                    igrejas.computeIfAbsent(envio.payload().getIgrejaId(), igrejaRepository::getReferenceById),
+                    usuarios.computeIfAbsent(envio.userId(), userRepository::getReferenceById),
+                    envio.payload(),
+                    hoje,
+                    agora
+                )
+            );
+            aNotificar.add(envio);
+        }
+
+        envioLogRepository.saveAll(logs);
+        List<NotificacaoUsuario> criadas = notificacaoUsuarioRepository.saveAll(
+            aNotificar
+                .stream()
+                .map(envio ->
+                    novaNotificacaoInterna(
+                        igrejas.computeIfAbsent(envio.payload().getIgrejaId(), igrejaRepository::getReferenceById),
+                        usuarios.computeIfAbsent(envio.userId(), userRepository::getReferenceById),
+                        envio.payload(),
+                        agora
+                    )
+                )
+                .toList()
+        );
+        List<NotificacaoUsuario> comSilencio = new ArrayList<>();
+        List<NotificacaoUsuario> semSilencio = new ArrayList<>();
+        for (int i = 0; i < criadas.size(); i++) {
+            (aNotificar.get(i).payload().isRespeitarHorarioSilencioso() ? comSilencio : semSilencio).add(criadas.get(i));
+        }
+        int pushEnfileirados = pushDespachoService.enfileirar(comSilencio, true) + pushDespachoService.enfileirar(semSilencio, false);
+
+        LOG.info(
+            "[NOTIFICAÇÃO] lote tipos={} | igrejas={} | envios={} internas={} push_enfileirados={} ignorados_dedup={}",
+            envios.stream().map(e -> e.payload().getTipo()).distinct().toList(),
+            envios.stream().map(e -> e.payload().getIgrejaId()).distinct().count(),
+            envios.size(),
+            criadas.size(),
+            pushEnfileirados,
+            ignoradosDedup
+        );
+        return new ResultadoEnvio(envios.size(), criadas.size(), ignoradosDedup, pushEnfileirados);
+    }
+
+    /** Após criar notificação em outro serviço, delega o push à fila de saída. */
     public void tentarPushAposCriacao(NotificacaoUsuario notificacao, User user) {
         if (notificacao == null || user == null) {
             return;
         }
-        try {
-            pushNotificationService.tentarEnviarPush(notificacao, user);
-        } catch (Exception e) {
-            LOG.debug("Push falhou para usuário {}: {}", user.getId(), e.getMessage());
-        }
+        pushDespachoService.enfileirar(List.of(notificacao), true);
     }
 
     public static String montarChaveDeduplicacao(String tipo, String entidadeTipo, Long entidadeId, Long userId, LocalDate data) {
         return String.format("%s:%s:%s:%s:%s", tipo, entidadeTipo, entidadeId, userId, data);
     }
 
-    private NotificacaoUsuario criarNotificacaoInterna(Igreja igreja, User user, NotificacaoPayloadDTO payload) {
+    private Set<String> buscarChavesExistentes(Collection<String> chaves) {
+        Set<String> existentes = new HashSet<>();
+        List<String> lista = List.copyOf(chaves);
+        for (int i = 0; i < lista.size(); i += LOTE_CONSULTA_CHAVES) {
+            existentes.addAll(envioLogRepository.findChavesExistentes(lista.subList(i, Math.min(lista.size(), i + LOTE_CONSULTA_CHAVES))));
+        }
+        return existentes;
+    }
+
+    private static NotificacaoUsuario novaNotificacaoInterna(Igreja igreja, User user, NotificacaoPayloadDTO payload, Instant agora) {
         NotificacaoUsuario n = new NotificacaoUsuario();
         n.setIgreja(igreja);
         n.setUser(user);
@@ -252,11 +371,18 @@ public class NotificacaoEnvioService {
         n.setEntidadeId(payload.getEntidadeId());
         n.setLida(false);
         n.setEnviadaPush(false);
-        n.setCriadoEm(Instant.now());
-        return notificacaoUsuarioRepository.save(n);
+        n.setCriadoEm(agora);
+        return n;
     }
 
-    private void registrarDeduplicacao(String chave, Igreja igreja, User user, NotificacaoPayloadDTO payload, LocalDate data) {
+    private static NotificacaoEnvioLog novoRegistroDeduplicacao(
+        String chave,
+        Igreja igreja,
+        User user,
+        NotificacaoPayloadDTO payload,
+        LocalDate data,
+        Instant agora
+    ) {
         NotificacaoEnvioLog log = new NotificacaoEnvioLog();
         log.setChaveDeduplicacao(chave);
         log.setIgreja(igreja);
@@ -265,8 +391,8 @@ public class NotificacaoEnvioService {
         log.setEntidadeTipo(payload.getEntidadeTipo());
         log.setEntidadeId(payload.getEntidadeId());
         log.setDataReferencia(data);
-        log.setCriadoEm(Instant.now());
-        envioLogRepository.save(log);
+        log.setCriadoEm(agora);
+        return log;
     }
 
     private void validarUsuarioIgreja(User user, Long igrejaId) {
@@ -8,6 +8,8 @@ import br.com.semear.domain.enumeration.StatusEvento;
 import br.com.semear.domain.enumeration.StatusNotificacaoAgendamento;
 import br.com.semear.repository.EventoRepository;
 import br.com.semear.repository.NotificacaoAgendamentoRepository;
+import br.com.semear.service.agendamento.AgendadorNotificacoes;
+import br.com.semear.service.agendamento.AgendamentoNotificacaoCriado;
 import br.com.semear.service.dto.ConfigNotificacaoDTO;
 import br.com.semear.service.dto.NotificacaoPayloadDTO;
 import br.com.semear.service.util.ConfigNotificacaoJsonUtil;
@@ -26,6 +28,7 @@ import java.util.Locale;
 import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,17 +48,20 @@ public class NotificacaoProgramadaService {
     private final NotificacaoAudienciaService audienciaService;
     private final NotificacaoEnvioService envioService;
     private final EventoRepository eventoRepository;
+    private final ApplicationEventPublisher eventos;
 
     public NotificacaoProgramadaService(
         NotificacaoAgendamentoRepository agendamentoRepository,
         NotificacaoAudienciaService audienciaService,
         NotificacaoEnvioService envioService,
-        EventoRepository eventoRepository
+        EventoRepository eventoRepository,
+        ApplicationEventPublisher eventos
     ) {
         this.agendamentoRepository = agendamentoRepository;
         this.audienciaService = audienciaService;
         this.envioService = envioService;
         this.eventoRepository = eventoRepository;
+        this.eventos = eventos;
     }
 
     public ConfigNotificacaoDTO lerConfig(String json) {
@@ -154,62 +160,59 @@ public class NotificacaoProgramadaService {
         cancelarPendentes(entidadeTipo, entidadeId);
     }
 
-    /** Processa lembretes cujo horário já passou (job horário). */
-    public void processarAgendamentosPendentes() {
-        Instant agora = Instant.now();
-        List<NotificacaoAgendamento> pendentes = agendamentoRepository.findByStatusAndAgendadoParaLessThanEqual(
-            StatusNotificacaoAgendamento.PENDENTE,
-            agora
+    /**
+     * Dispara um lembrete já reivindicado por {@link AgendadorNotificacoes}, na transação de quem chama. Falhas
+     * propagam para que o agendador desfaça o envio parcial e agende nova tentativa.
+     */
+    public void processarAgendamento(Long agendamentoId) {
+        NotificacaoAgendamento ag = agendamentoRepository.findByIdParaDisparo(agendamentoId).orElse(null);
+        if (ag == null || ag.getStatus() != StatusNotificacaoAgendamento.EM_PROCESSAMENTO) {
+            return;
+        }
+        ConfigNotificacaoDTO config = ConfigNotificacaoJsonUtil.parse(ag.getConfigJson());
+        List<User> destinatarios = audienciaService.resolverDestinatarios(
+            ag.getIgrejaId(),
+            config,
+            "EVENTO".equals(ag.getEntidadeTipo()) ? ag.getEntidadeId() : null
         );
-        for (NotificacaoAgendamento ag : pendentes) {
-            try {
-                ConfigNotificacaoDTO config = ConfigNotificacaoJsonUtil.parse(ag.getConfigJson());
-                List<User> destinatarios = audienciaService.resolverDestinatarios(
-                    ag.getIgrejaId(),
-                    config,
-                    "EVENTO".equals(ag.getEntidadeTipo()) ? ag.getEntidadeId() : null
-                );
-                if (destinatarios.isEmpty()) {
-                    ag.setStatus(StatusNotificacaoAgendamento.CANCELADO);
-                    agendamentoRepository.save(ag);
-                    continue;
-                }
-
-                String titulo = ag.getTitulo();
-                String mensagem = ag.getMensagem();
-                if (
-                    "EVENTO".equals(ag.getEntidadeTipo()) &&
-                    ag.getEntidadeId() != null &&
-                    EventoLembreteMensagens.ehTipoLembreteEvento(ag.getTipoNotificacao())
-                ) {
-                    var eventoOpt = eventoRepository.findById(ag.getEntidadeId());
-                    if (eventoOpt.isPresent()) {
-                        EventoLembreteMensagens.TextoLembrete texto = EventoLembreteMensagens.montar(eventoOpt.get());
-                        titulo = texto.titulo();
-                        mensagem = texto.mensagem();
-                    }
-                }
-
-                NotificacaoPayloadDTO payload = new NotificacaoPayloadDTO();
-                payload.setIgrejaId(ag.getIgrejaId());
-                payload.setTipo(ag.getTipoNotificacao());
-                payload.setEntidadeTipo(ag.getEntidadeTipo());
-                payload.setEntidadeId(ag.getEntidadeId());
-                payload.setTitulo(titulo);
-                payload.setMensagem(mensagem);
-                payload.setRotaDestino(ag.getRotaDestino());
-                payload.setRegistrarDeduplicacao(true);
-                payload.setContextoDestinatarios("agendamento " + ag.getChaveUnica());
-
-                envioService.enviarParaUsuariosResolvidosPublico(destinatarios, payload);
-
-                ag.setStatus(StatusNotificacaoAgendamento.ENVIADO);
-                ag.setEnviadoEm(Instant.now());
-                agendamentoRepository.save(ag);
-            } catch (Exception e) {
-                LOG.warn("Falha ao processar agendamento {}: {}", ag.getId(), e.getMessage());
+        if (destinatarios.isEmpty()) {
+            ag.setStatus(StatusNotificacaoAgendamento.CANCELADO);
+            agendamentoRepository.save(ag);
+            return;
+        }
+
+        String titulo = ag.getTitulo();
+        String mensagem = ag.getMensagem();
+        if (
+            "EVENTO".equals(ag.getEntidadeTipo()) &&
+            ag.getEntidadeId() != null &&
+            EventoLembreteMensagens.ehTipoLembreteEvento(ag.getTipoNotificacao())
+        ) {
+            var eventoOpt = eventoRepository.findById(ag.getEntidadeId());
+            if (eventoOpt.isPresent()) {
+                EventoLembreteMensagens.TextoLembrete texto = EventoLembreteMensagens.montar(eventoOpt.get());
+                titulo = texto.titulo();
+                mensagem = texto.mensagem();
             }
         }
+
+        NotificacaoPayloadDTO payload = new NotificacaoPayloadDTO();
+        payload.setIgrejaId(ag.getIgrejaId());
+        payload.setTipo(ag.getTipoNotificacao());
+        payload.setEntidadeTipo(ag.getEntidadeTipo());
+        payload.setEntidadeId(ag.getEntidadeId());
+        payload.setTitulo(titulo);
+        payload.setMensagem(mensagem);
+        payload.setRotaDestino(ag.getRotaDestino());
+        payload.setRegistrarDeduplicacao(true);
+        payload.setContextoDestinatarios("agendamento " + ag.getChaveUnica());
+
+        envioService.enviarParaUsuariosResolvidosPublico(destinatarios, payload);
+
+        ag.setStatus(StatusNotificacaoAgendamento.ENVIADO);
+        ag.setEnviadoEm(Instant.now());
+        ag.setUltimoErro(null);
+        agendamentoRepository.save(ag);
     }
 
     public boolean possuiConfigAtiva(String configJson) {
@@ -314,6 +317,7 @@ public class NotificacaoProgramadaService {
             ag.setStatus(StatusNotificacaoAgendamento.PENDENTE);
             ag.setChaveUnica(chave);
             agendamentoRepository.save(ag);
+            eventos.publishEvent(new AgendamentoNotificacaoCriado(ag.getId(), agendadoPara));
         }
     }
 
@@ -37,21 +37,31 @@ import br.com.semear.repository.UsuarioNotificacaoVistaRepository;
 import br.com.semear.repository.projection.AniversarianteProjection;
 import br.com.semear.security.AuthoritiesConstants;
 import br.com.semear.security.SecurityUtils;
+import br.com.semear.service.aniversario.Aniversario;
+import br.com.semear.service.aniversario.IndiceAniversariosService;
+import br.com.semear.service.aniversario.TipoAniversario;
 import br.com.semear.service.dto.NotificacaoPayloadDTO;
 import br.com.semear.service.dto.NotificacaoContagemDTO;
 import br.com.semear.service.dto.NotificacaoResumoDTO;
+import br.com.semear.service.notificacao.SecaoResumo;
+import br.com.semear.service.notificacao.VersoesResumoNotificacao;
 import br.com.semear.service.util.EscalaNotificacaoUtils;
 import br.com.semear.service.util.EventoLembreteMensagens;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class NotificacaoService {
@@ -83,6 +93,13 @@ public class NotificacaoService {
     private final NotificacaoUsuarioRepository notificacaoUsuarioRepository;
     private final NotificacaoEnvioService notificacaoEnvioService;
     private final PreCadastroRepository preCadastroRepository;
+    private final VersoesResumoNotificacao versoesResumo;
+    private final IndiceAniversariosService indiceAniversariosService;
+    private final TransactionTemplate transacaoLeitura;
+    private final CacheManager cacheManager;
+    private final Counter leiturasEmMemoria;
+    private final Counter leiturasRecalculadas;
+    private final Map<SecaoResumo, Counter> secoesRecalculadas = new EnumMap<>(SecaoResumo.class);
 
     public NotificacaoService(
         ComunicadoRepository comunicadoRepository,
@@ -98,7 +115,12 @@ public class NotificacaoService {
         EventoInscricaoRepository eventoInscricaoRepository,
         NotificacaoUsuarioRepository notificacaoUsuarioRepository,
         NotificacaoEnvioService notificacaoEnvioService,
-        PreCadastroRepository preCadastroRepository
+        PreCadastroRepository preCadastroRepository,
+        VersoesResumoNotificacao versoesResumo,
+        IndiceAniversariosService indiceAniversariosService,
+        PlatformTransactionManager transactionManager,
+        CacheManager cacheManager,
+        MeterRegistry meterRegistry
     ) {
         this.comunicadoRepository = comunicadoRepository;
         this.userRepository = userRepository;
@@ -114,33 +136,254 @@ public class NotificacaoService {
         this.notificacaoUsuarioRepository = notificacaoUsuarioRepository;
         this.notificacaoEnvioService = notificacaoEnvioService;
         this.preCadastroRepository = preCadastroRepository;
+        this.versoesResumo = versoesResumo;
+        this.indiceAniversariosService = indiceAniversariosService;
+        this.transacaoLeitura = new TransactionTemplate(transactionManager);
+        this.transacaoLeitura.setReadOnly(true);
+        this.cacheManager = cacheManager;
+        this.leiturasEmMemoria = Counter.builder(METRICA_LEITURAS)
+            .description("Leituras do resumo de notificações servidas da memória ou com recálculo")
+            .tag("resultado", "memoria")
+            .register(meterRegistry);
+        this.leiturasRecalculadas = Counter.builder(METRICA_LEITURAS)
+            .description("Leituras do resumo de notificações servidas da memória ou com recálculo")
+            .tag("resultado", "recalculo")
+            .register(meterRegistry);
+        for (SecaoResumo secao : SecaoResumo.values()) {
+            secoesRecalculadas.put(
+                secao,
+                Counter.builder(METRICA_SECOES)
+                    .description("Seções do resumo de notificações recalculadas no banco")
+                    .tag("secao", secao.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry)
+            );
+        }
     }
 
     private static final ZoneId ZONE_BR = ZoneId.of("America/Sao_Paulo");
-    private static final long CACHE_RESUMO_TTL_MS = 90_000;
+    /** Muda a cada subida da aplicação: fingerprints de antes do restart nunca coincidem com os novos. */
+    private static final String PREFIXO_FINGERPRINT = Long.toHexString(System.currentTimeMillis());
+
+    /**
+     * Região JCache com o resumo materializado por login (limites e ociosidade em {@code CacheConfiguration}).
+     * Cada seção guarda a versão com que foi calculada ({@link VersoesResumoNotificacao}); leituras sem
+     * alteração desde o último cálculo não tocam o banco.
+     */
+    public static final String CACHE_RESUMO = "resumoNotificacao";
+    private static final String METRICA_LEITURAS = "semear.notificacoes.resumo.leituras";
+    private static final String METRICA_SECOES = "semear.notificacoes.resumo.secoes.recalculadas";
+
+    public record NotificacaoItem(String tipo, Long referenciaId, String titulo, String descricao, String link) {}
 
-    private final ConcurrentHashMap<String, CacheResumoNotificacao> cacheResumoPorLogin = new ConcurrentHashMap<>();
+    private record SecaoCalculada(List<NotificacaoItem> itens, int contador) {
+        private static final SecaoCalculada VAZIA = new SecaoCalculada(List.of(), 0);
+    }
 
-    private record CacheResumoNotificacao(NotificacaoResumoDTO resumo, String fingerprint, long expiraEm) {}
+    private record SecaoMaterializada(long versao, Instant validaAte, SecaoCalculada conteudo) {}
 
-    public record NotificacaoItem(String tipo, Long referenciaId, String titulo, String descricao, String link) {}
+    private record ResumoMaterializado(
+        Long userId,
+        Long igrejaId,
+        String perfil,
+        Map<SecaoResumo, SecaoMaterializada> secoes,
+        NotificacaoResumoDTO resumo,
+        String fingerprint
+    ) {}
+
+    private static final class EstadoResumo {
+
+        private volatile ResumoMaterializado atual;
+    }
 
-    @Transactional(readOnly = true)
     public List<NotificacaoItem> listarNaoVistas() {
-        Optional<User> userOpt = SecurityUtils.getCurrentUserLogin().flatMap(userRepository::findOneWithAuthoritiesByLogin);
-        if (userOpt.isEmpty()) {
-            return List.of();
+        return resumoMaterializado().map(r -> r.resumo().getNotificacoes()).orElse(List.of());
+    }
+
+    public NotificacaoResumoDTO obterResumo() {
+        return resumoMaterializado().map(ResumoMaterializado::resumo).orElseGet(NotificacaoResumoDTO::new);
+    }
+
+    public NotificacaoContagemDTO obterContagem() {
+        NotificacaoContagemDTO contagem = new NotificacaoContagemDTO();
+        resumoMaterializado().ifPresent(r -> {
+            contagem.setTotalNotificacoes(r.resumo().getNotificacoes().size());
+            contagem.setPreCadastrosPendentes(r.resumo().getPreCadastrosPendentes());
+            contagem.setPedidosOracaoPendentes(r.resumo().getPedidosOracaoPendentes());
+            contagem.setFingerprint(r.fingerprint());
+        });
+        return contagem;
+    }
+
+    public Optional<String> obterFingerprintAtual() {
+        return resumoMaterializado().map(ResumoMaterializado::fingerprint);
+    }
+
+    /** Descarta o resumo de um login — para mudanças de perfil ou igreja que não passam pelas entidades observadas. */
+    public void invalidarResumo(String login) {
+        if (login != null) {
+            cacheResumo().evict(login);
         }
-        User user = userOpt.get();
+    }
 
-        Set<Long> comunicadosVistos = vistaRepository.findReferenciaIdsByUserAndTipo(user, TIPO_COMUNICADO);
-        Set<Long> avisosLegadoVistos = vistaRepository.findReferenciaIdsByUserAndTipo(user, "AVISO");
-        Set<Long> aniversariantesVistos = vistaRepository.findReferenciaIdsByUserAndTipo(user, TIPO_ANIVERSARIANTE);
+    /** Descarta os resumos materializados dos usuários de uma igreja. */
+    @SuppressWarnings("unchecked")
+    public void invalidarResumosDaIgreja(Long igrejaId) {
+        if (igrejaId == null) {
+            return;
+        }
+        Cache cache = cacheResumo();
+        if (!(cache.getNativeCache() instanceof javax.cache.Cache<?, ?> nativo)) {
+            cache.clear();
+            return;
+        }
+        javax.cache.Cache<Object, Object> regiao = (javax.cache.Cache<Object, Object>) nativo;
+        List<Object> logins = new ArrayList<>();
+        for (javax.cache.Cache.Entry<Object, Object> entrada : regiao) {
+            if (entrada.getValue() instanceof EstadoResumo estado && estado.atual != null && igrejaId.equals(estado.atual.igrejaId())) {
+                logins.add(entrada.getKey());
+            }
+        }
+        regiao.removeAll(Set.copyOf(logins));
+    }
 
-        List<NotificacaoItem> itens = new ArrayList<>();
-        LocalDate hoje = LocalDate.now(ZONE_BR);
+    private Optional<ResumoMaterializado> resumoMaterializado() {
+        Optional<String> login = SecurityUtils.getCurrentUserLogin();
+        if (login.isEmpty()) {
+            return Optional.empty();
+        }
+        EstadoResumo estado = obterEstado(login.get());
+        ResumoMaterializado atual = estado.atual;
+        if (atual != null && secoesDesatualizadas(atual, Instant.now()).isEmpty()) {
+            leiturasEmMemoria.increment();
+            return Optional.of(atual);
+        }
+        leiturasRecalculadas.increment();
+        synchronized (estado) {
+            return Optional.ofNullable(transacaoLeitura.execute(status -> atualizar(estado)));
+        }
+    }
+
+    private EstadoResumo obterEstado(String login) {
+        Cache cache = cacheResumo();
+        EstadoResumo estado = cache.get(login, EstadoResumo.class);
+        if (estado != null) {
+            return estado;
+        }
+        EstadoResumo novo = new EstadoResumo();
+        Cache.ValueWrapper existente = cache.putIfAbsent(login, novo);
+        return existente != null && existente.get() instanceof EstadoResumo concorrente ? concorrente : novo;
+    }
+
+    private Cache cacheResumo() {
+        return Objects.requireNonNull(cacheManager.getCache(CACHE_RESUMO), CACHE_RESUMO);
+    }
+
+    private Set<SecaoResumo> secoesDesatualizadas(ResumoMaterializado atual, Instant agora) {
+        Set<SecaoResumo> desatualizadas = EnumSet.noneOf(SecaoResumo.class);
+        for (SecaoResumo secao : SecaoResumo.values()) {
+            SecaoMaterializada materializada = atual.secoes().get(secao);
+            if (
+                materializada == null ||
+                !agora.isBefore(materializada.validaAte()) ||
+                materializada.versao() != versoesResumo.versao(atual.igrejaId(), atual.userId(), secao)
+            ) {
+                desatualizadas.add(secao);
+            }
+        }
+        return desatualizadas;
+    }
 
+    /** Recalcula só as seções cuja versão mudou; o fingerprint avança apenas se o conteúdo mudou. */
+    private ResumoMaterializado atualizar(EstadoResumo estado) {
+        ContextoTenant contexto = tenantService.getContextoAtual();
+        User user = contexto.getUsuario();
         Long igrejaId = tenantService.getIgrejaIdAtual();
+        String perfil = perfil(user);
+        Instant agora = Instant.now();
+
+        ResumoMaterializado anterior = estado.atual;
+        boolean mesmoContexto =
+            anterior != null &&
+            anterior.userId().equals(user.getId()) &&
+            Objects.equals(anterior.igrejaId(), igrejaId) &&
+            anterior.perfil().equals(perfil);
+        Map<SecaoResumo, SecaoMaterializada> secoes = new EnumMap<>(SecaoResumo.class);
+        Set<SecaoResumo> recalcular = EnumSet.allOf(SecaoResumo.class);
+        if (mesmoContexto) {
+            secoes.putAll(anterior.secoes());
+            recalcular = secoesDesatualizadas(anterior, agora);
+            if (recalcular.isEmpty()) {
+                return anterior;
+            }
+        }
+
+        LocalDate hoje = LocalDate.now(ZONE_BR);
+        Instant fimDoDia = hoje.plusDays(1).atStartOfDay(ZONE_BR).toInstant();
+        for (SecaoResumo secao : recalcular) {
+            // Versão lida antes da consulta: alteração concorrente deixa a seção desatualizada, nunca adiantada.
+            long versao = versoesResumo.versao(igrejaId, user.getId(), secao);
+            Instant validaAte = agora.plus(secao.getValidadeMaxima());
+            if (validaAte.isAfter(fimDoDia)) {
+                validaAte = fimDoDia;
+            }
+            secoes.put(secao, new SecaoMaterializada(versao, validaAte, calcularSecao(secao, user, igrejaId, hoje)));
+            secoesRecalculadas.get(secao).increment();
+        }
+
+        NotificacaoResumoDTO resumo = new NotificacaoResumoDTO();
+        List<NotificacaoItem> itens = new ArrayList<>();
+        for (SecaoMaterializada secao : secoes.values()) {
+            itens.addAll(secao.conteudo().itens());
+        }
+        resumo.setNotificacoes(List.copyOf(itens));
+        resumo.setPreCadastrosPendentes(secoes.get(SecaoResumo.PRE_CADASTRO).conteudo().contador());
+        resumo.setPedidosOracaoPendentes(secoes.get(SecaoResumo.PEDIDO_ORACAO).conteudo().contador());
+
+        String fingerprint = anterior != null && mesmoConteudo(anterior.resumo(), resumo)
+            ? anterior.fingerprint()
+            : PREFIXO_FINGERPRINT + "-" + Long.toHexString(versoesResumo.proximaVersao());
+        ResumoMaterializado atual = new ResumoMaterializado(user.getId(), igrejaId, perfil, Collections.unmodifiableMap(secoes), resumo, fingerprint);
+        estado.atual = atual;
+        return atual;
+    }
+
+    private static boolean mesmoConteudo(NotificacaoResumoDTO a, NotificacaoResumoDTO b) {
+        return (
+            a.getPreCadastrosPendentes() == b.getPreCadastrosPendentes() &&
+            a.getPedidosOracaoPendentes() == b.getPedidosOracaoPendentes() &&
+            a.getNotificacoes().equals(b.getNotificacoes())
+        );
+    }
+
+    /** Autoridades que decidem quais seções o usuário enxerga; mudou, o resumo é refeito do zero. */
+    private String perfil(User user) {
+        return (
+            (usuarioPodeAcessarSuporte(user) ? "S" : "") +
+            (usuarioEhLideranca(user) ? "L" : "") +
+            (usuarioPodeAprovarPreCadastro(user) ? "P" : "") +
+            (usuarioEhSuperAdmin(user) ? "A" : "")
+        );
+    }
+
+    private SecaoCalculada calcularSecao(SecaoResumo secao, User user, Long igrejaId, LocalDate hoje) {
+        return switch (secao) {
+            case COMUNICADO -> calcularComunicados(user, igrejaId, hoje);
+            case ANIVERSARIANTE -> calcularAniversariantes(user, igrejaId, hoje);
+            case SUPORTE -> calcularSuporte(user, igrejaId);
+            case PEDIDO_ORACAO -> calcularPedidosOracao(user, igrejaId);
+            case ASSINATURA -> calcularAssinatura(user, igrejaId);
+            case DOCUMENTO -> calcularDocumentos(user, igrejaId, hoje);
+            case ESCALA -> calcularEscalas(user, hoje);
+            case NOTIFICACAO_USUARIO -> calcularNotificacoesUsuario(user);
+            case EVENTO -> calcularEventos(user, igrejaId);
+            case PRE_CADASTRO -> calcularPreCadastros(user, igrejaId);
+        };
+    }
+
+    private SecaoCalculada calcularComunicados(User user, Long igrejaId, LocalDate hoje) {
+        Set<Long> comunicadosVistos = vistaRepository.findReferenciaIdsByUserAndTipo(user, TIPO_COMUNICADO);
+        Set<Long> avisosLegadoVistos = vistaRepository.findReferenciaIdsByUserAndTipo(user, "AVISO");
+        List<NotificacaoItem> itens = new ArrayList<>();
         List<Comunicado> comunicados = comunicadoRepository
             .findAllByIgrejaIdAndAtivoIsTrue(PageRequest.of(0, 20), igrejaId)
             .getContent();
@@ -161,15 +404,28 @@ public class NotificacaoService {
                 ));
             }
         }
+        return new SecaoCalculada(itens, 0);
+    }
 
-        List<AniversarianteProjection> aniversariantes = userRepository.findAniversariantesDoDiaPorIgreja(
-            igrejaId,
-            hoje.getMonthValue(),
-            hoje.getDayOfMonth()
-        );
-
-        for (AniversarianteProjection u : aniversariantes) {
-            if (!aniversariantesVistos.contains(u.getId())) {
+    private SecaoCalculada calcularAniversariantes(User user, Long igrejaId, LocalDate hoje) {
+        Set<Long> aniversariantesVistos = vistaRepository.findReferenciaIdsByUserAndTipo(user, TIPO_ANIVERSARIANTE);
+        List<NotificacaoItem> itens = new ArrayList<>();
+        List<Long> aniversariantes = indiceAniversariosService
+            .daIgreja(igrejaId)
+            .doDia(hoje, EnumSet.of(TipoAniversario.NASCIMENTO), false)
+            .stream()
+            .map(Aniversario::userId)
+            .filter(id -> !aniversariantesVistos.contains(id))
+            .toList();
+        if (aniversariantes.isEmpty()) {
+            return SecaoCalculada.VAZIA;
+        }
+        Map<Long, AniversarianteProjection> porId = new HashMap<>();
+        userRepository.findAniversariantesPorIds(aniversariantes).forEach(u -> porId.put(u.getId(), u));
+
+        for (Long id : aniversariantes) {
+            AniversarianteProjection u = porId.get(id);
+            if (u != null) {
                 String name = (Objects.toString(u.getFirstName(), "") + " " + Objects.toString(u.getLastName(), "")).trim();
                 if (name.isBlank()) name = u.getLogin();
                 itens.add(new NotificacaoItem(
@@ -181,52 +437,63 @@ public class NotificacaoService {
                 ));
             }
         }
+        return new SecaoCalculada(itens, 0);
+    }
 
-        if (usuarioPodeAcessarSuporte(user)) {
-            List<SolicitacaoSuporte> suportePendentes = solicitacaoSuporteRepository.findNaoLidasPeloClienteDaIgreja(igrejaId);
-            for (SolicitacaoSuporte s : suportePendentes) {
-                itens.add(new NotificacaoItem(
-                    TIPO_SUPORTE,
-                    s.getId(),
-                    "Solicitação de suporte atualizada",
-                    mensagemSuporte(s),
-                    "/suporte/" + s.getId()
-                ));
-            }
+    private SecaoCalculada calcularSuporte(User user, Long igrejaId) {
+        if (!usuarioPodeAcessarSuporte(user)) {
+            return SecaoCalculada.VAZIA;
+        }
+        List<NotificacaoItem> itens = new ArrayList<>();
+        List<SolicitacaoSuporte> suportePendentes = solicitacaoSuporteRepository.findNaoLidasPeloClienteDaIgreja(igrejaId);
+        for (SolicitacaoSuporte s : suportePendentes) {
+            itens.add(new NotificacaoItem(
+                TIPO_SUPORTE,
+                s.getId(),
+                "Solicitação de suporte atualizada",
+                mensagemSuporte(s),
+                "/suporte/" + s.getId()
+            ));
         }
+        return new SecaoCalculada(itens, 0);
+    }
 
-        if (usuarioEhLideranca(user)) {
-            Set<Long> pedidosVistos = vistaRepository.findReferenciaIdsByUserAndTipo(user, TIPO_PEDIDO_ORACAO);
-            List<PedidoOracao> pedidosLideranca = pedidoOracaoRepository.findPendentesNotificacaoLideranca(igrejaId);
-            for (PedidoOracao p : pedidosLideranca) {
-                if (pedidosVistos.contains(p.getId())) {
-                    continue;
-                }
-                boolean privado = p.getVisibilidade() == VisibilidadePedidoOracao.PRIVADA;
-                boolean aguardando = p.getStatus() == StatusPedidoOracao.AGUARDANDO_APROVACAO;
-                if (!privado && !aguardando) {
-                    continue;
-                }
-                String titulo = privado ? "Novo pedido de oração privado" : "Pedido público aguardando aprovação";
-                itens.add(new NotificacaoItem(
-                    TIPO_PEDIDO_ORACAO,
-                    p.getId(),
-                    titulo,
-                    p.getTitulo(),
-                    "/oracao"
-                ));
+    private SecaoCalculada calcularPedidosOracao(User user, Long igrejaId) {
+        if (!usuarioEhLideranca(user)) {
+            return SecaoCalculada.VAZIA;
+        }
+        Set<Long> pedidosVistos = vistaRepository.findReferenciaIdsByUserAndTipo(user, TIPO_PEDIDO_ORACAO);
+        List<NotificacaoItem> itens = new ArrayList<>();
+        List<PedidoOracao> pedidosLideranca = pedidoOracaoRepository.findPendentesNotificacaoLideranca(igrejaId);
+        for (PedidoOracao p : pedidosLideranca) {
+            if (pedidosVistos.contains(p.getId())) {
+                continue;
+            }
+            boolean privado = p.getVisibilidade() == VisibilidadePedidoOracao.PRIVADA;
+            boolean aguardando = p.getStatus() == StatusPedidoOracao.AGUARDANDO_APROVACAO;
+            if (!privado && !aguardando) {
+                continue;
             }
+            String titulo = privado ? "Novo pedido de oração privado" : "Pedido público aguardando aprovação";
+            itens.add(new NotificacaoItem(
+                TIPO_PEDIDO_ORACAO,
+                p.getId(),
+                titulo,
+                p.getTitulo(),
+                "/oracao"
+            ));
         }
+        long oracaoPendentes = pedidoOracaoRepository.countByIgrejaIdAndDeletedAtIsNullAndStatusIn(
+            igrejaId,
+            List.of(StatusPedidoOracao.AGUARDANDO_APROVACAO)
+        );
+        return new SecaoCalculada(itens, (int) oracaoPendentes);
+    }
 
-        Set<Long> assinaturaVistos = vistaRepository.findReferenciaIdsByUserAndTipo(user, TIPO_ASSINATURA);
-        Set<Long> saasVistos = vistaRepository.findReferenciaIdsByUserAndTipo(user, TIPO_SAAS);
-
-        boolean superAdmin = user
-            .getAuthorities()
-            .stream()
-            .anyMatch(a -> AuthoritiesConstants.SUPER_ADMIN.equals(a.getName()));
-
-        if (superAdmin) {
+    private SecaoCalculada calcularAssinatura(User user, Long igrejaId) {
+        List<NotificacaoItem> itens = new ArrayList<>();
+        if (usuarioEhSuperAdmin(user)) {
+            Set<Long> saasVistos = vistaRepository.findReferenciaIdsByUserAndTipo(user, TIPO_SAAS);
             LocalDate hojeSaas = LocalDate.now();
             List<AssinaturaIgreja> assinaturas = assinaturaIgrejaRepository.findAllByOrderByDataCadastroDesc();
             for (AssinaturaIgreja a : assinaturas) {
@@ -246,57 +513,67 @@ public class NotificacaoService {
                     ));
                 }
             }
-        } else {
-            assinaturaIgrejaRepository.findFirstByIgrejaIdOrderByDataCadastroDesc(igrejaId).ifPresent(a -> {
-                if (assinaturaVistos.contains(a.getId())) {
-                    return;
-                }
-                if (a.getStatusAssinatura() == StatusAssinatura.EM_TESTE && a.getDataFimTeste() != null) {
-                    long dias = java.time.temporal.ChronoUnit.DAYS.between(LocalDate.now(), a.getDataFimTeste());
-                    if (dias <= 3) {
-                        itens.add(new NotificacaoItem(
-                            TIPO_ASSINATURA,
-                            a.getId(),
-                            "Teste grátis terminando",
-                            "Seu teste grátis termina em " + Math.max(dias, 0) + " dia(s).",
-                            "/suporte"
-                        ));
-                    }
-                } else if (
-                    a.getStatusAssinatura() == StatusAssinatura.PENDENTE_PAGAMENTO ||
-                    a.getStatusAssinatura() == StatusAssinatura.SUSPENSA
-                ) {
+            return new SecaoCalculada(itens, 0);
+        }
+        Set<Long> assinaturaVistos = vistaRepository.findReferenciaIdsByUserAndTipo(user, TIPO_ASSINATURA);
+        assinaturaIgrejaRepository.findFirstByIgrejaIdOrderByDataCadastroDesc(igrejaId).ifPresent(a -> {
+            if (assinaturaVistos.contains(a.getId())) {
+                return;
+            }
+            if (a.getStatusAssinatura() == StatusAssinatura.EM_TESTE && a.getDataFimTeste() != null) {
+                long dias = java.time.temporal.ChronoUnit.DAYS.between(LocalDate.now(), a.getDataFimTeste());
+                if (dias <= 3) {
                     itens.add(new NotificacaoItem(
                         TIPO_ASSINATURA,
                         a.getId(),
-                        "Acesso bloqueado",
-                        "Entre em contato com o suporte para ativar sua assinatura.",
+                        "Teste grátis terminando",
+                        "Seu teste grátis termina em " + Math.max(dias, 0) + " dia(s).",
                         "/suporte"
                     ));
                 }
-            });
-        }
+            } else if (
+                a.getStatusAssinatura() == StatusAssinatura.PENDENTE_PAGAMENTO ||
+                a.getStatusAssinatura() == StatusAssinatura.SUSPENSA
+            ) {
+                itens.add(new NotificacaoItem(
+                    TIPO_ASSINATURA,
+                    a.getId(),
+                    "Acesso bloqueado",
+                    "Entre em contato com o suporte para ativar sua assinatura.",
+                    "/suporte"
+                ));
+            }
+        });
+        return new SecaoCalculada(itens, 0);
+    }
 
-        if (usuarioEhLideranca(user)) {
-            Set<Long> docsVistos = vistaRepository.findReferenciaIdsByUserAndTipo(user, TIPO_DOCUMENTO_VENCENDO);
-            List<DocumentoIgreja> docsVencendo = documentoIgrejaRepository.findByIgrejaIdAndAtivoTrueAndDataValidadeBetweenOrderByDataValidadeAsc(
-                igrejaId,
-                hoje,
-                hoje.plusDays(30)
-            );
-            for (DocumentoIgreja doc : docsVencendo) {
-                if (!docsVistos.contains(doc.getId())) {
-                    itens.add(new NotificacaoItem(
-                        TIPO_DOCUMENTO_VENCENDO,
-                        doc.getId(),
-                        "Documento vencendo",
-                        doc.getNome() + " vence em " + doc.getDataValidade(),
-                        "/configuracoes-igreja"
-                    ));
-                }
+    private SecaoCalculada calcularDocumentos(User user, Long igrejaId, LocalDate hoje) {
+        if (!usuarioEhLideranca(user)) {
+            return SecaoCalculada.VAZIA;
+        }
+        Set<Long> docsVistos = vistaRepository.findReferenciaIdsByUserAndTipo(user, TIPO_DOCUMENTO_VENCENDO);
+        List<NotificacaoItem> itens = new ArrayList<>();
+        List<DocumentoIgreja> docsVencendo = documentoIgrejaRepository.findByIgrejaIdAndAtivoTrueAndDataValidadeBetweenOrderByDataValidadeAsc(
+            igrejaId,
+            hoje,
+            hoje.plusDays(30)
+        );
+        for (DocumentoIgreja doc : docsVencendo) {
+            if (!docsVistos.contains(doc.getId())) {
+                itens.add(new NotificacaoItem(
+                    TIPO_DOCUMENTO_VENCENDO,
+                    doc.getId(),
+                    "Documento vencendo",
+                    doc.getNome() + " vence em " + doc.getDataValidade(),
+                    "/configuracoes-igreja"
+                ));
             }
         }
+        return new SecaoCalculada(itens, 0);
+    }
 
+    private SecaoCalculada calcularEscalas(User user, LocalDate hoje) {
+        List<NotificacaoItem> itens = new ArrayList<>();
         Instant inicioHoje = hoje.atStartOfDay(ZONE_BR).toInstant();
         for (EscalaItem item : escalaItemRepository.findItensUsuarioAguardandoConfirmacao(
             user.getId(),
@@ -318,7 +595,11 @@ public class NotificacaoService {
                 "/escalas?escalaId=" + escala.getId() + "&itemId=" + item.getId()
             ));
         }
+        return new SecaoCalculada(itens, 0);
+    }
 
+    private SecaoCalculada calcularNotificacoesUsuario(User user) {
+        List<NotificacaoItem> itens = new ArrayList<>();
         for (NotificacaoUsuario notificacao : notificacaoUsuarioRepository.findByUserAndLidaFalseOrderByCriadoEmDesc(user)) {
             if (TIPO_ESCALA.equals(notificacao.getTipo())) {
                 continue;
@@ -345,8 +626,12 @@ public class NotificacaoService {
                 notificacao.getLink() != null ? notificacao.getLink() : "/eventos"
             ));
         }
+        return new SecaoCalculada(itens, 0);
+    }
 
+    private SecaoCalculada calcularEventos(User user, Long igrejaId) {
         Set<Long> eventosVistos = vistaRepository.findReferenciaIdsByUserAndTipo(user, TIPO_EVENTO);
+        List<NotificacaoItem> itens = new ArrayList<>();
         Instant agora = Instant.now();
         Instant limite = agora.plusSeconds(7L * 24 * 3600);
         for (Evento evento : eventoRepository.findPublicadosProximosParaNotificacao(
@@ -376,113 +661,18 @@ public class NotificacaoService {
                 "/eventos"
             ));
         }
-
-        return itens;
+        return new SecaoCalculada(itens, 0);
     }
 
-    @Transactional(readOnly = true)
-    public NotificacaoResumoDTO obterResumo() {
-        Optional<User> userOpt = SecurityUtils.getCurrentUserLogin().flatMap(userRepository::findOneWithAuthoritiesByLogin);
-        NotificacaoResumoDTO resumo = new NotificacaoResumoDTO();
-        if (userOpt.isEmpty()) {
-            return resumo;
-        }
-        User user = userOpt.get();
-        String login = user.getLogin();
-        if (login != null) {
-            CacheResumoNotificacao cache = cacheResumoPorLogin.get(login);
-            if (cache != null && System.currentTimeMillis() < cache.expiraEm()) {
-                return cache.resumo();
-            }
-        }
-
-        resumo = construirResumo(user);
-        if (login != null) {
-            String fingerprint = calcularFingerprint(resumo);
-            cacheResumoPorLogin.put(
-                login,
-                new CacheResumoNotificacao(resumo, fingerprint, System.currentTimeMillis() + CACHE_RESUMO_TTL_MS)
-            );
-        }
-        return resumo;
-    }
-
-    @Transactional(readOnly = true)
-    public NotificacaoContagemDTO obterContagem() {
-        NotificacaoResumoDTO resumo = obterResumo();
-        NotificacaoContagemDTO contagem = new NotificacaoContagemDTO();
-        contagem.setTotalNotificacoes(resumo.getNotificacoes().size());
-        contagem.setPreCadastrosPendentes(resumo.getPreCadastrosPendentes());
-        contagem.setPedidosOracaoPendentes(resumo.getPedidosOracaoPendentes());
-        contagem.setFingerprint(calcularFingerprint(resumo));
-        return contagem;
-    }
-
-    @Transactional(readOnly = true)
-    public Optional<String> obterFingerprintAtual() {
-        Optional<User> userOpt = SecurityUtils.getCurrentUserLogin().flatMap(userRepository::findOneByLogin);
-        if (userOpt.isEmpty()) {
-            return Optional.empty();
-        }
-        String login = userOpt.get().getLogin();
-        if (login == null) {
-            return Optional.empty();
-        }
-        CacheResumoNotificacao cache = cacheResumoPorLogin.get(login);
-        if (cache != null && System.currentTimeMillis() < cache.expiraEm()) {
-            return Optional.of(cache.fingerprint());
-        }
-        return Optional.of(calcularFingerprint(obterResumo()));
-    }
-
-    private NotificacaoResumoDTO construirResumo(User user) {
-        NotificacaoResumoDTO resumo = new NotificacaoResumoDTO();
-        resumo.setNotificacoes(listarNaoVistas());
-
-        if (usuarioPodeAprovarPreCadastro(user)) {
-            Long igrejaId = tenantService.getIgrejaIdAtual();
-            long pendentes = preCadastroRepository.countByIgrejaIdAndStatusIn(
-                igrejaId,
-                List.of(StatusCadastro.PRIMEIROACESSO, StatusCadastro.PENDENTE)
-            );
-            resumo.setPreCadastrosPendentes((int) pendentes);
-        }
-
-        if (usuarioEhLideranca(user)) {
-            Long igrejaId = tenantService.getIgrejaIdAtual();
-            long oracaoPendentes = pedidoOracaoRepository.countByIgrejaIdAndDeletedAtIsNullAndStatusIn(
-                igrejaId,
-                List.of(StatusPedidoOracao.AGUARDANDO_APROVACAO)
-            );
-            resumo.setPedidosOracaoPendentes((int) oracaoPendentes);
-        }
-
-        return resumo;
-    }
-
-    private String calcularFingerprint(NotificacaoResumoDTO resumo) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("p=").append(resumo.getPreCadastrosPendentes());
-        sb.append(";o=").append(resumo.getPedidosOracaoPendentes());
-        sb.append(";n=").append(resumo.getNotificacoes().size());
-        sb.append(';');
-        resumo
-            .getNotificacoes()
-            .stream()
-            .sorted(
-                Comparator.comparing(NotificacaoItem::tipo, Comparator.nullsLast(String::compareTo)).thenComparing(
-                    NotificacaoItem::referenciaId,
-                    Comparator.nullsLast(Comparator.naturalOrder())
-                )
-            )
-            .forEach(item -> sb.append(item.tipo()).append(':').append(item.referenciaId()).append(','));
-        return Integer.toHexString(sb.toString().hashCode());
-    }
-
-    private void invalidarCacheUsuario(User user) {
-        if (user != null && user.getLogin() != null) {
-            cacheResumoPorLogin.remove(user.getLogin());
+    private SecaoCalculada calcularPreCadastros(User user, Long igrejaId) {
+        if (!usuarioPodeAprovarPreCadastro(user)) {
+            return SecaoCalculada.VAZIA;
         }
+        long pendentes = preCadastroRepository.countByIgrejaIdAndStatusIn(
+            igrejaId,
+            List.of(StatusCadastro.PRIMEIROACESSO, StatusCadastro.PENDENTE)
+        );
+        return new SecaoCalculada(List.of(), (int) pendentes);
     }
 
     public void notificarTesteIniciado(Igreja igreja, AssinaturaIgreja assinatura) {
@@ -711,6 +901,13 @@ public class NotificacaoService {
             );
     }
 
+    private boolean usuarioEhSuperAdmin(User user) {
+        return user
+            .getAuthorities()
+            .stream()
+            .anyMatch(a -> AuthoritiesConstants.SUPER_ADMIN.equals(a.getName()));
+    }
+
     private boolean usuarioEhLideranca(User user) {
         return user
             .getAuthorities()
@@ -741,7 +938,6 @@ public class NotificacaoService {
                 if (!Boolean.TRUE.equals(notificacao.getLida())) {
                     notificacao.setLida(true);
                     notificacaoUsuarioRepository.save(notificacao);
-                    invalidarCacheUsuario(user);
                     LOG.debug(
                         "Notificação interna marcada como lida: {} {} para user {}",
                         notificacao.getTipo(),
@@ -763,7 +959,6 @@ public class NotificacaoService {
         vista.setReferenciaId(referenciaId);
         vista.setVistoEm(Instant.now());
         vistaRepository.save(vista);
-        invalidarCacheUsuario(user);
         LOG.debug("Notificação marcada como vista: {} {} para user {}", tipo, referenciaId, user.getLogin());
     }
 
@@ -0,0 +1,261 @@
+package br.com.semear.service;
+
+import br.com.semear.security.AuthoritiesConstants;
+import br.com.semear.service.dto.NotificacaoContagemDTO;
+import br.com.semear.service.notificacao.ResumoNotificacaoAlterado;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Canal SSE da contagem de notificações: uma conexão por aba líder, indexada por igreja e por usuário.
+ * <p>
+ * Cada {@link ResumoNotificacaoAlterado} só reavalia as conexões da igreja/usuário afetados; a contagem vem do
+ * resumo materializado de {@link NotificacaoService} e só é enviada quando o fingerprint muda. O heartbeat mantém
+ * proxies abertos e cobre o que vence com o relógio (eventos próximos, virada do dia).
+ */
+@Service
+public class NotificacaoStreamService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NotificacaoStreamService.class);
+    private static final String EVENTO_CONTAGEM = "contagem";
+
+    private final NotificacaoService notificacaoService;
+    private final TenantService tenantService;
+    private final ExecutorService executor;
+
+    private final Map<Long, Set<Conexao>> porIgreja = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Conexao>> porUsuario = new ConcurrentHashMap<>();
+    private final Set<Conexao> superAdmins = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger totalConexoes = new AtomicInteger();
+    private final AtomicLong sequenciaConexao = new AtomicLong();
+
+    @Value("${semear.notificacoes.stream.max-conexoes:5000}")
+    private int maxConexoes;
+
+    @Value("${semear.notificacoes.stream.max-por-usuario:3}")
+    private int maxPorUsuario;
+
+    @Value("${semear.notificacoes.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    public NotificacaoStreamService(
+        NotificacaoService notificacaoService,
+        TenantService tenantService,
+        @Value("${semear.notificacoes.stream.threads:2}") int threads
+    ) {
+        this.notificacaoService = notificacaoService;
+        this.tenantService = tenantService;
+        AtomicInteger sequencia = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads), r -> {
+            Thread t = new Thread(r, "semear-sse-" + sequencia.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+        todasConexoes().forEach(c -> c.emitter.complete());
+    }
+
+    /**
+     * Abre o canal do usuário autenticado e já envia a contagem atual.
+     *
+     * @return vazio quando o limite global de conexões foi atingido — o cliente volta ao polling.
+     */
+    public Optional<SseEmitter> conectar() {
+        if (totalConexoes.incrementAndGet() > maxConexoes) {
+            totalConexoes.decrementAndGet();
+            LOG.warn("Limite de {} conexões SSE de notificações atingido", maxConexoes);
+            return Optional.empty();
+        }
+        ContextoTenant contexto;
+        try {
+            contexto = tenantService.getContextoAtual();
+        } catch (RuntimeException e) {
+            totalConexoes.decrementAndGet();
+            throw e;
+        }
+        Authentication autenticacao = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContext seguranca = SecurityContextHolder.createEmptyContext();
+        seguranca.setAuthentication(autenticacao);
+
+        Conexao conexao = new Conexao(
+            sequenciaConexao.incrementAndGet(),
+            contexto.getUsuarioId(),
+            contexto.getIgrejaId(),
+            contexto.possuiAlgumaAutoridade(Set.of(AuthoritiesConstants.SUPER_ADMIN)),
+            seguranca,
+            new SseEmitter(timeoutConexao(autenticacao))
+        );
+        conexao.emitter.onCompletion(() -> desconectar(conexao));
+        conexao.emitter.onTimeout(() -> desconectar(conexao));
+        conexao.emitter.onError(e -> desconectar(conexao));
+        registrar(conexao);
+        limitarPorUsuario(conexao.userId);
+        emitirSeMudou(conexao, false);
+        return Optional.of(conexao.emitter);
+    }
+
+    @EventListener
+    public void aoAlterarResumo(ResumoNotificacaoAlterado alteracao) {
+        alteracao.igrejas().forEach(id -> porIgreja.getOrDefault(id, Set.of()).forEach(c -> agendar(c, false)));
+        alteracao.usuarios().forEach(id -> porUsuario.getOrDefault(id, Set.of()).forEach(c -> agendar(c, false)));
+        if (alteracao.plataforma()) {
+            superAdmins.forEach(c -> agendar(c, false));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${semear.notificacoes.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        todasConexoes().forEach(c -> agendar(c, true));
+    }
+
+    public int getTotalConexoes() {
+        return totalConexoes.get();
+    }
+
+    /** Coalesce: uma conexão tem no máximo uma reavaliação na fila, por mais alterações que cheguem. */
+    private void agendar(Conexao conexao, boolean heartbeat) {
+        if (heartbeat) {
+            conexao.heartbeatPendente.set(true);
+        }
+        if (!conexao.agendada.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(
+                new DelegatingSecurityContextRunnable(
+                    () -> {
+                        conexao.agendada.set(false);
+                        emitirSeMudou(conexao, conexao.heartbeatPendente.getAndSet(false));
+                    },
+                    conexao.seguranca
+                )
+            );
+        } catch (RejectedExecutionException e) {
+            conexao.agendada.set(false);
+        }
+    }
+
+    private void emitirSeMudou(Conexao conexao, boolean heartbeat) {
+        try {
+            NotificacaoContagemDTO contagem = notificacaoService.obterContagem();
+            String fingerprint = contagem.getFingerprint();
+            if (fingerprint != null && !Objects.equals(fingerprint, conexao.ultimoFingerprint)) {
+                conexao.ultimoFingerprint = fingerprint;
+                conexao.emitter.send(SseEmitter.event().name(EVENTO_CONTAGEM).id(fingerprint).data(contagem));
+            } else if (heartbeat) {
+                conexao.emitter.send(SseEmitter.event().comment("ping"));
+            }
+        } catch (IOException | IllegalStateException e) {
+            conexao.emitter.completeWithError(e);
+        } catch (RuntimeException e) {
+            LOG.warn("Falha ao atualizar canal de notificações do usuário {}: {}", conexao.userId, e.getMessage());
+            conexao.emitter.complete();
+        }
+    }
+
+    private void registrar(Conexao conexao) {
+        if (conexao.igrejaId != null) {
+            porIgreja.computeIfAbsent(conexao.igrejaId, id -> ConcurrentHashMap.newKeySet()).add(conexao);
+        }
+        porUsuario.computeIfAbsent(conexao.userId, id -> ConcurrentHashMap.newKeySet()).add(conexao);
+        if (conexao.superAdmin) {
+            superAdmins.add(conexao);
+        }
+    }
+
+    /** Abas ou dispositivos além do limite derrubam as conexões mais antigas do mesmo usuário. */
+    private void limitarPorUsuario(Long userId) {
+        Set<Conexao> doUsuario = porUsuario.getOrDefault(userId, Set.of());
+        long excedentes = doUsuario.size() - (long) Math.max(1, maxPorUsuario);
+        if (excedentes > 0) {
+            doUsuario.stream().sorted(Comparator.comparingLong(c -> c.id)).limit(excedentes).forEach(c -> c.emitter.complete());
+        }
+    }
+
+    private void desconectar(Conexao conexao) {
+        if (!conexao.ativa.compareAndSet(true, false)) {
+            return;
+        }
+        totalConexoes.decrementAndGet();
+        remover(porIgreja, conexao.igrejaId, conexao);
+        remover(porUsuario, conexao.userId, conexao);
+        superAdmins.remove(conexao);
+    }
+
+    private static void remover(Map<Long, Set<Conexao>> indice, Long chave, Conexao conexao) {
+        if (chave == null) {
+            return;
+        }
+        indice.computeIfPresent(chave, (id, conexoes) -> {
+            conexoes.remove(conexao);
+            return conexoes.isEmpty() ? null : conexoes;
+        });
+    }
+
+    private Stream<Conexao> todasConexoes() {
+        return porUsuario.values().stream().flatMap(Set::stream);
+    }
+
+    /** A conexão não sobrevive ao token: ao expirar, o cliente reconecta já com o token renovado. */
+    private long timeoutConexao(Authentication autenticacao) {
+        if (autenticacao instanceof JwtAuthenticationToken jwt && jwt.getToken().getExpiresAt() != null) {
+            long restante = Duration.between(Instant.now(), jwt.getToken().getExpiresAt()).toMillis();
+            return Math.max(1_000L, Math.min(timeoutMs, restante));
+        }
+        return timeoutMs;
+    }
+
+    private static final class Conexao {
+
+        private final long id;
+        private final Long userId;
+        private final Long igrejaId;
+        private final boolean superAdmin;
+        private final SecurityContext seguranca;
+        private final SseEmitter emitter;
+        private final AtomicBoolean ativa = new AtomicBoolean(true);
+        private final AtomicBoolean agendada = new AtomicBoolean();
+        private final AtomicBoolean heartbeatPendente = new AtomicBoolean();
+        private volatile String ultimoFingerprint;
+
+        private Conexao(long id, Long userId, Long igrejaId, boolean superAdmin, SecurityContext seguranca, SseEmitter emitter) {
+            this.id = id;
+            this.userId = userId;
+            this.igrejaId = igrejaId;
+            this.superAdmin = superAdmin;
+            this.seguranca = seguranca;
+            this.emitter = emitter;
+        }
+    }
+}
@@ -9,12 +9,21 @@ import br.com.semear.repository.EventoRepository;
 import br.com.semear.repository.IgrejaRepository;
 import br.com.semear.service.dto.EventoDTO;
 import br.com.semear.service.dto.IgrejaSitePublicoDTO;
+import br.com.semear.service.publico.CacheConteudoPublico;
+import br.com.semear.service.publico.ConteudoPublico;
+import br.com.semear.service.publico.PaginaPublica;
 import br.com.semear.web.rest.errors.BadRequestAlertException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Optional;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Transactional(readOnly = true)
@@ -25,22 +34,48 @@ public class PublicIgrejaSiteService {
     private final IgrejaRepository igrejaRepository;
     private final EventoRepository eventoRepository;
     private final ComunicadoRepository comunicadoRepository;
+    private final CacheConteudoPublico cacheConteudoPublico;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transacaoLeitura;
 
     public PublicIgrejaSiteService(
         IgrejaRepository igrejaRepository,
         EventoRepository eventoRepository,
-        ComunicadoRepository comunicadoRepository
+        ComunicadoRepository comunicadoRepository,
+        CacheConteudoPublico cacheConteudoPublico,
+        ObjectMapper objectMapper,
+        PlatformTransactionManager transactionManager
     ) {
         this.igrejaRepository = igrejaRepository;
         this.eventoRepository = eventoRepository;
         this.comunicadoRepository = comunicadoRepository;
+        this.cacheConteudoPublico = cacheConteudoPublico;
+        this.objectMapper = objectMapper;
+        this.transacaoLeitura = new TransactionTemplate(transactionManager);
+        this.transacaoLeitura.setReadOnly(true);
     }
 
-    public IgrejaSitePublicoDTO obterPorSlug(String slug) {
-        Igreja igreja = igrejaRepository
-            .findBySlugAndSiteAtivoTrue(slug)
+    /**
+     * Site público da igreja já serializado em JSON. Visitas seguidas saem do {@link CacheConteudoPublico} sem abrir
+     * transação; o banco só é lido quando a igreja publica algo ou a cópia vence.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ConteudoPublico obterPorSlug(String slug) {
+        return cacheConteudoPublico
+            .obter("igreja:" + slug, () -> transacaoLeitura.execute(status -> montarPagina(slug)))
             .orElseThrow(() -> new BadRequestAlertException("Igreja pública não encontrada", ENTITY, "naoencontrado"));
-        return toDto(igreja);
+    }
+
+    private Optional<PaginaPublica> montarPagina(String slug) {
+        return igrejaRepository.findBySlugAndSiteAtivoTrue(slug).map(igreja -> new PaginaPublica(igreja.getId(), serializar(toDto(igreja))));
+    }
+
+    private byte[] serializar(IgrejaSitePublicoDTO dto) {
+        try {
+            return objectMapper.writeValueAsBytes(dto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar o site público da igreja " + dto.getId(), e);
+        }
     }
 
     private IgrejaSitePublicoDTO toDto(Igreja igreja) {
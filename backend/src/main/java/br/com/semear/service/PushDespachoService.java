@@ -0,0 +1,459 @@
+package br.com.semear.service;
+
+import br.com.semear.config.PushNotificationProperties;
+import br.com.semear.domain.NotificacaoPushPendente;
+import br.com.semear.domain.NotificacaoUsuario;
+import br.com.semear.domain.UsuarioDispositivoPush;
+import br.com.semear.domain.UsuarioPreferenciaNotificacao;
+import br.com.semear.domain.enumeration.StatusPushPendente;
+import br.com.semear.repository.NotificacaoPushPendenteRepository;
+import br.com.semear.repository.NotificacaoUsuarioRepository;
+import br.com.semear.repository.UsuarioDispositivoPushRepository;
+import br.com.semear.repository.UsuarioPreferenciaNotificacaoRepository;
+import br.com.semear.service.push.DespachoFcm;
+import br.com.semear.service.push.FcmGateway;
+import br.com.semear.service.push.ResultadoFcm;
+import com.google.firebase.messaging.Message;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Despacho assíncrono de push a partir da fila de saída {@link NotificacaoPushPendente}.
+ * <p>
+ * Quem notifica só grava a pendência junto com a notificação interna; após o commit, um executor dedicado
+ * trava um bloco de pendências, carrega preferências e dispositivos de todos os usuários de uma vez, envia
+ * ao FCM em lotes de até 500 tokens ({@link DespachoFcm}) sem segurar conexão com o banco e aplica os
+ * resultados em massa: notificações entregues, tokens inválidos desativados e novas tentativas com backoff.
+ * <p>
+ * Cada bloco travado leva um dono ({@code reivindicadoPor}). Enquanto o envio está em andamento, a varredura
+ * periódica desta instância renova a trava, e só o dono conclui ou reagenda as pendências; assim a liberação de
+ * travas expiradas alcança apenas instâncias paradas e nunca devolve à fila uma notificação já entregue.
+ */
+@Service
+public class PushDespachoService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PushDespachoService.class);
+    private static final ZoneId ZONE_BR = ZoneId.of("America/Sao_Paulo");
+    private static final LocalTime MADRUGADA_INICIO = LocalTime.of(22, 0);
+    private static final LocalTime MADRUGADA_FIM = LocalTime.of(6, 0);
+    private static final Duration TRAVA_EXPIRADA = Duration.ofMinutes(5);
+
+    private final PushNotificationProperties pushProperties;
+    private final NotificacaoPushPendenteRepository pendenteRepository;
+    private final NotificacaoUsuarioRepository notificacaoUsuarioRepository;
+    private final UsuarioDispositivoPushRepository dispositivoRepository;
+    private final UsuarioPreferenciaNotificacaoRepository preferenciaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final DespachoFcm despacho;
+    private final AtomicBoolean drenando = new AtomicBoolean();
+    private final Set<String> despachosEmAndamento = ConcurrentHashMap.newKeySet();
+
+    public PushDespachoService(
+        PushNotificationProperties pushProperties,
+        NotificacaoPushPendenteRepository pendenteRepository,
+        NotificacaoUsuarioRepository notificacaoUsuarioRepository,
+        UsuarioDispositivoPushRepository dispositivoRepository,
+        UsuarioPreferenciaNotificacaoRepository preferenciaRepository,
+        PlatformTransactionManager transactionManager,
+        FcmGateway fcmGateway
+    ) {
+        this.pushProperties = pushProperties;
+        this.pendenteRepository = pendenteRepository;
+        this.notificacaoUsuarioRepository = notificacaoUsuarioRepository;
+        this.dispositivoRepository = dispositivoRepository;
+        this.preferenciaRepository = preferenciaRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        PushNotificationProperties.Despacho cfg = pushProperties.getDespacho();
+        int concorrencia = Math.max(1, cfg.getConcorrencia());
+        AtomicInteger sequencia = new AtomicInteger();
+        // +1: a thread que drena a fila aguarda os lotes no mesmo pool
+        this.executor = Executors.newFixedThreadPool(concorrencia + 1, r -> {
+            Thread t = new Thread(r, "semear-push-" + sequencia.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.despacho = new DespachoFcm(fcmGateway, executor, concorrencia, cfg.getTamanhoLote(), 3, cfg.getBackoffInicialMs());
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Grava as notificações na fila de saída, na transação de quem chama. O despacho começa após o commit.
+     *
+     * @return quantas pendências foram criadas
+     */
+    @Transactional
+    public int enfileirar(Collection<NotificacaoUsuario> notificacoes, boolean respeitarHorarioSilencioso) {
+        if (!pushProperties.isOperational() || notificacoes == null || notificacoes.isEmpty()) {
+            return 0;
+        }
+        List<NotificacaoPushPendente> pendentes = new ArrayList<>(notificacoes.size());
+        Instant agora = Instant.now();
+        for (NotificacaoUsuario n : notificacoes) {
+            if (n == null || n.getId() == null || Boolean.TRUE.equals(n.getEnviadaPush())) {
+                continue;
+            }
+            NotificacaoPushPendente p = new NotificacaoPushPendente();
+            p.setNotificacao(n);
+            p.setRespeitarHorarioSilencioso(respeitarHorarioSilencioso);
+            p.setProximaTentativaEm(agora);
+            p.setCriadoEm(agora);
+            pendentes.add(p);
+        }
+        if (pendentes.isEmpty()) {
+            return 0;
+        }
+        pendenteRepository.saveAll(pendentes);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        sinalizar();
+                    }
+                }
+            );
+        } else {
+            sinalizar();
+        }
+        return pendentes.size();
+    }
+
+    /** Acorda o despacho; se já houver uma drenagem em curso, ela pega as novas pendências. */
+    public void sinalizar() {
+        if (!pushProperties.isOperational() || drenando.get()) {
+            return;
+        }
+        try {
+            executor.execute(this::drenar);
+        } catch (RuntimeException e) {
+            LOG.debug("[PUSH] Despacho não agendado: {}", e.getMessage());
+        }
+    }
+
+    /** Varredura periódica: novas tentativas vencidas e pendências travadas por uma instância que caiu. */
+    @Scheduled(fixedDelayString = "${semear.push.despacho.intervalo-ms:5000}")
+    public void varrerPendentes() {
+        if (!pushProperties.isOperational()) {
+            return;
+        }
+        try {
+            Integer liberadas = transactionTemplate.execute(status -> {
+                Instant agora = Instant.now();
+                Set<String> emAndamento = Set.copyOf(despachosEmAndamento);
+                if (!emAndamento.isEmpty()) {
+                    pendenteRepository.renovarReivindicacoes(emAndamento, agora);
+                }
+                Instant limite = agora.minus(TRAVA_EXPIRADA);
+                pendenteRepository.removerTravadasEnviadasAntesDe(limite);
+                return pendenteRepository.liberarTravadasAntesDe(limite);
+            });
+            if (liberadas != null && liberadas > 0) {
+                LOG.info("[PUSH] {} pendências travadas devolvidas à fila", liberadas);
+            }
+        } catch (Exception e) {
+            LOG.warn("[PUSH] Falha ao liberar pendências travadas: {}", e.getMessage());
+        }
+        sinalizar();
+    }
+
+    void drenar() {
+        if (!drenando.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int limite = Math.max(1, pushProperties.getDespacho().getTamanhoLote()) * Math.max(1, pushProperties.getDespacho().getConcorrencia());
+            while (!Thread.currentThread().isInterrupted()) {
+                String dono = UUID.randomUUID().toString();
+                despachosEmAndamento.add(dono);
+                try {
+                    List<Long> ids = transactionTemplate.execute(status -> travar(limite, dono));
+                    if (ids == null || ids.isEmpty()) {
+                        break;
+                    }
+                    processarBloco(ids, dono);
+                } finally {
+                    despachosEmAndamento.remove(dono);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            LOG.warn("[PUSH] Falha no despacho da fila de push: {}", e.getMessage(), e);
+        } finally {
+            drenando.set(false);
+        }
+    }
+
+    private List<Long> travar(int limite, String dono) {
+        Instant agora = Instant.now();
+        List<Long> ids = pendenteRepository.travarProximasPendentes(agora, limite);
+        if (!ids.isEmpty()) {
+            pendenteRepository.reivindicar(ids, agora, dono);
+        }
+        return ids;
+    }
+
+    private void processarBloco(List<Long> ids, String dono) throws InterruptedException {
+        Plano plano = transactionTemplate.execute(status -> planejar(ids, dono));
+        if (plano == null) {
+            return;
+        }
+        List<ResultadoFcm> resultados = despacho.enviar(plano.mensagens);
+        transactionTemplate.executeWithoutResult(status -> aplicar(plano, resultados, dono));
+        LOG.info(
+            "[PUSH] Lote despachado — notificações={}, mensagens={}, entregues={}, ignoradas={}",
+            ids.size(),
+            plano.mensagens.size(),
+            resultados.stream().filter(ResultadoFcm::entregue).count(),
+            plano.semEnvio.size()
+        );
+    }
+
+    /** Uma leitura de pendências, preferências e dispositivos para o bloco inteiro. */
+    private Plano planejar(List<Long> ids, String dono) {
+        List<NotificacaoPushPendente> pendentes = pendenteRepository
+            .findByIdInWithNotificacao(ids)
+            .stream()
+            .filter(p -> dono.equals(p.getReivindicadoPor()))
+            .toList();
+        Set<Long> userIds = new HashSet<>();
+        for (NotificacaoPushPendente p : pendentes) {
+            userIds.add(p.getNotificacao().getUser().getId());
+        }
+        Map<String, UsuarioPreferenciaNotificacao> preferencias = new HashMap<>();
+        Map<String, List<UsuarioDispositivoPush>> dispositivos = new HashMap<>();
+        if (!userIds.isEmpty()) {
+            for (UsuarioPreferenciaNotificacao pref : preferenciaRepository.findByUserIdIn(userIds)) {
+                preferencias.put(chave(pref.getUser().getId(), pref.getIgreja().getId()), pref);
+            }
+            for (UsuarioDispositivoPush d : dispositivoRepository.findByUserIdInAndAtivoTrue(userIds)) {
+                dispositivos.computeIfAbsent(chave(d.getUser().getId(), d.getIgreja().getId()), k -> new ArrayList<>()).add(d);
+            }
+        }
+
+        Plano plano = new Plano();
+        for (NotificacaoPushPendente p : pendentes) {
+            NotificacaoUsuario n = p.getNotificacao();
+            String chave = chave(n.getUser().getId(), n.getIgreja().getId());
+            if (Boolean.TRUE.equals(n.getEnviadaPush())) {
+                plano.semEnvio.add(p.getId());
+                continue;
+            }
+            if (!podeEnviarPush(preferencias.get(chave), n.getTipo(), Boolean.TRUE.equals(p.getRespeitarHorarioSilencioso()))) {
+                LOG.debug("Push não enviado para usuário {} (tipo={}): preferência ou horário silencioso", n.getUser().getId(), n.getTipo());
+                plano.semEnvio.add(p.getId());
+                continue;
+            }
+            List<UsuarioDispositivoPush> alvos = dispositivos.getOrDefault(chave, List.of());
+            if (alvos.isEmpty()) {
+                LOG.debug("Push não enviado para usuário {} (tipo={}): sem dispositivo registrado", n.getUser().getId(), n.getTipo());
+                plano.semEnvio.add(p.getId());
+                continue;
+            }
+            plano.pendentes.put(p.getId(), new EstadoPendente(p.getId(), n.getId(), p.getTentativas()));
+            for (UsuarioDispositivoPush d : alvos) {
+                plano.mensagens.add(mensagem(d.getToken(), n));
+                plano.destinos.add(new Destino(p.getId(), d.getId()));
+            }
+        }
+        return plano;
+    }
+
+    private void aplicar(Plano plano, List<ResultadoFcm> resultados, String dono) {
+        Instant agora = Instant.now();
+        Set<Long> dispositivosUsados = new HashSet<>();
+        Set<Long> dispositivosInvalidos = new HashSet<>();
+        for (int i = 0; i < plano.destinos.size(); i++) {
+            Destino destino = plano.destinos.get(i);
+            ResultadoFcm resultado = resultados.get(i);
+            EstadoPendente estado = plano.pendentes.get(destino.pendenteId());
+            switch (resultado.situacao()) {
+                case ENTREGUE -> {
+                    estado.entregue = true;
+                    dispositivosUsados.add(destino.dispositivoId());
+                }
+                case TOKEN_INVALIDO -> {
+                    dispositivosInvalidos.add(destino.dispositivoId());
+                    estado.erro = resultado.erro();
+                }
+                case FALHA_TEMPORARIA -> {
+                    estado.temporaria = true;
+                    estado.erro = resultado.erro();
+                }
+                case FALHA_DEFINITIVA -> estado.erro = resultado.erro();
+            }
+        }
+        if (!dispositivosUsados.isEmpty()) {
+            dispositivoRepository.registrarUso(dispositivosUsados, agora);
+        }
+        if (!dispositivosInvalidos.isEmpty()) {
+            dispositivoRepository.desativar(dispositivosInvalidos, agora);
+            LOG.info("[PUSH] {} token(s) inválido(s) desativado(s)", dispositivosInvalidos.size());
+        }
+
+        int maxTentativas = Math.max(1, pushProperties.getDespacho().getMaxTentativas());
+        List<Long> concluidas = new ArrayList<>(plano.semEnvio);
+        Map<Long, EstadoPendente> porNotificacao = new HashMap<>();
+        List<EstadoPendente> reagendar = new ArrayList<>();
+        for (EstadoPendente estado : plano.pendentes.values()) {
+            if (!estado.entregue && estado.temporaria && estado.tentativas + 1 < maxTentativas) {
+                reagendar.add(estado);
+            } else {
+                concluidas.add(estado.pendenteId);
+                porNotificacao.put(estado.notificacaoId, estado);
+            }
+        }
+        if (!porNotificacao.isEmpty()) {
+            for (NotificacaoUsuario n : notificacaoUsuarioRepository.findAllById(porNotificacao.keySet())) {
+                EstadoPendente estado = porNotificacao.get(n.getId());
+                if (estado.entregue) {
+                    n.setEnviadaPush(true);
+                    n.setDataEnvioPush(agora);
+                    n.setErroPush(null);
+                } else if (estado.erro != null) {
+                    n.setErroPush(truncar(estado.erro, 300));
+                    LOG.warn("[PUSH] FCM não entregue — notificacaoId={}, erro={}", n.getId(), estado.erro);
+                }
+            }
+        }
+        if (!reagendar.isEmpty()) {
+            Map<Long, EstadoPendente> porPendente = new HashMap<>();
+            reagendar.forEach(e -> porPendente.put(e.pendenteId, e));
+            for (NotificacaoPushPendente p : pendenteRepository.findAllById(porPendente.keySet())) {
+                if (!dono.equals(p.getReivindicadoPor())) {
+                    continue;
+                }
+                EstadoPendente estado = porPendente.get(p.getId());
+                int tentativas = estado.tentativas + 1;
+                p.setTentativas(tentativas);
+                p.setStatus(StatusPushPendente.PENDENTE);
+                p.setReivindicadoPor(null);
+                p.setProximaTentativaEm(agora.plusMillis(backoff(tentativas)));
+                p.setUltimoErro(truncar(estado.erro, 300));
+            }
+        }
+        if (!concluidas.isEmpty()) {
+            pendenteRepository.concluir(concluidas, dono);
+        }
+    }
+
+    private long backoff(int tentativas) {
+        long base = Math.max(1, pushProperties.getDespacho().getBackoffInicialMs());
+        return base << Math.min(tentativas - 1, 16);
+    }
+
+    public boolean podeEnviarPush(UsuarioPreferenciaNotificacao pref, String tipo, boolean respeitarHorarioSilencioso) {
+        if (!pushProperties.isOperational()) {
+            return false;
+        }
+        if (pref == null || !Boolean.TRUE.equals(pref.getPushAtivo())) {
+            return false;
+        }
+        if (respeitarHorarioSilencioso && emHorarioSilencioso(pref)) {
+            return false;
+        }
+        return tipoPermitido(pref, tipo);
+    }
+
+    private boolean emHorarioSilencioso(UsuarioPreferenciaNotificacao pref) {
+        LocalTime agora = LocalTime.now(ZONE_BR);
+        LocalTime inicio = pref.getHorarioSilenciosoInicio() != null ? pref.getHorarioSilenciosoInicio() : MADRUGADA_INICIO;
+        LocalTime fim = pref.getHorarioSilenciosoFim() != null ? pref.getHorarioSilenciosoFim() : MADRUGADA_FIM;
+        if (inicio.isBefore(fim)) {
+            return !agora.isBefore(inicio) && agora.isBefore(fim);
+        }
+        return !agora.isBefore(inicio) || agora.isBefore(fim);
+    }
+
+    private boolean tipoPermitido(UsuarioPreferenciaNotificacao pref, String tipo) {
+        if (tipo == null) return true;
+        if (tipo.startsWith("DEVOCIONAL")) {
+            return Boolean.TRUE.equals(pref.getDevocionalAtivo());
+        }
+        if (tipo.startsWith("VERSICULO") || tipo.startsWith("LEITURA_COLETIVA")) {
+            return Boolean.TRUE.equals(pref.getDevocionalAtivo()) || Boolean.TRUE.equals(pref.getAvisosGeraisAtivo());
+        }
+        if ("PUSH_TESTE".equals(tipo) || tipo.startsWith("ANIVERSARIO") || tipo.startsWith("CADASTRO")) {
+            return true;
+        }
+        // Eventos, escalas, cultos, departamentos e comunicados → "Avisos gerais"
+        return Boolean.TRUE.equals(pref.getAvisosGeraisAtivo());
+    }
+
+    private static Message mensagem(String token, NotificacaoUsuario notificacao) {
+        Map<String, String> data = new HashMap<>();
+        data.put("title", notificacao.getTitulo());
+        data.put("body", notificacao.getMensagem() != null ? notificacao.getMensagem() : "");
+        data.put("url", notificacao.getLink() != null ? notificacao.getLink() : "/");
+        data.put("notificationId", notificacao.getId() != null ? notificacao.getId().toString() : "");
+        data.put("tipo", notificacao.getTipo());
+        return Message.builder().setToken(token).putAllData(data).build();
+    }
+
+    private static String chave(Long userId, Long igrejaId) {
+        return userId + "|" + igrejaId;
+    }
+
+    private static String truncar(String valor, int max) {
+        if (valor == null) return null;
+        return valor.length() <= max ? valor : valor.substring(0, max);
+    }
+
+    private record Destino(Long pendenteId, Long dispositivoId) {}
+
+    private static final class EstadoPendente {
+
+        final Long pendenteId;
+        final Long notificacaoId;
+        final int tentativas;
+        boolean entregue;
+        boolean temporaria;
+        String erro;
+
+        EstadoPendente(Long pendenteId, Long notificacaoId, Integer tentativas) {
+            this.pendenteId = pendenteId;
+            this.notificacaoId = notificacaoId;
+            this.tentativas = Objects.requireNonNullElse(tentativas, 0);
+        }
+    }
+
+    /** Mensagens do bloco, alinhadas por índice com {@link #destinos}. */
+    private static final class Plano {
+
+        final List<Message> mensagens = new ArrayList<>();
+        final List<Destino> destinos = new ArrayList<>();
+        final Map<Long, EstadoPendente> pendentes = new HashMap<>();
+        final List<Long> semEnvio = new ArrayList<>();
+    }
+}
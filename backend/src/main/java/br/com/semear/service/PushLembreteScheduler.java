@@ -1,98 +1,43 @@
 package br.com.semear.service;
 
 import br.com.semear.config.PushNotificationProperties;
-import br.com.semear.domain.CultoRegistro;
-import br.com.semear.domain.CultoOcorrencia;
-import br.com.semear.domain.Escala;
-import br.com.semear.domain.EscalaItem;
-import br.com.semear.domain.Evento;
-import br.com.semear.domain.Igreja;
-import br.com.semear.domain.UsuarioPreferenciaNotificacao;
-import br.com.semear.domain.enumeration.StatusEvento;
-import br.com.semear.domain.enumeration.StatusEscalaPublicacao;
-import br.com.semear.repository.CultoOcorrenciaRepository;
-import br.com.semear.repository.CultoRegistroRepository;
-import br.com.semear.repository.EscalaItemRepository;
-import br.com.semear.repository.EscalaRepository;
-import br.com.semear.repository.EventoRepository;
-import br.com.semear.repository.IgrejaRepository;
-import br.com.semear.repository.UserRepository;
-import br.com.semear.repository.UsuarioPreferenciaNotificacaoRepository;
-import br.com.semear.domain.User;
-import br.com.semear.service.dto.NotificacaoPayloadDTO;
-import br.com.semear.service.util.CultoLembreteUtils;
-import br.com.semear.service.util.CultoRecorrenciaUtils;
-import br.com.semear.service.util.EscalaNotificacaoUtils;
-import br.com.semear.service.util.PlanoLeituraColetivoUtils;
-import br.com.semear.service.util.PlanoLeituraColetivoUtils.LeituraDoDia;
-import br.com.semear.service.util.VersiculoDoDiaUtils;
-import br.com.semear.service.util.VersiculoDoDiaUtils.Versiculo;
+import br.com.semear.service.lembrete.PlanejadorLembretes;
+import br.com.semear.service.notificacao.EnvioNotificacao;
+import br.com.semear.service.notificacao.ResultadoEnvio;
+import java.time.DayOfWeek;
 import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAdjusters;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
-import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Jobs dos lembretes periódicos. Cada job pede ao {@link PlanejadorLembretes} os envios de todas as igrejas e
+ * entrega o lote inteiro a {@link NotificacaoEnvioService#enviarLote}.
+ */
 @Component
 public class PushLembreteScheduler {
 
     private static final Logger LOG = LoggerFactory.getLogger(PushLembreteScheduler.class);
     private static final ZoneId ZONE_BR = ZoneId.of("America/Sao_Paulo");
-    private static final DateTimeFormatter HORA_FMT = DateTimeFormatter.ofPattern("HH:mm", Locale.forLanguageTag("pt-BR"));
 
     private final PushNotificationProperties pushProperties;
     private final NotificacaoEnvioService notificacaoEnvioService;
-    private final EventoRepository eventoRepository;
-    private final EscalaRepository escalaRepository;
-    private final EscalaItemRepository escalaItemRepository;
-    private final IgrejaRepository igrejaRepository;
-    private final UsuarioPreferenciaNotificacaoRepository preferenciaRepository;
-    private final NotificacaoProgramadaService notificacaoProgramadaService;
-    private final UserRepository userRepository;
-    private final CultoRegistroRepository cultoRegistroRepository;
-    private final CultoOcorrenciaRepository cultoOcorrenciaRepository;
+    private final PlanejadorLembretes planejador;
 
     public PushLembreteScheduler(
         PushNotificationProperties pushProperties,
         NotificacaoEnvioService notificacaoEnvioService,
-        EventoRepository eventoRepository,
-        EscalaRepository escalaRepository,
-        EscalaItemRepository escalaItemRepository,
-        IgrejaRepository igrejaRepository,
-        UsuarioPreferenciaNotificacaoRepository preferenciaRepository,
-        NotificacaoProgramadaService notificacaoProgramadaService,
-        UserRepository userRepository,
-        CultoRegistroRepository cultoRegistroRepository,
-        CultoOcorrenciaRepository cultoOcorrenciaRepository
+        PlanejadorLembretes planejador
     ) {
         this.pushProperties = pushProperties;
         this.notificacaoEnvioService = notificacaoEnvioService;
-        this.eventoRepository = eventoRepository;
-        this.escalaRepository = escalaRepository;
-        this.escalaItemRepository = escalaItemRepository;
-        this.igrejaRepository = igrejaRepository;
-        this.preferenciaRepository = preferenciaRepository;
-        this.notificacaoProgramadaService = notificacaoProgramadaService;
-        this.userRepository = userRepository;
-        this.cultoRegistroRepository = cultoRegistroRepository;
-        this.cultoOcorrenciaRepository = cultoOcorrenciaRepository;
-    }
-
-    /** Lembretes configurados por evento — a cada hora (independente do flag push). */
-    @Scheduled(cron = "0 0 * * * ?", zone = "America/Sao_Paulo")
-    @Transactional
-    public void processarNotificacoesAgendadas() {
-        notificacaoProgramadaService.processarAgendamentosPendentes();
+        this.planejador = planejador;
     }
 
     /** Parabéns personalizado no dia do aniversário — 08:30. */
@@ -103,41 +48,7 @@ public class PushLembreteScheduler {
             return;
         }
         LocalDate hoje = LocalDate.now(ZONE_BR);
-        int enviados = 0;
-        for (Igreja igreja : igrejaRepository.findAll()) {
-            List<User> membros = userRepository.findAllByIgrejaIdAndBirthDateIsNotNullAndActivatedIsTrue(igreja.getId());
-            for (User user : membros) {
-                if (user.getBirthDate() == null) {
-                    continue;
-                }
-                if (
-                    user.getBirthDate().getMonthValue() != hoje.getMonthValue() ||
-                    user.getBirthDate().getDayOfMonth() != hoje.getDayOfMonth()
-                ) {
-                    continue;
-                }
-                String nome = montarPrimeiroNome(user);
-                NotificacaoPayloadDTO payload = new NotificacaoPayloadDTO();
-                payload.setIgrejaId(igreja.getId());
-                payload.setTipo("ANIVERSARIO");
-                payload.setEntidadeTipo("USUARIO");
-                payload.setEntidadeId(user.getId());
-                payload.setTitulo("Feliz aniversário! 🎉");
-                payload.setMensagem("Parabéns, " + nome + "! Que Deus abençoe ricamente este novo ano de vida.");
-                payload.setRotaDestino("/aniversariantes");
-                payload.setRegistrarDeduplicacao(true);
-                notificacaoEnvioService.enviarParaUsuario(user.getId(), payload);
-                enviados++;
-            }
-        }
-        LOG.info("Job aniversários concluído ({}) | {} notificação(ões)", hoje, enviados);
-    }
-
-    private static String montarPrimeiroNome(User user) {
-        if (user.getFirstName() != null && !user.getFirstName().isBlank()) {
-            return user.getFirstName().trim();
-        }
-        return "irmão(ã)";
+        enviar("aniversários (" + hoje + ")", planejador.aniversarios(hoje));
     }
 
     /** Eventos de amanhã — 08:00 */
@@ -146,7 +57,7 @@ public class PushLembreteScheduler {
     public void lembreteEventosAmanha() {
         if (!pushProperties.isEnabled()) return;
         LocalDate amanha = LocalDate.now(ZONE_BR).plusDays(1);
-        executarLembreteEventos(amanha, "EVENTO_LEMBRETE_AMANHA", "Evento amanhã");
+        enviar("EVENTO_LEMBRETE_AMANHA (" + amanha + ")", planejador.eventos(amanha, "EVENTO_LEMBRETE_AMANHA", "Evento amanhã"));
     }
 
     /** Eventos de hoje — 08:00 */
@@ -155,7 +66,7 @@ public class PushLembreteScheduler {
     public void lembreteEventosHoje() {
         if (!pushProperties.isEnabled()) return;
         LocalDate hoje = LocalDate.now(ZONE_BR);
-        executarLembreteEventos(hoje, "EVENTO_LEMBRETE_HOJE", "Evento hoje");
+        enviar("EVENTO_LEMBRETE_HOJE (" + hoje + ")", planejador.eventos(hoje, "EVENTO_LEMBRETE_HOJE", "Evento hoje"));
     }
 
     /** Escala semanal — domingo 18:00 (somente dentro da janela de 15 dias) */
@@ -163,9 +74,13 @@ public class PushLembreteScheduler {
     @Transactional
     public void lembreteEscalaSemanal() {
         if (!pushProperties.isEnabled()) return;
-        LocalDate inicioSemana = LocalDate.now(ZONE_BR).with(TemporalAdjusters.next(java.time.DayOfWeek.MONDAY));
+        LocalDate hoje = LocalDate.now(ZONE_BR);
+        LocalDate inicioSemana = hoje.with(TemporalAdjusters.next(DayOfWeek.MONDAY));
         LocalDate fimSemana = inicioSemana.plusDays(6);
-        executarLembreteEscalasPeriodo(inicioSemana, fimSemana, "ESCALA_LEMBRETE_SEMANA", "Sua escala na próxima semana");
+        enviar(
+            "ESCALA_LEMBRETE_SEMANA (" + inicioSemana + " a " + fimSemana + ")",
+            planejador.escalas(inicioSemana, fimSemana, hoje, "ESCALA_LEMBRETE_SEMANA", "Sua escala na próxima semana")
+        );
     }
 
     /** Escala de amanhã — 18:00 */
@@ -173,8 +88,12 @@ public class PushLembreteScheduler {
     @Transactional
     public void lembreteEscalaAmanha() {
         if (!pushProperties.isEnabled()) return;
-        LocalDate amanha = LocalDate.now(ZONE_BR).plusDays(1);
-        executarLembreteEscalasPeriodo(amanha, amanha, "ESCALA_LEMBRETE_AMANHA", "Escala amanhã");
+        LocalDate hoje = LocalDate.now(ZONE_BR);
+        LocalDate amanha = hoje.plusDays(1);
+        enviar(
+            "ESCALA_LEMBRETE_AMANHA (" + amanha + ")",
+            planejador.escalas(amanha, amanha, hoje, "ESCALA_LEMBRETE_AMANHA", "Escala amanhã")
+        );
     }
 
     /** Devocional — 06:30 (somente quem ativou) */
@@ -183,28 +102,7 @@ public class PushLembreteScheduler {
     public void lembreteDevocional() {
         if (!pushProperties.isEnabled()) return;
         LocalDate hoje = LocalDate.now(ZONE_BR);
-        for (Igreja igreja : igrejaRepository.findAll()) {
-            List<br.com.semear.domain.UsuarioPreferenciaNotificacao> prefs =
-                preferenciaRepository.findByIgrejaIdAndDevocionalAtivoTrueAndPushAtivoTrue(igreja.getId());
-            for (var pref : prefs) {
-                if (pref.getUser() == null) continue;
-                NotificacaoPayloadDTO payload = new NotificacaoPayloadDTO();
-                payload.setIgrejaId(igreja.getId());
-                payload.setTipo("DEVOCIONAL_DIARIO");
-                payload.setEntidadeTipo("DEVOCIONAL");
-                payload.setTitulo("Devocional de hoje");
-                payload.setMensagem("Reserve um momento para a leitura devocional de hoje.");
-                payload.setRotaDestino("/devocionais");
-                payload.setRegistrarDeduplicacao(true);
-                payload.setChaveDeduplicacao(
-                    NotificacaoEnvioService.montarChaveDeduplicacao(
-                        "DEVOCIONAL_DIARIO", "DEVOCIONAL", null, pref.getUser().getId(), hoje
-                    )
-                );
-                notificacaoEnvioService.enviarParaUsuario(pref.getUser().getId(), payload);
-            }
-        }
-        LOG.debug("Job devocional executado para {}", hoje);
+        enviar("devocional (" + hoje + ")", planejador.devocional(hoje));
     }
 
     /** Versículo do dia + leitura coletiva — 07:00 BRT. */
@@ -223,118 +121,14 @@ public class PushLembreteScheduler {
     @Transactional
     public void executarDisparoVersiculoDoDia() {
         LocalDate hoje = LocalDate.now(ZONE_BR);
-        Versiculo versiculo = VersiculoDoDiaUtils.obterVersiculoDoDia(hoje);
-        String titulo = "Versículo do dia — " + versiculo.referencia();
-        String mensagem = VersiculoDoDiaUtils.truncarTexto(versiculo.texto(), 200);
-
-        LOG.info("Iniciando job versículo do dia ({}) — \"{}\"", hoje, versiculo.referencia());
-
-        int totalIgrejas = 0;
-        int totalUsuarios = 0;
-        for (Igreja igreja : igrejaRepository.findAll()) {
-            List<br.com.semear.domain.UsuarioPreferenciaNotificacao> prefs =
-                preferenciaRepository.findByIgrejaIdAndPushAtivoTrue(igreja.getId());
-            if (prefs.isEmpty()) {
-                continue;
-            }
-            List<Long> usuarioIds = new ArrayList<>();
-            for (var pref : prefs) {
-                if (pref.getUser() != null && pref.getUser().getId() != null) {
-                    usuarioIds.add(pref.getUser().getId());
-                }
-            }
-            if (usuarioIds.isEmpty()) {
-                continue;
-            }
-
-            NotificacaoPayloadDTO payload = new NotificacaoPayloadDTO();
-            payload.setIgrejaId(igreja.getId());
-            payload.setTipo("VERSICULO_DIA");
-            payload.setEntidadeTipo("VERSICULO");
-            payload.setTitulo(titulo);
-            payload.setMensagem(mensagem);
-            payload.setRotaDestino("/");
-            payload.setRegistrarDeduplicacao(true);
-            payload.setContextoDestinatarios(
-                "usuários com push ativo — versículo do dia (" + usuarioIds.size() + " usuário(s))"
-            );
-            notificacaoEnvioService.enviarParaUsuarios(usuarioIds, payload);
-
-            totalIgrejas++;
-            totalUsuarios += usuarioIds.size();
-        }
-
-        LOG.info(
-            "Job versículo do dia concluído ({}) | {} igreja(s) | {} usuário(s) elegível(eis) | referência: {}",
-            hoje,
-            totalIgrejas,
-            totalUsuarios,
-            versiculo.referencia()
-        );
+        enviar("versículo do dia (" + hoje + ")", planejador.versiculoDoDia(hoje));
     }
 
     /** Leitura coletiva da igreja — somente quando {@code dataInicioPlanoLeitura} está configurada e já iniciou. */
     @Transactional
     public void executarDisparoLeituraColetiva() {
         LocalDate hoje = LocalDate.now(ZONE_BR);
-        int totalIgrejas = 0;
-        int totalUsuarios = 0;
-
-        for (Igreja igreja : igrejaRepository.findAll()) {
-            if (igreja.getDataInicioPlanoLeitura() == null) {
-                continue;
-            }
-            var leituraOpt = PlanoLeituraColetivoUtils.obterLeituraDoDia(igreja.getDataInicioPlanoLeitura(), hoje);
-            if (leituraOpt.isEmpty()) {
-                continue;
-            }
-            LeituraDoDia leitura = leituraOpt.get();
-            List<br.com.semear.domain.UsuarioPreferenciaNotificacao> prefs =
-                preferenciaRepository.findByIgrejaIdAndPushAtivoTrue(igreja.getId());
-            if (prefs.isEmpty()) {
-                continue;
-            }
-
-            List<Long> usuarioIds = new ArrayList<>();
-            for (var pref : prefs) {
-                if (pref.getUser() != null && pref.getUser().getId() != null) {
-                    usuarioIds.add(pref.getUser().getId());
-                }
-            }
-            if (usuarioIds.isEmpty()) {
-                continue;
-            }
-
-            String mensagem = PlanoLeituraColetivoUtils.formatarMensagem(leitura);
-            NotificacaoPayloadDTO payload = new NotificacaoPayloadDTO();
-            payload.setIgrejaId(igreja.getId());
-            payload.setTipo("LEITURA_COLETIVA");
-            payload.setEntidadeTipo("PLANO_LEITURA");
-            payload.setTitulo("Leitura bíblica de hoje");
-            payload.setMensagem(mensagem);
-            payload.setRotaDestino("/");
-            payload.setRegistrarDeduplicacao(true);
-            payload.setContextoDestinatarios(
-                "plano coletivo — dia " + leitura.numeroDia() + " (" + usuarioIds.size() + " usuário(s))"
-            );
-            notificacaoEnvioService.enviarParaUsuarios(usuarioIds, payload);
-
-            totalIgrejas++;
-            totalUsuarios += usuarioIds.size();
-            LOG.info(
-                "Leitura coletiva enviada — igreja {} | dia {} | {}",
-                igreja.getId(),
-                leitura.numeroDia(),
-                mensagem
-            );
-        }
-
-        LOG.info(
-            "Job leitura coletiva concluído ({}) | {} igreja(s) | {} usuário(s)",
-            hoje,
-            totalIgrejas,
-            totalUsuarios
-        );
+        enviar("leitura coletiva (" + hoje + ")", planejador.leituraColetiva(hoje));
     }
 
     /** Lembrete de culto: algumas horas antes — a cada 15 minutos. */
@@ -344,151 +138,21 @@ public class PushLembreteScheduler {
         if (!pushProperties.isEnabled()) {
             return;
         }
-        Instant agora = Instant.now();
-        LocalDate hoje = LocalDate.now(ZONE_BR);
-        LocalDate amanha = hoje.plusDays(1);
-        int enviados = 0;
-
-        for (Igreja igreja : igrejaRepository.findAll()) {
-            List<UsuarioPreferenciaNotificacao> prefs =
-                preferenciaRepository.findByIgrejaIdAndPushAtivoTrueAndAvisosGeraisAtivoTrue(igreja.getId());
-            if (prefs.isEmpty()) {
-                continue;
-            }
-            List<Long> usuarioIds = prefs
-                .stream()
-                .map(p -> p.getUser())
-                .filter(u -> u != null && u.getId() != null && u.isActivated())
-                .map(User::getId)
-                .distinct()
-                .toList();
-            if (usuarioIds.isEmpty()) {
-                continue;
-            }
-
-            List<CultoRegistro> cultos = cultoRegistroRepository.findByIgrejaIdOrderByNomeAsc(igreja.getId());
-            for (CultoRegistro culto : cultos) {
-                if (!Boolean.TRUE.equals(culto.getAtivo())) {
-                    continue;
-                }
-                for (LocalDate data : List.of(hoje, amanha)) {
-                    if (!CultoRecorrenciaUtils.cultoOcorreNaData(culto, data)) {
-                        continue;
-                    }
-                    Optional<CultoOcorrencia> ocOpt =
-                        cultoOcorrenciaRepository.findByCultoRegistroIdAndDataEvento(culto.getId(), data);
-                    if (ocOpt.isPresent() && Boolean.TRUE.equals(ocOpt.get().getCancelado())) {
-                        continue;
-                    }
-                    LocalTime horario = CultoLembreteUtils.parseHorario(culto.getHorario());
-                    if (horario == null) {
-                        continue;
-                    }
-                    if (!CultoLembreteUtils.estaNaJanelaLembretePadrao(agora, data, horario)) {
-                        continue;
-                    }
-
-                    String horaFmt = HORA_FMT.format(horario);
-                    NotificacaoPayloadDTO payload = new NotificacaoPayloadDTO();
-                    payload.setIgrejaId(igreja.getId());
-                    payload.setTipo("CULTO_LEMBRETE");
-                    payload.setEntidadeTipo("CULTO");
-                    payload.setEntidadeId(culto.getId());
-                    payload.setTitulo("Culto em breve");
-                    payload.setMensagem(
-                        "\"" +
-                        culto.getNome() +
-                        "\" começa às " +
-                        horaFmt +
-                        " (em cerca de " +
-                        CultoLembreteUtils.HORAS_ANTES_PADRAO +
-                        " horas)."
-                    );
-                    payload.setRotaDestino("/cultos");
-                    payload.setRespeitarHorarioSilencioso(false);
-                    payload.setRegistrarDeduplicacao(true);
-                    payload.setContextoDestinatarios("lembrete de culto — " + usuarioIds.size() + " usuário(s)");
-                    notificacaoEnvioService.enviarParaUsuarios(usuarioIds, payload);
-                    enviados += usuarioIds.size();
-                }
-            }
-        }
-        if (enviados > 0) {
-            LOG.info("Job lembrete de cultos concluído | {} notificação(ões)", enviados);
-        }
-    }
-
-    private void executarLembreteEventos(LocalDate data, String tipo, String tituloPrefixo) {
-        Instant inicio = data.atStartOfDay(ZONE_BR).toInstant();
-        Instant fim = data.plusDays(1).atStartOfDay(ZONE_BR).toInstant();
-        for (Igreja igreja : igrejaRepository.findAll()) {
-            List<Evento> eventos = eventoRepository.buscarComFiltros(
-                igreja.getId(),
-                null,
-                null,
-                StatusEvento.PUBLICADO,
-                null,
-                inicio.minusSeconds(1),
-                fim
-            );
-            for (Evento evento : eventos) {
-                if (evento.getDataInicio() == null) continue;
-                if (notificacaoProgramadaService.possuiConfigAtiva(evento.getConfigNotificacao())) {
-                    continue;
-                }
-                String hora = HORA_FMT.format(evento.getDataInicio().atZone(ZONE_BR));
-                NotificacaoPayloadDTO payload = new NotificacaoPayloadDTO();
-                payload.setIgrejaId(igreja.getId());
-                payload.setTipo(tipo);
-                payload.setEntidadeTipo("EVENTO");
-                payload.setEntidadeId(evento.getId());
-                payload.setTitulo(tituloPrefixo);
-                payload.setMensagem("\"" + evento.getTitulo() + "\" às " + hora + ".");
-                payload.setRotaDestino("/eventos?eventoId=" + evento.getId());
-                payload.setRegistrarDeduplicacao(true);
-                notificacaoEnvioService.enviarParaInscritosEvento(evento.getId(), payload);
-            }
+        List<EnvioNotificacao> envios = planejador.cultosProximos(Instant.now());
+        if (!envios.isEmpty()) {
+            enviar("lembrete de cultos", envios);
         }
-        LOG.debug("Job {} executado para data {}", tipo, data);
     }
 
-    private void executarLembreteEscalasPeriodo(LocalDate inicio, LocalDate fim, String tipo, String titulo) {
-        Instant instanteInicio = inicio.atStartOfDay(ZONE_BR).toInstant();
-        Instant instanteFim = fim.plusDays(1).atStartOfDay(ZONE_BR).toInstant();
-        LocalDate hoje = LocalDate.now(ZONE_BR);
-        for (Igreja igreja : igrejaRepository.findAll()) {
-            List<Escala> escalas = escalaRepository.findByIgrejaIdAndStatusOrderByDataEventoDesc(igreja.getId(), StatusEscalaPublicacao.PUBLICADA);
-            for (Escala escala : escalas) {
-                if (!EscalaNotificacaoUtils.escalaElegivelParaNotificacao(escala)) {
-                    continue;
-                }
-                if (!EscalaNotificacaoUtils.escalaDentroDaJanelaLembretesPeriodicos(escala, hoje)) {
-                    continue;
-                }
-                if (escala.getDataEvento() == null) continue;
-                Instant dataEscala = escala.getDataEvento();
-                if (dataEscala.isBefore(instanteInicio) || !dataEscala.isBefore(instanteFim)) {
-                    continue;
-                }
-                List<EscalaItem> itens = escalaItemRepository.findByEscalaId(escala.getId());
-                for (EscalaItem item : itens) {
-                    if (item.getUser() == null || !item.getUser().isActivated()) continue;
-                    NotificacaoPayloadDTO payload = new NotificacaoPayloadDTO();
-                    payload.setIgrejaId(igreja.getId());
-                    payload.setTipo(tipo);
-                    payload.setEntidadeTipo("ESCALA");
-                    payload.setEntidadeId(escala.getId());
-                    payload.setTitulo(titulo);
-                    payload.setMensagem(EscalaNotificacaoUtils.montarDescricao(escala));
-                    payload.setRotaDestino(EscalaNotificacaoUtils.montarRota(escala, item));
-                    payload.setRegistrarDeduplicacao(true);
-                    payload.setChaveDeduplicacao(
-                        NotificacaoEnvioService.montarChaveDeduplicacao(tipo, "ESCALA", escala.getId(), item.getUser().getId(), inicio)
-                    );
-                    notificacaoEnvioService.enviarParaUsuario(item.getUser().getId(), payload);
-                }
-            }
-        }
-        LOG.debug("Job {} executado de {} a {}", tipo, inicio, fim);
+    private void enviar(String job, List<EnvioNotificacao> envios) {
+        long inicio = System.currentTimeMillis();
+        ResultadoEnvio resultado = notificacaoEnvioService.enviarLote(envios);
+        LOG.info(
+            "Job {} concluído | {} notificação(ões) | {} já enviada(s) | {} ms",
+            job,
+            resultado.criadas(),
+            resultado.ignoradosDedup(),
+            System.currentTimeMillis() - inicio
+        );
     }
 }
@@ -16,14 +16,11 @@ import br.com.semear.service.dto.UsuarioPreferenciaNotificacaoDTO;
 import br.com.semear.service.util.VersiculoDoDiaUtils;
 import br.com.semear.service.util.VersiculoDoDiaUtils.Versiculo;
 import br.com.semear.web.rest.errors.BadRequestAlertException;
-import com.google.firebase.FirebaseApp;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
+import br.com.semear.service.push.FcmGateway;
+import br.com.semear.service.push.ResultadoFcm;
 import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.MessagingErrorCode;
 import java.time.Instant;
-import java.time.LocalTime;
-import java.time.ZoneId;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -37,28 +34,31 @@ import org.springframework.transaction.annotation.Transactional;
 public class PushNotificationService {
 
     private static final Logger LOG = LoggerFactory.getLogger(PushNotificationService.class);
-    private static final ZoneId ZONE_BR = ZoneId.of("America/Sao_Paulo");
-    private static final LocalTime MADRUGADA_INICIO = LocalTime.of(22, 0);
-    private static final LocalTime MADRUGADA_FIM = LocalTime.of(6, 0);
 
     private final PushNotificationProperties pushProperties;
     private final UsuarioDispositivoPushRepository dispositivoRepository;
     private final UsuarioPreferenciaNotificacaoRepository preferenciaRepository;
     private final NotificacaoUsuarioRepository notificacaoUsuarioRepository;
     private final TenantService tenantService;
+    private final PushDespachoService pushDespachoService;
+    private final FcmGateway fcmGateway;
 
     public PushNotificationService(
         PushNotificationProperties pushProperties,
         UsuarioDispositivoPushRepository dispositivoRepository,
         UsuarioPreferenciaNotificacaoRepository preferenciaRepository,
         NotificacaoUsuarioRepository notificacaoUsuarioRepository,
-        TenantService tenantService
+        TenantService tenantService,
+        PushDespachoService pushDespachoService,
+        FcmGateway fcmGateway
     ) {
         this.pushProperties = pushProperties;
         this.dispositivoRepository = dispositivoRepository;
         this.preferenciaRepository = preferenciaRepository;
         this.notificacaoUsuarioRepository = notificacaoUsuarioRepository;
         this.tenantService = tenantService;
+        this.pushDespachoService = pushDespachoService;
+        this.fcmGateway = fcmGateway;
     }
 
     @Transactional(readOnly = true)
@@ -92,21 +92,33 @@ public class PushNotificationService {
         boolean algumEnviado = false;
         String ultimoErro = null;
 
-        for (UsuarioDispositivoPush dispositivo : dispositivos) {
-            try {
-                enviarFcmDireto(dispositivo.getToken(), titulo, corpo, "/esqueci-senha", "RECUPERACAO_SENHA");
+        List<Message> mensagens = dispositivos
+            .stream()
+            .map(d -> mensagemDireta(d.getToken(), titulo, corpo, "/esqueci-senha", "RECUPERACAO_SENHA"))
+            .toList();
+        List<ResultadoFcm> resultados;
+        try {
+            resultados = fcmGateway.enviarLote(mensagens);
+        } catch (Exception e) {
+            LOG.warn("[PUSH] Falha ao enviar código de recuperação — userId={}, erro={}", user.getId(), e.getMessage());
+            resultados = Collections.nCopies(mensagens.size(), ResultadoFcm.falha(null, e.getMessage()));
+        }
+        for (int i = 0; i < dispositivos.size(); i++) {
+            UsuarioDispositivoPush dispositivo = dispositivos.get(i);
+            ResultadoFcm resultado = resultados.get(i);
+            if (resultado.entregue()) {
                 dispositivo.setUltimoUso(Instant.now());
                 dispositivo.setAtualizadoEm(Instant.now());
                 algumEnviado = true;
-            } catch (FirebaseMessagingException e) {
-                ultimoErro = e.getMessage();
-                if (tokenInvalido(e)) {
-                    dispositivo.setAtivo(false);
-                    dispositivo.setDesativadoEm(Instant.now());
-                    dispositivo.setAtualizadoEm(Instant.now());
-                }
-                LOG.warn("[PUSH] Falha ao enviar código de recuperação — userId={}, erro={}", user.getId(), e.getMessage());
+                continue;
+            }
+            ultimoErro = resultado.erro() != null ? resultado.erro() : "falha no envio";
+            if (resultado.situacao() == ResultadoFcm.Situacao.TOKEN_INVALIDO) {
+                dispositivo.setAtivo(false);
+                dispositivo.setDesativadoEm(Instant.now());
+                dispositivo.setAtualizadoEm(Instant.now());
             }
+            LOG.warn("[PUSH] Falha ao enviar código de recuperação — userId={}, erro={}", user.getId(), resultado.erro());
         }
         dispositivoRepository.saveAll(dispositivos);
 
@@ -293,80 +305,6 @@ public class PushNotificationService {
         return toDto(pref, dispositivoRegistrado);
     }
 
-    /**
-     * Tenta enviar push para um usuário com base em notificação interna já persistida.
-     * Retorna {@code true} se pelo menos um dispositivo recebeu. Falhas não propagam.
-     */
-    public boolean tentarEnviarPush(NotificacaoUsuario notificacao, User user) {
-        return tentarEnviarPush(notificacao, user, true);
-    }
-
-    public boolean tentarEnviarPush(NotificacaoUsuario notificacao, User user, boolean respeitarHorarioSilencioso) {
-        if (!pushProperties.isOperational() || notificacao == null || user == null) {
-            return false;
-        }
-        if (Boolean.TRUE.equals(notificacao.getEnviadaPush())) {
-            return false;
-        }
-        UsuarioPreferenciaNotificacao pref = preferenciaRepository
-            .findByUserIdAndIgrejaId(user.getId(), notificacao.getIgreja().getId())
-            .orElse(null);
-        if (!podeEnviarPush(pref, notificacao.getTipo(), respeitarHorarioSilencioso)) {
-            LOG.debug(
-                "Push não enviado para usuário {} (tipo={}): preferência ou horário silencioso",
-                user.getId(),
-                notificacao.getTipo()
-            );
-            return false;
-        }
-        List<UsuarioDispositivoPush> dispositivos = dispositivoRepository.findByUserIdAndIgrejaIdAndAtivoTrue(
-            user.getId(),
-            notificacao.getIgreja().getId()
-        );
-        if (dispositivos.isEmpty()) {
-            LOG.debug("Push não enviado para usuário {} (tipo={}): sem dispositivo registrado", user.getId(), notificacao.getTipo());
-            return false;
-        }
-        boolean algumEnviado = false;
-        String ultimoErro = null;
-        for (UsuarioDispositivoPush dispositivo : dispositivos) {
-            try {
-                enviarFcm(dispositivo.getToken(), notificacao);
-                dispositivo.setUltimoUso(Instant.now());
-                dispositivo.setAtualizadoEm(Instant.now());
-                algumEnviado = true;
-            } catch (FirebaseMessagingException e) {
-                ultimoErro = e.getMessage();
-                if (tokenInvalido(e)) {
-                    dispositivo.setAtivo(false);
-                    dispositivo.setDesativadoEm(Instant.now());
-                    dispositivo.setAtualizadoEm(Instant.now());
-                    LOG.info("Token push inválido desativado para usuário {}", user.getId());
-                }
-                LOG.warn("[PUSH] FCM falhou — userId={}, dispositivoId={}, erro={}", user.getId(), dispositivo.getId(), e.getMessage());
-            }
-        }
-        dispositivoRepository.saveAll(dispositivos);
-        if (algumEnviado) {
-            notificacao.setEnviadaPush(true);
-            notificacao.setDataEnvioPush(Instant.now());
-            notificacao.setErroPush(null);
-            LOG.info(
-                "[PUSH] FCM enviado — userId={}, tipo={}, titulo=\"{}\"",
-                user.getId(),
-                notificacao.getTipo(),
-                notificacao.getTitulo()
-            );
-        } else if (ultimoErro != null) {
-            notificacao.setErroPush(truncar(ultimoErro, 300));
-            LOG.warn("[PUSH] FCM não entregue — userId={}, tipo={}, erro={}", user.getId(), notificacao.getTipo(), ultimoErro);
-        } else {
-            LOG.warn("[PUSH] FCM não entregue — userId={}, tipo={}, motivo=sem dispositivo ou preferência", user.getId(), notificacao.getTipo());
-        }
-        notificacaoUsuarioRepository.save(notificacao);
-        return algumEnviado;
-    }
-
     public void enviarTesteParaUsuarioAtual() {
         if (!pushProperties.isTesteEndpointEnabled()) {
             throw new BadRequestAlertException("Endpoint de teste desabilitado", "push", "testedesabilitado");
@@ -383,7 +321,7 @@ public class PushNotificationService {
         notificacao.setLida(false);
         notificacao.setCriadoEm(Instant.now());
         notificacaoUsuarioRepository.save(notificacao);
-        tentarEnviarPush(notificacao, user);
+        pushDespachoService.enfileirar(List.of(notificacao), true);
     }
 
     /** Dispara o versículo do dia apenas para o usuário logado (dev/teste). */
@@ -404,90 +342,20 @@ public class PushNotificationService {
         notificacao.setLida(false);
         notificacao.setCriadoEm(Instant.now());
         notificacaoUsuarioRepository.save(notificacao);
-        tentarEnviarPush(notificacao, user);
+        pushDespachoService.enfileirar(List.of(notificacao), true);
     }
 
     public boolean podeEnviarPush(UsuarioPreferenciaNotificacao pref, String tipo, boolean respeitarHorarioSilencioso) {
-        if (!pushProperties.isOperational()) {
-            return false;
-        }
-        if (pref == null || !Boolean.TRUE.equals(pref.getPushAtivo())) {
-            return false;
-        }
-        if (respeitarHorarioSilencioso && emHorarioSilencioso(pref)) {
-            return false;
-        }
-        return tipoPermitido(pref, tipo);
+        return pushDespachoService.podeEnviarPush(pref, tipo, respeitarHorarioSilencioso);
     }
 
-    private boolean emHorarioSilencioso(UsuarioPreferenciaNotificacao pref) {
-        LocalTime agora = LocalTime.now(ZONE_BR);
-        LocalTime inicio = pref.getHorarioSilenciosoInicio() != null ? pref.getHorarioSilenciosoInicio() : MADRUGADA_INICIO;
-        LocalTime fim = pref.getHorarioSilenciosoFim() != null ? pref.getHorarioSilenciosoFim() : MADRUGADA_FIM;
-        if (inicio.isBefore(fim)) {
-            return !agora.isBefore(inicio) && agora.isBefore(fim);
-        }
-        return !agora.isBefore(inicio) || agora.isBefore(fim);
-    }
-
-    private boolean tipoPermitido(UsuarioPreferenciaNotificacao pref, String tipo) {
-        if (tipo == null) return true;
-        if (tipo.startsWith("DEVOCIONAL")) {
-            return Boolean.TRUE.equals(pref.getDevocionalAtivo());
-        }
-        if (tipo.startsWith("VERSICULO") || tipo.startsWith("LEITURA_COLETIVA")) {
-            return Boolean.TRUE.equals(pref.getDevocionalAtivo()) || Boolean.TRUE.equals(pref.getAvisosGeraisAtivo());
-        }
-        if ("PUSH_TESTE".equals(tipo) || tipo.startsWith("ANIVERSARIO") || tipo.startsWith("CADASTRO")) {
-            return true;
-        }
-        // Eventos, escalas, cultos, departamentos e comunicados → "Avisos gerais"
-        if (
-            tipo.startsWith("EVENTO") ||
-            tipo.startsWith("ESCALA") ||
-            tipo.startsWith("CULTO") ||
-            tipo.startsWith("DEPARTAMENTO") ||
-            tipo.startsWith("COMUNICADO") ||
-            tipo.startsWith("AVISO")
-        ) {
-            return Boolean.TRUE.equals(pref.getAvisosGeraisAtivo());
-        }
-        return Boolean.TRUE.equals(pref.getAvisosGeraisAtivo());
-    }
-
-    private void enviarFcm(String token, NotificacaoUsuario notificacao) throws FirebaseMessagingException {
-        if (FirebaseApp.getApps().isEmpty()) {
-            throw new IllegalStateException("Firebase não inicializado");
-        }
-        Map<String, String> data = new HashMap<>();
-        data.put("title", notificacao.getTitulo());
-        data.put("body", notificacao.getMensagem() != null ? notificacao.getMensagem() : "");
-        data.put("url", notificacao.getLink() != null ? notificacao.getLink() : "/");
-        data.put("notificationId", notificacao.getId() != null ? notificacao.getId().toString() : "");
-        data.put("tipo", notificacao.getTipo());
-
-        Message message = Message.builder().setToken(token).putAllData(data).build();
-        FirebaseMessaging.getInstance().send(message);
-    }
-
-    private void enviarFcmDireto(String token, String titulo, String corpo, String url, String tipo)
-        throws FirebaseMessagingException {
-        if (FirebaseApp.getApps().isEmpty()) {
-            throw new IllegalStateException("Firebase não inicializado");
-        }
+    private Message mensagemDireta(String token, String titulo, String corpo, String url, String tipo) {
         Map<String, String> data = new HashMap<>();
         data.put("title", titulo);
         data.put("body", corpo);
         data.put("url", url != null ? url : "/");
         data.put("tipo", tipo != null ? tipo : "");
-
-        Message message = Message.builder().setToken(token).putAllData(data).build();
-        FirebaseMessaging.getInstance().send(message);
-    }
-
-    private boolean tokenInvalido(FirebaseMessagingException e) {
-        MessagingErrorCode code = e.getMessagingErrorCode();
-        return code == MessagingErrorCode.UNREGISTERED || code == MessagingErrorCode.INVALID_ARGUMENT;
+        return Message.builder().setToken(token).putAllData(data).build();
     }
 
     private UsuarioPreferenciaNotificacaoDTO dtoPreferenciasPadrao(boolean dispositivoRegistrado) {
@@ -0,0 +1,179 @@
+package br.com.semear.service;
+
+import br.com.semear.domain.Lancamento;
+import br.com.semear.domain.enumerations.TipoLancamento;
+import br.com.semear.repository.LancamentoRepository;
+import br.com.semear.repository.projection.TotalFinanceiroProjection;
+import br.com.semear.service.dto.TotalFinanceiroDTO;
+import br.com.semear.web.rest.errors.BadRequestAlertException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Totais do livro caixa a partir de {@code lancamento_resumo_mensal}, mantida a cada gravação de lançamento.
+ * <p>
+ * Relatórios e dashboard agregam no banco linhas por mês/tipo/categoria/centro de custo em vez de carregar os
+ * lançamentos; a listagem do livro é paginada por cursor (data, id), com custo constante em qualquer página.
+ */
+@Service
+@Transactional
+public class ResumoFinanceiroService {
+
+    public static final int TAMANHO_PAGINA_PADRAO = 100;
+    public static final int TAMANHO_PAGINA_MAXIMO = 500;
+
+    private static final LocalDate INICIO_LIVRO = LocalDate.of(1900, 1, 1);
+    private static final LocalDate FIM_LIVRO = LocalDate.of(9999, 12, 1);
+
+    public enum Agrupamento {
+        MES,
+        CATEGORIA,
+        CENTRO_CUSTO,
+    }
+
+    /** Os campos de um lançamento que definem sua linha no resumo mensal. */
+    public record LancamentoResumido(Long igrejaId, LocalDate mes, TipoLancamento tipo, String categoria, String centroCusto, BigDecimal valor) {
+        public static LancamentoResumido de(Lancamento l) {
+            return new LancamentoResumido(
+                l.getIgreja() != null ? l.getIgreja().getId() : null,
+                l.getDataLancamento() != null ? l.getDataLancamento().withDayOfMonth(1) : null,
+                l.getTipo(),
+                l.getCategoria(),
+                Objects.toString(l.getCentroCusto(), "").trim(),
+                l.getValor()
+            );
+        }
+
+        private boolean resumivel() {
+            return igrejaId != null && mes != null && tipo != null && categoria != null && valor != null;
+        }
+    }
+
+    /** Uma página do livro e o cursor da próxima ({@code null} na última). */
+    public record PaginaLancamentos(List<Lancamento> itens, String proximoCursor) {}
+
+    private final LancamentoRepository lancamentoRepository;
+
+    public ResumoFinanceiroService(LancamentoRepository lancamentoRepository) {
+        this.lancamentoRepository = lancamentoRepository;
+    }
+
+    public void registrar(LancamentoResumido lancamento) {
+        acumular(lancamento, 1);
+    }
+
+    public void estornar(LancamentoResumido lancamento) {
+        acumular(lancamento, -1);
+        if (lancamento.resumivel()) {
+            lancamentoRepository.removerResumosVazios(lancamento.igrejaId(), lancamento.mes());
+        }
+    }
+
+    /** Troca a contribuição antiga de um lançamento editado pela nova; sem efeito quando nada do resumo mudou. */
+    public void substituir(LancamentoResumido antes, LancamentoResumido depois) {
+        if (Objects.equals(antes, depois)) {
+            return;
+        }
+        estornar(antes);
+        registrar(depois);
+    }
+
+    @Transactional(readOnly = true)
+    public BigDecimal saldo(Long igrejaId, YearMonth inicio, YearMonth fim) {
+        return lancamentoRepository.saldoResumo(igrejaId, primeiroDia(inicio, INICIO_LIVRO), primeiroDia(fim, FIM_LIVRO));
+    }
+
+    /**
+     * Totais por agrupamento no intervalo de meses (ambos inclusivos; nulos = sem limite).
+     */
+    @Transactional(readOnly = true)
+    public List<TotalFinanceiroDTO> totais(Long igrejaId, Agrupamento agrupamento, YearMonth inicio, YearMonth fim) {
+        LocalDate de = primeiroDia(inicio, INICIO_LIVRO);
+        LocalDate ate = primeiroDia(fim, FIM_LIVRO);
+        List<TotalFinanceiroProjection> linhas =
+            switch (agrupamento) {
+                case MES -> lancamentoRepository.totaisPorMes(igrejaId, de, ate);
+                case CATEGORIA -> lancamentoRepository.totaisPorCategoria(igrejaId, de, ate);
+                case CENTRO_CUSTO -> lancamentoRepository.totaisPorCentroCusto(igrejaId, de, ate);
+            };
+        Map<String, TotalFinanceiroDTO> porChave = new LinkedHashMap<>();
+        for (TotalFinanceiroProjection linha : linhas) {
+            TotalFinanceiroDTO total = porChave.computeIfAbsent(linha.getChave(), TotalFinanceiroDTO::new);
+            BigDecimal valor = linha.getTotal() != null ? linha.getTotal() : BigDecimal.ZERO;
+            if (TipoLancamento.INCOME.name().equals(linha.getTipo())) {
+                total.setEntradas(total.getEntradas().add(valor));
+            } else {
+                total.setSaidas(total.getSaidas().add(valor));
+            }
+            total.setQuantidade(total.getQuantidade() + (linha.getQuantidade() != null ? linha.getQuantidade() : 0L));
+        }
+        return new ArrayList<>(porChave.values());
+    }
+
+    /**
+     * Página do livro caixa, do lançamento mais recente para o mais antigo.
+     *
+     * @param cursor {@code yyyy-MM-dd_id} do último lançamento da página anterior, ou nulo para a primeira.
+     */
+    @Transactional(readOnly = true)
+    public PaginaLancamentos pagina(Long igrejaId, TipoLancamento tipo, String cursor, Integer tamanho) {
+        int limite = tamanho == null ? TAMANHO_PAGINA_PADRAO : Math.max(1, Math.min(tamanho, TAMANHO_PAGINA_MAXIMO));
+        // Um a mais para saber se existe próxima página sem uma contagem.
+        Limit consulta = Limit.of(limite + 1);
+        List<Lancamento> itens;
+        if (cursor == null || cursor.isBlank()) {
+            itens = tipo == null
+                ? lancamentoRepository.findPrimeiraPagina(igrejaId, consulta)
+                : lancamentoRepository.findPrimeiraPaginaPorTipo(igrejaId, tipo, consulta);
+        } else {
+            CursorLancamento posicao = CursorLancamento.ler(cursor);
+            itens = tipo == null
+                ? lancamentoRepository.findPaginaApos(igrejaId, posicao.data(), posicao.id(), consulta)
+                : lancamentoRepository.findPaginaAposPorTipo(igrejaId, tipo, posicao.data(), posicao.id(), consulta);
+        }
+        if (itens.size() <= limite) {
+            return new PaginaLancamentos(itens, null);
+        }
+        List<Lancamento> pagina = itens.subList(0, limite);
+        Lancamento ultimo = pagina.get(limite - 1);
+        return new PaginaLancamentos(List.copyOf(pagina), CursorLancamento.escrever(ultimo.getDataLancamento(), ultimo.getId()));
+    }
+
+    private record CursorLancamento(LocalDate data, Long id) {
+        private static final char SEPARADOR = '_';
+
+        static String escrever(LocalDate data, Long id) {
+            return data.toString() + SEPARADOR + id;
+        }
+
+        static CursorLancamento ler(String cursor) {
+            int separador = cursor.indexOf(SEPARADOR);
+            try {
+                return new CursorLancamento(LocalDate.parse(cursor.substring(0, separador)), Long.valueOf(cursor.substring(separador + 1)));
+            } catch (RuntimeException e) {
+                throw new BadRequestAlertException("Cursor de paginação inválido", "lancamento", "cursorinvalido");
+            }
+        }
+    }
+
+    private void acumular(LancamentoResumido l, int sinal) {
+        if (!l.resumivel()) {
+            return;
+        }
+        BigDecimal valor = sinal < 0 ? l.valor().negate() : l.valor();
+        lancamentoRepository.acumularResumoMensal(l.igrejaId(), l.mes(), l.tipo().name(), l.categoria(), l.centroCusto(), valor, sinal);
+    }
+
+    private static LocalDate primeiroDia(YearMonth mes, LocalDate padrao) {
+        return mes != null ? mes.atDay(1) : padrao;
+    }
+}
@@ -24,15 +24,15 @@ import br.com.semear.service.dto.SolicitacaoSuporteDTO;
 import br.com.semear.service.dto.SolicitacaoSuporteHistoricoDTO;
 import br.com.semear.service.dto.SolicitacaoSuporteMensagemDTO;
 import br.com.semear.service.dto.SuporteResumoDTO;
+import br.com.semear.service.midia.ArquivoMidia;
+import br.com.semear.service.midia.MidiaGuardada;
+import br.com.semear.service.midia.MidiaService;
+import br.com.semear.service.midia.PacoteZip;
 import br.com.semear.web.rest.errors.BadRequestAlertException;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.io.InputStream;
 import java.nio.file.Paths;
 import java.util.HashSet;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -40,7 +40,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
 import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -78,6 +77,7 @@ public class SolicitacaoSuporteService {
     private final SolicitacaoSuporteMensagemRepository mensagemRepository;
     private final TenantService tenantService;
     private final NotificacaoService notificacaoService;
+    private final MidiaService midiaService;
 
     @Value("${semear.upload-dir:${user.home}/semear-app/uploads}")
     private String uploadDir;
@@ -88,7 +88,8 @@ public class SolicitacaoSuporteService {
         SolicitacaoSuporteHistoricoRepository historicoRepository,
         SolicitacaoSuporteMensagemRepository mensagemRepository,
         TenantService tenantService,
-        NotificacaoService notificacaoService
+        NotificacaoService notificacaoService,
+        MidiaService midiaService
     ) {
         this.solicitacaoSuporteRepository = solicitacaoSuporteRepository;
         this.anexoRepository = anexoRepository;
@@ -96,6 +97,7 @@ public class SolicitacaoSuporteService {
         this.mensagemRepository = mensagemRepository;
         this.tenantService = tenantService;
         this.notificacaoService = notificacaoService;
+        this.midiaService = midiaService;
     }
 
     public SolicitacaoSuporteDTO criar(SolicitacaoSuporteDTO dto, List<MultipartFile> anexos) {
@@ -446,7 +448,7 @@ public class SolicitacaoSuporteService {
     }
 
     @Transactional(readOnly = true)
-    public Optional<AnexoDownload> obterAnexo(Long solicitacaoId, Long anexoId, boolean admin) {
+    public Optional<ArquivoMidia> obterAnexo(Long solicitacaoId, Long anexoId, boolean admin) {
         Optional<SolicitacaoSuporteAnexo> anexoOpt = anexoRepository.findByIdAndSolicitacaoSuporteId(anexoId, solicitacaoId);
         if (anexoOpt.isEmpty()) {
             return Optional.empty();
@@ -458,23 +460,26 @@ public class SolicitacaoSuporteService {
             validarProprietarioOuAdminIgreja(s);
         }
 
-        Path path = Paths.get(uploadDir, anexo.getCaminhoArmazenamento()).toAbsolutePath().normalize();
-        try {
-            if (!Files.exists(path)) {
-                return Optional.empty();
-            }
-            byte[] bytes = Files.readAllBytes(path);
-            return Optional.of(new AnexoDownload(bytes, anexo.getTipoArquivo(), anexo.getNomeArquivo()));
-        } catch (IOException e) {
-            LOG.error("Erro ao ler anexo {} da solicitação {}", anexoId, solicitacaoId, e);
-            return Optional.empty();
-        }
+        return abrirAnexo(anexo);
     }
 
-    public record AnexoDownload(byte[] bytes, String contentType, String fileName) {}
+    private Optional<ArquivoMidia> abrirAnexo(SolicitacaoSuporteAnexo anexo) {
+        if (anexo.getHashMidia() != null) {
+            return midiaService.abrir(anexo.getHashMidia(), anexo.getTipoArquivo(), anexo.getNomeArquivo());
+        }
+        return midiaService.abrirLegado(
+            Paths.get(uploadDir, anexo.getCaminhoArmazenamento()).toAbsolutePath().normalize(),
+            anexo.getTipoArquivo(),
+            anexo.getNomeArquivo()
+        );
+    }
 
+    /**
+     * Valida o acesso e monta o manifesto do ZIP dos anexos na thread da requisição; os bytes só são lidos quando
+     * {@link PacoteZip#escrever} roda, direto na resposta.
+     */
     @Transactional(readOnly = true)
-    public Optional<AnexoDownload> obterZipAnexos(Long solicitacaoId, boolean admin) {
+    public Optional<PacoteZip> obterZipAnexos(Long solicitacaoId, boolean admin) {
         SolicitacaoSuporte s = obterOuFalhar(solicitacaoId);
         if (!admin) {
             tenantService.validarMesmaIgreja(s.getIgreja());
@@ -486,29 +491,20 @@ public class SolicitacaoSuporteService {
             return Optional.empty();
         }
 
-        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PacoteZip pacote = new PacoteZip("anexos-solicitacao-" + solicitacaoId + ".zip");
         Set<String> nomesUsados = new HashSet<>();
-        try (ZipOutputStream zip = new ZipOutputStream(buffer)) {
+        try {
             for (SolicitacaoSuporteAnexo anexo : anexos) {
-                Path path = Paths.get(uploadDir, anexo.getCaminhoArmazenamento()).toAbsolutePath().normalize();
-                if (!Files.exists(path)) {
-                    continue;
+                Optional<ArquivoMidia> arquivo = abrirAnexo(anexo);
+                if (arquivo.isPresent()) {
+                    pacote.adicionar(nomeUnicoZip(anexo.getNomeArquivo(), nomesUsados), arquivo.get());
                 }
-                String nomeEntrada = nomeUnicoZip(anexo.getNomeArquivo(), nomesUsados);
-                zip.putNextEntry(new ZipEntry(nomeEntrada));
-                zip.write(Files.readAllBytes(path));
-                zip.closeEntry();
             }
         } catch (IOException e) {
-            LOG.error("Erro ao gerar zip dos anexos da solicitação {}", solicitacaoId, e);
-            return Optional.empty();
-        }
-
-        if (buffer.size() == 0) {
+            LOG.error("Erro ao montar o zip dos anexos da solicitação {}", solicitacaoId, e);
             return Optional.empty();
         }
-        String zipName = "anexos-solicitacao-" + solicitacaoId + ".zip";
-        return Optional.of(new AnexoDownload(buffer.toByteArray(), "application/zip", zipName));
+        return pacote.vazio() ? Optional.empty() : Optional.of(pacote);
     }
 
     private String nomeUnicoZip(String nomeOriginal, Set<String> nomesUsados) {
@@ -542,21 +538,18 @@ public class SolicitacaoSuporteService {
             throw new BadRequestAlertException("Tipo de arquivo não permitido", ENTITY, "arquivoinvalido");
         }
 
-        String storedRelative = "suporte/" + s.getId() + "/" + UUID.randomUUID() + ext;
-        Path targetPath = Paths.get(uploadDir, storedRelative).toAbsolutePath().normalize();
         String contentType = file.getContentType();
 
-        try {
-            Files.createDirectories(targetPath.getParent());
-            byte[] bytes = file.getBytes();
-            Files.write(targetPath, bytes);
+        try (InputStream entrada = file.getInputStream()) {
+            MidiaGuardada midia = midiaService.guardar(entrada);
 
             SolicitacaoSuporteAnexo anexo = new SolicitacaoSuporteAnexo();
             anexo.setSolicitacaoSuporte(s);
             anexo.setNomeArquivo(sanitizarNomeArquivo(originalName));
             anexo.setTipoArquivo(contentType);
-            anexo.setTamanhoArquivo((long) bytes.length);
-            anexo.setCaminhoArmazenamento(storedRelative);
+            anexo.setTamanhoArquivo(midia.tamanho());
+            anexo.setCaminhoArmazenamento("midia/" + midia.hash());
+            anexo.setHashMidia(midia.hash());
             anexo.setDataUpload(Instant.now());
             anexo.setEnviadoPor(usuario);
             anexoRepository.save(anexo);
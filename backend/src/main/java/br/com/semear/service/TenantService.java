@@ -7,13 +7,30 @@ import br.com.semear.repository.UserRepository;
 import br.com.semear.security.AuthoritiesConstants;
 import br.com.semear.security.SecurityUtils;
 import br.com.semear.web.rest.errors.BadRequestAlertException;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+/**
+ * Resolve usuário e igreja do usuário autenticado.
+ * <p>
+ * Dentro de uma requisição HTTP o {@link ContextoTenant} é montado uma vez (claims do JWT + uma carga
+ * do usuário) e guardado nos atributos da requisição; filtros, serviços e validações da mesma
+ * requisição reaproveitam o mesmo contexto. Fora de requisição (jobs, async) é resolvido a cada chamada.
+ */
 @Service
 @Transactional(readOnly = true)
 public class TenantService {
 
+    private static final String ATRIBUTO_CONTEXTO = ContextoTenant.class.getName();
+    private static final Long IGREJA_PADRAO_ID = 1L;
+
     private final UserRepository userRepository;
     private final IgrejaRepository igrejaRepository;
 
@@ -27,14 +44,14 @@ public class TenantService {
     }
 
     public Igreja getIgrejaAtual() {
-        User user = getUsuarioAtual();
-        if (user.getIgreja() != null) {
-            return user.getIgreja();
+        Igreja igreja = getContextoAtual().getIgreja();
+        if (igreja != null) {
+            return igreja;
         }
         if (isSuperAdmin()) {
-            return igrejaRepository.findById(1L).orElseThrow(() -> new BadRequestAlertException("Igreja padrão não encontrada", "igreja", "naoencontrada"));
+            throw new BadRequestAlertException("Igreja padrão não encontrada", "igreja", "naoencontrada");
         }
-        return igrejaRepository.findById(1L).orElseThrow(() -> new BadRequestAlertException("Usuário sem igreja", "igreja", "semigreja"));
+        throw new BadRequestAlertException("Usuário sem igreja", "igreja", "semigreja");
     }
 
     public Long getIgrejaIdAtual() {
@@ -42,12 +59,45 @@ public class TenantService {
     }
 
     public User getUsuarioAtual() {
+        return getContextoAtual().getUsuario();
+    }
+
+    public Long getUsuarioIdAtual() {
+        return getContextoAtual().getUsuarioId();
+    }
+
+    /** Contexto do usuário autenticado, resolvido uma vez por requisição. */
+    public ContextoTenant getContextoAtual() {
         String login = SecurityUtils
             .getCurrentUserLogin()
             .orElseThrow(() -> new BadRequestAlertException("Não autenticado", "tenant", "naoautenticado"));
-        return userRepository
+        RequestAttributes requisicao = RequestContextHolder.getRequestAttributes();
+        if (requisicao == null) {
+            return resolverContexto(login);
+        }
+        if (requisicao.getAttribute(ATRIBUTO_CONTEXTO, RequestAttributes.SCOPE_REQUEST) instanceof ContextoTenant contexto &&
+            contexto.getLogin().equals(login)) {
+            return contexto;
+        }
+        ContextoTenant contexto = resolverContexto(login);
+        requisicao.setAttribute(ATRIBUTO_CONTEXTO, contexto, RequestAttributes.SCOPE_REQUEST);
+        return contexto;
+    }
+
+    private ContextoTenant resolverContexto(String login) {
+        User user = userRepository
             .findOneWithAuthoritiesByLogin(login)
             .orElseThrow(() -> new BadRequestAlertException("Usuário não encontrado", "tenant", "usuarionaoencontrado"));
+        Igreja igreja = user.getIgreja() != null ? user.getIgreja() : igrejaRepository.findById(IGREJA_PADRAO_ID).orElse(null);
+        return new ContextoTenant(login, user.getId(), autoridadesAtuais(), user, igreja);
+    }
+
+    private static Set<String> autoridadesAtuais() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return Set.of();
+        }
+        return authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).collect(Collectors.toSet());
     }
 
     public void validarMesmaIgreja(Igreja igreja) {
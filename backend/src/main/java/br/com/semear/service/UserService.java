@@ -3,10 +3,14 @@ package br.com.semear.service;
 import br.com.semear.config.Constants;
 import br.com.semear.domain.Authority;
 import br.com.semear.domain.User;
+import br.com.semear.domain.enumeration.VarianteAvatar;
 import br.com.semear.repository.AuthorityRepository;
 import br.com.semear.repository.UserRepository;
 import br.com.semear.security.AuthoritiesConstants;
 import br.com.semear.security.SecurityUtils;
+import br.com.semear.service.avatar.AvatarInfo;
+import br.com.semear.service.avatar.AvatarStore;
+import br.com.semear.service.avatar.GeradorVariantesAvatar;
 import br.com.semear.service.dto.AdminUserDTO;
 import br.com.semear.service.dto.DependenteCreateDTO;
 import br.com.semear.web.rest.errors.BadRequestAlertException;
@@ -58,9 +62,13 @@ public class UserService {
 
     private final CacheManager cacheManager;
 
+    private final AvatarStore avatarStore;
+
     @Value("${semear.upload-dir:${user.home}/semear-app/uploads}")
     private String uploadDir;
 
+    private static final String AVATAR_NO_STORE = "db";
+
     private static final String[] ALLOWED_AVATAR_TYPES = {
         "image/jpeg", "image/png", "image/gif", "image/webp"
     };
@@ -71,7 +79,8 @@ public class UserService {
         AuthorityRepository authorityRepository,
         CacheManager cacheManager,
         TenantService tenantService,
-        IgrejaCargoService igrejaCargoService
+        IgrejaCargoService igrejaCargoService,
+        AvatarStore avatarStore
     ) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
@@ -79,6 +88,7 @@ public class UserService {
         this.cacheManager = cacheManager;
         this.tenantService = tenantService;
         this.igrejaCargoService = igrejaCargoService;
+        this.avatarStore = avatarStore;
     }
 
     public Optional<User> activateRegistration(String key) {
@@ -531,25 +541,17 @@ public class UserService {
             .flatMap(userRepository::findOneByLogin)
             .map(user -> {
                 try {
-                    String oldImageUrl = user.getImageUrl();
-                    byte[] bytes = file.getBytes();
-                    user.setImageData(bytes);
-                    user.setImageContentType(contentType);
-                    user.setImageUrl("db"); // Marca que avatar está no banco
-                    // Remove arquivo antigo do disco se existir (migração de avatares antigos)
-                    if (oldImageUrl != null && !oldImageUrl.isBlank() && !"db".equals(oldImageUrl)) {
-                        try {
-                            Path oldPath = Paths.get(uploadDir, oldImageUrl).toAbsolutePath().normalize();
-                            if (Files.exists(oldPath)) {
-                                Files.delete(oldPath);
-                            }
-                        } catch (IOException ignored) {
-                            // Ignora se não conseguir remover arquivo antigo
-                        }
+                    byte[] dados = file.getBytes();
+                    if (GeradorVariantesAvatar.excedeLimite(dados)) {
+                        throw new BadRequestAlertException("Imagem com resolução acima do permitido", "avatar", "imagemgrande");
                     }
+                    String oldImageUrl = user.getImageUrl();
+                    avatarStore.salvar(user.getId(), GeradorVariantesAvatar.gerar(contentType, dados));
+                    user.setImageUrl(AVATAR_NO_STORE); // Marca que avatar está no AvatarStore
+                    removerAvatarLegado(oldImageUrl);
                     userRepository.save(user);
                     this.clearUserCaches(user);
-                    LOG.debug("User avatar updated (stored in DB): {}", user.getLogin());
+                    LOG.debug("User avatar updated (stored in AvatarStore): {}", user.getLogin());
                     return new AdminUserDTO(user);
                 } catch (IOException e) {
                     LOG.error("Erro ao salvar avatar", e);
@@ -562,81 +564,82 @@ public class UserService {
         return SecurityUtils.getCurrentUserLogin()
             .flatMap(userRepository::findOneByLogin)
             .map(user -> {
-                try {
-                    String oldImageUrl = user.getImageUrl();
-                    user.setImageData(null);
-                    user.setImageContentType(null);
-                    user.setImageUrl(null);
-                    if (oldImageUrl != null && !oldImageUrl.isBlank() && !"db".equals(oldImageUrl)) {
-                        Path oldPath = Paths.get(uploadDir, oldImageUrl).toAbsolutePath().normalize();
-                        if (Files.exists(oldPath)) {
-                            Files.delete(oldPath);
-                        }
-                    }
-                    userRepository.save(user);
-                    this.clearUserCaches(user);
-                    LOG.debug("User avatar removed: {}", user.getLogin());
-                    return new AdminUserDTO(user);
-                } catch (IOException e) {
-                    LOG.error("Erro ao remover avatar", e);
-                    throw new RuntimeException("Erro ao remover avatar: " + e.getMessage());
-                }
+                String oldImageUrl = user.getImageUrl();
+                avatarStore.remover(user.getId());
+                user.setImageUrl(null);
+                removerAvatarLegado(oldImageUrl);
+                userRepository.save(user);
+                this.clearUserCaches(user);
+                LOG.debug("User avatar removed: {}", user.getLogin());
+                return new AdminUserDTO(user);
             });
     }
 
-    public Optional<byte[]> getAvatarBytes() {
+    /** Metadados do avatar do usuário atual; avatares antigos em disco são migrados para o store na primeira leitura. */
+    public Optional<AvatarInfo> getAvatarInfoForCurrentUser(VarianteAvatar variante) {
         return SecurityUtils.getCurrentUserLogin()
             .flatMap(userRepository::findOneByLogin)
-            .flatMap(this::readAvatarBytes);
+            .flatMap(user -> buscarAvatarInfo(user, variante));
     }
 
-    public Optional<AvatarResult> getAvatarForCurrentUser() {
-        return SecurityUtils.getCurrentUserLogin()
-            .flatMap(userRepository::findOneByLogin)
-            .flatMap(this::readAvatar);
-    }
-
-    public Optional<byte[]> getAvatarBytesByUserId(Long userId) {
-        return userRepository.findById(userId)
-            .flatMap(this::readAvatarBytes);
-    }
-
-    public record AvatarResult(byte[] bytes, String contentType) {}
-
-    public Optional<AvatarResult> getAvatarByUserId(Long userId) {
+    /** Metadados do avatar de outro usuário da mesma igreja. */
+    public Optional<AvatarInfo> getAvatarInfoByUserId(Long userId, VarianteAvatar variante) {
         return userRepository
             .findById(userId)
             .map(user -> {
                 tenantService.validarMesmaIgreja(user.getIgreja());
                 return user;
             })
-            .flatMap(this::readAvatar);
+            .flatMap(user -> buscarAvatarInfo(user, variante));
     }
 
-    private Optional<byte[]> readAvatarBytes(User user) {
-        return readAvatar(user).map(AvatarResult::bytes);
+    /** Bytes da variante já resolvida por {@code getAvatarInfo*} (que também valida a igreja). */
+    @Transactional(readOnly = true)
+    public Optional<byte[]> getAvatarDados(Long userId, AvatarInfo info) {
+        return avatarStore.lerDados(userId, info.variante());
     }
 
-    private Optional<AvatarResult> readAvatar(User user) {
-        if (user.getImageData() != null && user.getImageData().length > 0) {
-            String contentType = user.getImageContentType();
-            if (contentType == null || contentType.isBlank()) {
-                contentType = "image/jpeg";
-            }
-            return Optional.of(new AvatarResult(user.getImageData(), contentType));
+    private Optional<AvatarInfo> buscarAvatarInfo(User user, VarianteAvatar variante) {
+        Optional<AvatarInfo> info = avatarStore.buscarInfo(user.getId(), variante);
+        if (info.isPresent() || !importarAvatarLegado(user)) {
+            return info;
         }
-        if (user.getImageUrl() != null && !user.getImageUrl().isBlank() && !"db".equals(user.getImageUrl())) {
-            try {
-                Path targetPath = Paths.get(uploadDir, user.getImageUrl()).toAbsolutePath().normalize();
-                if (Files.exists(targetPath)) {
-                    byte[] bytes = Files.readAllBytes(targetPath);
-                    return Optional.of(new AvatarResult(bytes, "image/jpeg"));
-                }
-            } catch (IOException e) {
-                LOG.error("Erro ao ler avatar do disco", e);
+        return avatarStore.buscarInfo(user.getId(), variante);
+    }
+
+    /** Avatar gravado em disco por versões antigas: copia para o store e apaga o arquivo. */
+    private boolean importarAvatarLegado(User user) {
+        String imageUrl = user.getImageUrl();
+        if (imageUrl == null || imageUrl.isBlank() || AVATAR_NO_STORE.equals(imageUrl)) {
+            return false;
+        }
+        try {
+            Path targetPath = Paths.get(uploadDir, imageUrl).toAbsolutePath().normalize();
+            if (!Files.exists(targetPath)) {
+                return false;
             }
+            avatarStore.salvar(user.getId(), GeradorVariantesAvatar.gerar("image/jpeg", Files.readAllBytes(targetPath)));
+            user.setImageUrl(AVATAR_NO_STORE);
+            userRepository.save(user);
+            this.clearUserCaches(user);
+            removerAvatarLegado(imageUrl);
+            return true;
+        } catch (IOException e) {
+            LOG.error("Erro ao ler avatar do disco", e);
+            return false;
+        }
+    }
+
+    private void removerAvatarLegado(String oldImageUrl) {
+        if (oldImageUrl == null || oldImageUrl.isBlank() || AVATAR_NO_STORE.equals(oldImageUrl)) {
+            return;
+        }
+        try {
+            Path oldPath = Paths.get(uploadDir, oldImageUrl).toAbsolutePath().normalize();
+            Files.deleteIfExists(oldPath);
+        } catch (IOException ignored) {
+            // Ignora se não conseguir remover arquivo antigo
         }
-        return Optional.empty();
     }
 
     private static boolean isAllowedAvatarType(String contentType) {
@@ -749,6 +752,7 @@ public class UserService {
         if (user.getEmail() != null) {
             Objects.requireNonNull(cacheManager.getCache(UserRepository.USERS_BY_EMAIL_CACHE)).evictIfPresent(user.getEmail());
         }
+        Objects.requireNonNull(cacheManager.getCache(NotificacaoService.CACHE_RESUMO)).evictIfPresent(user.getLogin());
     }
 
     private String normalizarNome(String nome) {
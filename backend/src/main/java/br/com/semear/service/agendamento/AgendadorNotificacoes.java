@@ -0,0 +1,263 @@
+package br.com.semear.service.agendamento;
+
+import br.com.semear.domain.NotificacaoAgendamento;
+import br.com.semear.domain.enumeration.StatusNotificacaoAgendamento;
+import br.com.semear.repository.NotificacaoAgendamentoRepository;
+import br.com.semear.repository.NotificacaoAgendamentoRepository.DisparoProjection;
+import br.com.semear.service.NotificacaoProgramadaService;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Dispara os lembretes de {@code notificacao_agendamento} segundos após o horário.
+ * <p>
+ * A roda temporal guarda só o horizonte próximo e serve de despertador: quando um horário vence, a drenagem
+ * reivindica no banco os vencidos ({@code FOR UPDATE SKIP LOCKED}), então várias instâncias cooperam sem
+ * disparar o mesmo lembrete duas vezes. Cada lembrete roda na sua própria transação; falhas voltam para a fila
+ * com backoff até {@code max-tentativas}. A varredura periódica recarrega o horizonte (inclusive o que outras
+ * instâncias gravaram), devolve reivindicações de instâncias que caíram e cobre qualquer despertar perdido.
+ */
+@Service
+public class AgendadorNotificacoes {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AgendadorNotificacoes.class);
+    private static final Duration TRAVA_EXPIRADA = Duration.ofMinutes(5);
+    private static final int TAMANHO_ERRO = 300;
+
+    private final NotificacaoAgendamentoRepository agendamentoRepository;
+    private final NotificacaoProgramadaService programadaService;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate transacaoPorDisparo;
+    private final ExecutorService drenagem;
+    private final ExecutorService disparos;
+    private final AtomicBoolean drenando = new AtomicBoolean();
+    private final AtomicBoolean drenarDeNovo = new AtomicBoolean();
+    private final RodaTemporal<Long> roda = new RodaTemporal<>(1_000, 60, 3, System.currentTimeMillis());
+
+    @Value("${semear.notificacoes.agendador.horizonte-ms:900000}")
+    private long horizonteMs;
+
+    @Value("${semear.notificacoes.agendador.lote:50}")
+    private int lote;
+
+    @Value("${semear.notificacoes.agendador.max-tentativas:5}")
+    private int maxTentativas;
+
+    @Value("${semear.notificacoes.agendador.backoff-inicial-ms:30000}")
+    private long backoffInicialMs;
+
+    public AgendadorNotificacoes(
+        NotificacaoAgendamentoRepository agendamentoRepository,
+        NotificacaoProgramadaService programadaService,
+        PlatformTransactionManager transactionManager,
+        @Value("${semear.notificacoes.agendador.threads:2}") int threads
+    ) {
+        this.agendamentoRepository = agendamentoRepository;
+        this.programadaService = programadaService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transacaoPorDisparo = new TransactionTemplate(transactionManager);
+        this.transacaoPorDisparo.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        AtomicInteger sequencia = new AtomicInteger();
+        this.drenagem = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "semear-agendador");
+            t.setDaemon(true);
+            return t;
+        });
+        this.disparos = Executors.newFixedThreadPool(Math.max(1, threads), r -> {
+            Thread t = new Thread(r, "semear-agendador-" + sequencia.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        drenagem.shutdownNow();
+        disparos.shutdownNow();
+    }
+
+    /** Lembretes novos entram na roda após o commit de quem os gravou. */
+    @EventListener
+    public void aoCriarAgendamento(AgendamentoNotificacaoCriado criado) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            registrar(criado.id(), criado.disparo());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    registrar(criado.id(), criado.disparo());
+                }
+            }
+        );
+    }
+
+    @Scheduled(fixedRateString = "${semear.notificacoes.agendador.tick-ms:1000}")
+    public void tick() {
+        List<Long> vencidos;
+        synchronized (roda) {
+            vencidos = roda.avancar(System.currentTimeMillis());
+        }
+        if (!vencidos.isEmpty()) {
+            sinalizar();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${semear.notificacoes.agendador.varredura-ms:30000}")
+    public void varrer() {
+        try {
+            Integer liberados = transactionTemplate.execute(status ->
+                agendamentoRepository.liberarTravadosAntesDe(Instant.now().minus(TRAVA_EXPIRADA))
+            );
+            if (liberados != null && liberados > 0) {
+                LOG.info("[AGENDADOR] {} lembretes travados devolvidos à fila", liberados);
+            }
+            List<DisparoProjection> proximos = agendamentoRepository.findDisparosPendentesAte(Instant.now().plusMillis(horizonteMs));
+            for (DisparoProjection disparo : proximos) {
+                registrar(disparo.getId(), disparo.getProximaTentativaEm() != null ? disparo.getProximaTentativaEm() : disparo.getAgendadoPara());
+            }
+        } catch (Exception e) {
+            LOG.warn("[AGENDADOR] Falha na varredura de lembretes: {}", e.getMessage());
+        }
+        sinalizar();
+    }
+
+    int getTamanhoRoda() {
+        synchronized (roda) {
+            return roda.tamanhoAtual();
+        }
+    }
+
+    private void registrar(Long id, Instant disparo) {
+        if (id == null || disparo == null) {
+            return;
+        }
+        synchronized (roda) {
+            roda.agendar(id, disparo.toEpochMilli());
+        }
+    }
+
+    /** Acorda a drenagem; se já houver uma em curso, ela dá mais uma volta antes de parar. */
+    private void sinalizar() {
+        drenarDeNovo.set(true);
+        if (drenando.get()) {
+            return;
+        }
+        try {
+            drenagem.execute(this::drenar);
+        } catch (RuntimeException e) {
+            LOG.debug("[AGENDADOR] Drenagem não agendada: {}", e.getMessage());
+        }
+    }
+
+    void drenar() {
+        if (!drenando.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            while (drenarDeNovo.getAndSet(false) && !Thread.currentThread().isInterrupted()) {
+                List<Long> ids;
+                while (!(ids = reivindicar()).isEmpty()) {
+                    disparar(ids);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            LOG.warn("[AGENDADOR] Falha na drenagem de lembretes: {}", e.getMessage(), e);
+        } finally {
+            drenando.set(false);
+        }
+    }
+
+    private List<Long> reivindicar() {
+        List<Long> ids = transactionTemplate.execute(status -> {
+            Instant agora = Instant.now();
+            List<Long> travados = agendamentoRepository.travarProximosVencidos(agora, Math.max(1, lote));
+            if (!travados.isEmpty()) {
+                agendamentoRepository.marcarStatus(travados, StatusNotificacaoAgendamento.EM_PROCESSAMENTO, agora);
+            }
+            return travados;
+        });
+        return ids != null ? ids : List.of();
+    }
+
+    private void disparar(List<Long> ids) throws InterruptedException {
+        List<Future<?>> pendentes = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            pendentes.add(disparos.submit(() -> disparar(id)));
+        }
+        for (Future<?> pendente : pendentes) {
+            try {
+                pendente.get();
+            } catch (ExecutionException e) {
+                LOG.warn("[AGENDADOR] Falha inesperada no disparo: {}", e.getCause().getMessage());
+            }
+        }
+    }
+
+    private void disparar(Long id) {
+        try {
+            transacaoPorDisparo.executeWithoutResult(status -> programadaService.processarAgendamento(id));
+        } catch (Exception e) {
+            LOG.warn("[AGENDADOR] Falha ao disparar lembrete {}: {}", id, e.getMessage());
+            transacaoPorDisparo.executeWithoutResult(status -> registrarFalha(id, e));
+        }
+    }
+
+    private void registrarFalha(Long id, Exception erro) {
+        NotificacaoAgendamento ag = agendamentoRepository.findById(id).orElse(null);
+        if (ag == null || ag.getStatus() != StatusNotificacaoAgendamento.EM_PROCESSAMENTO) {
+            return;
+        }
+        int tentativas = (ag.getTentativas() != null ? ag.getTentativas() : 0) + 1;
+        ag.setTentativas(tentativas);
+        ag.setUltimoErro(truncar(erro.getMessage() != null ? erro.getMessage() : erro.getClass().getSimpleName()));
+        if (tentativas >= Math.max(1, maxTentativas)) {
+            ag.setStatus(StatusNotificacaoAgendamento.FALHOU);
+            LOG.error("[AGENDADOR] Lembrete {} desistido após {} tentativas: {}", id, tentativas, ag.getUltimoErro());
+        } else {
+            Instant proxima = Instant.now().plusMillis(backoff(tentativas));
+            ag.setStatus(StatusNotificacaoAgendamento.PENDENTE);
+            ag.setProximaTentativaEm(proxima);
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        registrar(id, proxima);
+                    }
+                }
+            );
+        }
+        agendamentoRepository.save(ag);
+    }
+
+    private long backoff(int tentativas) {
+        return Math.max(1, backoffInicialMs) << Math.min(tentativas - 1, 10);
+    }
+
+    private static String truncar(String valor) {
+        return valor.length() <= TAMANHO_ERRO ? valor : valor.substring(0, TAMANHO_ERRO);
+    }
+}
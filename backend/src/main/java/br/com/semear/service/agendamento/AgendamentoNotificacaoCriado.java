@@ -0,0 +1,6 @@
+package br.com.semear.service.agendamento;
+
+import java.time.Instant;
+
+/** Lembrete gravado na transação corrente; entra na roda temporal após o commit. */
+public record AgendamentoNotificacaoCriado(Long id, Instant disparo) {}
@@ -0,0 +1,158 @@
+package br.com.semear.service.agendamento;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Roda temporal hierárquica: cada nível tem {@code tamanho} baldes e o tick de um nível é a volta completa do
+ * nível abaixo. Agendar e avançar custam O(1) por item; ao virar um balde de nível superior os itens descem para
+ * os níveis de baixo até vencerem no primeiro.
+ * <p>
+ * Cada item tem no máximo um vencimento: reagendar substitui o anterior e a entrada antiga é descartada quando o
+ * balde dela vira. Itens além da última volta do nível mais alto são recusados — quem carrega a roda só traz o
+ * horizonte próximo. Não é thread-safe; o chamador sincroniza.
+ */
+final class RodaTemporal<T> {
+
+    private record Entrada<T>(T item, long vencimento) {}
+
+    private final long tick;
+    private final int tamanho;
+    private final long[] ticks;
+    private final List<List<Entrada<T>>[]> niveis = new ArrayList<>();
+    private final Map<T, Long> vencimentos = new HashMap<>();
+    private final List<T> vencidos = new ArrayList<>();
+    /** Início do tick corrente do primeiro nível; tudo antes dele já foi entregue. */
+    private long atual;
+
+    @SuppressWarnings("unchecked")
+    RodaTemporal(long tickMs, int tamanho, int niveis, long inicioMs) {
+        if (tickMs <= 0 || tamanho < 2 || niveis < 1) {
+            throw new IllegalArgumentException("Roda temporal inválida");
+        }
+        this.tick = tickMs;
+        this.tamanho = tamanho;
+        this.ticks = new long[niveis];
+        long t = tickMs;
+        for (int n = 0; n < niveis; n++) {
+            ticks[n] = t;
+            List<Entrada<T>>[] baldes = new List[tamanho];
+            for (int b = 0; b < tamanho; b++) {
+                baldes[b] = new ArrayList<>();
+            }
+            this.niveis.add(baldes);
+            t = Math.multiplyExact(t, tamanho);
+        }
+        this.atual = Math.floorDiv(inicioMs, tickMs) * tickMs;
+    }
+
+    /** Alcance máximo a partir do tick corrente. */
+    long horizonteMs() {
+        return ticks[ticks.length - 1] * tamanho - ticks[ticks.length - 1];
+    }
+
+    int tamanhoAtual() {
+        return vencimentos.size();
+    }
+
+    /**
+     * Agenda (ou reagenda) o item. Vencimentos no tick corrente ou no passado saem no próximo {@link #avancar}.
+     *
+     * @return {@code false} quando o vencimento passa do horizonte da roda
+     */
+    boolean agendar(T item, long vencimentoMs) {
+        if (vencimentoMs - atual >= horizonteMs()) {
+            return false;
+        }
+        Long anterior = vencimentos.put(item, vencimentoMs);
+        if (anterior == null || anterior != vencimentoMs) {
+            inserir(new Entrada<>(item, vencimentoMs));
+        }
+        return true;
+    }
+
+    void cancelar(T item) {
+        vencimentos.remove(item);
+    }
+
+    /** Avança o relógio até {@code agoraMs} e devolve os itens vencidos, na ordem em que venceram. */
+    List<T> avancar(long agoraMs) {
+        long alvo = Math.floorDiv(agoraMs, tick) * tick;
+        if (alvo - atual >= horizonteMs()) {
+            saltar(alvo);
+        }
+        while (atual < alvo) {
+            atual += tick;
+            for (int n = ticks.length - 1; n > 0; n--) {
+                if (atual % ticks[n] == 0) {
+                    for (Entrada<T> entrada : esvaziar(n, atual)) {
+                        inserir(entrada);
+                    }
+                }
+            }
+            for (Entrada<T> entrada : esvaziar(0, atual)) {
+                entregar(entrada);
+            }
+        }
+        if (vencidos.isEmpty()) {
+            return List.of();
+        }
+        List<T> resultado = new ArrayList<>(vencidos);
+        vencidos.clear();
+        return resultado;
+    }
+
+    private void inserir(Entrada<T> entrada) {
+        if (entrada.vencimento() < atual + tick) {
+            entregar(entrada);
+            return;
+        }
+        for (int n = 0; n < ticks.length; n++) {
+            long inicioNivel = Math.floorDiv(atual, ticks[n]) * ticks[n];
+            if (entrada.vencimento() < inicioNivel + ticks[n] * tamanho) {
+                niveis.get(n)[balde(n, entrada.vencimento())].add(entrada);
+                return;
+            }
+        }
+        throw new IllegalStateException("Vencimento fora do horizonte da roda");
+    }
+
+    /** Só entrega se a entrada ainda é o vencimento vigente do item (não foi cancelado nem reagendado). */
+    private void entregar(Entrada<T> entrada) {
+        Long vigente = vencimentos.get(entrada.item());
+        if (vigente != null && vigente == entrada.vencimento()) {
+            vencimentos.remove(entrada.item());
+            vencidos.add(entrada.item());
+        }
+    }
+
+    private List<Entrada<T>> esvaziar(int nivel, long instante) {
+        List<Entrada<T>> balde = niveis.get(nivel)[balde(nivel, instante)];
+        if (balde.isEmpty()) {
+            return List.of();
+        }
+        List<Entrada<T>> entradas = new ArrayList<>(balde);
+        balde.clear();
+        return entradas;
+    }
+
+    private int balde(int nivel, long instante) {
+        return (int) Math.floorMod(Math.floorDiv(instante, ticks[nivel]), (long) tamanho);
+    }
+
+    /** Pausa maior que o horizonte (GC longo, relógio ajustado): redistribui tudo a partir do novo instante. */
+    private void saltar(long alvo) {
+        List<Entrada<T>> todas = new ArrayList<>();
+        for (List<Entrada<T>>[] baldes : niveis) {
+            for (List<Entrada<T>> balde : baldes) {
+                todas.addAll(balde);
+                balde.clear();
+            }
+        }
+        todas.sort((a, b) -> Long.compare(a.vencimento(), b.vencimento()));
+        atual = alvo;
+        todas.forEach(this::inserir);
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Disparo dos lembretes programados ({@code notificacao_agendamento}) com precisão de segundos: roda temporal em
+ * memória para acordar no horário e reivindicação das linhas no banco para cooperar entre instâncias.
+ */
+package br.com.semear.service.agendamento;
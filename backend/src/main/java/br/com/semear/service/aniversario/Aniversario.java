@@ -0,0 +1,12 @@
+package br.com.semear.service.aniversario;
+
+import java.time.LocalDate;
+
+/**
+ * Uma comemoração de um membro.
+ *
+ * @param userId o membro
+ * @param tipo qual data do cadastro é comemorada
+ * @param data o dia da comemoração no ano consultado (nascidos em 29/02 comemoram em 28/02 nos anos não bissextos)
+ */
+public record Aniversario(long userId, TipoAniversario tipo, LocalDate data) {}
@@ -0,0 +1,163 @@
+package br.com.semear.service.aniversario;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Datas comemorativas de uma igreja agrupadas por dia do ano, em vetores primitivos.
+ * <p>
+ * O dia é a posição {@code (mês - 1) * 31 + (dia - 1)}; {@code inicio[d]..inicio[d + 1]} delimita as entradas do
+ * dia {@code d} nos vetores paralelos de usuário, tipo e situação. Consultar um dia custa o número de comemorações
+ * daquele dia, independente do tamanho da igreja. A instância é imutável: alterações geram um índice novo.
+ */
+public final class IndiceAniversarios {
+
+    private static final int DIAS = 12 * 31;
+    private static final int DIA_29_FEVEREIRO = posicao(2, 29);
+    private static final TipoAniversario[] TIPOS = TipoAniversario.values();
+
+    public static final IndiceAniversarios VAZIO = construtor().construir();
+
+    private final int[] inicio;
+    private final long[] usuarios;
+    private final byte[] tipos;
+    private final boolean[] ativos;
+
+    private IndiceAniversarios(int[] inicio, long[] usuarios, byte[] tipos, boolean[] ativos) {
+        this.inicio = inicio;
+        this.usuarios = usuarios;
+        this.tipos = tipos;
+        this.ativos = ativos;
+    }
+
+    public static Construtor construtor() {
+        return new Construtor();
+    }
+
+    /** Total de datas indexadas. */
+    public int tamanho() {
+        return usuarios.length;
+    }
+
+    /**
+     * Comemorações do dia, na ordem em que foram adicionadas ao índice.
+     *
+     * @param incluirDependentes se {@code false}, só membros ativos
+     */
+    public List<Aniversario> doDia(LocalDate dia, Set<TipoAniversario> tiposDesejados, boolean incluirDependentes) {
+        List<Aniversario> resultado = new ArrayList<>();
+        coletar(dia, tiposDesejados, incluirDependentes, resultado, Integer.MAX_VALUE);
+        return resultado;
+    }
+
+    /**
+     * Comemorações de {@code inicio} a {@code fim} (inclusive), em ordem de data.
+     *
+     * @param limite máximo de comemorações devolvidas
+     */
+    public List<Aniversario> entre(
+        LocalDate inicio,
+        LocalDate fim,
+        Set<TipoAniversario> tiposDesejados,
+        boolean incluirDependentes,
+        int limite
+    ) {
+        if (fim.isBefore(inicio) || limite <= 0) {
+            return Collections.emptyList();
+        }
+        // Uma volta completa no calendário basta: janelas maiores só repetiriam as mesmas datas.
+        long dias = Math.min(ChronoUnit.DAYS.between(inicio, fim), 365);
+        List<Aniversario> resultado = new ArrayList<>();
+        for (long i = 0; i <= dias && resultado.size() < limite; i++) {
+            coletar(inicio.plusDays(i), tiposDesejados, incluirDependentes, resultado, limite);
+        }
+        return resultado;
+    }
+
+    private void coletar(LocalDate dia, Set<TipoAniversario> tiposDesejados, boolean incluirDependentes, List<Aniversario> destino, int limite) {
+        coletarPosicao(posicao(dia.getMonthValue(), dia.getDayOfMonth()), dia, tiposDesejados, incluirDependentes, destino, limite);
+        if (dia.getMonth() == Month.FEBRUARY && dia.getDayOfMonth() == 28 && !Year.isLeap(dia.getYear())) {
+            coletarPosicao(DIA_29_FEVEREIRO, dia, tiposDesejados, incluirDependentes, destino, limite);
+        }
+    }
+
+    private void coletarPosicao(
+        int posicao,
+        LocalDate dia,
+        Set<TipoAniversario> tiposDesejados,
+        boolean incluirDependentes,
+        List<Aniversario> destino,
+        int limite
+    ) {
+        for (int i = inicio[posicao]; i < inicio[posicao + 1] && destino.size() < limite; i++) {
+            TipoAniversario tipo = TIPOS[tipos[i]];
+            if ((incluirDependentes || ativos[i]) && tiposDesejados.contains(tipo)) {
+                destino.add(new Aniversario(usuarios[i], tipo, dia));
+            }
+        }
+    }
+
+    private static int posicao(int mes, int dia) {
+        return (mes - 1) * 31 + (dia - 1);
+    }
+
+    /** Acumula as datas e monta o índice com uma ordenação por contagem, estável dentro de cada dia. */
+    public static final class Construtor {
+
+        private int tamanho;
+        private int[] posicoes = new int[64];
+        private long[] usuarios = new long[64];
+        private byte[] tipos = new byte[64];
+        private boolean[] ativos = new boolean[64];
+
+        private Construtor() {}
+
+        /** Ignora datas nulas, para que o chamador possa passar as colunas do cadastro direto. */
+        public Construtor adicionar(long userId, boolean ativo, TipoAniversario tipo, LocalDate data) {
+            if (data == null) {
+                return this;
+            }
+            if (tamanho == usuarios.length) {
+                int novo = tamanho * 2;
+                posicoes = Arrays.copyOf(posicoes, novo);
+                usuarios = Arrays.copyOf(usuarios, novo);
+                tipos = Arrays.copyOf(tipos, novo);
+                ativos = Arrays.copyOf(ativos, novo);
+            }
+            posicoes[tamanho] = posicao(data.getMonthValue(), data.getDayOfMonth());
+            usuarios[tamanho] = userId;
+            tipos[tamanho] = (byte) tipo.ordinal();
+            ativos[tamanho] = ativo;
+            tamanho++;
+            return this;
+        }
+
+        public IndiceAniversarios construir() {
+            int[] inicio = new int[DIAS + 1];
+            for (int i = 0; i < tamanho; i++) {
+                inicio[posicoes[i] + 1]++;
+            }
+            for (int d = 0; d < DIAS; d++) {
+                inicio[d + 1] += inicio[d];
+            }
+            int[] proxima = Arrays.copyOf(inicio, DIAS);
+            long[] usuariosOrdenados = new long[tamanho];
+            byte[] tiposOrdenados = new byte[tamanho];
+            boolean[] ativosOrdenados = new boolean[tamanho];
+            for (int i = 0; i < tamanho; i++) {
+                int destino = proxima[posicoes[i]]++;
+                usuariosOrdenados[destino] = usuarios[i];
+                tiposOrdenados[destino] = tipos[i];
+                ativosOrdenados[destino] = ativos[i];
+            }
+            return new IndiceAniversarios(inicio, usuariosOrdenados, tiposOrdenados, ativosOrdenados);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.semear.service.aniversario;
+
+import br.com.semear.repository.UserRepository;
+import br.com.semear.repository.projection.DatasComemorativasProjection;
+import br.com.semear.service.notificacao.SecaoResumo;
+import br.com.semear.service.notificacao.VersoesResumoNotificacao;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+/**
+ * Mantém um {@link IndiceAniversarios} por igreja no cache {@value #CACHE}.
+ * <p>
+ * Toda gravação de usuário avança a versão {@link SecaoResumo#ANIVERSARIANTE} da igreja após o commit
+ * ({@code ResumoNotificacaoListener}); o índice guarda a versão com que foi montado e é remontado na primeira
+ * consulta depois de uma alteração. A expiração do cache limita o atraso de alterações feitas em outra instância.
+ */
+@Service
+public class IndiceAniversariosService {
+
+    public static final String CACHE = "indiceAniversarios";
+
+    private static final Logger LOG = LoggerFactory.getLogger(IndiceAniversariosService.class);
+
+    private record Entrada(long versao, IndiceAniversarios indice) {}
+
+    private final UserRepository userRepository;
+    private final VersoesResumoNotificacao versoes;
+    private final CacheManager cacheManager;
+
+    public IndiceAniversariosService(UserRepository userRepository, VersoesResumoNotificacao versoes, CacheManager cacheManager) {
+        this.userRepository = userRepository;
+        this.versoes = versoes;
+        this.cacheManager = cacheManager;
+    }
+
+    public IndiceAniversarios daIgreja(Long igrejaId) {
+        if (igrejaId == null) {
+            return IndiceAniversarios.VAZIO;
+        }
+        // Lida antes da consulta: uma alteração concorrente deixa o índice com versão antiga e ele é remontado.
+        long versao = versoes.versaoIgreja(igrejaId, SecaoResumo.ANIVERSARIANTE);
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(CACHE), CACHE);
+        Entrada entrada = cache.get(igrejaId, Entrada.class);
+        if (entrada != null && entrada.versao() == versao) {
+            return entrada.indice();
+        }
+        IndiceAniversarios indice = montar(igrejaId);
+        cache.put(igrejaId, new Entrada(versao, indice));
+        return indice;
+    }
+
+    private IndiceAniversarios montar(Long igrejaId) {
+        IndiceAniversarios.Construtor construtor = IndiceAniversarios.construtor();
+        for (DatasComemorativasProjection u : userRepository.findDatasComemorativasPorIgreja(igrejaId)) {
+            boolean ativo = Boolean.TRUE.equals(u.getActivated());
+            construtor
+                .adicionar(u.getId(), ativo, TipoAniversario.NASCIMENTO, u.getBirthDate())
+                .adicionar(u.getId(), ativo, TipoAniversario.BATISMO, u.getDataBatismo())
+                .adicionar(u.getId(), ativo, TipoAniversario.CASAMENTO, u.getDataCasamento())
+                .adicionar(u.getId(), ativo, TipoAniversario.MEMBRO, u.getDataMembroSince());
+        }
+        IndiceAniversarios indice = construtor.construir();
+        LOG.debug("Índice de aniversários da igreja {} montado com {} datas", igrejaId, indice.tamanho());
+        return indice;
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.semear.service.aniversario;
+
+/**
+ * Datas do cadastro do membro que se repetem todo ano.
+ */
+public enum TipoAniversario {
+    NASCIMENTO,
+    BATISMO,
+    CASAMENTO,
+    MEMBRO,
+}
@@ -0,0 +1,5 @@
+/**
+ * Índice de datas comemorativas (nascimento, batismo, casamento e membresia) por igreja, consultado por dia do
+ * ano sem carregar os usuários.
+ */
+package br.com.semear.service.aniversario;
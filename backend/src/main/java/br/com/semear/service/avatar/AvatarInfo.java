@@ -0,0 +1,9 @@
+package br.com.semear.service.avatar;
+
+import br.com.semear.domain.enumeration.VarianteAvatar;
+import java.time.Instant;
+
+/**
+ * Metadados de uma variante armazenada; {@code hash} é usado como ETag.
+ */
+public record AvatarInfo(VarianteAvatar variante, String contentType, long tamanhoBytes, String hash, Instant atualizadoEm) {}
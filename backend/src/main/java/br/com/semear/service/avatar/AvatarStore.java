@@ -0,0 +1,21 @@
+package br.com.semear.service.avatar;
+
+import br.com.semear.domain.enumeration.VarianteAvatar;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Onde ficam os bytes dos avatares. Metadados e conteúdo são lidos separadamente, para que uma
+ * requisição condicional (ETag/Last-Modified) seja respondida sem carregar a imagem.
+ */
+public interface AvatarStore {
+    /** Substitui todas as variantes do usuário pelas informadas. */
+    void salvar(Long userId, Map<VarianteAvatar, ImagemAvatar> variantes);
+
+    /** Metadados da variante pedida ou, se ela não existir, do original. */
+    Optional<AvatarInfo> buscarInfo(Long userId, VarianteAvatar variante);
+
+    Optional<byte[]> lerDados(Long userId, VarianteAvatar variante);
+
+    void remover(Long userId);
+}
@@ -0,0 +1,78 @@
+package br.com.semear.service.avatar;
+
+import br.com.semear.domain.UsuarioAvatar;
+import br.com.semear.domain.enumeration.VarianteAvatar;
+import br.com.semear.repository.UsuarioAvatarRepository;
+import br.com.semear.repository.projection.AvatarMetadadosProjection;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * {@link AvatarStore} na tabela {@code usuario_avatar} (sobrevive a redeploy, como os banners de evento).
+ */
+@Component
+@Transactional
+public class AvatarStoreBanco implements AvatarStore {
+
+    private final UsuarioAvatarRepository usuarioAvatarRepository;
+
+    public AvatarStoreBanco(UsuarioAvatarRepository usuarioAvatarRepository) {
+        this.usuarioAvatarRepository = usuarioAvatarRepository;
+    }
+
+    @Override
+    public void salvar(Long userId, Map<VarianteAvatar, ImagemAvatar> variantes) {
+        usuarioAvatarRepository.deleteByUserId(userId);
+        Instant agora = Instant.now();
+        for (Map.Entry<VarianteAvatar, ImagemAvatar> entry : variantes.entrySet()) {
+            ImagemAvatar imagem = entry.getValue();
+            UsuarioAvatar avatar = new UsuarioAvatar();
+            avatar.setUserId(userId);
+            avatar.setVariante(entry.getKey());
+            avatar.setContentType(imagem.contentType());
+            avatar.setDados(imagem.dados());
+            avatar.setTamanhoBytes((long) imagem.dados().length);
+            avatar.setHash(sha256(imagem.dados()));
+            avatar.setAtualizadoEm(agora);
+            usuarioAvatarRepository.save(avatar);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<AvatarInfo> buscarInfo(Long userId, VarianteAvatar variante) {
+        List<AvatarMetadadosProjection> metadados = usuarioAvatarRepository.findMetadadosByUserId(userId);
+        return metadados
+            .stream()
+            .filter(m -> m.getVariante() == variante)
+            .findFirst()
+            .or(() -> metadados.stream().filter(m -> m.getVariante() == VarianteAvatar.ORIGINAL).findFirst())
+            .map(m -> new AvatarInfo(m.getVariante(), m.getContentType(), m.getTamanhoBytes(), m.getHash(), m.getAtualizadoEm()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<byte[]> lerDados(Long userId, VarianteAvatar variante) {
+        return usuarioAvatarRepository.findDados(userId, variante);
+    }
+
+    @Override
+    public void remover(Long userId) {
+        usuarioAvatarRepository.deleteByUserId(userId);
+    }
+
+    private static String sha256(byte[] dados) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(dados));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package br.com.semear.service.avatar;
+
+import br.com.semear.domain.enumeration.VarianteAvatar;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Gera no upload as miniaturas de {@link VarianteAvatar}. Formatos que o ImageIO não lê (WebP) ou
+ * imagens já menores que a variante ficam só com o original — a leitura cai nele.
+ * <p>
+ * As dimensões vêm do cabeçalho antes de decodificar: um PNG pequeno pode declarar uma tela enorme, e o
+ * {@code BufferedImage} dela não caberia no heap. Acima de {@link #PIXELS_MAXIMOS} a imagem não é decodificada.
+ */
+public final class GeradorVariantesAvatar {
+
+    /** 16 megapixels (4000×4000): uns 64 MB decodificados, de sobra para uma foto de perfil. */
+    public static final long PIXELS_MAXIMOS = 16_000_000L;
+
+    private static final Logger LOG = LoggerFactory.getLogger(GeradorVariantesAvatar.class);
+
+    private GeradorVariantesAvatar() {}
+
+    public static Map<VarianteAvatar, ImagemAvatar> gerar(String contentType, byte[] original) {
+        Map<VarianteAvatar, ImagemAvatar> variantes = new EnumMap<>(VarianteAvatar.class);
+        variantes.put(VarianteAvatar.ORIGINAL, new ImagemAvatar(contentType, original));
+        BufferedImage imagem = ler(original);
+        if (imagem == null) {
+            return variantes;
+        }
+        for (VarianteAvatar variante : VarianteAvatar.values()) {
+            int lado = variante.getLadoMaximo();
+            if (lado <= 0 || Math.max(imagem.getWidth(), imagem.getHeight()) <= lado) {
+                continue;
+            }
+            try {
+                variantes.put(variante, reduzir(imagem, lado));
+            } catch (IOException e) {
+                LOG.warn("Não foi possível gerar a variante {} do avatar: {}", variante, e.getMessage());
+            }
+        }
+        return variantes;
+    }
+
+    /** Se o cabeçalho declara mais que {@link #PIXELS_MAXIMOS}; formatos sem leitor ImageIO não são avaliados. */
+    public static boolean excedeLimite(byte[] dados) {
+        try (ImageInputStream entrada = ImageIO.createImageInputStream(new ByteArrayInputStream(dados))) {
+            ImageReader leitor = leitor(entrada);
+            if (leitor == null) {
+                return false;
+            }
+            try {
+                return excedeLimite(leitor);
+            } finally {
+                leitor.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static BufferedImage ler(byte[] dados) {
+        try (ImageInputStream entrada = ImageIO.createImageInputStream(new ByteArrayInputStream(dados))) {
+            ImageReader leitor = leitor(entrada);
+            if (leitor == null) {
+                return null;
+            }
+            try {
+                if (excedeLimite(leitor)) {
+                    LOG.warn("Avatar de {}x{} acima do limite de pixels; mantido só o original", leitor.getWidth(0), leitor.getHeight(0));
+                    return null;
+                }
+                return leitor.read(0);
+            } finally {
+                leitor.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static ImageReader leitor(ImageInputStream entrada) {
+        if (entrada == null) {
+            return null;
+        }
+        Iterator<ImageReader> leitores = ImageIO.getImageReaders(entrada);
+        if (!leitores.hasNext()) {
+            return null;
+        }
+        ImageReader leitor = leitores.next();
+        leitor.setInput(entrada, true, true);
+        return leitor;
+    }
+
+    private static boolean excedeLimite(ImageReader leitor) throws IOException {
+        return (long) leitor.getWidth(0) * leitor.getHeight(0) > PIXELS_MAXIMOS;
+    }
+
+    private static ImagemAvatar reduzir(BufferedImage imagem, int lado) throws IOException {
+        double escala = (double) lado / Math.max(imagem.getWidth(), imagem.getHeight());
+        int largura = Math.max(1, (int) Math.round(imagem.getWidth() * escala));
+        int altura = Math.max(1, (int) Math.round(imagem.getHeight() * escala));
+        boolean transparente = imagem.getColorModel().hasAlpha();
+
+        BufferedImage reduzida = new BufferedImage(largura, altura, transparente ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = reduzida.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(imagem, 0, 0, largura, altura, null);
+        } finally {
+            g.dispose();
+        }
+
+        String formato = transparente ? "png" : "jpeg";
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        if (!ImageIO.write(reduzida, formato, saida)) {
+            throw new IOException("Sem escritor ImageIO para " + formato);
+        }
+        return new ImagemAvatar("image/" + formato, saida.toByteArray());
+    }
+}
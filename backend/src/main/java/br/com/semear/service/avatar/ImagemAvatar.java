@@ -0,0 +1,6 @@
+package br.com.semear.service.avatar;
+
+/**
+ * Bytes de uma variante de avatar pronta para gravar.
+ */
+public record ImagemAvatar(String contentType, byte[] dados) {}
@@ -0,0 +1,4 @@
+/**
+ * Armazenamento de avatares de usuário, separado da entidade {@code User}.
+ */
+package br.com.semear.service.avatar;
@@ -0,0 +1,30 @@
+package br.com.semear.service.biblia;
+
+import br.com.semear.domain.DestaqueBiblia;
+import br.com.semear.domain.FavoritoBiblia;
+import br.com.semear.domain.HistoricoLeituraBiblia;
+import br.com.semear.domain.NotaBiblia;
+import br.com.semear.domain.ProgressoLeituraUsuario;
+import br.com.semear.domain.enumeration.TipoDadoBiblia;
+import java.util.List;
+
+/**
+ * Resposta de {@code /api/biblia/sync}: tudo o que mudou depois do cursor do aparelho, até {@code cursor}. Com
+ * {@code temMais} o aparelho aplica esta página e pede de novo a partir do novo cursor.
+ */
+public record AlteracoesBiblia(
+    long cursor,
+    boolean temMais,
+    List<NotaBiblia> notas,
+    List<DestaqueBiblia> destaques,
+    List<FavoritoBiblia> favoritos,
+    List<HistoricoLeituraBiblia> historico,
+    List<ProgressoLeituraUsuario> progresso,
+    List<Remocao> removidos
+) {
+    public record Remocao(TipoDadoBiblia tipo, Long id) {}
+
+    static AlteracoesBiblia vazia(long cursor) {
+        return new AlteracoesBiblia(cursor, false, List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+    }
+}
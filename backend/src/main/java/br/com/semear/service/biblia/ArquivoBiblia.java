@@ -0,0 +1,181 @@
+package br.com.semear.service.biblia;
+
+import br.com.semear.domain.enumeration.VersaoBiblia;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Leitura de uma versão empacotada por {@link EmpacotadorBiblia}. O arquivo inteiro é mapeado em memória e só o
+ * cabeçalho com os livros vai para o heap; capítulo e versículos são lidos por posição absoluta, sem cópia do
+ * arquivo e sem estado compartilhado entre leituras — uma instância atende qualquer número de threads.
+ * <p>
+ * Layout (big-endian):
+ * <pre>
+ * int     MAGICO, short FORMATO
+ * utf     versão, utf assinatura (SHA-256 do conteúdo, hex)
+ * short   livros; por livro: utf id, utf nome, short capítulos, int primeiro capítulo
+ * int     capítulos; por capítulo: int primeiro versículo, short versículos
+ * int     versículos; por versículo: short número, int início do texto
+ * int     tamanho do texto, seguido do texto UTF-8 de todos os versículos em sequência
+ * </pre>
+ */
+public final class ArquivoBiblia {
+
+    static final int MAGICO = 0x534D4242; // "SMBB"
+    static final short FORMATO = 1;
+
+    private static final int BYTES_CAPITULO = Integer.BYTES + Short.BYTES;
+    private static final int BYTES_VERSICULO = Short.BYTES + Integer.BYTES;
+
+    private final VersaoBiblia versao;
+    private final String assinatura;
+    private final Map<String, Livro> livros;
+    private final ByteBuffer dados;
+    private final int inicioCapitulos;
+    private final int totalCapitulos;
+    private final int inicioVersiculos;
+    private final int totalVersiculos;
+    private final int inicioTexto;
+    private final int tamanhoTexto;
+
+    private record Livro(LivroBiblia info, int primeiroCapitulo) {}
+
+    private ArquivoBiblia(ByteBuffer dados) {
+        this.dados = dados;
+        ByteBuffer leitor = dados.duplicate();
+        if (leitor.getInt() != MAGICO) {
+            throw new IllegalArgumentException("Arquivo não é uma versão bíblica empacotada");
+        }
+        short formato = leitor.getShort();
+        if (formato != FORMATO) {
+            throw new IllegalArgumentException("Formato de arquivo bíblico não suportado: " + formato);
+        }
+        this.versao = VersaoBiblia.valueOf(lerUtf(leitor));
+        this.assinatura = lerUtf(leitor);
+        int quantidadeLivros = leitor.getShort();
+        Map<String, Livro> lidos = new LinkedHashMap<>();
+        for (int i = 0; i < quantidadeLivros; i++) {
+            String id = lerUtf(leitor);
+            String nome = lerUtf(leitor);
+            int capitulos = leitor.getShort();
+            lidos.put(id, new Livro(new LivroBiblia(id, nome, capitulos), leitor.getInt()));
+        }
+        this.livros = Collections.unmodifiableMap(lidos);
+        this.totalCapitulos = leitor.getInt();
+        this.inicioCapitulos = leitor.position();
+        leitor.position(inicioCapitulos + totalCapitulos * BYTES_CAPITULO);
+        this.totalVersiculos = leitor.getInt();
+        this.inicioVersiculos = leitor.position();
+        leitor.position(inicioVersiculos + totalVersiculos * BYTES_VERSICULO);
+        this.tamanhoTexto = leitor.getInt();
+        this.inicioTexto = leitor.position();
+        if (inicioTexto + tamanhoTexto != dados.limit()) {
+            throw new IllegalArgumentException("Arquivo bíblico truncado ou corrompido");
+        }
+    }
+
+    public static ArquivoBiblia abrir(Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            MappedByteBuffer mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+            return new ArquivoBiblia(mapa);
+        }
+    }
+
+    static ArquivoBiblia de(ByteBuffer dados) {
+        return new ArquivoBiblia(dados.asReadOnlyBuffer());
+    }
+
+    public VersaoBiblia versao() {
+        return versao;
+    }
+
+    public String assinatura() {
+        return assinatura;
+    }
+
+    public List<LivroBiblia> livros() {
+        return livros.values().stream().map(Livro::info).toList();
+    }
+
+    public Optional<CapituloBiblia> capitulo(String livroId, int numero) {
+        Livro livro = livros.get(livroId);
+        if (livro == null || numero < 1 || numero > livro.info().capitulos()) {
+            return Optional.empty();
+        }
+        int posicaoCapitulo = inicioCapitulos + (livro.primeiroCapitulo() + numero - 1) * BYTES_CAPITULO;
+        int primeiro = dados.getInt(posicaoCapitulo);
+        int quantidade = dados.getShort(posicaoCapitulo + Integer.BYTES);
+        List<VersiculoBiblia> versiculos = new ArrayList<>(quantidade);
+        for (int v = primeiro; v < primeiro + quantidade; v++) {
+            versiculos.add(new VersiculoBiblia(dados.getShort(inicioVersiculos + v * BYTES_VERSICULO), textoVersiculo(v)));
+        }
+        return Optional.of(
+            new CapituloBiblia(versao, livroId, livro.info().nome(), numero, versiculos, etag(livroId, numero))
+        );
+    }
+
+    public int totalVersiculos() {
+        return totalVersiculos;
+    }
+
+    /** Texto do versículo pela posição global no arquivo ({@code 0} é o primeiro versículo do primeiro livro). */
+    public String textoVersiculo(int indice) {
+        int posicao = inicioVersiculos + indice * BYTES_VERSICULO;
+        int inicio = dados.getInt(posicao + Short.BYTES);
+        int fim = indice + 1 < totalVersiculos ? dados.getInt(posicao + BYTES_VERSICULO + Short.BYTES) : tamanhoTexto;
+        byte[] texto = new byte[fim - inicio];
+        dados.get(inicioTexto + inicio, texto);
+        return new String(texto, StandardCharsets.UTF_8);
+    }
+
+    /** Referência completa de um versículo pela posição global, para resultados de busca. */
+    public VersiculoEncontrado localizar(int indice, double pontuacao) {
+        int baixo = 0;
+        int alto = totalCapitulos - 1;
+        while (baixo < alto) {
+            int meio = (baixo + alto + 1) >>> 1;
+            if (dados.getInt(inicioCapitulos + meio * BYTES_CAPITULO) <= indice) {
+                baixo = meio;
+            } else {
+                alto = meio - 1;
+            }
+        }
+        // capítulos vazios repetem o primeiro versículo do seguinte; o último com esse início é o que contém o versículo
+        Livro livro = null;
+        for (Livro candidato : livros.values()) {
+            if (candidato.primeiroCapitulo() <= baixo) {
+                livro = candidato;
+            }
+        }
+        return new VersiculoEncontrado(
+            livro.info().id(),
+            livro.info().nome(),
+            baixo - livro.primeiroCapitulo() + 1,
+            dados.getShort(inicioVersiculos + indice * BYTES_VERSICULO),
+            textoVersiculo(indice),
+            pontuacao
+        );
+    }
+
+    /** ETag forte: o conteúdo do capítulo só muda junto com a assinatura do arquivo. */
+    private String etag(String livroId, int numero) {
+        return "\"" + versao.name().toLowerCase() + "-" + assinatura.substring(0, 16) + "-" + livroId + "." + numero + "\"";
+    }
+
+    private static String lerUtf(ByteBuffer leitor) {
+        byte[] bytes = new byte[Short.toUnsignedInt(leitor.getShort())];
+        leitor.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,222 @@
+package br.com.semear.service.biblia;
+
+import br.com.semear.domain.enumeration.VersaoBiblia;
+import br.com.semear.web.rest.errors.BadRequestAlertException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Versões bíblicas empacotadas disponíveis no servidor, uma por arquivo {@code <versao>.smb} no diretório
+ * configurado. Os arquivos são abertos na inicialização; uma importação grava a nova versão ao lado e troca o
+ * arquivo de uma vez, então leituras em andamento continuam no mapeamento anterior até terminarem.
+ * <p>
+ * Cada versão tem ainda um índice de busca em {@code <versao>.idx}, ligado à assinatura do arquivo: na
+ * inicialização ele é lido do disco ou reconstruído em segundo plano quando estiver ausente ou desatualizado; na
+ * importação é construído junto com o arquivo. Buscas que chegam antes do índice ficar pronto esperam por ele.
+ */
+@Service
+public class BibliaService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BibliaService.class);
+    private static final String ENTITY = "biblia";
+    private static final String EXTENSAO = ".smb";
+    private static final String EXTENSAO_INDICE = ".idx";
+    private static final int LIMITE_BUSCA = 200;
+
+    @Value("${semear.biblia.dir:${user.home}/semear-app/biblia}")
+    private String diretorio;
+
+    private record VersaoCarregada(ArquivoBiblia arquivo, CompletableFuture<IndiceBusca> indice) {}
+
+    private volatile Map<VersaoBiblia, VersaoCarregada> versoes = Map.of();
+
+    private final ExecutorService indexador = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "semear-biblia-indice");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @PostConstruct
+    void carregar() {
+        Path dir = Paths.get(diretorio);
+        if (!Files.isDirectory(dir)) {
+            LOG.info("Diretório de versões bíblicas {} não existe — leitura local desativada até a primeira importação", dir);
+            return;
+        }
+        Map<VersaoBiblia, VersaoCarregada> abertas = new EnumMap<>(VersaoBiblia.class);
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(dir, "*" + EXTENSAO)) {
+            for (Path arquivo : arquivos) {
+                try {
+                    ArquivoBiblia biblia = ArquivoBiblia.abrir(arquivo);
+                    abertas.put(biblia.versao(), new VersaoCarregada(biblia, CompletableFuture.supplyAsync(() -> indexar(biblia), indexador)));
+                } catch (IOException | RuntimeException e) {
+                    LOG.warn("Ignorando arquivo bíblico {}: {}", arquivo.getFileName(), e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        versoes = Map.copyOf(abertas);
+        LOG.info("Versões bíblicas carregadas: {}", abertas.keySet());
+    }
+
+    @PreDestroy
+    void encerrar() {
+        indexador.shutdownNow();
+    }
+
+    public List<VersaoBiblia> versoesDisponiveis() {
+        return versoes.keySet().stream().sorted().toList();
+    }
+
+    public List<LivroBiblia> livros(String versao) {
+        return arquivo(resolverVersao(versao)).map(ArquivoBiblia::livros).orElse(List.of());
+    }
+
+    public Optional<CapituloBiblia> capitulo(String versao, String livroId, int capitulo) {
+        return arquivo(resolverVersao(versao)).flatMap(a -> a.capitulo(livroId, capitulo));
+    }
+
+    /**
+     * Versículos da versão que atendem a consulta (ver {@link IndiceBusca}), do mais relevante ao menos.
+     *
+     * @return vazio quando a versão não foi importada no servidor.
+     */
+    public Optional<List<VersiculoEncontrado>> buscar(String versao, String consulta, int limite) {
+        VersaoCarregada carregada = versoes.get(resolverVersao(versao));
+        if (carregada == null) {
+            return Optional.empty();
+        }
+        if (consulta == null || consulta.isBlank()) {
+            return Optional.of(List.of());
+        }
+        return Optional.of(
+            carregada
+                .indice()
+                .join()
+                .buscar(consulta, Math.min(Math.max(limite, 1), LIMITE_BUSCA))
+                .stream()
+                .map(acerto -> carregada.arquivo().localizar(acerto.documento(), acerto.pontuacao()))
+                .toList()
+        );
+    }
+
+    /**
+     * Empacota a versão a partir do TSV (ver {@link EmpacotadorBiblia}), constrói o índice de busca e passa a
+     * servi-la imediatamente.
+     *
+     * @return a quantidade de versículos importados.
+     */
+    public synchronized int importar(String versao, InputStream tsv) {
+        VersaoBiblia alvo = resolverVersao(versao);
+        EmpacotadorBiblia empacotador = new EmpacotadorBiblia(alvo);
+        try {
+            empacotador.lerTsv(tsv);
+            Path destino = gravarAtomicamente(caminho(alvo, EXTENSAO), empacotador::gravar);
+            ArquivoBiblia biblia = ArquivoBiblia.abrir(destino);
+            IndiceBusca indice = indexar(biblia);
+            Map<VersaoBiblia, VersaoCarregada> atualizadas = new EnumMap<>(VersaoBiblia.class);
+            atualizadas.putAll(versoes);
+            atualizadas.put(alvo, new VersaoCarregada(biblia, CompletableFuture.completedFuture(indice)));
+            versoes = Map.copyOf(atualizadas);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY, "importacaoinvalida");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar a versão bíblica " + alvo, e);
+        }
+        LOG.info("Versão bíblica {} importada | {} versículo(s)", alvo, empacotador.totalVersiculos());
+        return empacotador.totalVersiculos();
+    }
+
+    /** Lê o índice persistido da versão ou, se ausente ou de outro conteúdo, reconstrói e grava. */
+    private IndiceBusca indexar(ArquivoBiblia biblia) {
+        Path arquivoIndice = caminho(biblia.versao(), EXTENSAO_INDICE);
+        if (Files.isRegularFile(arquivoIndice)) {
+            try (InputStream entrada = new BufferedInputStream(Files.newInputStream(arquivoIndice))) {
+                Optional<IndiceBusca> persistido = IndiceBusca.ler(entrada, biblia.assinatura());
+                if (persistido.isPresent()) {
+                    return persistido.get();
+                }
+            } catch (IOException | RuntimeException e) {
+                LOG.warn("Índice de busca {} ilegível, reconstruindo: {}", arquivoIndice.getFileName(), e.getMessage());
+            }
+        }
+        long inicio = System.currentTimeMillis();
+        IndiceBusca.Construtor construtor = IndiceBusca.construtor();
+        for (int v = 0; v < biblia.totalVersiculos(); v++) {
+            construtor.adicionar(biblia.textoVersiculo(v));
+        }
+        IndiceBusca indice = construtor.construir();
+        try {
+            gravarAtomicamente(arquivoIndice, saida -> indice.gravar(saida, biblia.assinatura()));
+        } catch (IOException e) {
+            LOG.warn("Não foi possível gravar o índice de busca de {}: {}", biblia.versao(), e.getMessage());
+        }
+        LOG.info(
+            "Índice de busca de {} construído | {} versículo(s) | {} termo(s) | {} ms",
+            biblia.versao(),
+            indice.documentos(),
+            indice.termos(),
+            System.currentTimeMillis() - inicio
+        );
+        return indice;
+    }
+
+    private interface Gravacao {
+        void gravar(OutputStream saida) throws IOException;
+    }
+
+    private static Path gravarAtomicamente(Path destino, Gravacao gravacao) throws IOException {
+        Files.createDirectories(destino.getParent());
+        Path temporario = Files.createTempFile(destino.getParent(), destino.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream saida = new BufferedOutputStream(Files.newOutputStream(temporario))) {
+                gravacao.gravar(saida);
+            }
+            Files.move(temporario, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return destino;
+        } finally {
+            Files.deleteIfExists(temporario);
+        }
+    }
+
+    private Path caminho(VersaoBiblia versao, String extensao) {
+        return Paths.get(diretorio).toAbsolutePath().resolve(versao.name().toLowerCase(Locale.ROOT) + extensao);
+    }
+
+    private Optional<ArquivoBiblia> arquivo(VersaoBiblia versao) {
+        return Optional.ofNullable(versoes.get(versao)).map(VersaoCarregada::arquivo);
+    }
+
+    /** Aceita o identificador do app ({@code almeida}, {@code oeb-us}) ou o nome da enumeração. */
+    static VersaoBiblia resolverVersao(String versao) {
+        try {
+            return VersaoBiblia.valueOf(versao.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new BadRequestAlertException("Versão bíblica inválida", ENTITY, "versaoinvalida");
+        }
+    }
+}
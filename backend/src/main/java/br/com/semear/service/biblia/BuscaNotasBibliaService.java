@@ -0,0 +1,42 @@
+package br.com.semear.service.biblia;
+
+import br.com.semear.domain.NotaBiblia;
+import br.com.semear.repository.NotaBibliaRepository;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Busca nas anotações bíblicas do usuário logado com as mesmas regras da busca de versículos. As anotações de uma
+ * pessoa são poucas, então o índice é montado a cada consulta em vez de mantido.
+ */
+@Service
+@Transactional(readOnly = true)
+public class BuscaNotasBibliaService {
+
+    private static final int LIMITE_BUSCA = 200;
+
+    private final NotaBibliaRepository notaBibliaRepository;
+
+    public BuscaNotasBibliaService(NotaBibliaRepository notaBibliaRepository) {
+        this.notaBibliaRepository = notaBibliaRepository;
+    }
+
+    public List<NotaBiblia> buscar(String consulta, int limite) {
+        if (consulta == null || consulta.isBlank()) {
+            return List.of();
+        }
+        List<NotaBiblia> notas = notaBibliaRepository.findByUsuarioIsCurrentUser();
+        IndiceBusca.Construtor construtor = IndiceBusca.construtor();
+        for (NotaBiblia nota : notas) {
+            construtor.adicionar(Objects.toString(nota.getLivroNome(), "") + " " + Objects.toString(nota.getConteudo(), ""));
+        }
+        return construtor
+            .construir()
+            .buscar(consulta, Math.min(Math.max(limite, 1), LIMITE_BUSCA))
+            .stream()
+            .map(acerto -> notas.get(acerto.documento()))
+            .toList();
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.semear.service.biblia;
+
+import br.com.semear.domain.enumeration.VersaoBiblia;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.List;
+
+/**
+ * Um capítulo lido do arquivo da versão.
+ *
+ * @param etag identifica o conteúdo: muda só quando a versão é reempacotada com texto diferente
+ */
+public record CapituloBiblia(
+    VersaoBiblia versao,
+    String livroId,
+    String livroNome,
+    int capitulo,
+    List<VersiculoBiblia> versiculos,
+    @JsonIgnore String etag
+) {}
@@ -0,0 +1,157 @@
+package br.com.semear.service.biblia;
+
+import br.com.semear.domain.enumeration.VersaoBiblia;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Monta o arquivo de uma versão no layout lido por {@link ArquivoBiblia}. A entrada é um TSV UTF-8 com uma linha por
+ * versículo — {@code livroId, livroNome, capitulo, versiculo, texto} — em qualquer ordem: os livros ficam na ordem
+ * da primeira aparição e capítulos e versículos em ordem numérica. Linhas vazias ou iniciadas por {@code #} são
+ * ignoradas.
+ */
+final class EmpacotadorBiblia {
+
+    private final VersaoBiblia versao;
+    private final Map<String, Livro> livros = new LinkedHashMap<>();
+    private int totalVersiculos;
+
+    private static final class Livro {
+
+        private final String nome;
+        private final TreeMap<Integer, TreeMap<Integer, String>> capitulos = new TreeMap<>();
+
+        private Livro(String nome) {
+            this.nome = nome;
+        }
+    }
+
+    EmpacotadorBiblia(VersaoBiblia versao) {
+        this.versao = versao;
+    }
+
+    EmpacotadorBiblia adicionar(String livroId, String livroNome, int capitulo, int versiculo, String texto) {
+        if (livroId == null || livroId.isBlank() || livroNome == null || livroNome.isBlank()) {
+            throw new IllegalArgumentException("Livro sem identificador ou nome");
+        }
+        if (capitulo < 1 || capitulo > Short.MAX_VALUE || versiculo < 1 || versiculo > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Capítulo ou versículo fora do intervalo: " + capitulo + ":" + versiculo);
+        }
+        Livro livro = livros.computeIfAbsent(livroId.trim(), id -> new Livro(livroNome.trim()));
+        String anterior = livro.capitulos.computeIfAbsent(capitulo, c -> new TreeMap<>()).put(versiculo, texto.strip());
+        if (anterior != null) {
+            throw new IllegalArgumentException("Versículo repetido: " + livroId + " " + capitulo + ":" + versiculo);
+        }
+        totalVersiculos++;
+        return this;
+    }
+
+    EmpacotadorBiblia lerTsv(InputStream entrada) throws IOException {
+        BufferedReader leitor = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+        String linha;
+        int numeroLinha = 0;
+        while ((linha = leitor.readLine()) != null) {
+            numeroLinha++;
+            if (linha.isBlank() || linha.startsWith("#")) {
+                continue;
+            }
+            String[] campos = linha.split("\t", 5);
+            if (campos.length < 5) {
+                throw new IllegalArgumentException("Linha " + numeroLinha + ": esperados 5 campos separados por tabulação");
+            }
+            try {
+                adicionar(campos[0], campos[1], Integer.parseInt(campos[2].trim()), Integer.parseInt(campos[3].trim()), campos[4]);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Linha " + numeroLinha + ": " + e.getMessage(), e);
+            }
+        }
+        return this;
+    }
+
+    int totalVersiculos() {
+        return totalVersiculos;
+    }
+
+    void gravar(OutputStream saida) throws IOException {
+        if (livros.isEmpty()) {
+            throw new IllegalArgumentException("Nenhum versículo informado");
+        }
+        ByteArrayOutputStream corpo = new ByteArrayOutputStream(totalVersiculos * 160);
+        DataOutputStream out = new DataOutputStream(corpo);
+        ByteArrayOutputStream texto = new ByteArrayOutputStream(totalVersiculos * 140);
+
+        out.writeShort(livros.size());
+        int primeiroCapitulo = 0;
+        for (Map.Entry<String, Livro> livro : livros.entrySet()) {
+            int capitulos = livro.getValue().capitulos.lastKey();
+            escreverUtf(out, livro.getKey());
+            escreverUtf(out, livro.getValue().nome);
+            out.writeShort(capitulos);
+            out.writeInt(primeiroCapitulo);
+            primeiroCapitulo += capitulos;
+        }
+
+        out.writeInt(primeiroCapitulo);
+        int primeiroVersiculo = 0;
+        for (Livro livro : livros.values()) {
+            for (int c = 1; c <= livro.capitulos.lastKey(); c++) {
+                int versiculos = livro.capitulos.getOrDefault(c, new TreeMap<>()).size();
+                out.writeInt(primeiroVersiculo);
+                out.writeShort(versiculos);
+                primeiroVersiculo += versiculos;
+            }
+        }
+
+        out.writeInt(totalVersiculos);
+        for (Livro livro : livros.values()) {
+            for (TreeMap<Integer, String> capitulo : livro.capitulos.values()) {
+                for (Map.Entry<Integer, String> versiculo : capitulo.entrySet()) {
+                    out.writeShort(versiculo.getKey());
+                    out.writeInt(texto.size());
+                    texto.write(versiculo.getValue().getBytes(StandardCharsets.UTF_8));
+                }
+            }
+        }
+        out.writeInt(texto.size());
+        texto.writeTo(out);
+        out.flush();
+
+        byte[] bytesCorpo = corpo.toByteArray();
+        DataOutputStream destino = new DataOutputStream(saida);
+        destino.writeInt(ArquivoBiblia.MAGICO);
+        destino.writeShort(ArquivoBiblia.FORMATO);
+        escreverUtf(destino, versao.name());
+        escreverUtf(destino, sha256(bytesCorpo));
+        destino.write(bytesCorpo);
+        destino.flush();
+    }
+
+    private static void escreverUtf(DataOutputStream out, String valor) throws IOException {
+        byte[] bytes = valor.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Texto longo demais para o cabeçalho: " + valor.substring(0, 32));
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String sha256(byte[] dados) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(dados));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,402 @@
+package br.com.semear.service.biblia;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Índice invertido em memória com posições, para busca de palavras sem acento e sem diferenciar maiúsculas.
+ * <p>
+ * Os termos ficam num vetor ordenado — o que resolve prefixos com uma busca binária — e as postagens de todos eles
+ * num único {@code byte[]}: por documento, o salto desde o documento anterior, a frequência e os saltos entre
+ * posições, todos em varint. A mesma codificação é gravada em disco, então carregar o índice é uma leitura
+ * sequencial sem reconstrução.
+ * <p>
+ * Consulta: palavras soltas devem aparecer todas no documento; {@code "entre aspas"} exige a frase na ordem;
+ * {@code palavra*} aceita qualquer termo com o prefixo. A ordenação usa BM25.
+ */
+public final class IndiceBusca {
+
+    static final int MAGICO = 0x534D4249; // "SMBI"
+    static final short FORMATO = 1;
+
+    private static final int MAX_CLAUSULAS = 12;
+    private static final int MAX_EXPANSAO_PREFIXO = 64;
+    private static final int MIN_PREFIXO = 2;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final String[] termos;
+    private final int[] frequencias;
+    private final int[] inicioPostagens;
+    private final byte[] postagens;
+    private final int[] tamanhos;
+    private final double tamanhoMedio;
+
+    public record Acerto(int documento, double pontuacao) {}
+
+    private IndiceBusca(String[] termos, int[] frequencias, int[] inicioPostagens, byte[] postagens, int[] tamanhos) {
+        this.termos = termos;
+        this.frequencias = frequencias;
+        this.inicioPostagens = inicioPostagens;
+        this.postagens = postagens;
+        this.tamanhos = tamanhos;
+        this.tamanhoMedio = Math.max(1.0, Arrays.stream(tamanhos).average().orElse(1.0));
+    }
+
+    public static Construtor construtor() {
+        return new Construtor();
+    }
+
+    public int documentos() {
+        return tamanhos.length;
+    }
+
+    public int termos() {
+        return termos.length;
+    }
+
+    /** Documentos que atendem todas as cláusulas da consulta, do mais relevante ao menos relevante. */
+    public List<Acerto> buscar(String consulta, int limite) {
+        List<Clausula> clausulas = interpretar(consulta);
+        if (clausulas.isEmpty() || limite <= 0) {
+            return List.of();
+        }
+        List<Ocorrencias> porClausula = new ArrayList<>(clausulas.size());
+        for (Clausula clausula : clausulas) {
+            Ocorrencias ocorrencias = avaliar(clausula);
+            if (ocorrencias.documentos.length == 0) {
+                return List.of();
+            }
+            porClausula.add(ocorrencias);
+        }
+        porClausula.sort(Comparator.comparingInt(o -> o.documentos.length));
+
+        List<Acerto> acertos = new ArrayList<>();
+        Ocorrencias menor = porClausula.get(0);
+        int[] cursores = new int[porClausula.size()];
+        candidatos: for (int i = 0; i < menor.documentos.length; i++) {
+            int documento = menor.documentos[i];
+            double pontuacao = pontuar(menor, i, documento);
+            for (int c = 1; c < porClausula.size(); c++) {
+                Ocorrencias outra = porClausula.get(c);
+                int posicao = Arrays.binarySearch(outra.documentos, cursores[c], outra.documentos.length, documento);
+                if (posicao < 0) {
+                    cursores[c] = -posicao - 1;
+                    continue candidatos;
+                }
+                cursores[c] = posicao;
+                pontuacao += pontuar(outra, posicao, documento);
+            }
+            acertos.add(new Acerto(documento, pontuacao));
+        }
+        acertos.sort(Comparator.comparingDouble(Acerto::pontuacao).reversed().thenComparingInt(Acerto::documento));
+        return acertos.size() > limite ? List.copyOf(acertos.subList(0, limite)) : acertos;
+    }
+
+    private double pontuar(Ocorrencias ocorrencias, int indice, int documento) {
+        double idf = Math.log(1 + (tamanhos.length - ocorrencias.frequencia + 0.5) / (ocorrencias.frequencia + 0.5));
+        int tf = ocorrencias.frequencias[indice];
+        double normalizacao = K1 * (1 - B + B * tamanhos[documento] / tamanhoMedio);
+        return idf * tf * (K1 + 1) / (tf + normalizacao);
+    }
+
+    // ---- consulta ----
+
+    private sealed interface Clausula permits Termo, Prefixo, Frase {}
+
+    private record Termo(String termo) implements Clausula {}
+
+    private record Prefixo(String prefixo) implements Clausula {}
+
+    private record Frase(List<String> termos) implements Clausula {}
+
+    /** Documentos em ordem crescente, com a frequência da cláusula em cada um. */
+    private record Ocorrencias(int[] documentos, int[] frequencias, int frequencia) {
+        static final Ocorrencias NENHUMA = new Ocorrencias(new int[0], new int[0], 0);
+    }
+
+    static List<Clausula> interpretar(String consulta) {
+        List<Clausula> clausulas = new ArrayList<>();
+        if (consulta == null) {
+            return clausulas;
+        }
+        String[] partes = consulta.split("\"", -1);
+        for (int i = 0; i < partes.length; i++) {
+            if (i % 2 == 1 && i < partes.length - 1) {
+                List<String> frase = TextoBusca.palavras(partes[i]);
+                if (frase.size() == 1) {
+                    clausulas.add(new Termo(frase.get(0)));
+                } else if (!frase.isEmpty()) {
+                    clausulas.add(new Frase(frase));
+                }
+                continue;
+            }
+            for (String pedaco : partes[i].trim().split("\\s+")) {
+                List<String> palavras = TextoBusca.palavras(pedaco);
+                for (int p = 0; p < palavras.size(); p++) {
+                    boolean prefixo = p == palavras.size() - 1 && pedaco.endsWith("*") && palavras.get(p).length() >= MIN_PREFIXO;
+                    clausulas.add(prefixo ? new Prefixo(palavras.get(p)) : new Termo(palavras.get(p)));
+                }
+            }
+        }
+        return clausulas.size() > MAX_CLAUSULAS ? clausulas.subList(0, MAX_CLAUSULAS) : clausulas;
+    }
+
+    private Ocorrencias avaliar(Clausula clausula) {
+        if (clausula instanceof Prefixo prefixo) {
+            return avaliarPrefixo(prefixo.prefixo());
+        }
+        if (clausula instanceof Frase frase) {
+            return avaliarFrase(frase.termos());
+        }
+        int indice = Arrays.binarySearch(termos, ((Termo) clausula).termo());
+        return indice < 0 ? Ocorrencias.NENHUMA : decodificar(indice, false).ocorrencias(frequencias[indice]);
+    }
+
+    private Ocorrencias avaliarPrefixo(String prefixo) {
+        int inicio = Arrays.binarySearch(termos, prefixo);
+        if (inicio < 0) {
+            inicio = -inicio - 1;
+        }
+        Map<Integer, Integer> frequenciaPorDocumento = new HashMap<>();
+        for (int i = inicio; i < termos.length && i < inicio + MAX_EXPANSAO_PREFIXO && termos[i].startsWith(prefixo); i++) {
+            Postagens postagens = decodificar(i, false);
+            for (int d = 0; d < postagens.documentos.length; d++) {
+                frequenciaPorDocumento.merge(postagens.documentos[d], postagens.frequencias[d], Integer::sum);
+            }
+        }
+        int[] documentos = frequenciaPorDocumento.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        int[] frequenciasDocs = Arrays.stream(documentos).map(frequenciaPorDocumento::get).toArray();
+        return new Ocorrencias(documentos, frequenciasDocs, documentos.length);
+    }
+
+    private Ocorrencias avaliarFrase(List<String> frase) {
+        List<Postagens> porTermo = new ArrayList<>(frase.size());
+        for (String termo : frase) {
+            int indice = Arrays.binarySearch(termos, termo);
+            if (indice < 0) {
+                return Ocorrencias.NENHUMA;
+            }
+            porTermo.add(decodificar(indice, true));
+        }
+        Postagens primeira = porTermo.get(0);
+        List<int[]> encontrados = new ArrayList<>();
+        documentos: for (int d = 0; d < primeira.documentos.length; d++) {
+            int documento = primeira.documentos[d];
+            int[][] posicoes = new int[frase.size()][];
+            posicoes[0] = primeira.posicoes[d];
+            for (int t = 1; t < porTermo.size(); t++) {
+                Postagens outra = porTermo.get(t);
+                int indice = Arrays.binarySearch(outra.documentos, documento);
+                if (indice < 0) {
+                    continue documentos;
+                }
+                posicoes[t] = outra.posicoes[indice];
+            }
+            int vezes = 0;
+            inicios: for (int inicio : posicoes[0]) {
+                for (int t = 1; t < posicoes.length; t++) {
+                    if (Arrays.binarySearch(posicoes[t], inicio + t) < 0) {
+                        continue inicios;
+                    }
+                }
+                vezes++;
+            }
+            if (vezes > 0) {
+                encontrados.add(new int[] { documento, vezes });
+            }
+        }
+        return new Ocorrencias(
+            encontrados.stream().mapToInt(e -> e[0]).toArray(),
+            encontrados.stream().mapToInt(e -> e[1]).toArray(),
+            encontrados.size()
+        );
+    }
+
+    // ---- postagens ----
+
+    private record Postagens(int[] documentos, int[] frequencias, int[][] posicoes) {
+        Ocorrencias ocorrencias(int frequencia) {
+            return new Ocorrencias(documentos, frequencias, frequencia);
+        }
+    }
+
+    private Postagens decodificar(int termo, boolean comPosicoes) {
+        int quantidade = frequencias[termo];
+        int[] documentos = new int[quantidade];
+        int[] frequenciasDocs = new int[quantidade];
+        int[][] posicoes = comPosicoes ? new int[quantidade][] : null;
+        int[] cursor = { inicioPostagens[termo] };
+        int documento = -1;
+        for (int i = 0; i < quantidade; i++) {
+            documento += lerVarint(postagens, cursor);
+            int tf = lerVarint(postagens, cursor);
+            documentos[i] = documento;
+            frequenciasDocs[i] = tf;
+            int posicao = -1;
+            int[] doDocumento = comPosicoes ? new int[tf] : null;
+            for (int p = 0; p < tf; p++) {
+                posicao += lerVarint(postagens, cursor);
+                if (doDocumento != null) {
+                    doDocumento[p] = posicao;
+                }
+            }
+            if (comPosicoes) {
+                posicoes[i] = doDocumento;
+            }
+        }
+        return new Postagens(documentos, frequenciasDocs, posicoes);
+    }
+
+    private static int lerVarint(byte[] dados, int[] cursor) {
+        int valor = 0;
+        int deslocamento = 0;
+        byte b;
+        do {
+            b = dados[cursor[0]++];
+            valor |= (b & 0x7F) << deslocamento;
+            deslocamento += 7;
+        } while (b < 0);
+        return valor;
+    }
+
+    private static void escreverVarint(ByteArrayOutputStream saida, int valor) {
+        while ((valor & ~0x7F) != 0) {
+            saida.write((valor & 0x7F) | 0x80);
+            valor >>>= 7;
+        }
+        saida.write(valor);
+    }
+
+    // ---- persistência ----
+
+    /**
+     * Grava o índice associado à {@code assinatura} do conteúdo indexado; {@link #ler} recusa o arquivo quando a
+     * assinatura esperada for outra.
+     */
+    public void gravar(OutputStream saida, String assinatura) throws IOException {
+        DataOutputStream out = new DataOutputStream(saida);
+        out.writeInt(MAGICO);
+        out.writeShort(FORMATO);
+        out.writeUTF(assinatura);
+        ByteArrayOutputStream tamanhosCodificados = new ByteArrayOutputStream(tamanhos.length * 2);
+        for (int tamanho : tamanhos) {
+            escreverVarint(tamanhosCodificados, tamanho);
+        }
+        out.writeInt(tamanhos.length);
+        out.writeInt(tamanhosCodificados.size());
+        tamanhosCodificados.writeTo(out);
+        out.writeInt(termos.length);
+        for (int i = 0; i < termos.length; i++) {
+            out.writeUTF(termos[i]);
+            out.writeInt(frequencias[i]);
+            out.writeInt(inicioPostagens[i]);
+        }
+        out.writeInt(postagens.length);
+        out.write(postagens);
+        out.flush();
+    }
+
+    public static Optional<IndiceBusca> ler(InputStream entrada, String assinaturaEsperada) throws IOException {
+        DataInputStream in = new DataInputStream(entrada);
+        if (in.readInt() != MAGICO || in.readShort() != FORMATO || !in.readUTF().equals(assinaturaEsperada)) {
+            return Optional.empty();
+        }
+        int[] tamanhos = new int[in.readInt()];
+        byte[] tamanhosCodificados = in.readNBytes(in.readInt());
+        int[] cursor = { 0 };
+        for (int i = 0; i < tamanhos.length; i++) {
+            tamanhos[i] = lerVarint(tamanhosCodificados, cursor);
+        }
+        int quantidadeTermos = in.readInt();
+        String[] termos = new String[quantidadeTermos];
+        int[] frequencias = new int[quantidadeTermos];
+        int[] inicioPostagens = new int[quantidadeTermos + 1];
+        for (int i = 0; i < quantidadeTermos; i++) {
+            termos[i] = in.readUTF();
+            frequencias[i] = in.readInt();
+            inicioPostagens[i] = in.readInt();
+        }
+        int tamanhoPostagens = in.readInt();
+        byte[] postagens = in.readNBytes(tamanhoPostagens);
+        if (postagens.length != tamanhoPostagens) {
+            return Optional.empty();
+        }
+        inicioPostagens[quantidadeTermos] = tamanhoPostagens;
+        return Optional.of(new IndiceBusca(termos, frequencias, inicioPostagens, postagens, tamanhos));
+    }
+
+    /** Recebe os documentos em sequência; o primeiro é o documento {@code 0}. */
+    public static final class Construtor {
+
+        private final Map<String, TermoEmConstrucao> termos = new HashMap<>();
+        private final List<Integer> tamanhos = new ArrayList<>();
+
+        private static final class TermoEmConstrucao {
+
+            private final ByteArrayOutputStream postagens = new ByteArrayOutputStream(16);
+            private int ultimoDocumento = -1;
+            private int frequencia;
+        }
+
+        private Construtor() {}
+
+        /** @return o número do documento adicionado. */
+        public int adicionar(String texto) {
+            int documento = tamanhos.size();
+            List<String> palavras = TextoBusca.palavras(texto);
+            tamanhos.add(palavras.size());
+            Map<String, List<Integer>> posicoes = new LinkedHashMap<>();
+            for (int i = 0; i < palavras.size(); i++) {
+                posicoes.computeIfAbsent(palavras.get(i), p -> new ArrayList<>()).add(i);
+            }
+            for (Map.Entry<String, List<Integer>> entrada : posicoes.entrySet()) {
+                TermoEmConstrucao termo = termos.computeIfAbsent(entrada.getKey(), t -> new TermoEmConstrucao());
+                escreverVarint(termo.postagens, documento - termo.ultimoDocumento);
+                escreverVarint(termo.postagens, entrada.getValue().size());
+                int anterior = -1;
+                for (int posicao : entrada.getValue()) {
+                    escreverVarint(termo.postagens, posicao - anterior);
+                    anterior = posicao;
+                }
+                termo.ultimoDocumento = documento;
+                termo.frequencia++;
+            }
+            return documento;
+        }
+
+        public IndiceBusca construir() {
+            String[] ordenados = termos.keySet().toArray(String[]::new);
+            Arrays.sort(ordenados);
+            int[] frequencias = new int[ordenados.length];
+            int[] inicio = new int[ordenados.length + 1];
+            ByteArrayOutputStream todas = new ByteArrayOutputStream();
+            for (int i = 0; i < ordenados.length; i++) {
+                TermoEmConstrucao termo = termos.get(ordenados[i]);
+                inicio[i] = todas.size();
+                frequencias[i] = termo.frequencia;
+                todas.writeBytes(termo.postagens.toByteArray());
+            }
+            inicio[ordenados.length] = todas.size();
+            return new IndiceBusca(
+                ordenados,
+                frequencias,
+                inicio,
+                todas.toByteArray(),
+                tamanhos.stream().mapToInt(Integer::intValue).toArray()
+            );
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.semear.service.biblia;
+
+/**
+ * @param id identificador curto usado pelo app ({@code gn}, {@code sl}, {@code jo2}...)
+ * @param capitulos quantidade de capítulos presentes no arquivo
+ */
+public record LivroBiblia(String id, String nome, int capitulos) {}
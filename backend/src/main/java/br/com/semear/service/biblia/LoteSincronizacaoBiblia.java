@@ -0,0 +1,39 @@
+package br.com.semear.service.biblia;
+
+import br.com.semear.domain.DestaqueBiblia;
+import br.com.semear.domain.FavoritoBiblia;
+import br.com.semear.domain.HistoricoLeituraBiblia;
+import br.com.semear.domain.NotaBiblia;
+import br.com.semear.domain.ProgressoLeituraUsuario;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Escritas acumuladas no aparelho, aplicadas numa única transação. Itens sem {@code id} são criados; com
+ * {@code id}, substituem a linha do usuário (o último a gravar vence).
+ */
+public record LoteSincronizacaoBiblia(
+    Alteracoes<NotaBiblia> notas,
+    Alteracoes<DestaqueBiblia> destaques,
+    Alteracoes<FavoritoBiblia> favoritos,
+    Alteracoes<HistoricoLeituraBiblia> historico,
+    Alteracoes<ProgressoLeituraUsuario> progresso
+) {
+    public record Alteracoes<T>(List<T> salvar, List<Long> remover) {
+        public List<T> salvar() {
+            return salvar == null ? List.of() : salvar;
+        }
+
+        public List<Long> remover() {
+            return remover == null ? List.of() : remover;
+        }
+
+        int tamanho() {
+            return salvar().size() + remover().size();
+        }
+    }
+
+    int tamanho() {
+        return Stream.of(notas, destaques, favoritos, historico, progresso).mapToInt(a -> a == null ? 0 : a.tamanho()).sum();
+    }
+}
@@ -0,0 +1,211 @@
+package br.com.semear.service.biblia;
+
+import br.com.semear.domain.BibliaSyncRemocao;
+import br.com.semear.domain.DadoBibliaUsuario;
+import br.com.semear.domain.DestaqueBiblia;
+import br.com.semear.domain.FavoritoBiblia;
+import br.com.semear.domain.HistoricoLeituraBiblia;
+import br.com.semear.domain.NotaBiblia;
+import br.com.semear.domain.ProgressoLeituraUsuario;
+import br.com.semear.domain.User;
+import br.com.semear.domain.enumeration.TipoDadoBiblia;
+import br.com.semear.repository.BibliaSyncRemocaoRepository;
+import br.com.semear.repository.DestaqueBibliaRepository;
+import br.com.semear.repository.FavoritoBibliaRepository;
+import br.com.semear.repository.HistoricoLeituraBibliaRepository;
+import br.com.semear.repository.NotaBibliaRepository;
+import br.com.semear.repository.ProgressoLeituraUsuarioRepository;
+import br.com.semear.service.BibliaUsuarioAccessService;
+import br.com.semear.web.rest.errors.BadRequestAlertException;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.ToLongFunction;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Sincronização incremental das notas, destaques, favoritos, histórico e progresso de leitura.
+ * <p>
+ * Cada usuário tem um contador em {@code biblia_sync_usuario}. Toda linha gravada e toda lápide de remoção avança o
+ * contador e recebe a versão nova; a primeira escrita da transação trava a linha do contador até o commit. Como a
+ * versão seguinte só é entregue depois do commit da anterior, quem lê o contador e depois as linhas com versão até
+ * ele nunca pula uma escrita ainda não confirmada.
+ */
+@Service
+@Transactional
+public class SincronizacaoBibliaService {
+
+    /**
+     * Linhas por tipo numa página e escritas num lote. Como cada linha tem a sua versão, a linha que sobra de uma
+     * página cheia tem versão maior que todas as entregues e o cursor sempre avança.
+     */
+    static final int LIMITE = 500;
+
+    private static final String ENTITY_NAME = "bibliaSync";
+
+    private final BibliaUsuarioAccessService bibliaUsuarioAccessService;
+    private final BibliaSyncRemocaoRepository remocaoRepository;
+    private final NotaBibliaRepository notaBibliaRepository;
+    private final DestaqueBibliaRepository destaqueBibliaRepository;
+    private final FavoritoBibliaRepository favoritoBibliaRepository;
+    private final HistoricoLeituraBibliaRepository historicoLeituraBibliaRepository;
+    private final ProgressoLeituraUsuarioRepository progressoLeituraUsuarioRepository;
+
+    public SincronizacaoBibliaService(
+        BibliaUsuarioAccessService bibliaUsuarioAccessService,
+        BibliaSyncRemocaoRepository remocaoRepository,
+        NotaBibliaRepository notaBibliaRepository,
+        DestaqueBibliaRepository destaqueBibliaRepository,
+        FavoritoBibliaRepository favoritoBibliaRepository,
+        HistoricoLeituraBibliaRepository historicoLeituraBibliaRepository,
+        ProgressoLeituraUsuarioRepository progressoLeituraUsuarioRepository
+    ) {
+        this.bibliaUsuarioAccessService = bibliaUsuarioAccessService;
+        this.remocaoRepository = remocaoRepository;
+        this.notaBibliaRepository = notaBibliaRepository;
+        this.destaqueBibliaRepository = destaqueBibliaRepository;
+        this.favoritoBibliaRepository = favoritoBibliaRepository;
+        this.historicoLeituraBibliaRepository = historicoLeituraBibliaRepository;
+        this.progressoLeituraUsuarioRepository = progressoLeituraUsuarioRepository;
+    }
+
+    /** Marca o dado com uma versão nova do dono; chamar antes de salvar. */
+    public void carimbar(DadoBibliaUsuario dado) {
+        dado.setVersaoSync(proximaVersao(dado.getUsuario().getId()));
+    }
+
+    /** Deixa a lápide do dado que está sendo removido. */
+    public void registrarRemocao(TipoDadoBiblia tipo, DadoBibliaUsuario dado) {
+        Long usuarioId = dado.getUsuario().getId();
+        BibliaSyncRemocao remocao = new BibliaSyncRemocao();
+        remocao.setUsuarioId(usuarioId);
+        remocao.setTipo(tipo);
+        remocao.setEntidadeId(dado.getId());
+        remocao.setVersaoSync(proximaVersao(usuarioId));
+        remocao.setRemovidoEm(Instant.now());
+        remocaoRepository.save(remocao);
+    }
+
+    /**
+     * Alterações do usuário logado depois de {@code desde}. Um cursor maior que o contador (banco restaurado, por
+     * exemplo) recomeça do zero.
+     */
+    @Transactional(readOnly = true)
+    public AlteracoesBiblia alteracoesDesde(long desde) {
+        Long usuarioId = bibliaUsuarioAccessService.getUsuarioIdAtual();
+        long ate = remocaoRepository.versaoAtual(usuarioId);
+        long inicio = desde < 0 || desde > ate ? 0 : desde;
+        if (inicio == ate) {
+            return AlteracoesBiblia.vazia(ate);
+        }
+
+        Limit janela = Limit.of(LIMITE + 1);
+        List<NotaBiblia> notas = notaBibliaRepository.findAlteradosDesde(usuarioId, inicio, ate, janela);
+        List<DestaqueBiblia> destaques = destaqueBibliaRepository.findAlteradosDesde(usuarioId, inicio, ate, janela);
+        List<FavoritoBiblia> favoritos = favoritoBibliaRepository.findAlteradosDesde(usuarioId, inicio, ate, janela);
+        List<HistoricoLeituraBiblia> historico = historicoLeituraBibliaRepository.findAlteradosDesde(usuarioId, inicio, ate, janela);
+        List<ProgressoLeituraUsuario> progresso = progressoLeituraUsuarioRepository.findAlteradosDesde(usuarioId, inicio, ate, janela);
+        List<BibliaSyncRemocao> remocoes = remocaoRepository.findAlteradosDesde(usuarioId, inicio, ate, janela);
+
+        // Um tipo que encheu a página só está completo até a versão anterior à linha que ficou de fora.
+        long cursor = ate;
+        cursor = corte(cursor, notas, DadoBibliaUsuario::getVersaoSync);
+        cursor = corte(cursor, destaques, DadoBibliaUsuario::getVersaoSync);
+        cursor = corte(cursor, favoritos, DadoBibliaUsuario::getVersaoSync);
+        cursor = corte(cursor, historico, DadoBibliaUsuario::getVersaoSync);
+        cursor = corte(cursor, progresso, DadoBibliaUsuario::getVersaoSync);
+        cursor = corte(cursor, remocoes, BibliaSyncRemocao::getVersaoSync);
+
+        return new AlteracoesBiblia(
+            cursor,
+            cursor < ate,
+            ateCursor(notas, cursor, DadoBibliaUsuario::getVersaoSync),
+            ateCursor(destaques, cursor, DadoBibliaUsuario::getVersaoSync),
+            ateCursor(favoritos, cursor, DadoBibliaUsuario::getVersaoSync),
+            ateCursor(historico, cursor, DadoBibliaUsuario::getVersaoSync),
+            ateCursor(progresso, cursor, DadoBibliaUsuario::getVersaoSync),
+            ateCursor(remocoes, cursor, BibliaSyncRemocao::getVersaoSync)
+                .stream()
+                .map(r -> new AlteracoesBiblia.Remocao(r.getTipo(), r.getEntidadeId()))
+                .toList()
+        );
+    }
+
+    /**
+     * Aplica as escritas do aparelho numa transação e devolve as alterações desde {@code desde}, já incluindo as
+     * do próprio lote. Remover um id que não existe mais é ignorado, para o aparelho poder reenviar o lote.
+     */
+    public AlteracoesBiblia aplicar(long desde, LoteSincronizacaoBiblia lote) {
+        if (lote.tamanho() > LIMITE) {
+            throw new BadRequestAlertException("Lote de sincronização acima de " + LIMITE + " itens", ENTITY_NAME, "lotegrande");
+        }
+        User usuario = bibliaUsuarioAccessService.getUsuarioAtual();
+        aplicar(lote.notas(), TipoDadoBiblia.NOTA, notaBibliaRepository, usuario);
+        aplicar(lote.destaques(), TipoDadoBiblia.DESTAQUE, destaqueBibliaRepository, usuario);
+        aplicar(lote.favoritos(), TipoDadoBiblia.FAVORITO, favoritoBibliaRepository, usuario);
+        aplicar(lote.historico(), TipoDadoBiblia.HISTORICO, historicoLeituraBibliaRepository, usuario);
+        aplicar(lote.progresso(), TipoDadoBiblia.PROGRESSO, progressoLeituraUsuarioRepository, usuario);
+        return alteracoesDesde(desde);
+    }
+
+    private <T extends DadoBibliaUsuario> void aplicar(
+        LoteSincronizacaoBiblia.Alteracoes<T> alteracoes,
+        TipoDadoBiblia tipo,
+        JpaRepository<T, Long> repository,
+        User usuario
+    ) {
+        if (alteracoes == null) {
+            return;
+        }
+        for (T item : alteracoes.salvar()) {
+            if (item.getId() != null) {
+                bibliaUsuarioAccessService.validarPropriedadeOuFalhar(repository.findById(item.getId()), DadoBibliaUsuario::getUsuario);
+            }
+            definirUsuario(item, usuario);
+            carimbar(item);
+            repository.save(item);
+        }
+        for (Long id : alteracoes.remover()) {
+            repository
+                .findById(id)
+                .ifPresent(existente -> {
+                    bibliaUsuarioAccessService.validarPropriedade(existente.getUsuario());
+                    registrarRemocao(tipo, existente);
+                    repository.delete(existente);
+                });
+        }
+    }
+
+    private static void definirUsuario(DadoBibliaUsuario item, User usuario) {
+        if (item instanceof NotaBiblia nota) {
+            nota.setUsuario(usuario);
+        } else if (item instanceof DestaqueBiblia destaque) {
+            destaque.setUsuario(usuario);
+        } else if (item instanceof FavoritoBiblia favorito) {
+            favorito.setUsuario(usuario);
+        } else if (item instanceof HistoricoLeituraBiblia historico) {
+            historico.setUsuario(usuario);
+        } else if (item instanceof ProgressoLeituraUsuario progresso) {
+            progresso.setUsuario(usuario);
+        }
+    }
+
+    /** Avança o contador do usuário e devolve a versão nova; a linha do contador fica travada até o commit. */
+    private long proximaVersao(Long usuarioId) {
+        remocaoRepository.incrementarVersao(usuarioId);
+        return remocaoRepository.versaoAtual(usuarioId);
+    }
+
+    private static <T> long corte(long cursor, List<T> linhas, ToLongFunction<T> versao) {
+        if (linhas.size() <= LIMITE) {
+            return cursor;
+        }
+        return Math.min(cursor, versao.applyAsLong(linhas.get(LIMITE)) - 1);
+    }
+
+    private static <T> List<T> ateCursor(List<T> linhas, long cursor, ToLongFunction<T> versao) {
+        return linhas.stream().filter(linha -> versao.applyAsLong(linha) <= cursor).toList();
+    }
+}
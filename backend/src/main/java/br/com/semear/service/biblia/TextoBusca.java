@@ -0,0 +1,39 @@
+package br.com.semear.service.biblia;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/** Normalização comum a indexação e consulta: minúsculas, sem acentos, palavras de letras e dígitos. */
+final class TextoBusca {
+
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+
+    private TextoBusca() {}
+
+    static String normalizar(String texto) {
+        String semAcentos = MARCAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return semAcentos.toLowerCase(Locale.ROOT);
+    }
+
+    static List<String> palavras(String texto) {
+        List<String> palavras = new ArrayList<>();
+        if (texto == null) {
+            return palavras;
+        }
+        String normalizado = normalizar(texto);
+        int inicio = -1;
+        for (int i = 0; i <= normalizado.length(); i++) {
+            boolean letra = i < normalizado.length() && Character.isLetterOrDigit(normalizado.charAt(i));
+            if (letra && inicio < 0) {
+                inicio = i;
+            } else if (!letra && inicio >= 0) {
+                palavras.add(normalizado.substring(inicio, i));
+                inicio = -1;
+            }
+        }
+        return palavras;
+    }
+}
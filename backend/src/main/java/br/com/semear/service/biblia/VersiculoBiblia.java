@@ -0,0 +1,3 @@
+package br.com.semear.service.biblia;
+
+public record VersiculoBiblia(int numero, String texto) {}
@@ -0,0 +1,3 @@
+package br.com.semear.service.biblia;
+
+public record VersiculoEncontrado(String livroId, String livroNome, int capitulo, int versiculo, String texto, double pontuacao) {}
@@ -0,0 +1,6 @@
+/**
+ * Texto bíblico servido pelo próprio backend: cada {@link br.com.semear.domain.enumeration.VersaoBiblia} é empacotada
+ * num arquivo binário com índice de livros, capítulos e versículos, lido por mapeamento em memória. Também guarda a
+ * sincronização incremental dos dados pessoais do leitor (notas, destaques, favoritos, histórico e progresso).
+ */
+package br.com.semear.service.biblia;
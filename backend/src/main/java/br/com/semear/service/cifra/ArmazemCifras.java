@@ -0,0 +1,11 @@
+package br.com.semear.service.cifra;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/** Onde o {@link CacheCifras} guarda as buscas; em produção, a tabela {@code cifra_conteudo_cache}. */
+public interface ArmazemCifras {
+    Optional<EntradaCacheCifra> ler(String chave);
+
+    void gravar(String chave, Optional<ConteudoCifra> conteudo, Instant buscadoEm);
+}
@@ -0,0 +1,48 @@
+package br.com.semear.service.cifra;
+
+import br.com.semear.repository.CifraConteudoCacheRepository;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * {@link ArmazemCifras} sobre {@code cifra_conteudo_cache}. A gravação roda em transação própria para ficar visível
+ * às outras requisições logo após a busca, sem esperar o fim da transação de quem pediu a cifra.
+ */
+@Component
+public class ArmazemCifrasJpa implements ArmazemCifras {
+
+    private final CifraConteudoCacheRepository repository;
+
+    public ArmazemCifrasJpa(CifraConteudoCacheRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<EntradaCacheCifra> ler(String chave) {
+        return repository
+            .findByChave(chave)
+            .map(salvo -> {
+                Optional<ConteudoCifra> conteudo = Boolean.TRUE.equals(salvo.getEncontrado()) && salvo.getLinhas() != null
+                    ? Optional.of(new ConteudoCifra(salvo.getUrl(), Arrays.asList(salvo.getLinhas().split("\n", -1))))
+                    : Optional.empty();
+                return new EntradaCacheCifra(conteudo, salvo.getBuscadoEm());
+            });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void gravar(String chave, Optional<ConteudoCifra> conteudo, Instant buscadoEm) {
+        repository.gravar(
+            chave,
+            conteudo.map(ConteudoCifra::url).orElse(null),
+            conteudo.map(c -> String.join("\n", c.linhas())).orElse(null),
+            conteudo.isPresent(),
+            buscadoEm
+        );
+    }
+}
@@ -0,0 +1,161 @@
+package br.com.semear.service.cifra;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache global das buscas no Cifra Club.
+ * <p>
+ * Uma chave sem entrada é buscada por quem pediu primeiro; quem chegar enquanto a busca corre espera pelo mesmo
+ * resultado. Entradas vencidas continuam sendo servidas enquanto uma única renovação roda em segundo plano, então
+ * só a primeira visita a uma música paga o tempo da raspagem. Buscas sem resultado também ficam guardadas, com
+ * validade menor, para uma música inexistente não ser raspada a cada abertura. Uma busca que termina em
+ * {@link CifraIndisponivelException} não é guardada: quem pediu recebe vazio, a entrada anterior (se houver) continua
+ * valendo e a próxima visita tenta de novo.
+ */
+@Component
+public class CacheCifras {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheCifras.class);
+
+    /** Renovações que podem esperar por uma thread; além disso a entrada vencida fica para a próxima visita. */
+    static final int FILA_RENOVACAO = 64;
+
+    private final ArmazemCifras armazem;
+    private final Duration validade;
+    private final Duration validadeFalha;
+    private final Executor renovacao;
+    private final ConcurrentHashMap<String, CompletableFuture<Optional<ConteudoCifra>>> emAndamento = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CacheCifras(
+        ArmazemCifras armazem,
+        @Value("${semear.cifras.cache.validade-dias:30}") long validadeDias,
+        @Value("${semear.cifras.cache.validade-falha-horas:12}") long validadeFalhaHoras,
+        @Value("${semear.cifras.cache.threads-renovacao:2}") int threads
+    ) {
+        this(armazem, Duration.ofDays(validadeDias), Duration.ofHours(validadeFalhaHoras), criarExecutor(threads));
+    }
+
+    CacheCifras(ArmazemCifras armazem, Duration validade, Duration validadeFalha, Executor renovacao) {
+        this.armazem = armazem;
+        this.validade = validade;
+        this.validadeFalha = validadeFalha;
+        this.renovacao = renovacao;
+    }
+
+    private static ExecutorService criarExecutor(int threads) {
+        AtomicInteger sequencia = new AtomicInteger();
+        int tamanho = Math.max(1, threads);
+        return new ThreadPoolExecutor(tamanho, tamanho, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(FILA_RENOVACAO), r -> {
+            Thread t = new Thread(r, "semear-cifras-" + sequencia.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        if (renovacao instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    /** Conteúdo da chave, buscando com {@code busca} só quando não há nada guardado. */
+    public Optional<ConteudoCifra> obter(String chave, Supplier<Optional<ConteudoCifra>> busca) {
+        Optional<EntradaCacheCifra> salva = ler(chave);
+        if (salva.isPresent()) {
+            if (vencida(salva.get())) {
+                renovarEmSegundoPlano(chave, busca);
+            }
+            return salva.get().conteudo();
+        }
+        try {
+            return buscar(chave, busca).join();
+        } catch (RuntimeException e) {
+            LOG.info("Cifra indisponível agora para {}: {}", chave, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private boolean vencida(EntradaCacheCifra entrada) {
+        Duration prazo = entrada.conteudo().isPresent() ? validade : validadeFalha;
+        return entrada.buscadoEm().plus(prazo).isBefore(Instant.now());
+    }
+
+    /**
+     * A chave entra em {@code emAndamento} antes de ir para a fila, então leituras da mesma entrada vencida enquanto
+     * a renovação espera uma thread não enfileiram outra.
+     */
+    private void renovarEmSegundoPlano(String chave, Supplier<Optional<ConteudoCifra>> busca) {
+        CompletableFuture<Optional<ConteudoCifra>> nova = new CompletableFuture<>();
+        if (emAndamento.putIfAbsent(chave, nova) != null) {
+            return;
+        }
+        try {
+            renovacao.execute(() -> executar(chave, busca, nova));
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Renovação de cifra recusada para {}", chave);
+            nova.completeExceptionally(e);
+            emAndamento.remove(chave, nova);
+        }
+    }
+
+    /** Executa a busca, ou devolve a que já está em andamento para a mesma chave. */
+    private CompletableFuture<Optional<ConteudoCifra>> buscar(String chave, Supplier<Optional<ConteudoCifra>> busca) {
+        CompletableFuture<Optional<ConteudoCifra>> nova = new CompletableFuture<>();
+        CompletableFuture<Optional<ConteudoCifra>> existente = emAndamento.putIfAbsent(chave, nova);
+        if (existente != null) {
+            return existente;
+        }
+        executar(chave, busca, nova);
+        return nova;
+    }
+
+    /** Roda a busca já registrada em {@code emAndamento} e a tira de lá ao terminar; só grava o que terminou sem erro. */
+    private void executar(String chave, Supplier<Optional<ConteudoCifra>> busca, CompletableFuture<Optional<ConteudoCifra>> nova) {
+        try {
+            Optional<ConteudoCifra> resultado = busca.get();
+            gravar(chave, resultado);
+            nova.complete(resultado);
+        } catch (RuntimeException e) {
+            nova.completeExceptionally(e);
+        } finally {
+            emAndamento.remove(chave, nova);
+        }
+    }
+
+    private Optional<EntradaCacheCifra> ler(String chave) {
+        try {
+            return armazem.ler(chave);
+        } catch (RuntimeException e) {
+            LOG.warn("Cache de cifras indisponível: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void gravar(String chave, Optional<ConteudoCifra> resultado) {
+        try {
+            armazem.gravar(chave, resultado, Instant.now());
+        } catch (RuntimeException e) {
+            LOG.warn("Não foi possível guardar a cifra {}: {}", chave, e.getMessage());
+        }
+    }
+}
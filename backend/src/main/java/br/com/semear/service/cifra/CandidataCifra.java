@@ -0,0 +1,7 @@
+package br.com.semear.service.cifra;
+
+/**
+ * URL candidata de uma música e o padrão que a gerou (link informado, variação de slug, página do artista), usado
+ * para medir quais padrões costumam acertar.
+ */
+public record CandidataCifra(String url, String padrao) {}
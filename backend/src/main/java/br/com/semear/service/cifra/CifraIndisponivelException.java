@@ -0,0 +1,16 @@
+package br.com.semear.service.cifra;
+
+/**
+ * A busca não chegou a uma resposta definitiva: falha de rede, timeout, HTTP 429 ou 5xx, recusa do
+ * {@link LimitadorHost} ou prazo esgotado. Ao contrário de uma página inexistente, não vira entrada do cache.
+ */
+public class CifraIndisponivelException extends RuntimeException {
+
+    public CifraIndisponivelException(String message) {
+        super(message);
+    }
+
+    public CifraIndisponivelException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
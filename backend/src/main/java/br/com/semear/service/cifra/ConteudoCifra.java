@@ -0,0 +1,6 @@
+package br.com.semear.service.cifra;
+
+import java.util.List;
+
+/** Linhas de uma cifra ou letra e a página de onde vieram. */
+public record ConteudoCifra(String url, List<String> linhas) {}
@@ -0,0 +1,7 @@
+package br.com.semear.service.cifra;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/** Resultado guardado de uma busca, inclusive as que não encontraram nada. */
+public record EntradaCacheCifra(Optional<ConteudoCifra> conteudo, Instant buscadoEm) {}
@@ -0,0 +1,92 @@
+package br.com.semear.service.cifra;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limita as requisições de saída por host: no máximo {@code maxConcorrentes} ao mesmo tempo e um intervalo mínimo
+ * entre o início de duas requisições, para a raspagem não ser bloqueada pelo site. Quem não consegue vaga dentro de
+ * {@code esperaMaxima} desiste com {@link IOException}, como um timeout de conexão.
+ */
+@Component
+public class LimitadorHost {
+
+    private final int maxConcorrentes;
+    private final long intervaloNanos;
+    private final long esperaMaximaMs;
+    private final ConcurrentHashMap<String, Host> hosts = new ConcurrentHashMap<>();
+
+    @Autowired
+    public LimitadorHost(
+        @Value("${semear.cifras.host.max-concorrentes:4}") int maxConcorrentes,
+        @Value("${semear.cifras.host.requisicoes-por-segundo:5}") double requisicoesPorSegundo,
+        @Value("${semear.cifras.host.espera-maxima-ms:10000}") long esperaMaximaMs
+    ) {
+        this.maxConcorrentes = Math.max(1, maxConcorrentes);
+        this.intervaloNanos = requisicoesPorSegundo > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / requisicoesPorSegundo) : 0;
+        this.esperaMaximaMs = Math.max(0, esperaMaximaMs);
+    }
+
+    public <T> T executar(String url, Callable<T> chamada) throws Exception {
+        Host host = hosts.computeIfAbsent(nomeHost(url), ignorado -> new Host(maxConcorrentes));
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(esperaMaximaMs);
+        if (!host.vagas.tryAcquire(esperaMaximaMs, TimeUnit.MILLISECONDS)) {
+            throw new IOException("Limite de requisições simultâneas atingido para " + url);
+        }
+        try {
+            long inicio = host.reservarInicio(intervaloNanos);
+            if (inicio > limite) {
+                host.devolverInicio(inicio, intervaloNanos);
+                throw new IOException("Limite de ritmo atingido para " + url);
+            }
+            long espera = inicio - System.nanoTime();
+            if (espera > 0) {
+                TimeUnit.NANOSECONDS.sleep(espera);
+            }
+            return chamada.call();
+        } finally {
+            host.vagas.release();
+        }
+    }
+
+    private static String nomeHost(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host == null ? "" : host.toLowerCase(Locale.ROOT);
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+
+    private static final class Host {
+
+        private final Semaphore vagas;
+        private long proximoInicio = System.nanoTime();
+
+        private Host(int maxConcorrentes) {
+            this.vagas = new Semaphore(maxConcorrentes, true);
+        }
+
+        /** Reserva o próximo horário livre de início e devolve esse horário. */
+        private synchronized long reservarInicio(long intervaloNanos) {
+            long inicio = Math.max(System.nanoTime(), proximoInicio);
+            proximoInicio = inicio + intervaloNanos;
+            return inicio;
+        }
+
+        /** Desfaz a reserva se ela ainda for a última, para a desistência não atrasar quem vem depois. */
+        private synchronized void devolverInicio(long inicio, long intervaloNanos) {
+            if (proximoInicio == inicio + intervaloNanos) {
+                proximoInicio = inicio;
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package br.com.semear.service.cifra;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Testa as URLs candidatas de uma música ao mesmo tempo, sob um prazo único, em vez de uma após a outra: uma busca
+ * sem resultado custa um timeout, não a soma de todos. Vence a primeira candidata com resultado na ordem de
+ * preferência; as demais são canceladas. Cada padrão de candidata acumula tentativas e acertos, e
+ * {@link #ordenarPorAcerto} usa essa taxa para colocar os padrões mais produtivos na frente.
+ */
+@Component
+public class ResolvedorCandidatas {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ResolvedorCandidatas.class);
+
+    private final ExecutorService executor;
+    private final long prazoMs;
+    private final ConcurrentHashMap<String, Estatistica> estatisticas = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ResolvedorCandidatas(
+        @Value("${semear.cifras.busca.threads:16}") int threads,
+        @Value("${semear.cifras.busca.prazo-ms:15000}") long prazoMs
+    ) {
+        AtomicInteger sequencia = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads), r -> {
+            Thread t = new Thread(r, "semear-cifras-busca-" + sequencia.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.prazoMs = Math.max(1, prazoMs);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+
+    /** Instante ({@link System#nanoTime()}) em que uma busca iniciada agora deve desistir. */
+    public long novoPrazo() {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(prazoMs);
+    }
+
+    /**
+     * Resultado da candidata mais preferida (ordem da lista) que encontrou algo até o prazo. Uma candidata posterior
+     * que responde antes só é usada quando todas as anteriores falharam. Vazio só quando todas responderam que não
+     * há nada; se alguma estourou o prazo ou falhou sem resposta definitiva, lança {@link CifraIndisponivelException}
+     * para a ausência não ser guardada como música inexistente.
+     */
+    public <T> Optional<T> primeira(List<CandidataCifra> candidatas, Function<String, Optional<T>> busca, long prazo) {
+        List<Future<Optional<T>>> tarefas = new ArrayList<>(candidatas.size());
+        for (CandidataCifra candidata : candidatas) {
+            tarefas.add(
+                executor.submit(() -> {
+                    Optional<T> resultado = busca.apply(candidata.url());
+                    // Quem foi cancelado porque outra candidata venceu não conta como erro do padrão.
+                    if (!Thread.currentThread().isInterrupted()) {
+                        registrar(candidata.padrao(), resultado.isPresent());
+                    }
+                    return resultado;
+                })
+            );
+        }
+        try {
+            int inconclusivas = 0;
+            for (Future<Optional<T>> tarefa : tarefas) {
+                Optional<T> resultado = aguardar(tarefa, prazo);
+                if (resultado == null) {
+                    inconclusivas++;
+                } else if (resultado.isPresent()) {
+                    return resultado;
+                }
+            }
+            if (inconclusivas > 0) {
+                throw new CifraIndisponivelException(inconclusivas + " de " + tarefas.size() + " candidatas sem resposta até o prazo");
+            }
+            return Optional.empty();
+        } finally {
+            tarefas.forEach(tarefa -> tarefa.cancel(true));
+        }
+    }
+
+    /**
+     * Executa {@code busca} para todas as entradas em paralelo e junta o que terminou até o prazo; a coleta sai
+     * incompleta se alguma entrada estourou o prazo ou falhou.
+     */
+    public <T> Coleta<T> todas(List<String> entradas, Function<String, List<T>> busca, long prazo) {
+        List<Future<List<T>>> tarefas = new ArrayList<>(entradas.size());
+        for (String entrada : entradas) {
+            tarefas.add(executor.submit(() -> busca.apply(entrada)));
+        }
+        List<T> resultados = new ArrayList<>();
+        boolean completa = true;
+        try {
+            for (Future<List<T>> tarefa : tarefas) {
+                List<T> parcial = aguardar(tarefa, prazo);
+                if (parcial == null) {
+                    completa = false;
+                } else {
+                    resultados.addAll(parcial);
+                }
+            }
+        } finally {
+            tarefas.forEach(tarefa -> tarefa.cancel(true));
+        }
+        return new Coleta<>(resultados, completa);
+    }
+
+    /**
+     * Ordena de forma estável pela taxa de acerto do padrão, da maior para a menor, depois de {@code criterio}.
+     * Padrões sem histórico começam com taxa neutra.
+     */
+    public List<CandidataCifra> ordenarPorAcerto(List<CandidataCifra> candidatas, Comparator<CandidataCifra> criterio) {
+        List<CandidataCifra> ordenadas = new ArrayList<>(candidatas);
+        ordenadas.sort(criterio.thenComparing(Comparator.comparingDouble((CandidataCifra c) -> taxaAcerto(c.padrao())).reversed()));
+        return ordenadas;
+    }
+
+    /** Acertos sobre tentativas, suavizado (acertos + 1) / (tentativas + 2). */
+    public double taxaAcerto(String padrao) {
+        Estatistica estatistica = estatisticas.get(padrao);
+        if (estatistica == null) {
+            return 0.5;
+        }
+        return (estatistica.acertos.sum() + 1.0) / (estatistica.tentativas.sum() + 2.0);
+    }
+
+    private void registrar(String padrao, boolean acerto) {
+        Estatistica estatistica = estatisticas.computeIfAbsent(padrao, ignorado -> new Estatistica());
+        estatistica.tentativas.increment();
+        if (acerto) {
+            estatistica.acertos.increment();
+        }
+    }
+
+    /** Resultado da tarefa, ou {@code null} se o prazo acabou ou ela falhou sem resposta definitiva. */
+    private static <T> T aguardar(Future<T> tarefa, long prazo) {
+        long restante = prazo - System.nanoTime();
+        if (restante <= 0 && !tarefa.isDone()) {
+            return null;
+        }
+        try {
+            return tarefa.get(Math.max(0, restante), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | CancellationException e) {
+            LOG.debug("Candidata de cifra falhou: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /** Itens coletados por {@link #todas} e se todas as entradas responderam a tempo. */
+    public record Coleta<T>(List<T> itens, boolean completa) {}
+
+    private static final class Estatistica {
+
+        private final LongAdder tentativas = new LongAdder();
+        private final LongAdder acertos = new LongAdder();
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Acesso ao Cifra Club compartilhado por todas as igrejas: cache global das páginas raspadas, com uma única busca
+ * por música mesmo sob pedidos simultâneos, renovação em segundo plano e limite de concorrência e ritmo por host.
+ */
+package br.com.semear.service.cifra;
@@ -0,0 +1,38 @@
+package br.com.semear.service.culto;
+
+import br.com.semear.service.dto.CultoAgendaItemDTO;
+import br.com.semear.service.dto.CultoAgendaListaDTO;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Agenda de uma igreja montada para um dia, com as versões que ela reflete. Os itens são compartilhados entre todas
+ * as leituras até a próxima montagem e não devem ser alterados.
+ *
+ * @param versaoAgenda versão de {@link VersoesAgendaCulto} lida antes da montagem.
+ * @param versaoEscala versão da seção {@code ESCALA} da igreja lida antes da montagem.
+ */
+public record AgendaCulto(
+    long versaoAgenda,
+    long versaoEscala,
+    LocalDate dia,
+    List<CultoAgendaItemDTO> proximos,
+    List<CultoAgendaItemDTO> passados
+) implements Serializable {
+    public AgendaCulto {
+        proximos = List.copyOf(proximos);
+        passados = List.copyOf(passados);
+    }
+
+    public boolean atual(long versaoAgenda, long versaoEscala, LocalDate dia) {
+        return this.versaoAgenda == versaoAgenda && this.versaoEscala == versaoEscala && this.dia.equals(dia);
+    }
+
+    public CultoAgendaListaDTO paraLista() {
+        CultoAgendaListaDTO lista = new CultoAgendaListaDTO();
+        lista.setProximos(proximos);
+        lista.setPassados(passados);
+        return lista;
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.semear.service.culto;
+
+import br.com.semear.domain.CultoOcorrencia;
+import br.com.semear.domain.CultoOcorrenciaLouvor;
+import br.com.semear.domain.CultoOcorrenciaResponsavel;
+import br.com.semear.domain.CultoRegistro;
+import br.com.semear.domain.Departamento;
+import br.com.semear.domain.Escala;
+import br.com.semear.domain.EscalaItem;
+import br.com.semear.domain.GrupoLouvor;
+import br.com.semear.domain.Igreja;
+import br.com.semear.domain.Louvor;
+import br.com.semear.domain.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Avança a {@link VersoesAgendaCulto} da igreja quando muda algo que aparece na agenda: cultos, ocorrências,
+ * louvores e responsáveis da ocorrência, itens de escala e os nomes exibidos (louvor, grupo, departamento, membro).
+ * As escalas em si já avançam a seção {@code ESCALA} do resumo de notificações, que a agenda também observa.
+ */
+@Component
+public class AgendaCultoListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final VersoesAgendaCulto versoes;
+
+    public AgendaCultoListener(EntityManagerFactory entityManagerFactory, VersoesAgendaCulto versoes) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.versoes = versoes;
+    }
+
+    @PostConstruct
+    void registrar() {
+        EventListenerRegistry registro = entityManagerFactory
+            .unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registro.appendListeners(EventType.POST_INSERT, this);
+        registro.appendListeners(EventType.POST_UPDATE, this);
+        registro.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        aoAlterar(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        aoAlterar(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        aoAlterar(event.getEntity());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void aoAlterar(Object entidade) {
+        if (entidade instanceof CultoRegistro c) {
+            versoes.alterou(idIgreja(c.getIgreja()));
+        } else if (entidade instanceof CultoOcorrencia o) {
+            versoes.alterou(idIgreja(o.getIgreja()));
+        } else if (entidade instanceof CultoOcorrenciaLouvor l) {
+            versoes.alterou(igrejaDaOcorrencia(l.getCultoOcorrencia()));
+        } else if (entidade instanceof CultoOcorrenciaResponsavel r) {
+            versoes.alterou(igrejaDaOcorrencia(r.getCultoOcorrencia()));
+        } else if (entidade instanceof EscalaItem i) {
+            versoes.alterou(igrejaDaEscala(i.getEscala()));
+        } else if (entidade instanceof Louvor l) {
+            versoes.alterou(idIgreja(l.getIgreja()));
+        } else if (entidade instanceof GrupoLouvor g) {
+            versoes.alterou(idIgreja(g.getIgreja()));
+        } else if (entidade instanceof Departamento d) {
+            versoes.alterou(idIgreja(d.getIgreja()));
+        } else if (entidade instanceof User u && u.getIgreja() != null) {
+            versoes.alterou(u.getIgreja().getId());
+        }
+    }
+
+    /** Sem carregar a ocorrência durante o flush: se ela não está na sessão, a alteração vale para todas as igrejas. */
+    private static Long igrejaDaOcorrencia(CultoOcorrencia ocorrencia) {
+        return ocorrencia != null && Hibernate.isInitialized(ocorrencia) ? idIgreja(ocorrencia.getIgreja()) : null;
+    }
+
+    private static Long igrejaDaEscala(Escala escala) {
+        return escala != null && Hibernate.isInitialized(escala) ? idIgreja(escala.getIgreja()) : null;
+    }
+
+    private static Long idIgreja(Igreja igreja) {
+        return igreja != null ? igreja.getId() : null;
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.semear.service.culto;
+
+import br.com.semear.service.util.VersoesPorIgreja;
+import org.springframework.stereotype.Component;
+
+/** Versão da agenda de cultos de cada igreja, avançada pelo {@link AgendaCultoListener}. */
+@Component
+public class VersoesAgendaCulto extends VersoesPorIgreja {}
@@ -0,0 +1,5 @@
+/**
+ * Agenda de cultos projetada uma vez por igreja e guardada como retrato imutável, remontado só quando a versão da
+ * agenda da igreja muda ou o dia vira.
+ */
+package br.com.semear.service.culto;
@@ -32,6 +32,7 @@ public class EventoDTO implements Serializable {
     private Boolean lotado;
     private Boolean inscricoesEncerradas;
     private Integer vagasDisponiveis;
+    private Integer posicaoEspera;
     private Instant criadoEm;
     private List<EventoInscricaoDTO> inscricoes = new ArrayList<>();
     private ConfigNotificacaoDTO configNotificacao;
@@ -78,6 +79,8 @@ public class EventoDTO implements Serializable {
     public void setInscricoesEncerradas(Boolean inscricoesEncerradas) { this.inscricoesEncerradas = inscricoesEncerradas; }
     public Integer getVagasDisponiveis() { return vagasDisponiveis; }
     public void setVagasDisponiveis(Integer vagasDisponiveis) { this.vagasDisponiveis = vagasDisponiveis; }
+    public Integer getPosicaoEspera() { return posicaoEspera; }
+    public void setPosicaoEspera(Integer posicaoEspera) { this.posicaoEspera = posicaoEspera; }
     public Instant getCriadoEm() { return criadoEm; }
     public void setCriadoEm(Instant criadoEm) { this.criadoEm = criadoEm; }
     public List<EventoInscricaoDTO> getInscricoes() { return inscricoes; }
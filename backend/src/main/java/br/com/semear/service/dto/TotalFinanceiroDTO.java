@@ -0,0 +1,57 @@
+package br.com.semear.service.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Entradas, saídas e saldo de um agrupamento do livro caixa (mês {@code yyyy-MM}, categoria ou centro de custo).
+ */
+public class TotalFinanceiroDTO implements Serializable {
+
+    private String chave;
+    private BigDecimal entradas = BigDecimal.ZERO;
+    private BigDecimal saidas = BigDecimal.ZERO;
+    private long quantidade;
+
+    public TotalFinanceiroDTO() {}
+
+    public TotalFinanceiroDTO(String chave) {
+        this.chave = chave;
+    }
+
+    public String getChave() {
+        return chave;
+    }
+
+    public void setChave(String chave) {
+        this.chave = chave;
+    }
+
+    public BigDecimal getEntradas() {
+        return entradas;
+    }
+
+    public void setEntradas(BigDecimal entradas) {
+        this.entradas = entradas;
+    }
+
+    public BigDecimal getSaidas() {
+        return saidas;
+    }
+
+    public void setSaidas(BigDecimal saidas) {
+        this.saidas = saidas;
+    }
+
+    public BigDecimal getSaldo() {
+        return entradas.subtract(saidas);
+    }
+
+    public long getQuantidade() {
+        return quantidade;
+    }
+
+    public void setQuantidade(long quantidade) {
+        this.quantidade = quantidade;
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.semear.service.evento;
+
+import br.com.semear.domain.EventoInscricao;
+import br.com.semear.domain.enumeration.StatusInscricaoEvento;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decide se uma inscrição ocupa vaga ou vai para a fila de espera, e promove a fila quando vagas se abrem.
+ * <p>
+ * Não há contagem seguida de inserção: a vaga é ocupada numa única operação condicional, então duas inscrições
+ * simultâneas nunca enxergam a mesma vaga livre. As promovidas mudam de status na entidade gerenciada e são gravadas
+ * no fim da transação.
+ */
+@Component
+public class FilaInscricaoEvento {
+
+    private final VagasEvento vagas;
+
+    public FilaInscricaoEvento(VagasEvento vagas) {
+        this.vagas = vagas;
+    }
+
+    /** {@link StatusInscricaoEvento#ATIVA} se conseguiu vaga, {@link StatusInscricaoEvento#ESPERA} se o evento lotou. */
+    public StatusInscricaoEvento reservar(Long eventoId) {
+        return vagas.ocupar(eventoId) ? StatusInscricaoEvento.ATIVA : StatusInscricaoEvento.ESPERA;
+    }
+
+    /** Devolve a vaga de uma inscrição ativa que saiu e promove a fila; devolve as inscrições promovidas. */
+    public List<EventoInscricao> liberar(Long eventoId) {
+        vagas.liberar(eventoId);
+        return promover(eventoId);
+    }
+
+    /** Passa para ativas as primeiras da fila enquanto houver vaga, por exemplo depois de a capacidade aumentar. */
+    public List<EventoInscricao> promover(Long eventoId) {
+        List<EventoInscricao> promovidas = new ArrayList<>();
+        while (vagas.ocupar(eventoId)) {
+            Optional<EventoInscricao> proxima = vagas.proximaDaEspera(eventoId);
+            if (proxima.isEmpty()) {
+                vagas.liberar(eventoId);
+                break;
+            }
+            EventoInscricao inscricao = proxima.get();
+            inscricao.setStatus(StatusInscricaoEvento.ATIVA);
+            inscricao.setConfirmado(false);
+            promovidas.add(inscricao);
+        }
+        return promovidas;
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.semear.service.evento;
+
+import br.com.semear.domain.EventoInscricao;
+import java.util.Optional;
+
+/** Contador de vagas e fila de espera usados pela {@link FilaInscricaoEvento}; em produção, as tabelas do evento. */
+public interface VagasEvento {
+    /** Ocupa uma vaga de forma atômica; {@code false} quando o evento está lotado. */
+    boolean ocupar(Long eventoId);
+
+    void liberar(Long eventoId);
+
+    /** Primeira inscrição da fila de espera, reservada para a transação atual. */
+    Optional<EventoInscricao> proximaDaEspera(Long eventoId);
+}
@@ -0,0 +1,41 @@
+package br.com.semear.service.evento;
+
+import br.com.semear.domain.EventoInscricao;
+import br.com.semear.repository.EventoInscricaoRepository;
+import br.com.semear.repository.EventoRepository;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * {@link VagasEvento} sobre a coluna {@code evento.vagas_ocupadas} e as inscrições {@code ESPERA}. Roda na transação
+ * de quem chamou: a vaga ocupada e a inscrição gravada são confirmadas ou desfeitas juntas.
+ */
+@Component
+@Transactional(propagation = Propagation.MANDATORY)
+public class VagasEventoJpa implements VagasEvento {
+
+    private final EventoRepository eventoRepository;
+    private final EventoInscricaoRepository eventoInscricaoRepository;
+
+    public VagasEventoJpa(EventoRepository eventoRepository, EventoInscricaoRepository eventoInscricaoRepository) {
+        this.eventoRepository = eventoRepository;
+        this.eventoInscricaoRepository = eventoInscricaoRepository;
+    }
+
+    @Override
+    public boolean ocupar(Long eventoId) {
+        return eventoRepository.ocuparVaga(eventoId) > 0;
+    }
+
+    @Override
+    public void liberar(Long eventoId) {
+        eventoRepository.liberarVaga(eventoId);
+    }
+
+    @Override
+    public Optional<EventoInscricao> proximaDaEspera(Long eventoId) {
+        return eventoInscricaoRepository.travarPrimeiraDaEspera(eventoId);
+    }
+}
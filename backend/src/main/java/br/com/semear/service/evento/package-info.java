@@ -0,0 +1,5 @@
+/**
+ * Inscrição em eventos sob muita concorrência: as vagas de cada evento são um contador ocupado por update condicional
+ * no próprio banco, e quem chega com o evento lotado entra numa fila de espera promovida por ordem de chegada.
+ */
+package br.com.semear.service.evento;
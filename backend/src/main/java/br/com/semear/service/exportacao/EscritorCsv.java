@@ -0,0 +1,62 @@
+package br.com.semear.service.exportacao;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV em UTF-8 separado por vírgula; campos com vírgula, aspas ou quebra de linha vão entre aspas.
+ */
+class EscritorCsv implements EscritorTabela {
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    private final Writer saida;
+
+    EscritorCsv(OutputStream saida) {
+        this.saida = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8), TAMANHO_BUFFER);
+    }
+
+    @Override
+    public void cabecalho(String... colunas) throws IOException {
+        linha((Object[]) colunas);
+    }
+
+    @Override
+    public void linha(Object... valores) throws IOException {
+        for (int i = 0; i < valores.length; i++) {
+            if (i > 0) {
+                saida.write(',');
+            }
+            saida.write(escapar(formatar(valores[i])));
+        }
+        saida.write('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        saida.flush();
+    }
+
+    private static String formatar(Object valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (valor instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        return valor.toString();
+    }
+
+    static String escapar(String valor) {
+        String escapado = valor.replace("\"", "\"\"");
+        if (escapado.contains(",") || escapado.contains("\"") || escapado.contains("\n") || escapado.contains("\r")) {
+            return "\"" + escapado + "\"";
+        }
+        return escapado;
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.semear.service.exportacao;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Escreve uma tabela linha a linha numa saída. Valores aceitos: {@link String}, {@link Number},
+ * {@link java.time.LocalDate}, {@link java.time.Instant} e {@code null} (célula vazia); demais tipos via
+ * {@code toString()}.
+ */
+public interface EscritorTabela extends Closeable {
+    void cabecalho(String... colunas) throws IOException;
+
+    void linha(Object... valores) throws IOException;
+
+    /** Conclui o arquivo e descarrega o buffer, sem fechar a saída — ela pertence ao contêiner. */
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,207 @@
+package br.com.semear.service.exportacao;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Planilha XLSX (SpreadsheetML) gerada em fluxo: as partes fixas do pacote são gravadas na abertura e a planilha
+ * é escrita linha a linha com strings inline, sem tabela de strings compartilhadas — nada fica acumulado em
+ * memória, como no modo SXSSF do POI.
+ */
+class EscritorXlsx implements EscritorTabela {
+
+    private static final ZoneId ZONE_BR = ZoneId.of("America/Sao_Paulo");
+    private static final LocalDateTime EPOCA_EXCEL = LocalDateTime.of(1899, 12, 30, 0, 0);
+    private static final double MILIS_POR_DIA = Duration.ofDays(1).toMillis();
+
+    private static final int ESTILO_CABECALHO = 1;
+    private static final int ESTILO_DATA = 2;
+    private static final int ESTILO_DATA_HORA = 3;
+    private static final int ESTILO_DECIMAL = 4;
+
+    private static final String NS_PLANILHA = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    private static final String NS_RELACOES = "http://schemas.openxmlformats.org/package/2006/relationships";
+    private static final String NS_RELACOES_DOC = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    private static final String XML = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+
+    private final ZipOutputStream zip;
+    private final Writer saida;
+    private int linhaAtual;
+
+    EscritorXlsx(OutputStream destino, String nomePlanilha) throws IOException {
+        this.zip = new ZipOutputStream(destino, StandardCharsets.UTF_8);
+        this.saida = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), 64 * 1024);
+        parte("[Content_Types].xml", conteudoTipos());
+        parte("_rels/.rels", relacao("rId1", NS_RELACOES_DOC + "/officeDocument", "xl/workbook.xml"));
+        parte(
+            "xl/workbook.xml",
+            XML +
+            "<workbook xmlns=\"" + NS_PLANILHA + "\" xmlns:r=\"" + NS_RELACOES_DOC + "\"><sheets><sheet name=\"" +
+            escapar(nomeValido(nomePlanilha)) + "\" sheetId=\"1\" r:id=\"rId1\"/></sheets></workbook>"
+        );
+        parte(
+            "xl/_rels/workbook.xml.rels",
+            XML +
+            "<Relationships xmlns=\"" + NS_RELACOES + "\">" +
+            "<Relationship Id=\"rId1\" Type=\"" + NS_RELACOES_DOC + "/worksheet\" Target=\"worksheets/sheet1.xml\"/>" +
+            "<Relationship Id=\"rId2\" Type=\"" + NS_RELACOES_DOC + "/styles\" Target=\"styles.xml\"/>" +
+            "</Relationships>"
+        );
+        parte("xl/styles.xml", estilos());
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+        saida.write(XML);
+        saida.write("<worksheet xmlns=\"" + NS_PLANILHA + "\"><sheetData>");
+    }
+
+    @Override
+    public void cabecalho(String... colunas) throws IOException {
+        escreverLinha(colunas, true);
+    }
+
+    @Override
+    public void linha(Object... valores) throws IOException {
+        escreverLinha(valores, false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        saida.write("</sheetData></worksheet>");
+        saida.flush();
+        zip.closeEntry();
+        zip.finish();
+        zip.flush();
+    }
+
+    private void escreverLinha(Object[] valores, boolean cabecalho) throws IOException {
+        linhaAtual++;
+        saida.write("<row r=\"");
+        saida.write(Integer.toString(linhaAtual));
+        saida.write("\">");
+        for (int coluna = 0; coluna < valores.length; coluna++) {
+            celula(referencia(coluna, linhaAtual), valores[coluna], cabecalho);
+        }
+        saida.write("</row>");
+    }
+
+    private void celula(String referencia, Object valor, boolean cabecalho) throws IOException {
+        if (valor == null) {
+            return;
+        }
+        saida.write("<c r=\"");
+        saida.write(referencia);
+        if (valor instanceof Number numero) {
+            saida.write("\" s=\"" + (valor instanceof BigDecimal ? ESTILO_DECIMAL : 0) + "\"><v>");
+            saida.write(numero instanceof BigDecimal decimal ? decimal.toPlainString() : numero.toString());
+            saida.write("</v></c>");
+        } else if (valor instanceof LocalDate data) {
+            saida.write("\" s=\"" + ESTILO_DATA + "\"><v>");
+            saida.write(Long.toString(ChronoUnit.DAYS.between(EPOCA_EXCEL.toLocalDate(), data)));
+            saida.write("</v></c>");
+        } else if (valor instanceof Instant instante) {
+            double dias = Duration.between(EPOCA_EXCEL, LocalDateTime.ofInstant(instante, ZONE_BR)).toMillis() / MILIS_POR_DIA;
+            saida.write("\" s=\"" + ESTILO_DATA_HORA + "\"><v>");
+            saida.write(Double.toString(dias));
+            saida.write("</v></c>");
+        } else {
+            saida.write(cabecalho ? "\" s=\"" + ESTILO_CABECALHO + "\" t=\"inlineStr\"><is><t xml:space=\"preserve\">" : "\" t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+            saida.write(escapar(valor.toString()));
+            saida.write("</t></is></c>");
+        }
+    }
+
+    private void parte(String nome, String conteudo) throws IOException {
+        zip.putNextEntry(new ZipEntry(nome));
+        zip.write(conteudo.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    /** A1, B1, ..., Z1, AA1 ... */
+    static String referencia(int coluna, int linha) {
+        StringBuilder letras = new StringBuilder();
+        for (int c = coluna + 1; c > 0; c = (c - 1) / 26) {
+            letras.insert(0, (char) ('A' + (c - 1) % 26));
+        }
+        return letras.append(linha).toString();
+    }
+
+    /** Escapa para XML e descarta caracteres de controle que o formato não admite. */
+    static String escapar(String texto) {
+        StringBuilder sb = new StringBuilder(texto.length() + 16);
+        for (int i = 0; i < texto.length(); i++) {
+            char ch = texto.charAt(i);
+            switch (ch) {
+                case '&' -> sb.append("&amp;");
+                case '<' -> sb.append("&lt;");
+                case '>' -> sb.append("&gt;");
+                case '"' -> sb.append("&quot;");
+                default -> {
+                    if (ch >= 0x20 || ch == '\t' || ch == '\n' || ch == '\r') {
+                        sb.append(ch);
+                    }
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    /** Nomes de aba: até 31 caracteres, sem {@code []:*?/\}. */
+    private static String nomeValido(String nome) {
+        String limpo = nome == null ? "" : nome.replaceAll("[\\[\\]:*?/\\\\]", " ").trim();
+        if (limpo.isEmpty()) {
+            return "Planilha1";
+        }
+        return limpo.length() > 31 ? limpo.substring(0, 31) : limpo;
+    }
+
+    private static String relacao(String id, String tipo, String alvo) {
+        return XML + "<Relationships xmlns=\"" + NS_RELACOES + "\"><Relationship Id=\"" + id + "\" Type=\"" + tipo + "\" Target=\"" + alvo + "\"/></Relationships>";
+    }
+
+    private static String conteudoTipos() {
+        return (
+            XML +
+            "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">" +
+            "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>" +
+            "<Default Extension=\"xml\" ContentType=\"application/xml\"/>" +
+            "<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>" +
+            "<Override PartName=\"/xl/worksheets/sheet1.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>" +
+            "<Override PartName=\"/xl/styles.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>" +
+            "</Types>"
+        );
+    }
+
+    /** Estilos na ordem das constantes ESTILO_*: padrão, cabeçalho em negrito, data, data e hora, decimal. */
+    private static String estilos() {
+        return (
+            XML +
+            "<styleSheet xmlns=\"" + NS_PLANILHA + "\">" +
+            "<numFmts count=\"1\"><numFmt numFmtId=\"164\" formatCode=\"dd/mm/yyyy hh:mm\"/></numFmts>" +
+            "<fonts count=\"2\"><font><sz val=\"11\"/><name val=\"Calibri\"/></font><font><b/><sz val=\"11\"/><name val=\"Calibri\"/></font></fonts>" +
+            "<fills count=\"2\"><fill><patternFill patternType=\"none\"/></fill><fill><patternFill patternType=\"gray125\"/></fill></fills>" +
+            "<borders count=\"1\"><border><left/><right/><top/><bottom/><diagonal/></border></borders>" +
+            "<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/></cellStyleXfs>" +
+            "<cellXfs count=\"5\">" +
+            "<xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/>" +
+            "<xf numFmtId=\"0\" fontId=\"1\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyFont=\"1\"/>" +
+            "<xf numFmtId=\"14\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>" +
+            "<xf numFmtId=\"164\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>" +
+            "<xf numFmtId=\"4\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>" +
+            "</cellXfs>" +
+            "<cellStyles count=\"1\"><cellStyle name=\"Normal\" xfId=\"0\" builtinId=\"0\"/></cellStyles>" +
+            "</styleSheet>"
+        );
+    }
+}
@@ -0,0 +1,130 @@
+package br.com.semear.service.exportacao;
+
+import br.com.semear.domain.enumeration.StatusInscricaoEvento;
+import br.com.semear.domain.enumerations.TipoLancamento;
+import br.com.semear.repository.EventoInscricaoRepository;
+import br.com.semear.repository.LancamentoRepository;
+import br.com.semear.repository.projection.InscricaoExportacaoProjection;
+import br.com.semear.repository.projection.LancamentoExportacaoProjection;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Escreve relatórios direto na saída da resposta a partir de cursores do banco.
+ * <p>
+ * Os métodos rodam na thread assíncrona do {@code StreamingResponseBody}; permissões e tenant são resolvidos antes,
+ * na thread da requisição. A escrita bloqueante no socket é a contrapressão: enquanto o cliente não consome, o
+ * cursor não avança e o driver não busca o próximo bloco.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExportacaoService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExportacaoService.class);
+
+    /** Filtros da exportação do livro caixa; campos nulos não filtram. */
+    public record FiltroLancamentos(
+        Long igrejaId,
+        LocalDate inicio,
+        LocalDate fim,
+        TipoLancamento tipo,
+        String categoria,
+        String centroCusto
+    ) {}
+
+    private final LancamentoRepository lancamentoRepository;
+    private final EventoInscricaoRepository eventoInscricaoRepository;
+
+    public ExportacaoService(LancamentoRepository lancamentoRepository, EventoInscricaoRepository eventoInscricaoRepository) {
+        this.lancamentoRepository = lancamentoRepository;
+        this.eventoInscricaoRepository = eventoInscricaoRepository;
+    }
+
+    public void lancamentos(FiltroLancamentos filtro, FormatoExportacao formato, OutputStream saida) throws IOException {
+        long linhas = 0;
+        try (
+            Stream<LancamentoExportacaoProjection> cursor = lancamentoRepository.streamParaExportacao(
+                filtro.igrejaId(),
+                filtro.inicio(),
+                filtro.fim(),
+                filtro.tipo(),
+                filtro.categoria(),
+                filtro.centroCusto()
+            );
+            EscritorTabela escritor = formato.abrir(saida, "Lançamentos")
+        ) {
+            escritor.cabecalho(
+                "id",
+                "tipo",
+                "categoria",
+                "descricao",
+                "valor",
+                "data_lancamento",
+                "centro_custo",
+                "metodo_pagamento",
+                "referencia"
+            );
+            for (Iterator<LancamentoExportacaoProjection> it = cursor.iterator(); it.hasNext(); linhas++) {
+                LancamentoExportacaoProjection l = it.next();
+                escritor.linha(
+                    l.getId(),
+                    l.getTipo() != null ? l.getTipo().name() : null,
+                    l.getCategoria(),
+                    l.getDescricao(),
+                    l.getValor(),
+                    l.getDataLancamento(),
+                    l.getCentroCusto(),
+                    l.getMetodoPagamento(),
+                    l.getReferencia()
+                );
+            }
+        }
+        LOG.debug("Exportados {} lançamentos da igreja {} em {}", linhas, filtro.igrejaId(), formato);
+    }
+
+    public void inscritos(Long eventoId, StatusInscricaoEvento status, FormatoExportacao formato, OutputStream saida)
+        throws IOException {
+        long linhas = 0;
+        try (
+            Stream<InscricaoExportacaoProjection> cursor = eventoInscricaoRepository.streamParaExportacao(eventoId, status);
+            EscritorTabela escritor = formato.abrir(saida, "Inscritos")
+        ) {
+            escritor.cabecalho("Nome", "E-mail", "Telefone", "Data inscrição", "Status", "Check-in");
+            for (Iterator<InscricaoExportacaoProjection> it = cursor.iterator(); it.hasNext(); linhas++) {
+                InscricaoExportacaoProjection i = it.next();
+                escritor.linha(
+                    nome(i),
+                    i.getEmail(),
+                    telefone(i),
+                    i.getCriadoEm(),
+                    i.getStatus() != null ? i.getStatus().name() : null,
+                    Boolean.TRUE.equals(i.getConfirmado()) ? "Confirmado" : "Pendente"
+                );
+            }
+        }
+        LOG.debug("Exportados {} inscritos do evento {} em {}", linhas, eventoId, formato);
+    }
+
+    private static String nome(InscricaoExportacaoProjection inscricao) {
+        String nome = (Objects.toString(inscricao.getFirstName(), "") + " " + Objects.toString(inscricao.getLastName(), "")).trim();
+        return nome.isBlank() ? inscricao.getLogin() : nome;
+    }
+
+    private static String telefone(InscricaoExportacaoProjection inscricao) {
+        if (inscricao.getPhone() != null && !inscricao.getPhone().isBlank()) {
+            return inscricao.getPhone();
+        }
+        if (inscricao.getPhoneSecondary() != null && !inscricao.getPhoneSecondary().isBlank()) {
+            return inscricao.getPhoneSecondary();
+        }
+        return null;
+    }
+}
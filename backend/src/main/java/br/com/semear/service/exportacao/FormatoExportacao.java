@@ -0,0 +1,46 @@
+package br.com.semear.service.exportacao;
+
+import br.com.semear.web.rest.errors.BadRequestAlertException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+public enum FormatoExportacao {
+    CSV("text/csv; charset=UTF-8", "csv"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+    private final String extensao;
+
+    FormatoExportacao(String contentType, String extensao) {
+        this.contentType = contentType;
+        this.extensao = extensao;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtensao() {
+        return extensao;
+    }
+
+    /** Abre um escritor sobre a saída; o nome da planilha só é usado no XLSX. */
+    public EscritorTabela abrir(OutputStream saida, String nomePlanilha) throws IOException {
+        return switch (this) {
+            case CSV -> new EscritorCsv(saida);
+            case XLSX -> new EscritorXlsx(saida, nomePlanilha);
+        };
+    }
+
+    public static FormatoExportacao de(String valor) {
+        if (valor != null) {
+            for (FormatoExportacao formato : values()) {
+                if (formato.extensao.equals(valor.trim().toLowerCase(Locale.ROOT))) {
+                    return formato;
+                }
+            }
+        }
+        throw new BadRequestAlertException("Formato de exportação inválido. Use csv ou xlsx.", "exportacao", "formatoinvalido");
+    }
+}
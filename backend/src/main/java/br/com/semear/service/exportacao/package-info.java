@@ -0,0 +1,5 @@
+/**
+ * Exportação de relatórios em CSV e XLSX escrita direto na resposta HTTP, linha a linha, a partir de um cursor
+ * do banco — o consumo de memória não depende do tamanho do relatório.
+ */
+package br.com.semear.service.exportacao;
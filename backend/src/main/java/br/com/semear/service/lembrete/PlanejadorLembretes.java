@@ -0,0 +1,307 @@
+package br.com.semear.service.lembrete;
+
+import br.com.semear.domain.CultoOcorrencia;
+import br.com.semear.domain.CultoRegistro;
+import br.com.semear.domain.Escala;
+import br.com.semear.domain.EscalaItem;
+import br.com.semear.domain.Evento;
+import br.com.semear.domain.Igreja;
+import br.com.semear.domain.enumeration.StatusEscalaPublicacao;
+import br.com.semear.domain.enumeration.StatusEvento;
+import br.com.semear.domain.enumeration.StatusInscricaoEvento;
+import br.com.semear.repository.CultoOcorrenciaRepository;
+import br.com.semear.repository.CultoRegistroRepository;
+import br.com.semear.repository.EscalaItemRepository;
+import br.com.semear.repository.EscalaRepository;
+import br.com.semear.repository.EventoInscricaoRepository;
+import br.com.semear.repository.EventoRepository;
+import br.com.semear.repository.IgrejaRepository;
+import br.com.semear.repository.UserRepository;
+import br.com.semear.repository.UsuarioPreferenciaNotificacaoRepository;
+import br.com.semear.repository.projection.DestinatarioProjection;
+import br.com.semear.service.NotificacaoEnvioService;
+import br.com.semear.service.dto.NotificacaoPayloadDTO;
+import br.com.semear.service.notificacao.EnvioNotificacao;
+import br.com.semear.service.util.ConfigNotificacaoJsonUtil;
+import br.com.semear.service.util.CultoLembreteUtils;
+import br.com.semear.service.util.CultoRecorrenciaUtils;
+import br.com.semear.service.util.EscalaNotificacaoUtils;
+import br.com.semear.service.util.PlanoLeituraColetivoUtils;
+import br.com.semear.service.util.PlanoLeituraColetivoUtils.LeituraDoDia;
+import br.com.semear.service.util.VersiculoDoDiaUtils;
+import br.com.semear.service.util.VersiculoDoDiaUtils.Versiculo;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Monta os lembretes periódicos como pares (destinatário, payload) para {@link NotificacaoEnvioService#enviarLote}.
+ * <p>
+ * Cada tipo faz uma consulta para todas as igrejas, restrita à janela do lembrete, e no máximo mais uma para os
+ * destinatários das entidades encontradas — o custo acompanha os lembretes devidos, não o número de igrejas nem
+ * o histórico de escalas e eventos. Payloads iguais dentro de uma igreja são compartilhados entre os envios.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PlanejadorLembretes {
+
+    private static final ZoneId ZONE_BR = ZoneId.of("America/Sao_Paulo");
+    private static final DateTimeFormatter HORA_FMT = DateTimeFormatter.ofPattern("HH:mm", Locale.forLanguageTag("pt-BR"));
+
+    private final UserRepository userRepository;
+    private final UsuarioPreferenciaNotificacaoRepository preferenciaRepository;
+    private final EventoRepository eventoRepository;
+    private final EventoInscricaoRepository eventoInscricaoRepository;
+    private final EscalaRepository escalaRepository;
+    private final EscalaItemRepository escalaItemRepository;
+    private final CultoRegistroRepository cultoRegistroRepository;
+    private final CultoOcorrenciaRepository cultoOcorrenciaRepository;
+    private final IgrejaRepository igrejaRepository;
+
+    public PlanejadorLembretes(
+        UserRepository userRepository,
+        UsuarioPreferenciaNotificacaoRepository preferenciaRepository,
+        EventoRepository eventoRepository,
+        EventoInscricaoRepository eventoInscricaoRepository,
+        EscalaRepository escalaRepository,
+        EscalaItemRepository escalaItemRepository,
+        CultoRegistroRepository cultoRegistroRepository,
+        CultoOcorrenciaRepository cultoOcorrenciaRepository,
+        IgrejaRepository igrejaRepository
+    ) {
+        this.userRepository = userRepository;
+        this.preferenciaRepository = preferenciaRepository;
+        this.eventoRepository = eventoRepository;
+        this.eventoInscricaoRepository = eventoInscricaoRepository;
+        this.escalaRepository = escalaRepository;
+        this.escalaItemRepository = escalaItemRepository;
+        this.cultoRegistroRepository = cultoRegistroRepository;
+        this.cultoOcorrenciaRepository = cultoOcorrenciaRepository;
+        this.igrejaRepository = igrejaRepository;
+    }
+
+    /** Parabéns aos membros ativos que nasceram no dia; 29/02 é celebrado em 28/02 nos anos não bissextos. */
+    public List<EnvioNotificacao> aniversarios(LocalDate hoje) {
+        boolean incluir29Fevereiro = MonthDay.from(hoje).equals(MonthDay.of(2, 28)) && !hoje.isLeapYear();
+        List<EnvioNotificacao> envios = new ArrayList<>();
+        for (DestinatarioProjection d : userRepository.findAniversariantesDoDia(hoje.getMonthValue(), hoje.getDayOfMonth(), incluir29Fevereiro)) {
+            NotificacaoPayloadDTO payload = payload(d.getIgrejaId(), "ANIVERSARIO", "USUARIO", d.getUserId());
+            payload.setTitulo("Feliz aniversário! 🎉");
+            payload.setMensagem("Parabéns, " + primeiroNome(d.getFirstName()) + "! Que Deus abençoe ricamente este novo ano de vida.");
+            payload.setRotaDestino("/aniversariantes");
+            envios.add(new EnvioNotificacao(d.getUserId(), payload));
+        }
+        return envios;
+    }
+
+    /** Inscritos dos eventos publicados do dia, exceto eventos com lembretes próprios configurados. */
+    public List<EnvioNotificacao> eventos(LocalDate data, String tipo, String titulo) {
+        Instant inicio = data.atStartOfDay(ZONE_BR).toInstant();
+        Instant fim = data.plusDays(1).atStartOfDay(ZONE_BR).toInstant();
+        Map<Long, NotificacaoPayloadDTO> payloads = new HashMap<>();
+        for (Evento evento : eventoRepository.findByStatusNoPeriodo(StatusEvento.PUBLICADO, inicio, fim)) {
+            if (ConfigNotificacaoJsonUtil.parse(evento.getConfigNotificacao()).isEfetivamenteAtivo()) {
+                continue;
+            }
+            NotificacaoPayloadDTO payload = payload(evento.getIgreja().getId(), tipo, "EVENTO", evento.getId());
+            payload.setTitulo(titulo);
+            payload.setMensagem("\"" + evento.getTitulo() + "\" às " + HORA_FMT.format(evento.getDataInicio().atZone(ZONE_BR)) + ".");
+            payload.setRotaDestino("/eventos?eventoId=" + evento.getId());
+            payloads.put(evento.getId(), payload);
+        }
+        if (payloads.isEmpty()) {
+            return List.of();
+        }
+        return eventoInscricaoRepository
+            .findInscritosPorEventos(payloads.keySet(), StatusInscricaoEvento.ATIVA)
+            .stream()
+            .map(i -> new EnvioNotificacao(i.getUserId(), payloads.get(i.getEventoId())))
+            .toList();
+    }
+
+    /** Escalados nas escalas publicadas com data em [inicio, fim], dentro da janela de lembretes periódicos. */
+    public List<EnvioNotificacao> escalas(LocalDate inicio, LocalDate fim, LocalDate hoje, String tipo, String titulo) {
+        Instant instanteInicio = inicio.atStartOfDay(ZONE_BR).toInstant();
+        Instant instanteFim = fim.plusDays(1).atStartOfDay(ZONE_BR).toInstant();
+        List<Long> escalaIds = escalaRepository
+            .findByStatusNoPeriodo(StatusEscalaPublicacao.PUBLICADA, instanteInicio, instanteFim)
+            .stream()
+            .filter(EscalaNotificacaoUtils::escalaElegivelParaNotificacao)
+            .filter(escala -> EscalaNotificacaoUtils.escalaDentroDaJanelaLembretesPeriodicos(escala, hoje))
+            .map(Escala::getId)
+            .toList();
+        if (escalaIds.isEmpty()) {
+            return List.of();
+        }
+        List<EnvioNotificacao> envios = new ArrayList<>();
+        for (EscalaItem item : escalaItemRepository.findByEscalaIdInWithUser(escalaIds)) {
+            Escala escala = item.getEscala();
+            Long igrejaId = escala.getIgreja() != null ? escala.getIgreja().getId() : null;
+            if (igrejaId == null || !item.getUser().isActivated() || item.getUser().getIgreja() == null) {
+                continue;
+            }
+            if (!igrejaId.equals(item.getUser().getIgreja().getId())) {
+                continue;
+            }
+            Long userId = item.getUser().getId();
+            NotificacaoPayloadDTO payload = payload(igrejaId, tipo, "ESCALA", escala.getId());
+            payload.setTitulo(titulo);
+            payload.setMensagem(EscalaNotificacaoUtils.montarDescricao(escala));
+            payload.setRotaDestino(EscalaNotificacaoUtils.montarRota(escala, item));
+            payload.setChaveDeduplicacao(NotificacaoEnvioService.montarChaveDeduplicacao(tipo, "ESCALA", escala.getId(), userId, inicio));
+            envios.add(new EnvioNotificacao(userId, payload));
+        }
+        return envios;
+    }
+
+    public List<EnvioNotificacao> devocional(LocalDate hoje) {
+        List<EnvioNotificacao> envios = new ArrayList<>();
+        for (DestinatarioProjection d : preferenciaRepository.findDestinatariosDevocional()) {
+            NotificacaoPayloadDTO payload = payload(d.getIgrejaId(), "DEVOCIONAL_DIARIO", "DEVOCIONAL", null);
+            payload.setTitulo("Devocional de hoje");
+            payload.setMensagem("Reserve um momento para a leitura devocional de hoje.");
+            payload.setRotaDestino("/devocionais");
+            payload.setChaveDeduplicacao(
+                NotificacaoEnvioService.montarChaveDeduplicacao("DEVOCIONAL_DIARIO", "DEVOCIONAL", null, d.getUserId(), hoje)
+            );
+            envios.add(new EnvioNotificacao(d.getUserId(), payload));
+        }
+        return envios;
+    }
+
+    /** Versículo do dia para todos com push ligado — o mesmo texto em todas as igrejas. */
+    public List<EnvioNotificacao> versiculoDoDia(LocalDate hoje) {
+        Versiculo versiculo = VersiculoDoDiaUtils.obterVersiculoDoDia(hoje);
+        String titulo = "Versículo do dia — " + versiculo.referencia();
+        String mensagem = VersiculoDoDiaUtils.truncarTexto(versiculo.texto(), 200);
+        return porIgreja(preferenciaRepository.findDestinatariosPush(), igrejaId -> {
+            NotificacaoPayloadDTO payload = payload(igrejaId, "VERSICULO_DIA", "VERSICULO", null);
+            payload.setTitulo(titulo);
+            payload.setMensagem(mensagem);
+            payload.setRotaDestino("/");
+            return payload;
+        });
+    }
+
+    /** Leitura do dia do plano coletivo, para as igrejas cujo plano já começou. */
+    public List<EnvioNotificacao> leituraColetiva(LocalDate hoje) {
+        Map<Long, LeituraDoDia> leituras = new HashMap<>();
+        for (Igreja igreja : igrejaRepository.findByDataInicioPlanoLeituraLessThanEqual(hoje)) {
+            PlanoLeituraColetivoUtils.obterLeituraDoDia(igreja.getDataInicioPlanoLeitura(), hoje).ifPresent(l ->
+                leituras.put(igreja.getId(), l)
+            );
+        }
+        if (leituras.isEmpty()) {
+            return List.of();
+        }
+        return porIgreja(preferenciaRepository.findDestinatariosPushPorIgrejas(leituras.keySet()), igrejaId -> {
+            NotificacaoPayloadDTO payload = payload(igrejaId, "LEITURA_COLETIVA", "PLANO_LEITURA", null);
+            payload.setTitulo("Leitura bíblica de hoje");
+            payload.setMensagem(PlanoLeituraColetivoUtils.formatarMensagem(leituras.get(igrejaId)));
+            payload.setRotaDestino("/");
+            return payload;
+        });
+    }
+
+    /**
+     * Cultos de hoje e amanhã cujo lembrete ({@link CultoLembreteUtils#HORAS_ANTES_PADRAO} horas antes) cai na janela
+     * que começa em {@code agora}; ocorrências canceladas ficam de fora.
+     */
+    public List<EnvioNotificacao> cultosProximos(Instant agora) {
+        LocalDate hoje = agora.atZone(ZONE_BR).toLocalDate();
+        List<LocalDate> datas = List.of(hoje, hoje.plusDays(1));
+        List<CultoNaJanela> naJanela = new ArrayList<>();
+        for (CultoRegistro culto : cultoRegistroRepository.findByAtivoTrue()) {
+            LocalTime horario = CultoLembreteUtils.parseHorario(culto.getHorario());
+            if (horario == null || culto.getIgreja() == null) {
+                continue;
+            }
+            for (LocalDate data : datas) {
+                if (
+                    CultoLembreteUtils.estaNaJanelaLembretePadrao(agora, data, horario) &&
+                    CultoRecorrenciaUtils.cultoOcorreNaData(culto, data)
+                ) {
+                    naJanela.add(new CultoNaJanela(culto, data, horario));
+                }
+            }
+        }
+        if (naJanela.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> cancelados = new HashSet<>();
+        for (CultoOcorrencia ocorrencia : cultoOcorrenciaRepository.findCanceladas(
+            naJanela.stream().map(c -> c.culto().getId()).toList(),
+            naJanela.stream().map(CultoNaJanela::data).distinct().toList()
+        )) {
+            cancelados.add(ocorrencia.getCultoRegistro().getId() + ":" + ocorrencia.getDataEvento());
+        }
+        Map<Long, List<NotificacaoPayloadDTO>> payloadsPorIgreja = new HashMap<>();
+        for (CultoNaJanela c : naJanela) {
+            if (cancelados.contains(c.culto().getId() + ":" + c.data())) {
+                continue;
+            }
+            Long igrejaId = c.culto().getIgreja().getId();
+            NotificacaoPayloadDTO payload = payload(igrejaId, "CULTO_LEMBRETE", "CULTO", c.culto().getId());
+            payload.setTitulo("Culto em breve");
+            payload.setMensagem(
+                "\"" + c.culto().getNome() + "\" começa às " + HORA_FMT.format(c.horario()) + " (em cerca de " +
+                CultoLembreteUtils.HORAS_ANTES_PADRAO + " horas)."
+            );
+            payload.setRotaDestino("/cultos");
+            payload.setRespeitarHorarioSilencioso(false);
+            payloadsPorIgreja.computeIfAbsent(igrejaId, id -> new ArrayList<>()).add(payload);
+        }
+        if (payloadsPorIgreja.isEmpty()) {
+            return List.of();
+        }
+        List<EnvioNotificacao> envios = new ArrayList<>();
+        for (DestinatarioProjection d : preferenciaRepository.findDestinatariosAvisosGeraisPorIgrejas(payloadsPorIgreja.keySet())) {
+            for (NotificacaoPayloadDTO payload : payloadsPorIgreja.get(d.getIgrejaId())) {
+                envios.add(new EnvioNotificacao(d.getUserId(), payload));
+            }
+        }
+        return envios;
+    }
+
+    private record CultoNaJanela(CultoRegistro culto, LocalDate data, LocalTime horario) {}
+
+    private static List<EnvioNotificacao> porIgreja(
+        List<DestinatarioProjection> destinatarios,
+        Function<Long, NotificacaoPayloadDTO> payloadDaIgreja
+    ) {
+        Map<Long, NotificacaoPayloadDTO> payloads = new HashMap<>();
+        List<EnvioNotificacao> envios = new ArrayList<>(destinatarios.size());
+        for (DestinatarioProjection d : destinatarios) {
+            envios.add(new EnvioNotificacao(d.getUserId(), payloads.computeIfAbsent(d.getIgrejaId(), payloadDaIgreja)));
+        }
+        return envios;
+    }
+
+    private static NotificacaoPayloadDTO payload(Long igrejaId, String tipo, String entidadeTipo, Long entidadeId) {
+        NotificacaoPayloadDTO payload = new NotificacaoPayloadDTO();
+        payload.setIgrejaId(igrejaId);
+        payload.setTipo(tipo);
+        payload.setEntidadeTipo(entidadeTipo);
+        payload.setEntidadeId(entidadeId);
+        payload.setRegistrarDeduplicacao(true);
+        return payload;
+    }
+
+    private static String primeiroNome(String firstName) {
+        return firstName != null && !firstName.isBlank() ? firstName.trim() : "irmão(ã)";
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Planejamento dos lembretes periódicos (aniversários, eventos, escalas, cultos, devocional e leitura bíblica):
+ * uma consulta por tipo para todas as igrejas, já restrita à janela do lembrete.
+ */
+package br.com.semear.service.lembrete;
@@ -0,0 +1,15 @@
+package br.com.semear.service.midia;
+
+import java.io.IOException;
+import org.springframework.core.io.Resource;
+
+/**
+ * Arquivo pronto para download. O conteúdo é lido em streaming pela resposta HTTP.
+ *
+ * @param etag ETag forte (entre aspas) ou {@code null} para arquivos gravados antes do {@link MidiaStore}.
+ */
+public record ArquivoMidia(Resource conteudo, String contentType, String nomeArquivo, String etag) {
+    public long tamanho() throws IOException {
+        return conteudo.contentLength();
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.semear.service.midia;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Assinatura AWS Signature V4 das requisições ao {@link MidiaStoreS3}, sem SDK: só host, data e hash do corpo
+ * entram na assinatura, o suficiente para GET/HEAD/PUT de objetos em qualquer serviço compatível com S3.
+ */
+final class AssinaturaS3 {
+
+    /** SHA-256 do corpo vazio, usado em GET e HEAD. */
+    static final String HASH_VAZIO = "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
+
+    private static final DateTimeFormatter DATA_HORA = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter DATA = DateTimeFormatter.ofPattern("yyyyMMdd").withZone(ZoneOffset.UTC);
+
+    private final String regiao;
+    private final String chaveAcesso;
+    private final String chaveSecreta;
+
+    AssinaturaS3(String regiao, String chaveAcesso, String chaveSecreta) {
+        this.regiao = regiao;
+        this.chaveAcesso = chaveAcesso;
+        this.chaveSecreta = chaveSecreta;
+    }
+
+    /** Cabeçalhos a enviar: {@code x-amz-date}, {@code x-amz-content-sha256} e {@code Authorization}. */
+    Map<String, String> cabecalhos(String metodo, URI uri, String hashCorpo, Instant agora) {
+        String dataHora = DATA_HORA.format(agora);
+        String escopo = DATA.format(agora) + "/" + regiao + "/s3/aws4_request";
+        TreeMap<String, String> assinados = new TreeMap<>();
+        assinados.put("host", host(uri));
+        assinados.put("x-amz-content-sha256", hashCorpo);
+        assinados.put("x-amz-date", dataHora);
+
+        StringBuilder canonicos = new StringBuilder();
+        assinados.forEach((nome, valor) -> canonicos.append(nome).append(':').append(valor).append('\n'));
+        String nomesAssinados = String.join(";", assinados.keySet());
+        String requisicaoCanonica = String.join(
+            "\n",
+            metodo,
+            uri.getRawPath(),
+            uri.getRawQuery() == null ? "" : uri.getRawQuery(),
+            canonicos.toString(),
+            nomesAssinados,
+            hashCorpo
+        );
+        String paraAssinar = String.join("\n", "AWS4-HMAC-SHA256", dataHora, escopo, hex(sha256(requisicaoCanonica)));
+
+        byte[] chave = hmac(("AWS4" + chaveSecreta).getBytes(StandardCharsets.UTF_8), DATA.format(agora));
+        chave = hmac(chave, regiao);
+        chave = hmac(chave, "s3");
+        chave = hmac(chave, "aws4_request");
+        String assinatura = hex(hmac(chave, paraAssinar));
+
+        return Map.of(
+            "x-amz-date",
+            dataHora,
+            "x-amz-content-sha256",
+            hashCorpo,
+            "Authorization",
+            "AWS4-HMAC-SHA256 Credential=" + chaveAcesso + "/" + escopo + ", SignedHeaders=" + nomesAssinados + ", Signature=" + assinatura
+        );
+    }
+
+    private static String host(URI uri) {
+        return uri.getPort() == -1 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+    }
+
+    private static byte[] sha256(String texto) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(texto.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] hmac(byte[] chave, String texto) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(chave, "HmacSHA256"));
+            return mac.doFinal(texto.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        return HexFormat.of().formatHex(bytes);
+    }
+}
@@ -0,0 +1,4 @@
+package br.com.semear.service.midia;
+
+/** Resultado de {@link MidiaService#guardar}: o endereço do conteúdo e o tamanho em bytes. */
+public record MidiaGuardada(String hash, long tamanho) {}
@@ -0,0 +1,100 @@
+package br.com.semear.service.midia;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Service;
+
+/**
+ * Porta de entrada do {@link MidiaStore}. O upload é copiado em streaming para um temporário enquanto o SHA-256 é
+ * calculado, e o temporário é entregue ao store com esse hash: conteúdo repetido é guardado uma vez só.
+ */
+@Service
+public class MidiaService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MidiaService.class);
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+    private final MidiaStore store;
+    private final Path temporarios;
+
+    @Autowired
+    public MidiaService(MidiaStore store, @Value("${semear.upload-dir:${user.home}/semear-app/uploads}") String uploadDir) {
+        this(store, Paths.get(uploadDir, "midia", "tmp"));
+    }
+
+    MidiaService(MidiaStore store, Path temporarios) {
+        this.store = store;
+        this.temporarios = temporarios.toAbsolutePath().normalize();
+    }
+
+    /** Guarda o conteúdo de {@code entrada}, que é lida até o fim mas não fechada. */
+    public MidiaGuardada guardar(InputStream entrada) throws IOException {
+        Files.createDirectories(temporarios);
+        Path temporario = Files.createTempFile(temporarios, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            long tamanho;
+            try (OutputStream saida = new DigestOutputStream(Files.newOutputStream(temporario), digest)) {
+                tamanho = entrada.transferTo(saida);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            store.gravar(hash, temporario, tamanho);
+            return new MidiaGuardada(hash, tamanho);
+        } finally {
+            Files.deleteIfExists(temporario);
+        }
+    }
+
+    /** Arquivo guardado sob {@code hash}; vazio se o hash é inválido ou o conteúdo sumiu do store. */
+    public Optional<ArquivoMidia> abrir(String hash, String contentType, String nomeArquivo) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            return Optional.empty();
+        }
+        try {
+            return store.abrir(hash).map(conteudo -> new ArquivoMidia(conteudo, contentType, nomeArquivo, etag(hash)));
+        } catch (IOException e) {
+            LOG.warn("Não foi possível abrir a mídia {}: {}", hash, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /** Arquivo gravado no caminho antigo, antes do {@link MidiaStore}; servido em streaming e sem ETag. */
+    public Optional<ArquivoMidia> abrirLegado(Path caminho, String contentType, String nomeArquivo) {
+        if (caminho == null || !Files.isRegularFile(caminho)) {
+            return Optional.empty();
+        }
+        return Optional.of(new ArquivoMidia(new FileSystemResource(caminho), contentType, nomeArquivo, null));
+    }
+
+    /** Se o store sobrevive a redeploy; quando não, quem precisa de durabilidade mantém sua própria cópia. */
+    public boolean storeDuravel() {
+        return store.duravel();
+    }
+
+    public static String etag(String hash) {
+        return "\"" + hash + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
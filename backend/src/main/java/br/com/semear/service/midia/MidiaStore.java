@@ -0,0 +1,23 @@
+package br.com.semear.service.midia;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.springframework.core.io.Resource;
+
+/**
+ * Onde ficam os arquivos de mídia, identificados pelo SHA-256 (hex) do conteúdo. Um hash gravado nunca muda de
+ * conteúdo, então gravar de novo o mesmo hash não faz nada.
+ */
+public interface MidiaStore {
+    boolean existe(String hash) throws IOException;
+
+    /** Guarda {@code arquivo}, que já tem o conteúdo do hash; a implementação pode mover o arquivo. */
+    void gravar(String hash, Path arquivo, long tamanho) throws IOException;
+
+    /** Conteúdo lido sob demanda, com {@link Resource#contentLength()} sem ler o arquivo; vazio se não existe. */
+    Optional<Resource> abrir(String hash) throws IOException;
+
+    /** Se o conteúdo sobrevive a um redeploy (disco local em PaaS não sobrevive). */
+    boolean duravel();
+}
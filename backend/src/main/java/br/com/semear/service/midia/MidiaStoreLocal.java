@@ -0,0 +1,94 @@
+package br.com.semear.service.midia;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link MidiaStore} no disco, em {@code <upload-dir>/midia/ab/abcdef...}. O arquivo temporário fica no mesmo
+ * disco e é só renomeado; a cópia por {@link FileChannel#transferTo} é usada quando o rename não é possível.
+ */
+@Component
+@ConditionalOnProperty(name = "semear.midia.store", havingValue = "local", matchIfMissing = true)
+public class MidiaStoreLocal implements MidiaStore {
+
+    private final Path base;
+
+    public MidiaStoreLocal(@Value("${semear.upload-dir:${user.home}/semear-app/uploads}") String uploadDir) {
+        this(Paths.get(uploadDir, "midia"));
+    }
+
+    MidiaStoreLocal(Path base) {
+        this.base = base.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public boolean existe(String hash) {
+        return Files.isRegularFile(caminho(hash));
+    }
+
+    @Override
+    public void gravar(String hash, Path arquivo, long tamanho) throws IOException {
+        Path destino = caminho(hash);
+        if (Files.isRegularFile(destino)) {
+            Files.deleteIfExists(arquivo);
+            return;
+        }
+        Files.createDirectories(destino.getParent());
+        try {
+            Files.move(arquivo, destino, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            copiar(arquivo, destino, tamanho);
+        } catch (FileAlreadyExistsException e) {
+            // Outro upload do mesmo conteúdo chegou antes.
+            Files.deleteIfExists(arquivo);
+        }
+    }
+
+    @Override
+    public Optional<Resource> abrir(String hash) {
+        Path caminho = caminho(hash);
+        return Files.isRegularFile(caminho) ? Optional.of(new FileSystemResource(caminho)) : Optional.empty();
+    }
+
+    @Override
+    public boolean duravel() {
+        return false;
+    }
+
+    /** Copia para um temporário ao lado do destino e renomeia, para ninguém ler um arquivo pela metade. */
+    private static void copiar(Path origem, Path destino, long tamanho) throws IOException {
+        Path parcial = Files.createTempFile(destino.getParent(), destino.getFileName().toString(), ".parcial");
+        try (
+            FileChannel entrada = FileChannel.open(origem, StandardOpenOption.READ);
+            FileChannel saida = FileChannel.open(parcial, StandardOpenOption.WRITE)
+        ) {
+            long copiados = 0;
+            while (copiados < tamanho) {
+                copiados += entrada.transferTo(copiados, tamanho - copiados, saida);
+            }
+        }
+        try {
+            Files.move(parcial, destino, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            Files.deleteIfExists(parcial);
+        }
+        Files.deleteIfExists(origem);
+    }
+
+    private Path caminho(String hash) {
+        return base.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+}
@@ -0,0 +1,203 @@
+package br.com.semear.service.midia;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link MidiaStore} em um bucket compatível com S3 (AWS, R2, MinIO), com URLs no estilo
+ * {@code <endpoint>/<bucket>/<prefixo><hash>}. O upload envia o arquivo temporário em streaming; o download só abre
+ * a conexão na primeira leitura e, se o conteúdo foi pulado antes (requisições Range), pede só o trecho necessário.
+ */
+@Component
+@ConditionalOnProperty(name = "semear.midia.store", havingValue = "s3")
+public class MidiaStoreS3 implements MidiaStore {
+
+    private final URI base;
+    private final AssinaturaS3 assinatura;
+    private final HttpClient http;
+
+    public MidiaStoreS3(
+        @Value("${semear.midia.s3.endpoint}") String endpoint,
+        @Value("${semear.midia.s3.bucket}") String bucket,
+        @Value("${semear.midia.s3.regiao:us-east-1}") String regiao,
+        @Value("${semear.midia.s3.chave-acesso}") String chaveAcesso,
+        @Value("${semear.midia.s3.chave-secreta}") String chaveSecreta,
+        @Value("${semear.midia.s3.prefixo:midia/}") String prefixo
+    ) {
+        String raiz = endpoint.replaceAll("/+$", "");
+        this.base = URI.create(raiz + "/" + bucket + "/" + prefixo);
+        this.assinatura = new AssinaturaS3(regiao, chaveAcesso, chaveSecreta);
+        this.http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    }
+
+    @Override
+    public boolean existe(String hash) throws IOException {
+        return tamanho(hash).isPresent();
+    }
+
+    @Override
+    public void gravar(String hash, Path arquivo, long tamanho) throws IOException {
+        if (existe(hash)) {
+            return;
+        }
+        // O corpo é endereçado pelo próprio SHA-256, que é exatamente o hash exigido na assinatura.
+        HttpRequest requisicao = assinar(HttpRequest.newBuilder(uri(hash)), "PUT", uri(hash), hash)
+            .PUT(HttpRequest.BodyPublishers.ofFile(arquivo))
+            .build();
+        HttpResponse<Void> resposta = enviar(requisicao, HttpResponse.BodyHandlers.discarding());
+        if (resposta.statusCode() / 100 != 2) {
+            throw new IOException("S3 recusou o upload de " + hash + ": HTTP " + resposta.statusCode());
+        }
+    }
+
+    @Override
+    public Optional<Resource> abrir(String hash) throws IOException {
+        return tamanho(hash).map(tamanho -> new ObjetoS3(hash, tamanho));
+    }
+
+    @Override
+    public boolean duravel() {
+        return true;
+    }
+
+    private Optional<Long> tamanho(String hash) throws IOException {
+        HttpRequest requisicao = assinar(HttpRequest.newBuilder(uri(hash)), "HEAD", uri(hash), AssinaturaS3.HASH_VAZIO)
+            .method("HEAD", HttpRequest.BodyPublishers.noBody())
+            .build();
+        HttpResponse<Void> resposta = enviar(requisicao, HttpResponse.BodyHandlers.discarding());
+        if (resposta.statusCode() == 404) {
+            return Optional.empty();
+        }
+        if (resposta.statusCode() / 100 != 2) {
+            throw new IOException("S3 respondeu HTTP " + resposta.statusCode() + " para " + hash);
+        }
+        return resposta.headers().firstValueAsLong("Content-Length").stream().boxed().findFirst();
+    }
+
+    private InputStream baixar(String hash, long inicio) throws IOException {
+        HttpRequest.Builder builder = assinar(HttpRequest.newBuilder(uri(hash)), "GET", uri(hash), AssinaturaS3.HASH_VAZIO);
+        if (inicio > 0) {
+            builder.header("Range", "bytes=" + inicio + "-");
+        }
+        HttpResponse<InputStream> resposta = enviar(builder.GET().build(), HttpResponse.BodyHandlers.ofInputStream());
+        if (resposta.statusCode() == 404) {
+            resposta.body().close();
+            throw new FileNotFoundException("Mídia " + hash + " não encontrada no S3");
+        }
+        if (resposta.statusCode() / 100 != 2) {
+            resposta.body().close();
+            throw new IOException("S3 respondeu HTTP " + resposta.statusCode() + " para " + hash);
+        }
+        return resposta.body();
+    }
+
+    private HttpRequest.Builder assinar(HttpRequest.Builder builder, String metodo, URI uri, String hashCorpo) {
+        assinatura.cabecalhos(metodo, uri, hashCorpo, Instant.now()).forEach(builder::header);
+        return builder.timeout(Duration.ofSeconds(60));
+    }
+
+    private <T> HttpResponse<T> enviar(HttpRequest requisicao, HttpResponse.BodyHandler<T> corpo) throws IOException {
+        try {
+            return http.send(requisicao, corpo);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Requisição ao S3 interrompida", e);
+        }
+    }
+
+    private URI uri(String hash) {
+        return base.resolve(hash);
+    }
+
+    /** Objeto do bucket como {@link Resource}; cada {@link #getInputStream()} abre um download próprio. */
+    private final class ObjetoS3 extends AbstractResource {
+
+        private final String hash;
+        private final long tamanho;
+
+        private ObjetoS3(String hash, long tamanho) {
+            this.hash = hash;
+            this.tamanho = tamanho;
+        }
+
+        @Override
+        public long contentLength() {
+            return tamanho;
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public String getDescription() {
+            return "Mídia S3 [" + hash + "]";
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new DownloadS3(hash);
+        }
+    }
+
+    /** Stream que adia o GET até a primeira leitura, convertendo os {@code skip} iniciais em cabeçalho Range. */
+    private final class DownloadS3 extends InputStream {
+
+        private final String hash;
+        private long inicio;
+        private InputStream corpo;
+
+        private DownloadS3(String hash) {
+            this.hash = hash;
+        }
+
+        private InputStream corpo() throws IOException {
+            if (corpo == null) {
+                corpo = baixar(hash, inicio);
+            }
+            return corpo;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            if (corpo == null) {
+                long pulados = Math.max(0, n);
+                inicio += pulados;
+                return pulados;
+            }
+            return corpo.skip(n);
+        }
+
+        @Override
+        public int read() throws IOException {
+            return corpo().read();
+        }
+
+        @Override
+        public int read(byte[] destino, int deslocamento, int tamanho) throws IOException {
+            return corpo().read(destino, deslocamento, tamanho);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (corpo != null) {
+                corpo.close();
+            }
+        }
+    }
+}
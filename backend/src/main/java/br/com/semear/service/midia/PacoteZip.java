@@ -0,0 +1,154 @@
+package br.com.semear.service.midia;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.springframework.core.io.Resource;
+
+/**
+ * ZIP de vários {@link ArquivoMidia} escrito direto na saída, um arquivo por vez, sem juntar nada na memória.
+ * <p>
+ * O manifesto (nomes, tamanhos e método de cada entrada) é montado antes de escrever, na thread da requisição.
+ * Formatos que já vêm comprimidos entram sem compressão ({@link ZipEntry#STORED}): deflate neles gasta CPU sem
+ * reduzir o tamanho. Quando todas as entradas são assim, o tamanho exato do ZIP é conhecido de antemão e a
+ * resposta pode levar Content-Length, o que dá barra de progresso no navegador.
+ */
+public final class PacoteZip {
+
+    /** Imagens e PDFs (cujos streams internos já usam Flate) não ganham nada com deflate. */
+    private static final Set<String> JA_COMPRIMIDOS = Set.of(
+        "image/png",
+        "image/jpeg",
+        "image/jpg",
+        "image/gif",
+        "image/webp",
+        "application/pdf",
+        "application/zip"
+    );
+
+    // Cabeçalho local, entrada do diretório central e fim do diretório, sem campos extras (ZIP64 não é usado).
+    private static final int CABECALHO_LOCAL = 30;
+    private static final int CABECALHO_CENTRAL = 46;
+    private static final int FIM_DIRETORIO = 22;
+    private static final int BUFFER = 64 * 1024;
+
+    /** Uma entrada do manifesto; {@code armazenada} indica gravação sem compressão. */
+    public record Entrada(String nome, ArquivoMidia arquivo, long tamanho, boolean armazenada) {}
+
+    private final String nomeArquivo;
+    private final List<Entrada> entradas = new ArrayList<>();
+
+    public PacoteZip(String nomeArquivo) {
+        this.nomeArquivo = nomeArquivo;
+    }
+
+    /** Acrescenta um arquivo; {@code nome} deve ser único no pacote. */
+    public PacoteZip adicionar(String nome, ArquivoMidia arquivo) throws IOException {
+        entradas.add(new Entrada(nome, arquivo, arquivo.tamanho(), jaComprimido(arquivo.contentType())));
+        return this;
+    }
+
+    public String nomeArquivo() {
+        return nomeArquivo;
+    }
+
+    public List<Entrada> entradas() {
+        return List.copyOf(entradas);
+    }
+
+    public boolean vazio() {
+        return entradas.isEmpty();
+    }
+
+    /** Tamanho exato do ZIP, conhecido só quando nenhuma entrada é comprimida. */
+    public OptionalLong tamanhoTotal() {
+        long total = FIM_DIRETORIO;
+        for (Entrada entrada : entradas) {
+            if (!entrada.armazenada()) {
+                return OptionalLong.empty();
+            }
+            int nome = entrada.nome().getBytes(StandardCharsets.UTF_8).length;
+            total += CABECALHO_LOCAL + nome + entrada.tamanho() + CABECALHO_CENTRAL + nome;
+        }
+        return OptionalLong.of(total);
+    }
+
+    /** Escreve o ZIP em {@code saida}, que não é fechada. */
+    public void escrever(OutputStream saida) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(saida, StandardCharsets.UTF_8);
+        for (Entrada entrada : entradas) {
+            ZipEntry zipEntry = new ZipEntry(entrada.nome());
+            if (entrada.armazenada()) {
+                // STORED exige tamanho e CRC antes dos dados: uma leitura a mais, mas sem buffer do arquivo inteiro.
+                zipEntry.setMethod(ZipEntry.STORED);
+                zipEntry.setSize(entrada.tamanho());
+                zipEntry.setCompressedSize(entrada.tamanho());
+                zipEntry.setCrc(crc(entrada.arquivo().conteudo()));
+            }
+            zip.putNextEntry(zipEntry);
+            copiar(entrada.arquivo().conteudo(), zip);
+            zip.closeEntry();
+        }
+        zip.finish();
+        zip.flush();
+    }
+
+    private static boolean jaComprimido(String contentType) {
+        return contentType != null && JA_COMPRIMIDOS.contains(contentType.toLowerCase(Locale.ROOT));
+    }
+
+    private static long crc(Resource conteudo) throws IOException {
+        CRC32 crc = new CRC32();
+        if (conteudo.isFile()) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER);
+            try (FileChannel canal = FileChannel.open(conteudo.getFile().toPath(), StandardOpenOption.READ)) {
+                while (canal.read(buffer) >= 0) {
+                    buffer.flip();
+                    crc.update(buffer);
+                    buffer.clear();
+                }
+            }
+        } else {
+            byte[] buffer = new byte[BUFFER];
+            try (InputStream entrada = conteudo.getInputStream()) {
+                for (int lidos; (lidos = entrada.read(buffer)) >= 0;) {
+                    crc.update(buffer, 0, lidos);
+                }
+            }
+        }
+        return crc.getValue();
+    }
+
+    private static void copiar(Resource conteudo, OutputStream destino) throws IOException {
+        if (conteudo.isFile()) {
+            WritableByteChannel saida = Channels.newChannel(destino);
+            try (FileChannel canal = FileChannel.open(conteudo.getFile().toPath(), StandardOpenOption.READ)) {
+                long tamanho = canal.size();
+                for (long posicao = 0, copiados; posicao < tamanho; posicao += copiados) {
+                    copiados = canal.transferTo(posicao, tamanho - posicao, saida);
+                    if (copiados <= 0) {
+                        break; // arquivo encolheu depois do manifesto
+                    }
+                }
+            }
+        } else {
+            try (InputStream entrada = conteudo.getInputStream()) {
+                entrada.transferTo(destino);
+            }
+        }
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Armazenamento de arquivos enviados (documentos, anexos de suporte, banners e logos) endereçado pelo SHA-256 do
+ * conteúdo: o mesmo arquivo é guardado uma vez, o hash serve de ETag forte e nenhum caminho lê o arquivo inteiro
+ * para a memória.
+ */
+package br.com.semear.service.midia;
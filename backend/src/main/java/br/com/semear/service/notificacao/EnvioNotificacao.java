@@ -0,0 +1,10 @@
+package br.com.semear.service.notificacao;
+
+import br.com.semear.service.dto.NotificacaoPayloadDTO;
+
+/**
+ * Um destinatário e o conteúdo que ele recebe. O mesmo payload pode ser compartilhado por vários envios.
+ *
+ * @param userId usuário ativo já conferido como membro de {@code payload.igrejaId}
+ */
+public record EnvioNotificacao(Long userId, NotificacaoPayloadDTO payload) {}
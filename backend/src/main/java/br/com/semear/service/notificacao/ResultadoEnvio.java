@@ -0,0 +1,13 @@
+package br.com.semear.service.notificacao;
+
+/**
+ * Balanço de um disparo de notificação para vários destinatários.
+ *
+ * @param destinatarios usuários distintos da igreja considerados no disparo
+ * @param criadas notificações internas gravadas
+ * @param ignoradosDedup destinatários que já tinham recebido a mesma notificação (chave de deduplicação existente)
+ * @param pushEnfileirados pendências criadas na fila de push
+ */
+public record ResultadoEnvio(int destinatarios, int criadas, int ignoradosDedup, int pushEnfileirados) {
+    public static final ResultadoEnvio VAZIO = new ResultadoEnvio(0, 0, 0, 0);
+}
@@ -0,0 +1,9 @@
+package br.com.semear.service.notificacao;
+
+import java.util.Set;
+
+/**
+ * Publicado (após o commit) sempre que versões do resumo avançam: quem mantém conexões abertas reavalia só
+ * os usuários das igrejas e os usuários listados; {@code plataforma} afeta a visão do super admin.
+ */
+public record ResumoNotificacaoAlterado(Set<Long> igrejas, Set<Long> usuarios, boolean plataforma) {}
@@ -0,0 +1,142 @@
+package br.com.semear.service.notificacao;
+
+import br.com.semear.domain.AssinaturaIgreja;
+import br.com.semear.domain.Comunicado;
+import br.com.semear.domain.DocumentoIgreja;
+import br.com.semear.domain.Escala;
+import br.com.semear.domain.EscalaItem;
+import br.com.semear.domain.Evento;
+import br.com.semear.domain.EventoInscricao;
+import br.com.semear.domain.Igreja;
+import br.com.semear.domain.NotificacaoUsuario;
+import br.com.semear.domain.PedidoOracao;
+import br.com.semear.domain.PreCadastro;
+import br.com.semear.domain.SolicitacaoSuporte;
+import br.com.semear.domain.User;
+import br.com.semear.domain.UsuarioNotificacaoVista;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Escuta as gravações do Hibernate nas entidades que aparecem no resumo de notificações e avança a versão da
+ * seção correspondente. Registrado direto no Hibernate para que o pacote {@code domain} não dependa de serviço.
+ * Atualizações em lote via JPQL não passam por aqui e avisam {@link VersoesResumoNotificacao} diretamente.
+ */
+@Component
+public class ResumoNotificacaoListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final VersoesResumoNotificacao versoes;
+
+    public ResumoNotificacaoListener(EntityManagerFactory entityManagerFactory, VersoesResumoNotificacao versoes) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.versoes = versoes;
+    }
+
+    @PostConstruct
+    void registrar() {
+        EventListenerRegistry registro = entityManagerFactory
+            .unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registro.appendListeners(EventType.POST_INSERT, this);
+        registro.appendListeners(EventType.POST_UPDATE, this);
+        registro.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        aoAlterar(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        aoAlterar(event.getEntity());
+        if (event.getEntity() instanceof User) {
+            // Quem troca de igreja sai dos aniversariantes da anterior.
+            Object anterior = valorAnterior(event, "igreja");
+            if (anterior instanceof Igreja igreja) {
+                versoes.alterouIgreja(igreja.getId(), SecaoResumo.ANIVERSARIANTE);
+            }
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        aoAlterar(event.getEntity());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void aoAlterar(Object entidade) {
+        if (entidade instanceof Comunicado c) {
+            versoes.alterouIgreja(idIgreja(c.getIgreja()), SecaoResumo.COMUNICADO);
+        } else if (entidade instanceof Evento e) {
+            versoes.alterouIgreja(idIgreja(e.getIgreja()), SecaoResumo.EVENTO);
+        } else if (entidade instanceof EventoInscricao i) {
+            versoes.alterouUsuario(idUsuario(i.getUser()), SecaoResumo.EVENTO);
+        } else if (entidade instanceof Escala e) {
+            versoes.alterouIgreja(idIgreja(e.getIgreja()), SecaoResumo.ESCALA);
+        } else if (entidade instanceof EscalaItem i) {
+            versoes.alterouUsuario(idUsuario(i.getUser()), SecaoResumo.ESCALA);
+        } else if (entidade instanceof PedidoOracao p) {
+            versoes.alterouIgreja(idIgreja(p.getIgreja()), SecaoResumo.PEDIDO_ORACAO);
+        } else if (entidade instanceof SolicitacaoSuporte s) {
+            versoes.alterouIgreja(idIgreja(s.getIgreja()), SecaoResumo.SUPORTE);
+        } else if (entidade instanceof DocumentoIgreja d) {
+            versoes.alterouIgreja(idIgreja(d.getIgreja()), SecaoResumo.DOCUMENTO);
+        } else if (entidade instanceof AssinaturaIgreja a) {
+            versoes.alterouIgreja(idIgreja(a.getIgreja()), SecaoResumo.ASSINATURA);
+            versoes.alterouPlataforma(SecaoResumo.ASSINATURA);
+        } else if (entidade instanceof PreCadastro p) {
+            versoes.alterouIgreja(idIgreja(p.getIgreja()), SecaoResumo.PRE_CADASTRO);
+        } else if (entidade instanceof NotificacaoUsuario n) {
+            versoes.alterouUsuario(idUsuario(n.getUser()), SecaoResumo.NOTIFICACAO_USUARIO);
+        } else if (entidade instanceof UsuarioNotificacaoVista v) {
+            SecaoResumo secao = SecaoResumo.daVista(v.getTipo());
+            if (secao != null) {
+                versoes.alterouUsuario(idUsuario(v.getUser()), secao);
+            }
+        } else if (entidade instanceof User u) {
+            // Data de nascimento, igreja e autoridades mexem no resumo do próprio usuário e nos aniversariantes da igreja.
+            versoes.alterouIgreja(idIgreja(u.getIgreja()), SecaoResumo.ANIVERSARIANTE);
+            versoes.alterouUsuario(u.getId(), SecaoResumo.values());
+        }
+    }
+
+    private static Object valorAnterior(PostUpdateEvent event, String propriedade) {
+        Object[] estadoAnterior = event.getOldState();
+        if (estadoAnterior == null) {
+            return null;
+        }
+        String[] propriedades = event.getPersister().getPropertyNames();
+        for (int i = 0; i < propriedades.length; i++) {
+            if (propriedade.equals(propriedades[i])) {
+                return estadoAnterior[i];
+            }
+        }
+        return null;
+    }
+
+    private static Long idIgreja(Igreja igreja) {
+        return igreja != null ? igreja.getId() : null;
+    }
+
+    private static Long idUsuario(User user) {
+        return user != null ? user.getId() : null;
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.semear.service.notificacao;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Seções do resumo de notificações, na ordem em que aparecem na lista. Cada seção é recalculada
+ * sozinha quando a versão dela (igreja ou usuário) muda ou quando passa da validade máxima.
+ */
+public enum SecaoResumo {
+    COMUNICADO("COMUNICADO", "AVISO"),
+    ANIVERSARIANTE("ANIVERSARIANTE"),
+    SUPORTE,
+    PEDIDO_ORACAO("PEDIDO_ORACAO"),
+    ASSINATURA("ASSINATURA", "SAAS"),
+    DOCUMENTO("DOCUMENTO_VENCENDO"),
+    ESCALA,
+    NOTIFICACAO_USUARIO,
+    /** A janela de eventos próximos anda com o relógio, então a seção vale pouco tempo. */
+    EVENTO(Duration.ofMinutes(5), "EVENTO"),
+    PRE_CADASTRO;
+
+    /** Teto para o que não passa pelas entidades (outras instâncias, SQL em lote sem aviso). */
+    private static final Duration VALIDADE_PADRAO = Duration.ofMinutes(30);
+
+    private final Duration validadeMaxima;
+    private final Set<String> tiposVista;
+
+    SecaoResumo(String... tiposVista) {
+        this(null, tiposVista);
+    }
+
+    SecaoResumo(Duration validadeMaxima, String... tiposVista) {
+        this.validadeMaxima = validadeMaxima;
+        this.tiposVista = Set.of(tiposVista);
+    }
+
+    public Duration getValidadeMaxima() {
+        return validadeMaxima != null ? validadeMaxima : VALIDADE_PADRAO;
+    }
+
+    /** Seções de igreja cuja alteração invalida esta seção (lembretes de evento mostram o título atual do evento). */
+    Set<SecaoResumo> secoesIgrejaObservadas() {
+        return this == NOTIFICACAO_USUARIO ? EnumSet.of(NOTIFICACAO_USUARIO, EVENTO) : EnumSet.of(this);
+    }
+
+    /** Seção afetada por uma {@code UsuarioNotificacaoVista} do tipo informado; {@code null} se nenhuma usa esse tipo. */
+    static SecaoResumo daVista(String tipo) {
+        for (SecaoResumo secao : values()) {
+            if (secao.tiposVista.contains(tipo)) {
+                return secao;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,143 @@
+package br.com.semear.service.notificacao;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Versões das seções do resumo de notificações, por igreja, por usuário e da plataforma (visão do super admin).
+ * <p>
+ * Toda alteração recebe um número da mesma sequência crescente, então a versão de uma seção é o maior valor entre
+ * os escopos que ela observa. Dentro de transação as alterações são acumuladas e publicadas uma única vez após o
+ * commit — quem recalcula antes disso lê dados antigos com a versão antiga e recalcula de novo na próxima leitura.
+ * Cada publicação gera um {@link ResumoNotificacaoAlterado} no barramento de eventos da aplicação.
+ */
+@Component
+public class VersoesResumoNotificacao {
+
+    private static final Long PLATAFORMA = 0L;
+
+    private enum Escopo {
+        IGREJA,
+        USUARIO,
+        PLATAFORMA,
+    }
+
+    private record Chave(Escopo escopo, Long id, SecaoResumo secao) {}
+
+    private final AtomicLong sequencia = new AtomicLong();
+    private final ConcurrentHashMap<Chave, Long> versoes = new ConcurrentHashMap<>();
+    private final ApplicationEventPublisher eventos;
+
+    public VersoesResumoNotificacao(ApplicationEventPublisher eventos) {
+        this.eventos = eventos;
+    }
+
+    public void alterouIgreja(Long igrejaId, SecaoResumo... secoes) {
+        if (igrejaId != null) {
+            registrar(Escopo.IGREJA, igrejaId, secoes);
+        }
+    }
+
+    public void alterouUsuario(Long userId, SecaoResumo... secoes) {
+        if (userId != null) {
+            registrar(Escopo.USUARIO, userId, secoes);
+        }
+    }
+
+    public void alterouPlataforma(SecaoResumo... secoes) {
+        registrar(Escopo.PLATAFORMA, PLATAFORMA, secoes);
+    }
+
+    /** Versão atual de uma seção para o usuário; {@code 0} enquanto nada foi alterado. */
+    public long versao(Long igrejaId, Long userId, SecaoResumo secao) {
+        long versao = ler(Escopo.USUARIO, userId, secao);
+        for (SecaoResumo observada : secao.secoesIgrejaObservadas()) {
+            versao = Math.max(versao, ler(Escopo.IGREJA, igrejaId, observada));
+        }
+        if (secao == SecaoResumo.ASSINATURA) {
+            versao = Math.max(versao, ler(Escopo.PLATAFORMA, PLATAFORMA, secao));
+        }
+        return versao;
+    }
+
+    /** Versão de uma seção no escopo da igreja, para quem materializa dados da igreja inteira. */
+    public long versaoIgreja(Long igrejaId, SecaoResumo secao) {
+        return ler(Escopo.IGREJA, igrejaId, secao);
+    }
+
+    /** Próximo valor da sequência, também usado para numerar os fingerprints do resumo. */
+    public long proximaVersao() {
+        return sequencia.incrementAndGet();
+    }
+
+    private long ler(Escopo escopo, Long id, SecaoResumo secao) {
+        if (id == null) {
+            return 0L;
+        }
+        return versoes.getOrDefault(new Chave(escopo, id, secao), 0L);
+    }
+
+    private void registrar(Escopo escopo, Long id, SecaoResumo[] secoes) {
+        Collection<Chave> chaves = Arrays.stream(secoes).map(secao -> new Chave(escopo, id, secao)).toList();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            aplicar(chaves);
+            return;
+        }
+        alteracoesDaTransacao().chaves.addAll(chaves);
+    }
+
+    /** Uma sincronização por transação; transações aninhadas (REQUIRES_NEW) têm a sua própria lista. */
+    private AlteracoesPendentes alteracoesDaTransacao() {
+        for (TransactionSynchronization sincronizacao : TransactionSynchronizationManager.getSynchronizations()) {
+            if (sincronizacao instanceof AlteracoesPendentes pendentes && pendentes.dono() == this) {
+                return pendentes;
+            }
+        }
+        AlteracoesPendentes pendentes = new AlteracoesPendentes();
+        TransactionSynchronizationManager.registerSynchronization(pendentes);
+        return pendentes;
+    }
+
+    private void aplicar(Collection<Chave> chaves) {
+        if (chaves.isEmpty()) {
+            return;
+        }
+        long versao = sequencia.incrementAndGet();
+        Set<Long> igrejas = new HashSet<>();
+        Set<Long> usuarios = new HashSet<>();
+        boolean plataforma = false;
+        for (Chave chave : chaves) {
+            versoes.merge(chave, versao, Math::max);
+            switch (chave.escopo()) {
+                case IGREJA -> igrejas.add(chave.id());
+                case USUARIO -> usuarios.add(chave.id());
+                case PLATAFORMA -> plataforma = true;
+            }
+        }
+        eventos.publishEvent(new ResumoNotificacaoAlterado(Set.copyOf(igrejas), Set.copyOf(usuarios), plataforma));
+    }
+
+    private final class AlteracoesPendentes implements TransactionSynchronization {
+
+        private final Set<Chave> chaves = new HashSet<>();
+
+        private VersoesResumoNotificacao dono() {
+            return VersoesResumoNotificacao.this;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status != STATUS_ROLLED_BACK) {
+                aplicar(chaves);
+            }
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Resumo de notificações materializado por usuário e versionado por seção.
+ */
+package br.com.semear.service.notificacao;
@@ -0,0 +1,101 @@
+package br.com.semear.service.publico;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Páginas públicas renderizadas uma vez e servidas da memória.
+ * <p>
+ * Uma entrada vale enquanto a {@link VersoesConteudoPublico} da igreja não passar da sequência lida antes da
+ * montagem e por no máximo {@code validade}, que cobre o que muda só com o tempo (eventos que já começaram,
+ * comunicados fora de vigência) e alterações feitas por outra instância. Quando a entrada falta ou venceu, só uma
+ * requisição por chave monta a página; as que chegam enquanto isso esperam pelo mesmo resultado. Páginas não
+ * encontradas não são guardadas.
+ */
+@Component
+public class CacheConteudoPublico {
+
+    public static final String CACHE = "conteudoPublico";
+
+    private final VersoesConteudoPublico versoes;
+    private final Cache cache;
+    private final Duration validade;
+    private final ConcurrentHashMap<String, CompletableFuture<Optional<ConteudoPublico>>> emAndamento = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CacheConteudoPublico(
+        VersoesConteudoPublico versoes,
+        CacheManager cacheManager,
+        @Value("${semear.publico.cache.validade-segundos:300}") long validadeSegundos
+    ) {
+        this(versoes, cacheManager.getCache(CACHE), Duration.ofSeconds(validadeSegundos));
+    }
+
+    CacheConteudoPublico(VersoesConteudoPublico versoes, Cache cache, Duration validade) {
+        this.versoes = versoes;
+        this.cache = cache;
+        this.validade = validade;
+    }
+
+    /** Página da chave, montada com {@code montagem} só quando não há cópia válida guardada. */
+    public Optional<ConteudoPublico> obter(String chave, Supplier<Optional<PaginaPublica>> montagem) {
+        ConteudoPublico salvo = lerValido(chave);
+        if (salvo != null) {
+            return Optional.of(salvo);
+        }
+        try {
+            return montar(chave, montagem).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    /** Executa a montagem, ou devolve a que já está em andamento para a mesma chave. */
+    private CompletableFuture<Optional<ConteudoPublico>> montar(String chave, Supplier<Optional<PaginaPublica>> montagem) {
+        CompletableFuture<Optional<ConteudoPublico>> nova = new CompletableFuture<>();
+        CompletableFuture<Optional<ConteudoPublico>> existente = emAndamento.putIfAbsent(chave, nova);
+        if (existente != null) {
+            return existente;
+        }
+        try {
+            // Outra montagem pode ter terminado entre a leitura do cache e a reserva da chave.
+            ConteudoPublico salvo = lerValido(chave);
+            if (salvo != null) {
+                nova.complete(Optional.of(salvo));
+                return nova;
+            }
+            long sequencia = versoes.sequenciaAtual();
+            Optional<ConteudoPublico> conteudo = montagem.get().map(pagina -> ConteudoPublico.de(pagina, sequencia, Instant.now()));
+            conteudo.ifPresent(c -> cache.put(chave, c));
+            nova.complete(conteudo);
+        } catch (RuntimeException e) {
+            nova.completeExceptionally(e);
+        } finally {
+            emAndamento.remove(chave, nova);
+        }
+        return nova;
+    }
+
+    private ConteudoPublico lerValido(String chave) {
+        ConteudoPublico salvo = cache.get(chave, ConteudoPublico.class);
+        if (salvo == null) {
+            return null;
+        }
+        boolean alterado = versoes.versao(salvo.igrejaId()) > salvo.sequenciaLida();
+        boolean vencido = salvo.geradoEm().plus(validade).isBefore(Instant.now());
+        return alterado || vencido ? null : salvo;
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.semear.service.publico;
+
+import java.io.Serializable;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Página pública guardada no {@link CacheConteudoPublico}. O corpo é compartilhado por todas as respostas e não deve
+ * ser alterado.
+ *
+ * @param etag ETag forte (entre aspas) derivado do conteúdo: o mesmo corpo sempre gera o mesmo valor, em qualquer
+ *     instância.
+ * @param sequenciaLida {@link VersoesConteudoPublico#sequenciaAtual()} lida antes da montagem.
+ */
+public record ConteudoPublico(Long igrejaId, byte[] corpo, String etag, long sequenciaLida, Instant geradoEm)
+    implements Serializable {
+    static ConteudoPublico de(PaginaPublica pagina, long sequenciaLida, Instant geradoEm) {
+        return new ConteudoPublico(pagina.igrejaId(), pagina.corpo(), etag(pagina.corpo()), sequenciaLida, geradoEm);
+    }
+
+    private static String etag(byte[] corpo) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(corpo);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, 27) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.semear.service.publico;
+
+import br.com.semear.domain.Comunicado;
+import br.com.semear.domain.Evento;
+import br.com.semear.domain.EventoBanner;
+import br.com.semear.domain.Igreja;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Avança a {@link VersoesConteudoPublico} da igreja quando muda o que as páginas públicas mostram: os dados do site
+ * da igreja, os eventos, seus banners e os comunicados.
+ */
+@Component
+public class ConteudoPublicoListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final VersoesConteudoPublico versoes;
+
+    public ConteudoPublicoListener(EntityManagerFactory entityManagerFactory, VersoesConteudoPublico versoes) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.versoes = versoes;
+    }
+
+    @PostConstruct
+    void registrar() {
+        EventListenerRegistry registro = entityManagerFactory
+            .unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registro.appendListeners(EventType.POST_INSERT, this);
+        registro.appendListeners(EventType.POST_UPDATE, this);
+        registro.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        aoAlterar(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        aoAlterar(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        aoAlterar(event.getEntity());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void aoAlterar(Object entidade) {
+        if (entidade instanceof Igreja i) {
+            versoes.alterou(i.getId());
+        } else if (entidade instanceof Evento e) {
+            versoes.alterou(idIgreja(e.getIgreja()));
+        } else if (entidade instanceof Comunicado c) {
+            versoes.alterou(idIgreja(c.getIgreja()));
+        } else if (entidade instanceof EventoBanner) {
+            // O banner só conhece o evento; trocar a imagem é raro, então vale remontar as páginas de todas.
+            versoes.alterou(null);
+        }
+    }
+
+    private static Long idIgreja(Igreja igreja) {
+        return igreja != null ? igreja.getId() : null;
+    }
+}
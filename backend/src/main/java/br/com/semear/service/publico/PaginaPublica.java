@@ -0,0 +1,4 @@
+package br.com.semear.service.publico;
+
+/** Corpo já renderizado (JSON ou HTML) de uma página pública e a igreja cujas publicações ele reflete. */
+public record PaginaPublica(Long igrejaId, byte[] corpo) {}
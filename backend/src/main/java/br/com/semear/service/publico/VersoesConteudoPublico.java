@@ -0,0 +1,8 @@
+package br.com.semear.service.publico;
+
+import br.com.semear.service.util.VersoesPorIgreja;
+import org.springframework.stereotype.Component;
+
+/** Versão do conteúdo público de cada igreja, avançada pelo {@link ConteudoPublicoListener}. */
+@Component
+public class VersoesConteudoPublico extends VersoesPorIgreja {}
@@ -0,0 +1,5 @@
+/**
+ * Conteúdo público anônimo (site da igreja e página de compartilhamento de evento) renderizado uma vez, guardado em
+ * memória com ETag forte e remontado quando a igreja publica alguma alteração.
+ */
+package br.com.semear.service.publico;
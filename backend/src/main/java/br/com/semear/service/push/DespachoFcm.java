@@ -0,0 +1,93 @@
+package br.com.semear.service.push;
+
+import com.google.firebase.messaging.Message;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Divide as mensagens em lotes de até 500, envia os lotes em paralelo (limitado por um semáforo,
+ * o que segura quem chama quando o FCM está lento) e reenvia com backoff exponencial os lotes
+ * cuja chamada inteira falhou. Falhas por mensagem voltam classificadas em {@link ResultadoFcm}.
+ */
+public final class DespachoFcm {
+
+    public static final int LIMITE_LOTE_FCM = 500;
+
+    private static final Logger LOG = LoggerFactory.getLogger(DespachoFcm.class);
+
+    private final FcmGateway gateway;
+    private final Executor executor;
+    private final Semaphore vagas;
+    private final int tamanhoLote;
+    private final int tentativasLote;
+    private final long backoffInicialMs;
+
+    public DespachoFcm(FcmGateway gateway, Executor executor, int concorrencia, int tamanhoLote, int tentativasLote, long backoffInicialMs) {
+        this.gateway = gateway;
+        this.executor = executor;
+        this.vagas = new Semaphore(Math.max(1, concorrencia));
+        this.tamanhoLote = Math.max(1, Math.min(tamanhoLote, LIMITE_LOTE_FCM));
+        this.tentativasLote = Math.max(1, tentativasLote);
+        this.backoffInicialMs = Math.max(0, backoffInicialMs);
+    }
+
+    /** Envia todas as mensagens e devolve um resultado por mensagem, na mesma ordem. */
+    public List<ResultadoFcm> enviar(List<Message> mensagens) throws InterruptedException {
+        if (mensagens.isEmpty()) {
+            return List.of();
+        }
+        List<CompletableFuture<List<ResultadoFcm>>> lotes = new ArrayList<>();
+        for (int inicio = 0; inicio < mensagens.size(); inicio += tamanhoLote) {
+            List<Message> lote = mensagens.subList(inicio, Math.min(inicio + tamanhoLote, mensagens.size()));
+            vagas.acquire();
+            try {
+                lotes.add(CompletableFuture.supplyAsync(() -> enviarComRetentativa(lote), executor).whenComplete((r, e) -> vagas.release()));
+            } catch (RuntimeException e) {
+                vagas.release();
+                throw e;
+            }
+        }
+        List<ResultadoFcm> resultados = new ArrayList<>(mensagens.size());
+        for (CompletableFuture<List<ResultadoFcm>> lote : lotes) {
+            resultados.addAll(lote.join());
+        }
+        return resultados;
+    }
+
+    private List<ResultadoFcm> enviarComRetentativa(List<Message> lote) {
+        String ultimoErro = null;
+        for (int tentativa = 0; tentativa < tentativasLote; tentativa++) {
+            if (tentativa > 0 && !aguardar(backoffInicialMs << (tentativa - 1))) {
+                break;
+            }
+            try {
+                List<ResultadoFcm> resultados = gateway.enviarLote(lote);
+                if (resultados.size() == lote.size()) {
+                    return resultados;
+                }
+                ultimoErro = "FCM retornou " + resultados.size() + " respostas para " + lote.size() + " mensagens";
+            } catch (Exception e) {
+                ultimoErro = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+                LOG.debug("[PUSH] Lote FCM falhou (tentativa {}/{}): {}", tentativa + 1, tentativasLote, ultimoErro);
+            }
+        }
+        LOG.warn("[PUSH] Lote FCM de {} mensagens não enviado: {}", lote.size(), ultimoErro);
+        return Collections.nCopies(lote.size(), ResultadoFcm.falha(null, ultimoErro));
+    }
+
+    private static boolean aguardar(long ms) {
+        try {
+            Thread.sleep(ms);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.semear.service.push;
+
+import com.google.firebase.messaging.Message;
+import java.util.List;
+
+/**
+ * Ponto único de saída para o FCM. Em testes é substituído por um dublê em memória.
+ */
+public interface FcmGateway {
+    /**
+     * Envia até {@link DespachoFcm#LIMITE_LOTE_FCM} mensagens numa única chamada.
+     *
+     * @return um resultado por mensagem, na mesma ordem
+     * @throws Exception quando a chamada inteira falha (rede, credenciais) — o lote é reenviado
+     */
+    List<ResultadoFcm> enviarLote(List<Message> mensagens) throws Exception;
+}
@@ -0,0 +1,36 @@
+package br.com.semear.service.push;
+
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.SendResponse;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * Envio real via Firebase Admin SDK ({@code sendEach}: uma requisição HTTP/2 por lote).
+ */
+@Component
+public class FirebaseFcmGateway implements FcmGateway {
+
+    @Override
+    public List<ResultadoFcm> enviarLote(List<Message> mensagens) throws FirebaseMessagingException {
+        if (FirebaseApp.getApps().isEmpty()) {
+            throw new IllegalStateException("Firebase não inicializado");
+        }
+        BatchResponse resposta = FirebaseMessaging.getInstance().sendEach(mensagens);
+        List<ResultadoFcm> resultados = new ArrayList<>(mensagens.size());
+        for (SendResponse r : resposta.getResponses()) {
+            if (r.isSuccessful()) {
+                resultados.add(ResultadoFcm.sucesso());
+            } else {
+                FirebaseMessagingException e = r.getException();
+                resultados.add(ResultadoFcm.falha(e != null ? e.getMessagingErrorCode() : null, e != null ? e.getMessage() : null));
+            }
+        }
+        return resultados;
+    }
+}
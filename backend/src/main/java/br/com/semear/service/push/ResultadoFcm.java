@@ -0,0 +1,38 @@
+package br.com.semear.service.push;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+
+/**
+ * Resultado do envio de uma mensagem ao FCM, já classificado para a fila de saída.
+ */
+public record ResultadoFcm(Situacao situacao, String erro) {
+    public enum Situacao {
+        ENTREGUE,
+        /** Token não registrado ou inválido — o dispositivo deve ser desativado. */
+        TOKEN_INVALIDO,
+        /** Indisponibilidade, cota ou erro interno — vale tentar de novo. */
+        FALHA_TEMPORARIA,
+        FALHA_DEFINITIVA,
+    }
+
+    private static final ResultadoFcm ENTREGUE = new ResultadoFcm(Situacao.ENTREGUE, null);
+
+    public static ResultadoFcm sucesso() {
+        return ENTREGUE;
+    }
+
+    public static ResultadoFcm falha(MessagingErrorCode codigo, String erro) {
+        if (codigo == null) {
+            return new ResultadoFcm(Situacao.FALHA_TEMPORARIA, erro);
+        }
+        return switch (codigo) {
+            case UNREGISTERED, INVALID_ARGUMENT -> new ResultadoFcm(Situacao.TOKEN_INVALIDO, erro);
+            case UNAVAILABLE, INTERNAL, QUOTA_EXCEEDED -> new ResultadoFcm(Situacao.FALHA_TEMPORARIA, erro);
+            default -> new ResultadoFcm(Situacao.FALHA_DEFINITIVA, erro);
+        };
+    }
+
+    public boolean entregue() {
+        return situacao == Situacao.ENTREGUE;
+    }
+}
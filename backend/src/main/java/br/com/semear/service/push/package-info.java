@@ -0,0 +1,4 @@
+/**
+ * Envio em lote para o Firebase Cloud Messaging.
+ */
+package br.com.semear.service.push;
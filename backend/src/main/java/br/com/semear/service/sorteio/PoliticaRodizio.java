@@ -0,0 +1,52 @@
+package br.com.semear.service.sorteio;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Regras de justiça do rodízio: como pesar a carga de cada membro, intervalo mínimo entre serviços
+ * e datas em que o membro não pode ser escalado. Empates são sempre resolvidos pelo menor id.
+ */
+public interface PoliticaRodizio {
+    /** Chave de prioridade do membro; o menor valor é sorteado primeiro. */
+    long carga(long cargaHistorica, int cargaCiclo);
+
+    /** Dias mínimos entre dois serviços do mesmo membro dentro do ciclo (0 = sem intervalo). */
+    default int diasIntervaloMinimo() {
+        return 0;
+    }
+
+    default boolean dataExcluida(Long userId, LocalDate data) {
+        return false;
+    }
+
+    /** Comportamento histórico do sorteio: histórico + ciclo com o mesmo peso, sem restrições de data. */
+    static PoliticaRodizio padrao() {
+        return ponderada(1, 1, 0, Map.of());
+    }
+
+    static PoliticaRodizio ponderada(
+        int pesoHistorico,
+        int pesoCiclo,
+        int diasIntervaloMinimo,
+        Map<Long, Set<LocalDate>> datasExcluidas
+    ) {
+        return new PoliticaRodizio() {
+            @Override
+            public long carga(long cargaHistorica, int cargaCiclo) {
+                return pesoHistorico * cargaHistorica + (long) pesoCiclo * cargaCiclo;
+            }
+
+            @Override
+            public int diasIntervaloMinimo() {
+                return diasIntervaloMinimo;
+            }
+
+            @Override
+            public boolean dataExcluida(Long userId, LocalDate data) {
+                return datasExcluidas.getOrDefault(userId, Set.of()).contains(data);
+            }
+        };
+    }
+}
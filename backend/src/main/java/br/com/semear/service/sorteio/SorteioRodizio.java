@@ -0,0 +1,257 @@
+package br.com.semear.service.sorteio;
+
+import br.com.semear.domain.User;
+import br.com.semear.domain.enumeration.RegraGeneroEscala;
+import br.com.semear.domain.enumeration.Sexo;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sorteio por rodízio justo: uma fila de prioridade indexada por departamento e regra de gênero,
+ * ordenada pela carga (histórico do departamento + serviços já sorteados no ciclo) e pelo id do membro.
+ * <p>
+ * Cada sorteio custa O(log n): o escolhido tem a carga do ciclo incrementada e é reposicionado em todas
+ * as filas em que aparece (o mesmo membro pode servir em mais de um departamento). As filas são montadas
+ * sob demanda na primeira vez que o par departamento/gênero é sorteado.
+ * <p>
+ * Não é thread-safe — uma instância por geração de escalas.
+ */
+public final class SorteioRodizio {
+
+    private final Map<Long, List<User>> membrosPorDepartamento;
+    private final Map<Long, Map<Long, Long>> cargaHistoricaPorDepartamento;
+    private final Map<Long, Integer> cargaCiclo;
+    private final PoliticaRodizio politica;
+
+    private final Map<ChaveFila, Fila> filas = new HashMap<>();
+    private final Map<Long, List<Entrada>> entradasPorMembro = new HashMap<>();
+    private final Map<Long, LocalDate> ultimoServico = new HashMap<>();
+
+    /**
+     * @param membrosPorDepartamento membros ativos por departamento (lidos quando a fila é montada)
+     * @param cargaHistoricaPorDepartamento serviços publicados por departamento e membro
+     * @param cargaCiclo serviços sorteados no ciclo por membro; é atualizado a cada sorteio
+     * @param politica pesos, intervalo mínimo e datas excluídas
+     */
+    public SorteioRodizio(
+        Map<Long, List<User>> membrosPorDepartamento,
+        Map<Long, Map<Long, Long>> cargaHistoricaPorDepartamento,
+        Map<Long, Integer> cargaCiclo,
+        PoliticaRodizio politica
+    ) {
+        this.membrosPorDepartamento = membrosPorDepartamento;
+        this.cargaHistoricaPorDepartamento = cargaHistoricaPorDepartamento;
+        this.cargaCiclo = cargaCiclo;
+        this.politica = politica;
+    }
+
+    /**
+     * Sorteia o membro de menor carga elegível para a data e contabiliza o serviço.
+     *
+     * @return o membro escolhido, ou {@code null} se ninguém do departamento atende à regra
+     */
+    public User sortear(Long departamentoId, RegraGeneroEscala regraGenero, LocalDate data) {
+        RegraGeneroEscala regra = regraGenero != null ? regraGenero : RegraGeneroEscala.QUALQUER;
+        Fila fila = filas.computeIfAbsent(new ChaveFila(departamentoId, regra), this::montarFila);
+        if (fila.tamanho == 0) {
+            return null;
+        }
+        Entrada escolhida = fila.retirarElegivel(data);
+        if (escolhida == null) {
+            return null;
+        }
+        Long userId = escolhida.user.getId();
+        int carga = cargaCiclo.merge(userId, 1, Integer::sum);
+        if (data != null) {
+            ultimoServico.put(userId, data);
+        }
+        for (Entrada entrada : entradasPorMembro.getOrDefault(userId, List.of())) {
+            entrada.chave = politica.carga(entrada.cargaHistorica, carga);
+            entrada.fila.reposicionar(entrada);
+        }
+        return escolhida.user;
+    }
+
+    private Fila montarFila(ChaveFila chave) {
+        List<User> base = membrosPorDepartamento.getOrDefault(chave.departamentoId(), List.of());
+        Map<Long, Long> historico = cargaHistoricaPorDepartamento.getOrDefault(chave.departamentoId(), Map.of());
+        Fila fila = new Fila(base.size());
+        Set<Long> vistos = new HashSet<>();
+        for (User u : base) {
+            if (u.getId() == null || !compativelGenero(u, chave.regraGenero()) || !vistos.add(u.getId())) {
+                continue;
+            }
+            long cargaHistorica = historico.getOrDefault(u.getId(), 0L);
+            Entrada entrada = new Entrada(u, cargaHistorica, fila);
+            entrada.chave = politica.carga(cargaHistorica, cargaCiclo.getOrDefault(u.getId(), 0));
+            fila.adicionarSemOrdenar(entrada);
+            entradasPorMembro.computeIfAbsent(u.getId(), ignored -> new ArrayList<>(1)).add(entrada);
+        }
+        fila.ordenar();
+        return fila;
+    }
+
+    private boolean emIntervalo(Long userId, LocalDate data) {
+        int dias = politica.diasIntervaloMinimo();
+        if (dias <= 0 || data == null) {
+            return false;
+        }
+        LocalDate ultimo = ultimoServico.get(userId);
+        return ultimo != null && Math.abs(ChronoUnit.DAYS.between(ultimo, data)) < dias;
+    }
+
+    static boolean compativelGenero(User user, RegraGeneroEscala regra) {
+        if (regra == null || regra == RegraGeneroEscala.QUALQUER) {
+            return true;
+        }
+        if (user.getSexo() == null) {
+            return false;
+        }
+        return switch (regra) {
+            case MASCULINO -> user.getSexo() == Sexo.MASCULINO;
+            case FEMININO -> user.getSexo() == Sexo.FEMININO;
+            case QUALQUER -> true;
+        };
+    }
+
+    private record ChaveFila(Long departamentoId, RegraGeneroEscala regraGenero) {}
+
+    private static final class Entrada {
+
+        final User user;
+        final long cargaHistorica;
+        final Fila fila;
+        long chave;
+        int posicao;
+
+        Entrada(User user, long cargaHistorica, Fila fila) {
+            this.user = user;
+            this.cargaHistorica = cargaHistorica;
+            this.fila = fila;
+        }
+
+        boolean antesDe(Entrada outra) {
+            if (chave != outra.chave) {
+                return chave < outra.chave;
+            }
+            return user.getId() < outra.user.getId();
+        }
+    }
+
+    /** Heap binário mínimo em que cada entrada conhece a própria posição. */
+    private final class Fila {
+
+        Entrada[] heap;
+        int tamanho;
+
+        Fila(int capacidade) {
+            heap = new Entrada[Math.max(capacidade, 1)];
+        }
+
+        void adicionarSemOrdenar(Entrada entrada) {
+            entrada.posicao = tamanho;
+            heap[tamanho++] = entrada;
+        }
+
+        void ordenar() {
+            for (int i = tamanho / 2 - 1; i >= 0; i--) {
+                descer(i);
+            }
+        }
+
+        /**
+         * Percorre o topo até achar alguém fora do intervalo mínimo e sem data excluída. Se todos estiverem
+         * apenas em intervalo, usa o de menor carga entre eles. Os removidos voltam para a fila.
+         */
+        Entrada retirarElegivel(LocalDate data) {
+            Entrada topo = heap[0];
+            if (!emIntervalo(topo.user.getId(), data) && !politica.dataExcluida(topo.user.getId(), data)) {
+                return topo;
+            }
+            List<Entrada> retirados = new ArrayList<>();
+            Entrada reserva = null;
+            Entrada escolhida = null;
+            while (tamanho > 0) {
+                Entrada e = retirarTopo();
+                retirados.add(e);
+                if (politica.dataExcluida(e.user.getId(), data)) {
+                    continue;
+                }
+                if (!emIntervalo(e.user.getId(), data)) {
+                    escolhida = e;
+                    break;
+                }
+                if (reserva == null) {
+                    reserva = e;
+                }
+            }
+            for (Entrada e : retirados) {
+                inserir(e);
+            }
+            return escolhida != null ? escolhida : reserva;
+        }
+
+        void reposicionar(Entrada entrada) {
+            subir(entrada.posicao);
+            descer(entrada.posicao);
+        }
+
+        private Entrada retirarTopo() {
+            Entrada topo = heap[0];
+            tamanho--;
+            if (tamanho > 0) {
+                colocar(0, heap[tamanho]);
+                descer(0);
+            }
+            heap[tamanho] = null;
+            return topo;
+        }
+
+        private void inserir(Entrada entrada) {
+            colocar(tamanho++, entrada);
+            subir(entrada.posicao);
+        }
+
+        private void subir(int i) {
+            Entrada e = heap[i];
+            while (i > 0) {
+                int pai = (i - 1) >>> 1;
+                if (!e.antesDe(heap[pai])) {
+                    break;
+                }
+                colocar(i, heap[pai]);
+                i = pai;
+            }
+            colocar(i, e);
+        }
+
+        private void descer(int i) {
+            Entrada e = heap[i];
+            int metade = tamanho >>> 1;
+            while (i < metade) {
+                int filho = 2 * i + 1;
+                int direito = filho + 1;
+                if (direito < tamanho && heap[direito].antesDe(heap[filho])) {
+                    filho = direito;
+                }
+                if (!heap[filho].antesDe(e)) {
+                    break;
+                }
+                colocar(i, heap[filho]);
+                i = filho;
+            }
+            colocar(i, e);
+        }
+
+        private void colocar(int i, Entrada e) {
+            heap[i] = e;
+            e.posicao = i;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Motor de rodízio usado no sorteio automático de escalas.
+ */
+package br.com.semear.service.sorteio;
@@ -4,8 +4,12 @@ import br.com.semear.domain.CultoRegistro;
 import br.com.semear.domain.enumeration.DiaSemanaCulto;
 import br.com.semear.domain.enumeration.FrequenciaCulto;
 import br.com.semear.domain.enumeration.TipoCulto;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
 
 public final class CultoRecorrenciaUtils {
 
@@ -31,6 +35,42 @@ public final class CultoRecorrenciaUtils {
         return dataEntraNaSerieAlternada(data, ancora);
     }
 
+    /**
+     * Datas em que o culto ocorre entre {@code inicio} e {@code fim} (inclusive), em ordem. Mesmo resultado de
+     * testar {@link #cultoOcorreNaData} dia a dia, mas saltando direto de uma ocorrência para a seguinte.
+     */
+    public static List<LocalDate> datasNoPeriodo(CultoRegistro culto, LocalDate inicio, LocalDate fim) {
+        List<LocalDate> datas = new ArrayList<>();
+        if (culto == null || inicio == null || fim == null || fim.isBefore(inicio)) return datas;
+        TipoCulto tipo = culto.getTipo() != null ? culto.getTipo() : TipoCulto.RECORRENTE;
+        if (tipo == TipoCulto.EXTRAORDINARIO) {
+            LocalDate data = culto.getDataEspecifica();
+            if (data != null && !data.isBefore(inicio) && !data.isAfter(fim)) {
+                datas.add(data);
+            }
+            return datas;
+        }
+        if (culto.getDiaSemana() == null) return datas;
+        FrequenciaCulto freq = culto.getFrequencia() != null ? culto.getFrequencia() : FrequenciaCulto.TODA_SEMANA;
+        LocalDate primeira;
+        int passoDias;
+        if (freq == FrequenciaCulto.SEMANAS_ALTERNADAS) {
+            LocalDate ancora = culto.getDataAncora();
+            if (ancora == null || !diaCompativel(ancora, culto.getDiaSemana())) return datas;
+            // Primeira data da série (âncora + múltiplo de 14 dias) que não fica antes do início.
+            long quinzenas = Math.floorDiv(ChronoUnit.DAYS.between(ancora, inicio) + 13, 14);
+            primeira = ancora.plusDays(quinzenas * 14);
+            passoDias = 14;
+        } else {
+            primeira = inicio.with(TemporalAdjusters.nextOrSame(dayOfWeek(culto.getDiaSemana())));
+            passoDias = 7;
+        }
+        for (LocalDate d = primeira; !d.isAfter(fim); d = d.plusDays(passoDias)) {
+            datas.add(d);
+        }
+        return datas;
+    }
+
     /** True se a data está na série da âncora (mesma semana + 0, 14, 28… dias). */
     public static boolean dataEntraNaSerieAlternada(LocalDate data, LocalDate ancora) {
         long dias = ChronoUnit.DAYS.between(ancora, data);
@@ -65,4 +105,16 @@ public final class CultoRecorrenciaUtils {
             case SATURDAY -> DiaSemanaCulto.SABADO;
         };
     }
+
+    public static DayOfWeek dayOfWeek(DiaSemanaCulto diaSemana) {
+        return switch (diaSemana) {
+            case DOMINGO -> DayOfWeek.SUNDAY;
+            case SEGUNDA -> DayOfWeek.MONDAY;
+            case TERCA -> DayOfWeek.TUESDAY;
+            case QUARTA -> DayOfWeek.WEDNESDAY;
+            case QUINTA -> DayOfWeek.THURSDAY;
+            case SEXTA -> DayOfWeek.FRIDAY;
+            case SABADO -> DayOfWeek.SATURDAY;
+        };
+    }
 }
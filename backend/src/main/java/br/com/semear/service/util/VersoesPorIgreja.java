@@ -0,0 +1,90 @@
+package br.com.semear.service.util;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Versão por igreja de algum conteúdo materializado em memória. Alterações dentro de transação só avançam a versão
+ * após o commit, como em {@link br.com.semear.service.notificacao.VersoesResumoNotificacao}: quem monta o conteúdo
+ * antes disso guarda a versão antiga e remonta na leitura seguinte. Alterações sem igreja conhecida avançam a versão
+ * de todas. Todas as versões vêm da mesma sequência crescente.
+ */
+public abstract class VersoesPorIgreja {
+
+    private final AtomicLong sequencia = new AtomicLong();
+    private final AtomicLong todas = new AtomicLong();
+    private final ConcurrentHashMap<Long, Long> versoes = new ConcurrentHashMap<>();
+
+    /** Marca o conteúdo da igreja como alterado; {@code null} vale para todas as igrejas. */
+    public void alterou(Long igrejaId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            aplicar(igrejaId == null ? Set.of() : Set.of(igrejaId), igrejaId == null);
+            return;
+        }
+        AlteracoesPendentes pendentes = alteracoesDaTransacao();
+        if (igrejaId == null) {
+            pendentes.todas = true;
+        } else {
+            pendentes.igrejas.add(igrejaId);
+        }
+    }
+
+    /** Versão atual do conteúdo da igreja; {@code 0} enquanto nada foi alterado. */
+    public long versao(Long igrejaId) {
+        long daIgreja = igrejaId != null ? versoes.getOrDefault(igrejaId, 0L) : 0L;
+        return Math.max(daIgreja, todas.get());
+    }
+
+    /**
+     * Último valor da sequência. Lido antes de montar um conteúdo cuja igreja ainda não se conhece: o conteúdo está
+     * desatualizado quando {@link #versao} da igreja passar desse valor.
+     */
+    public long sequenciaAtual() {
+        return sequencia.get();
+    }
+
+    private AlteracoesPendentes alteracoesDaTransacao() {
+        for (TransactionSynchronization sincronizacao : TransactionSynchronizationManager.getSynchronizations()) {
+            if (sincronizacao instanceof AlteracoesPendentes pendentes && pendentes.dono() == this) {
+                return pendentes;
+            }
+        }
+        AlteracoesPendentes pendentes = new AlteracoesPendentes();
+        TransactionSynchronizationManager.registerSynchronization(pendentes);
+        return pendentes;
+    }
+
+    private void aplicar(Set<Long> igrejas, boolean paraTodas) {
+        if (igrejas.isEmpty() && !paraTodas) {
+            return;
+        }
+        long versao = sequencia.incrementAndGet();
+        for (Long igrejaId : igrejas) {
+            versoes.merge(igrejaId, versao, Math::max);
+        }
+        if (paraTodas) {
+            todas.accumulateAndGet(versao, Math::max);
+        }
+    }
+
+    private final class AlteracoesPendentes implements TransactionSynchronization {
+
+        private final Set<Long> igrejas = new HashSet<>();
+        private boolean todas;
+
+        private VersoesPorIgreja dono() {
+            return VersoesPorIgreja.this;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status != STATUS_ROLLED_BACK) {
+                aplicar(igrejas, todas);
+            }
+        }
+    }
+}
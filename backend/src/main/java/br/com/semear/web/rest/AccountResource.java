@@ -20,11 +20,11 @@ import java.util.*;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 /**
@@ -148,17 +148,17 @@ public class AccountResource {
     /**
      * {@code GET  /account/avatar} : get the current user's avatar image.
      *
-     * @return the avatar image bytes or 404 if not found.
+     * @param variante {@code original} (default), {@code media} or {@code miniatura}.
+     * @return the avatar image bytes, 304 if unchanged, or 204 if there is none.
      */
     @GetMapping("/account/avatar")
-    public ResponseEntity<byte[]> getAvatar() {
-        return userService
-            .getAvatarForCurrentUser()
-            .map(avatar -> ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(avatar.contentType()))
-                .header(HttpHeaders.CACHE_CONTROL, "max-age=3600")
-                .body(avatar.bytes()))
-            .orElse(ResponseEntity.noContent().build());
+    public ResponseEntity<byte[]> getAvatar(@RequestParam(name = "variante", required = false) String variante, WebRequest request) {
+        return AvatarResource.responder(
+            userService.getAvatarInfoForCurrentUser(AvatarResource.resolverVariante(variante)),
+            tenantService.getUsuarioIdAtual(),
+            userService,
+            request
+        );
     }
 
     @PostMapping("/account")
@@ -11,14 +11,12 @@ import br.com.semear.service.dto.ResponderSolicitacaoSuporteDTO;
 import br.com.semear.service.dto.SolicitacaoSuporteDTO;
 import br.com.semear.service.dto.SuporteResumoDTO;
 import jakarta.annotation.security.RolesAllowed;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
-import org.springframework.http.ContentDisposition;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import tech.jhipster.web.util.ResponseUtil;
 
 @RestController
@@ -99,39 +97,23 @@ public class AdminSuporteResource {
 
     @GetMapping("/solicitacoes/{id}/anexos/zip")
     @RolesAllowed({ AuthoritiesConstants.SUPER_ADMIN, AuthoritiesConstants.ADMIN })
-    public ResponseEntity<byte[]> downloadAnexosZip(@PathVariable Long id) {
+    public ResponseEntity<StreamingResponseBody> downloadAnexosZip(@PathVariable Long id) {
         return solicitacaoSuporteService
             .obterZipAnexos(id, true)
-            .map(a -> {
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.parseMediaType(a.contentType()));
-                headers.setContentDispositionFormData("attachment", a.fileName());
-                return new ResponseEntity<>(a.bytes(), headers, HttpStatus.OK);
-            })
-            .orElse(ResponseEntity.notFound().build());
+            .map(RespostaMidia::zip)
+            .orElse(ResponseEntity.<StreamingResponseBody>notFound().build());
     }
 
     @GetMapping("/solicitacoes/{id}/anexos/{anexoId}")
     @RolesAllowed({ AuthoritiesConstants.SUPER_ADMIN, AuthoritiesConstants.ADMIN })
-    public ResponseEntity<byte[]> downloadAnexo(
+    public ResponseEntity<Resource> downloadAnexo(
         @PathVariable Long id,
         @PathVariable Long anexoId,
         @RequestParam(defaultValue = "false") boolean inline
     ) {
         return solicitacaoSuporteService
             .obterAnexo(id, anexoId, true)
-            .map(a -> {
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.parseMediaType(a.contentType()));
-                if (inline) {
-                    headers.setContentDisposition(
-                        ContentDisposition.inline().filename(a.fileName(), StandardCharsets.UTF_8).build()
-                    );
-                } else {
-                    headers.setContentDispositionFormData("attachment", a.fileName());
-                }
-                return new ResponseEntity<>(a.bytes(), headers, HttpStatus.OK);
-            })
-            .orElse(ResponseEntity.notFound().build());
+            .map(a -> RespostaMidia.ok(a, RespostaMidia.disposicao(a.nomeArquivo(), inline), CacheControl.noCache().cachePrivate()))
+            .orElse(ResponseEntity.<Resource>notFound().build());
     }
 }
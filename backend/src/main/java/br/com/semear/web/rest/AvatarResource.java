@@ -1,12 +1,19 @@
 package br.com.semear.web.rest;
 
+import br.com.semear.domain.enumeration.VarianteAvatar;
 import br.com.semear.service.UserService;
+import br.com.semear.service.avatar.AvatarInfo;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpHeaders;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * REST controller para servir avatares de usuários.
@@ -17,6 +24,8 @@ public class AvatarResource {
 
     private static final Logger LOG = LoggerFactory.getLogger(AvatarResource.class);
 
+    private static final CacheControl CACHE_AVATAR = CacheControl.maxAge(Duration.ofHours(1)).cachePrivate().mustRevalidate();
+
     private final UserService userService;
 
     public AvatarResource(UserService userService) {
@@ -27,16 +36,49 @@ public class AvatarResource {
      * {@code GET  /avatars/:userId} : obtém o avatar de um usuário por ID.
      *
      * @param userId o ID do usuário.
-     * @return os bytes da imagem ou 404 se não encontrado.
+     * @param variante {@code original} (padrão), {@code media} ou {@code miniatura}.
+     * @return os bytes da imagem, 304 se o cliente já tem a versão atual, ou 204 se não houver avatar.
      */
     @GetMapping("/{userId}")
-    public ResponseEntity<byte[]> getAvatar(@PathVariable Long userId) {
+    public ResponseEntity<byte[]> getAvatar(
+        @PathVariable Long userId,
+        @RequestParam(name = "variante", required = false) String variante,
+        WebRequest request
+    ) {
+        LOG.debug("REST request to get avatar of User : {}", userId);
+        return responder(userService.getAvatarInfoByUserId(userId, resolverVariante(variante)), userId, userService, request);
+    }
+
+    static VarianteAvatar resolverVariante(String variante) {
+        if (variante == null || variante.isBlank()) {
+            return VarianteAvatar.ORIGINAL;
+        }
+        try {
+            return VarianteAvatar.valueOf(variante.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return VarianteAvatar.ORIGINAL;
+        }
+    }
+
+    /** Responde 304 só com metadados; os bytes são lidos apenas quando o cliente não tem a versão atual. */
+    static ResponseEntity<byte[]> responder(Optional<AvatarInfo> info, Long userId, UserService userService, WebRequest request) {
+        if (info.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        AvatarInfo avatar = info.orElseThrow();
+        if (request.checkNotModified(avatar.hash(), avatar.atualizadoEm().toEpochMilli())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CACHE_AVATAR).build();
+        }
         return userService
-            .getAvatarByUserId(userId)
-            .map(avatar -> ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(avatar.contentType()))
-                .header(HttpHeaders.CACHE_CONTROL, "max-age=3600")
-                .body(avatar.bytes()))
+            .getAvatarDados(userId, avatar)
+            .map(bytes ->
+                ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(avatar.contentType()))
+                    .cacheControl(CACHE_AVATAR)
+                    .eTag(avatar.hash())
+                    .lastModified(avatar.atualizadoEm())
+                    .body(bytes)
+            )
             .orElse(ResponseEntity.noContent().build());
     }
 }
@@ -0,0 +1,147 @@
+package br.com.semear.web.rest;
+
+import br.com.semear.domain.NotaBiblia;
+import br.com.semear.domain.enumeration.VersaoBiblia;
+import br.com.semear.service.biblia.AlteracoesBiblia;
+import br.com.semear.service.biblia.BibliaService;
+import br.com.semear.service.biblia.BuscaNotasBibliaService;
+import br.com.semear.service.biblia.CapituloBiblia;
+import br.com.semear.service.biblia.LivroBiblia;
+import br.com.semear.service.biblia.LoteSincronizacaoBiblia;
+import br.com.semear.service.biblia.SincronizacaoBibliaService;
+import br.com.semear.service.biblia.VersiculoEncontrado;
+import br.com.semear.web.rest.errors.BadRequestAlertException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * REST controller do texto bíblico servido pelo backend.
+ */
+@RestController
+@RequestMapping("/api/biblia")
+public class BibliaResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BibliaResource.class);
+
+    /** O texto de um capítulo só muda com uma nova importação, que também troca o ETag. */
+    private static final CacheControl CACHE_CAPITULO = CacheControl.maxAge(Duration.ofDays(7)).cachePrivate();
+
+    private final BibliaService bibliaService;
+    private final BuscaNotasBibliaService buscaNotasBibliaService;
+    private final SincronizacaoBibliaService sincronizacaoBibliaService;
+
+    public BibliaResource(
+        BibliaService bibliaService,
+        BuscaNotasBibliaService buscaNotasBibliaService,
+        SincronizacaoBibliaService sincronizacaoBibliaService
+    ) {
+        this.bibliaService = bibliaService;
+        this.buscaNotasBibliaService = buscaNotasBibliaService;
+        this.sincronizacaoBibliaService = sincronizacaoBibliaService;
+    }
+
+    @GetMapping("/versoes")
+    public List<VersaoBiblia> versoes() {
+        return bibliaService.versoesDisponiveis();
+    }
+
+    @GetMapping("/{versao}/livros")
+    public List<LivroBiblia> livros(@PathVariable String versao) {
+        return bibliaService.livros(versao);
+    }
+
+    /**
+     * {@code GET  /biblia/busca?q=} : versículos da versão que contêm todas as palavras, sem diferenciar acentos.
+     * Aceita {@code "frase exata"} e {@code prefixo*}; 404 se a versão não foi importada.
+     */
+    @GetMapping("/busca")
+    public ResponseEntity<List<VersiculoEncontrado>> buscar(
+        @RequestParam("q") String consulta,
+        @RequestParam(name = "versao", defaultValue = "almeida") String versao,
+        @RequestParam(name = "limite", defaultValue = "50") int limite
+    ) {
+        return ResponseEntity.of(bibliaService.buscar(versao, consulta, limite));
+    }
+
+    /**
+     * {@code GET  /biblia/sync?desde=} : notas, destaques, favoritos, histórico e progresso do usuário alterados ou
+     * removidos depois do cursor. Sem cursor, devolve tudo; com {@code temMais}, repetir com o cursor devolvido.
+     */
+    @GetMapping("/sync")
+    public AlteracoesBiblia sincronizar(@RequestParam(name = "desde", defaultValue = "0") long desde) {
+        return sincronizacaoBibliaService.alteracoesDesde(desde);
+    }
+
+    /** {@code POST  /biblia/sync?desde=} : aplica as escritas do aparelho numa transação e devolve o mesmo que o GET. */
+    @PostMapping("/sync")
+    public AlteracoesBiblia enviarAlteracoes(
+        @RequestParam(name = "desde", defaultValue = "0") long desde,
+        @RequestBody LoteSincronizacaoBiblia lote
+    ) {
+        return sincronizacaoBibliaService.aplicar(desde, lote);
+    }
+
+    /** {@code GET  /biblia/busca/notas?q=} : mesma busca, nas anotações do usuário logado. */
+    @GetMapping("/busca/notas")
+    public List<NotaBiblia> buscarNotas(
+        @RequestParam("q") String consulta,
+        @RequestParam(name = "limite", defaultValue = "50") int limite
+    ) {
+        return buscaNotasBibliaService.buscar(consulta, limite);
+    }
+
+    /**
+     * {@code GET  /biblia/:versao/:livro/:capitulo} : versículos do capítulo.
+     *
+     * @return o capítulo, 304 se o cliente já tem esta versão do texto, ou 404 se a versão não foi importada.
+     */
+    @GetMapping("/{versao}/{livro}/{capitulo}")
+    public ResponseEntity<CapituloBiblia> capitulo(
+        @PathVariable String versao,
+        @PathVariable String livro,
+        @PathVariable int capitulo,
+        WebRequest request
+    ) {
+        Optional<CapituloBiblia> encontrado = bibliaService.capitulo(versao, livro, capitulo);
+        if (encontrado.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        CapituloBiblia texto = encontrado.orElseThrow();
+        if (request.checkNotModified(texto.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CACHE_CAPITULO).eTag(texto.etag()).build();
+        }
+        return ResponseEntity.ok().cacheControl(CACHE_CAPITULO).eTag(texto.etag()).body(texto);
+    }
+
+    /**
+     * {@code POST  /biblia/:versao/importar} : empacota a versão a partir de um TSV
+     * ({@code livroId, livroNome, capitulo, versiculo, texto}) e passa a servi-la.
+     */
+    @PostMapping("/{versao}/importar")
+    @PreAuthorize("hasAuthority('ROLE_SUPER_ADMIN')")
+    public Map<String, Integer> importar(@PathVariable String versao, @RequestParam("arquivo") MultipartFile arquivo) {
+        LOG.debug("REST request to import Bible version : {}", versao);
+        if (arquivo.isEmpty()) {
+            throw new BadRequestAlertException("Arquivo vazio", "biblia", "arquivovazio");
+        }
+        try (InputStream entrada = arquivo.getInputStream()) {
+            return Map.of("versiculos", bibliaService.importar(versao, entrada));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package br.com.semear.web.rest;
 
 import br.com.semear.domain.DestaqueBiblia;
+import br.com.semear.domain.enumeration.TipoDadoBiblia;
 import br.com.semear.repository.DestaqueBibliaRepository;
 import br.com.semear.service.BibliaUsuarioAccessService;
+import br.com.semear.service.biblia.SincronizacaoBibliaService;
 import br.com.semear.web.rest.errors.BadRequestAlertException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -42,10 +44,16 @@ public class DestaqueBibliaResource {
 
     private final DestaqueBibliaRepository destaqueBibliaRepository;
     private final BibliaUsuarioAccessService bibliaUsuarioAccessService;
+    private final SincronizacaoBibliaService sincronizacaoBibliaService;
 
-    public DestaqueBibliaResource(DestaqueBibliaRepository destaqueBibliaRepository, BibliaUsuarioAccessService bibliaUsuarioAccessService) {
+    public DestaqueBibliaResource(
+        DestaqueBibliaRepository destaqueBibliaRepository,
+        BibliaUsuarioAccessService bibliaUsuarioAccessService,
+        SincronizacaoBibliaService sincronizacaoBibliaService
+    ) {
         this.destaqueBibliaRepository = destaqueBibliaRepository;
         this.bibliaUsuarioAccessService = bibliaUsuarioAccessService;
+        this.sincronizacaoBibliaService = sincronizacaoBibliaService;
     }
 
     /**
@@ -63,6 +71,7 @@ public class DestaqueBibliaResource {
             throw new BadRequestAlertException("A new destaqueBiblia cannot already have an ID", ENTITY_NAME, "idexists");
         }
         destaqueBiblia.setUsuario(bibliaUsuarioAccessService.getUsuarioAtual());
+        sincronizacaoBibliaService.carimbar(destaqueBiblia);
         destaqueBiblia = destaqueBibliaRepository.save(destaqueBiblia);
         return ResponseEntity.created(new URI("/api/destaque-biblias/" + destaqueBiblia.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, destaqueBiblia.getId().toString()))
@@ -94,6 +103,7 @@ public class DestaqueBibliaResource {
 
         bibliaUsuarioAccessService.validarPropriedadeOuFalhar(destaqueBibliaRepository.findById(id), DestaqueBiblia::getUsuario);
         destaqueBiblia.setUsuario(bibliaUsuarioAccessService.getUsuarioAtual());
+        sincronizacaoBibliaService.carimbar(destaqueBiblia);
         destaqueBiblia = destaqueBibliaRepository.save(destaqueBiblia);
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, destaqueBiblia.getId().toString()))
@@ -160,6 +170,7 @@ public class DestaqueBibliaResource {
                     existingDestaqueBiblia.setAtualizadoEm(destaqueBiblia.getAtualizadoEm());
                 }
 
+                sincronizacaoBibliaService.carimbar(existingDestaqueBiblia);
                 return existingDestaqueBiblia;
             })
             .map(destaqueBibliaRepository::save);
@@ -211,8 +222,12 @@ public class DestaqueBibliaResource {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteDestaqueBiblia(@PathVariable("id") Long id) {
         LOG.debug("REST request to delete DestaqueBiblia : {}", id);
-        bibliaUsuarioAccessService.validarPropriedadeOuFalhar(destaqueBibliaRepository.findById(id), DestaqueBiblia::getUsuario);
-        destaqueBibliaRepository.deleteById(id);
+        DestaqueBiblia existente = bibliaUsuarioAccessService.validarPropriedadeOuFalhar(
+            destaqueBibliaRepository.findById(id),
+            DestaqueBiblia::getUsuario
+        );
+        sincronizacaoBibliaService.registrarRemocao(TipoDadoBiblia.DESTAQUE, existente);
+        destaqueBibliaRepository.delete(existente);
         return ResponseEntity.noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, false, ENTITY_NAME, id.toString()))
             .build();
@@ -7,14 +7,13 @@ import br.com.semear.service.DocumentoIgrejaService;
 import br.com.semear.service.ModuleAccessService;
 import br.com.semear.service.dto.DocumentoIgrejaDTO;
 import jakarta.annotation.security.RolesAllowed;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
 import org.springframework.format.annotation.DateTimeFormat;
-import org.springframework.http.ContentDisposition;
-import org.springframework.http.HttpHeaders;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -92,21 +91,15 @@ public class DocumentoIgrejaResource {
 
     @GetMapping("/{id}/download")
     @RolesAllowed({ AuthoritiesConstants.ADMIN, AuthoritiesConstants.ADMIN_IGREJA, AuthoritiesConstants.SECRETARIA })
-    public ResponseEntity<byte[]> download(@PathVariable Long id, @RequestParam(defaultValue = "false") boolean inline) {
+    public ResponseEntity<Resource> download(@PathVariable Long id, @RequestParam(defaultValue = "false") boolean inline) {
         moduleAccessService.assertModuleAccess("configuracoes", NivelAcessoModulo.READ);
         LOG.debug("REST request to download DocumentoIgreja : {}", id);
         return documentoIgrejaService
-            .obterArquivo(id, inline)
-            .map(arquivo -> {
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.parseMediaType(arquivo.contentType()));
-                ContentDisposition disposition = inline
-                    ? ContentDisposition.inline().filename(arquivo.fileName(), StandardCharsets.UTF_8).build()
-                    : ContentDisposition.attachment().filename(arquivo.fileName(), StandardCharsets.UTF_8).build();
-                headers.setContentDisposition(disposition);
-                return new ResponseEntity<>(arquivo.bytes(), headers, HttpStatus.OK);
-            })
-            .orElse(ResponseEntity.notFound().build());
+            .obterArquivo(id)
+            .map(arquivo ->
+                RespostaMidia.ok(arquivo, RespostaMidia.disposicao(arquivo.nomeArquivo(), inline), CacheControl.noCache().cachePrivate())
+            )
+            .orElse(ResponseEntity.<Resource>notFound().build());
     }
 
     @DeleteMapping("/{id}")
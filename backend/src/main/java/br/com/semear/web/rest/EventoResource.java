@@ -1,22 +1,28 @@
 package br.com.semear.web.rest;
 
 import br.com.semear.domain.enumeration.NivelAcessoModulo;
+import br.com.semear.domain.enumeration.StatusInscricaoEvento;
 import br.com.semear.security.AuthoritiesConstants;
 import br.com.semear.service.EventoService;
 import br.com.semear.service.ModuleAccessService;
 import br.com.semear.service.dto.EventoDTO;
 import br.com.semear.service.dto.EventoFiltroDTO;
 import br.com.semear.service.dto.EventoInscricaoDTO;
+import br.com.semear.service.exportacao.FormatoExportacao;
 import jakarta.annotation.security.RolesAllowed;
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import tech.jhipster.web.util.ResponseUtil;
 
 @RestController
@@ -138,13 +144,21 @@ public class EventoResource {
         AuthoritiesConstants.COPASTOR,
         AuthoritiesConstants.SECRETARIA,
     })
-    public ResponseEntity<String> exportarInscritos(@PathVariable Long id) {
+    public ResponseEntity<StreamingResponseBody> exportarInscritos(
+        @PathVariable Long id,
+        @RequestParam(name = "formato", required = false, defaultValue = "csv") String formato,
+        @RequestParam(name = "status", required = false) StatusInscricaoEvento status
+    ) {
         moduleAccessService.assertModuleAccess("eventos", NivelAcessoModulo.WRITE);
-        String csv = eventoService.exportarInscritosCsv(id);
+        FormatoExportacao formatoExportacao = FormatoExportacao.de(formato);
+        StreamingResponseBody corpo = eventoService.exportarInscritos(id, status, formatoExportacao);
         HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.parseMediaType("text/csv; charset=UTF-8"));
-        headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"inscritos-evento-" + id + ".csv\"");
-        return new ResponseEntity<>(csv, headers, HttpStatus.OK);
+        headers.setContentType(MediaType.parseMediaType(formatoExportacao.getContentType()));
+        headers.set(
+            HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"inscritos-evento-" + id + "." + formatoExportacao.getExtensao() + "\""
+        );
+        return new ResponseEntity<>(corpo, headers, HttpStatus.OK);
     }
 
     @PostMapping("")
@@ -260,16 +274,11 @@ public class EventoResource {
     }
 
     @GetMapping("/{id}/banner")
-    public ResponseEntity<byte[]> obterBanner(@PathVariable Long id) {
+    public ResponseEntity<Resource> obterBanner(@PathVariable Long id) {
         return eventoService
             .obterBanner(id)
-            .map(banner ->
-                ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(banner.contentType()))
-                    .header(HttpHeaders.CACHE_CONTROL, "public, max-age=300, must-revalidate")
-                    .body(banner.bytes())
-            )
-            .orElse(ResponseEntity.notFound().build());
+            .map(banner -> RespostaMidia.ok(banner, null, CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic().mustRevalidate()))
+            .orElse(ResponseEntity.<Resource>notFound().build());
     }
 
     @DeleteMapping("/{id}/banner")
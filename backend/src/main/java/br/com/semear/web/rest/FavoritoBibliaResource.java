@@ -1,8 +1,10 @@
 package br.com.semear.web.rest;
 
 import br.com.semear.domain.FavoritoBiblia;
+import br.com.semear.domain.enumeration.TipoDadoBiblia;
 import br.com.semear.repository.FavoritoBibliaRepository;
 import br.com.semear.service.BibliaUsuarioAccessService;
+import br.com.semear.service.biblia.SincronizacaoBibliaService;
 import br.com.semear.web.rest.errors.BadRequestAlertException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -42,10 +44,16 @@ public class FavoritoBibliaResource {
 
     private final FavoritoBibliaRepository favoritoBibliaRepository;
     private final BibliaUsuarioAccessService bibliaUsuarioAccessService;
+    private final SincronizacaoBibliaService sincronizacaoBibliaService;
 
-    public FavoritoBibliaResource(FavoritoBibliaRepository favoritoBibliaRepository, BibliaUsuarioAccessService bibliaUsuarioAccessService) {
+    public FavoritoBibliaResource(
+        FavoritoBibliaRepository favoritoBibliaRepository,
+        BibliaUsuarioAccessService bibliaUsuarioAccessService,
+        SincronizacaoBibliaService sincronizacaoBibliaService
+    ) {
         this.favoritoBibliaRepository = favoritoBibliaRepository;
         this.bibliaUsuarioAccessService = bibliaUsuarioAccessService;
+        this.sincronizacaoBibliaService = sincronizacaoBibliaService;
     }
 
     /**
@@ -63,6 +71,7 @@ public class FavoritoBibliaResource {
             throw new BadRequestAlertException("A new favoritoBiblia cannot already have an ID", ENTITY_NAME, "idexists");
         }
         favoritoBiblia.setUsuario(bibliaUsuarioAccessService.getUsuarioAtual());
+        sincronizacaoBibliaService.carimbar(favoritoBiblia);
         favoritoBiblia = favoritoBibliaRepository.save(favoritoBiblia);
         return ResponseEntity.created(new URI("/api/favorito-biblias/" + favoritoBiblia.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, favoritoBiblia.getId().toString()))
@@ -93,6 +102,8 @@ public class FavoritoBibliaResource {
         }
 
         bibliaUsuarioAccessService.validarPropriedadeOuFalhar(favoritoBibliaRepository.findById(id), FavoritoBiblia::getUsuario);
+        favoritoBiblia.setUsuario(bibliaUsuarioAccessService.getUsuarioAtual());
+        sincronizacaoBibliaService.carimbar(favoritoBiblia);
         favoritoBiblia = favoritoBibliaRepository.save(favoritoBiblia);
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, favoritoBiblia.getId().toString()))
@@ -156,6 +167,7 @@ public class FavoritoBibliaResource {
                     existingFavoritoBiblia.setAtualizadoEm(favoritoBiblia.getAtualizadoEm());
                 }
 
+                sincronizacaoBibliaService.carimbar(existingFavoritoBiblia);
                 return existingFavoritoBiblia;
             })
             .map(favoritoBibliaRepository::save);
@@ -207,8 +219,12 @@ public class FavoritoBibliaResource {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteFavoritoBiblia(@PathVariable("id") Long id) {
         LOG.debug("REST request to delete FavoritoBiblia : {}", id);
-        bibliaUsuarioAccessService.validarPropriedadeOuFalhar(favoritoBibliaRepository.findById(id), FavoritoBiblia::getUsuario);
-        favoritoBibliaRepository.deleteById(id);
+        FavoritoBiblia existente = bibliaUsuarioAccessService.validarPropriedadeOuFalhar(
+            favoritoBibliaRepository.findById(id),
+            FavoritoBiblia::getUsuario
+        );
+        sincronizacaoBibliaService.registrarRemocao(TipoDadoBiblia.FAVORITO, existente);
+        favoritoBibliaRepository.delete(existente);
         return ResponseEntity.noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, false, ENTITY_NAME, id.toString()))
             .build();
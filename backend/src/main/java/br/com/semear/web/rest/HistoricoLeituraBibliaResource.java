@@ -1,8 +1,10 @@
 package br.com.semear.web.rest;
 
 import br.com.semear.domain.HistoricoLeituraBiblia;
+import br.com.semear.domain.enumeration.TipoDadoBiblia;
 import br.com.semear.repository.HistoricoLeituraBibliaRepository;
 import br.com.semear.service.BibliaUsuarioAccessService;
+import br.com.semear.service.biblia.SincronizacaoBibliaService;
 import br.com.semear.web.rest.errors.BadRequestAlertException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -42,13 +44,16 @@ public class HistoricoLeituraBibliaResource {
 
     private final HistoricoLeituraBibliaRepository historicoLeituraBibliaRepository;
     private final BibliaUsuarioAccessService bibliaUsuarioAccessService;
+    private final SincronizacaoBibliaService sincronizacaoBibliaService;
 
     public HistoricoLeituraBibliaResource(
         HistoricoLeituraBibliaRepository historicoLeituraBibliaRepository,
-        BibliaUsuarioAccessService bibliaUsuarioAccessService
+        BibliaUsuarioAccessService bibliaUsuarioAccessService,
+        SincronizacaoBibliaService sincronizacaoBibliaService
     ) {
         this.historicoLeituraBibliaRepository = historicoLeituraBibliaRepository;
         this.bibliaUsuarioAccessService = bibliaUsuarioAccessService;
+        this.sincronizacaoBibliaService = sincronizacaoBibliaService;
     }
 
     /**
@@ -67,6 +72,7 @@ public class HistoricoLeituraBibliaResource {
             throw new BadRequestAlertException("A new historicoLeituraBiblia cannot already have an ID", ENTITY_NAME, "idexists");
         }
         historicoLeituraBiblia.setUsuario(bibliaUsuarioAccessService.getUsuarioAtual());
+        sincronizacaoBibliaService.carimbar(historicoLeituraBiblia);
         historicoLeituraBiblia = historicoLeituraBibliaRepository.save(historicoLeituraBiblia);
         return ResponseEntity.created(new URI("/api/historico-leitura-biblias/" + historicoLeituraBiblia.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, historicoLeituraBiblia.getId().toString()))
@@ -101,6 +107,7 @@ public class HistoricoLeituraBibliaResource {
             HistoricoLeituraBiblia::getUsuario
         );
         historicoLeituraBiblia.setUsuario(bibliaUsuarioAccessService.getUsuarioAtual());
+        sincronizacaoBibliaService.carimbar(historicoLeituraBiblia);
         historicoLeituraBiblia = historicoLeituraBibliaRepository.save(historicoLeituraBiblia);
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, historicoLeituraBiblia.getId().toString()))
@@ -161,6 +168,7 @@ public class HistoricoLeituraBibliaResource {
                     existingHistoricoLeituraBiblia.setLidoEm(historicoLeituraBiblia.getLidoEm());
                 }
 
+                sincronizacaoBibliaService.carimbar(existingHistoricoLeituraBiblia);
                 return existingHistoricoLeituraBiblia;
             })
             .map(historicoLeituraBibliaRepository::save);
@@ -212,11 +220,12 @@ public class HistoricoLeituraBibliaResource {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteHistoricoLeituraBiblia(@PathVariable("id") Long id) {
         LOG.debug("REST request to delete HistoricoLeituraBiblia : {}", id);
-        bibliaUsuarioAccessService.validarPropriedadeOuFalhar(
+        HistoricoLeituraBiblia existente = bibliaUsuarioAccessService.validarPropriedadeOuFalhar(
             historicoLeituraBibliaRepository.findById(id),
             HistoricoLeituraBiblia::getUsuario
         );
-        historicoLeituraBibliaRepository.deleteById(id);
+        sincronizacaoBibliaService.registrarRemocao(TipoDadoBiblia.HISTORICO, existente);
+        historicoLeituraBibliaRepository.delete(existente);
         return ResponseEntity.noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, false, ENTITY_NAME, id.toString()))
             .build();
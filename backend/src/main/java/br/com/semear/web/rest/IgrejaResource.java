@@ -6,12 +6,13 @@ import br.com.semear.service.dto.IgrejaDTO;
 import br.com.semear.service.dto.IgrejaPixDTO;
 import br.com.semear.service.dto.IgrejaPublicaDTO;
 import jakarta.annotation.security.RolesAllowed;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -166,15 +167,10 @@ public class IgrejaResource {
     }
 
     @GetMapping("/igrejas/{id}/logo")
-    public ResponseEntity<byte[]> obterLogo(@PathVariable Long id) {
+    public ResponseEntity<Resource> obterLogo(@PathVariable Long id) {
         return igrejaService
             .obterLogo(id)
-            .map(logo ->
-                ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(logo.contentType()))
-                    .header(HttpHeaders.CACHE_CONTROL, "max-age=3600")
-                    .body(logo.bytes())
-            )
-            .orElse(ResponseEntity.notFound().build());
+            .map(logo -> RespostaMidia.ok(logo, null, CacheControl.maxAge(Duration.ofHours(1))))
+            .orElse(ResponseEntity.<Resource>notFound().build());
     }
 }
@@ -6,13 +6,16 @@ import br.com.semear.domain.enumeration.NivelAcessoModulo;
 import br.com.semear.repository.LancamentoRepository;
 import br.com.semear.security.SecurityUtils;
 import br.com.semear.service.ModuleAccessService;
+import br.com.semear.service.ResumoFinanceiroService;
+import br.com.semear.service.ResumoFinanceiroService.LancamentoResumido;
 import br.com.semear.service.TenantService;
+import br.com.semear.service.dto.TotalFinanceiroDTO;
+import br.com.semear.service.exportacao.ExportacaoService;
+import br.com.semear.service.exportacao.FormatoExportacao;
 import br.com.semear.web.rest.errors.BadRequestAlertException;
 import jakarta.annotation.security.RolesAllowed;
-import java.math.BigDecimal;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -22,9 +25,12 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
@@ -42,15 +48,21 @@ public class LancamentoResource {
     private final LancamentoRepository lancamentoRepository;
     private final TenantService tenantService;
     private final ModuleAccessService moduleAccessService;
+    private final ResumoFinanceiroService resumoFinanceiroService;
+    private final ExportacaoService exportacaoService;
 
     public LancamentoResource(
         LancamentoRepository lancamentoRepository,
         TenantService tenantService,
-        ModuleAccessService moduleAccessService
+        ModuleAccessService moduleAccessService,
+        ResumoFinanceiroService resumoFinanceiroService,
+        ExportacaoService exportacaoService
     ) {
         this.lancamentoRepository = lancamentoRepository;
         this.tenantService = tenantService;
         this.moduleAccessService = moduleAccessService;
+        this.resumoFinanceiroService = resumoFinanceiroService;
+        this.exportacaoService = exportacaoService;
     }
 
     @PostMapping("")
@@ -62,6 +74,7 @@ public class LancamentoResource {
             throw new BadRequestAlertException("A new lancamento cannot already have an ID", ENTITY_NAME, "idexists");
         }
         validarLancamento(lancamento);
+        lancamento.setCentroCusto(vazioComoNulo(lancamento.getCentroCusto()));
         lancamento.setIgreja(tenantService.resolverIgrejaParaCriacao());
         if (lancamento.getCriadoEm() == null) {
             lancamento.setCriadoEm(Instant.now());
@@ -70,6 +83,7 @@ public class LancamentoResource {
             lancamento.setCriadoPor(SecurityUtils.getCurrentUserLogin().orElse("system"));
         }
         Lancamento result = lancamentoRepository.save(lancamento);
+        resumoFinanceiroService.registrar(LancamentoResumido.de(result));
         return ResponseEntity.created(new URI("/api/lancamentos/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, result.getId().toString()))
             .body(result);
@@ -87,13 +101,14 @@ public class LancamentoResource {
         if (!Objects.equals(id, lancamento.getId())) {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
-        Optional<Lancamento> existenteOpt = lancamentoRepository.findById(id);
+        Optional<Lancamento> existenteOpt = lancamentoRepository.travarPorId(id);
         if (existenteOpt.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
         Lancamento existente = existenteOpt.get();
         tenantService.validarMesmaIgreja(existente.getIgreja());
         validarLancamento(lancamento);
+        LancamentoResumido antes = LancamentoResumido.de(existente);
         existente.setTipo(lancamento.getTipo());
         existente.setCategoria(lancamento.getCategoria());
         existente.setDescricao(lancamento.getDescricao());
@@ -102,59 +117,96 @@ public class LancamentoResource {
         existente.setMetodoPagamento(lancamento.getMetodoPagamento());
         existente.setReferencia(lancamento.getReferencia());
         existente.setObservacoes(lancamento.getObservacoes());
-        existente.setCentroCusto(lancamento.getCentroCusto());
+        existente.setCentroCusto(vazioComoNulo(lancamento.getCentroCusto()));
         existente.setAtualizadoEm(Instant.now());
         existente.setAtualizadoPor(SecurityUtils.getCurrentUserLogin().orElse("system"));
 
         Lancamento result = lancamentoRepository.save(existente);
+        resumoFinanceiroService.substituir(antes, LancamentoResumido.de(result));
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, result.getId().toString()))
             .body(result);
     }
 
+    /**
+     * {@code GET /lancamentos} : livro caixa da igreja, do mais recente para o mais antigo, paginado por cursor.
+     *
+     * @param cursor valor do parâmetro {@code cursor} do link {@code next} da página anterior.
+     * @param limite lançamentos por página (padrão 100, máximo 500).
+     * @return a página; o cabeçalho {@code Link} traz a próxima quando houver.
+     */
     @GetMapping("")
     @RolesAllowed({ "ROLE_ADMIN", "ROLE_ADMIN_IGREJA", "ROLE_TESOURARIA", "ROLE_PASTOR", "ROLE_SECRETARIA" })
     public ResponseEntity<List<Lancamento>> getAllLancamentos(
-        @RequestParam(name = "tipo", required = false) TipoLancamento tipo
+        @RequestParam(name = "tipo", required = false) TipoLancamento tipo,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "limite", required = false) Integer limite
     ) {
         moduleAccessService.assertModuleAccess("financeiro", NivelAcessoModulo.READ);
         LOG.debug("REST request to get Lancamentos");
-        Long igrejaId = tenantService.getIgrejaIdAtual();
-        List<Lancamento> lista = tipo != null
-            ? lancamentoRepository.findByIgrejaIdAndTipoOrderByDataLancamentoDescCriadoEmDesc(igrejaId, tipo)
-            : lancamentoRepository.findByIgrejaIdOrderByDataLancamentoDescCriadoEmDesc(igrejaId);
-        return ResponseEntity.ok(lista);
+        ResumoFinanceiroService.PaginaLancamentos pagina = resumoFinanceiroService.pagina(tenantService.getIgrejaIdAtual(), tipo, cursor, limite);
+        HttpHeaders headers = new HttpHeaders();
+        if (pagina.proximoCursor() != null) {
+            String proxima = ServletUriComponentsBuilder.fromCurrentRequest().replaceQueryParam("cursor", pagina.proximoCursor()).toUriString();
+            headers.add(HttpHeaders.LINK, "<" + proxima + ">; rel=\"next\"");
+        }
+        return ResponseEntity.ok().headers(headers).body(pagina.itens());
+    }
+
+    /**
+     * {@code GET /lancamentos/totais} : entradas, saídas e saldo agrupados por mês, categoria ou centro de custo.
+     *
+     * @param inicio primeiro mês ({@code yyyy-MM}), opcional.
+     * @param fim último mês ({@code yyyy-MM}), opcional.
+     */
+    @GetMapping("/totais")
+    @RolesAllowed({ "ROLE_ADMIN", "ROLE_ADMIN_IGREJA", "ROLE_TESOURARIA", "ROLE_PASTOR", "ROLE_SECRETARIA" })
+    public ResponseEntity<List<TotalFinanceiroDTO>> getTotais(
+        @RequestParam(name = "agrupamento", required = false, defaultValue = "MES") ResumoFinanceiroService.Agrupamento agrupamento,
+        @RequestParam(name = "inicio", required = false) YearMonth inicio,
+        @RequestParam(name = "fim", required = false) YearMonth fim
+    ) {
+        moduleAccessService.assertModuleAccess("financeiro", NivelAcessoModulo.READ);
+        LOG.debug("REST request to get Lancamento totals by {}", agrupamento);
+        return ResponseEntity.ok(resumoFinanceiroService.totais(tenantService.getIgrejaIdAtual(), agrupamento, inicio, fim));
     }
 
-    @GetMapping("/export/csv")
+    /**
+     * Exporta o livro caixa em CSV ou XLSX, escrito em fluxo. Sem período, exporta o mês atual.
+     */
+    @GetMapping("/export/{formato}")
     @RolesAllowed({ "ROLE_ADMIN", "ROLE_ADMIN_IGREJA", "ROLE_TESOURARIA", "ROLE_PASTOR", "ROLE_SECRETARIA" })
-    public ResponseEntity<byte[]> exportarCsvMesAtual() {
+    public ResponseEntity<StreamingResponseBody> exportarLancamentos(
+        @PathVariable("formato") String formato,
+        @RequestParam(name = "inicio", required = false) LocalDate inicio,
+        @RequestParam(name = "fim", required = false) LocalDate fim,
+        @RequestParam(name = "tipo", required = false) TipoLancamento tipo,
+        @RequestParam(name = "categoria", required = false) String categoria,
+        @RequestParam(name = "centroCusto", required = false) String centroCusto
+    ) {
         moduleAccessService.assertModuleAccess("financeiro", NivelAcessoModulo.READ);
-        Long igrejaId = tenantService.getIgrejaIdAtual();
+        FormatoExportacao formatoExportacao = FormatoExportacao.de(formato);
         YearMonth mesAtual = YearMonth.now();
-        LocalDate inicio = mesAtual.atDay(1);
-        LocalDate fim = mesAtual.atEndOfMonth();
-        List<Lancamento> lancamentos = lancamentoRepository.findByIgrejaIdAndPeriodo(igrejaId, inicio, fim);
-
-        StringBuilder csv = new StringBuilder();
-        csv.append("id,tipo,categoria,descricao,valor,data_lancamento,centro_custo,metodo_pagamento,referencia\n");
-        for (Lancamento l : lancamentos) {
-            csv.append(l.getId()).append(',');
-            csv.append(escapeCsv(l.getTipo() != null ? l.getTipo().name() : "")).append(',');
-            csv.append(escapeCsv(l.getCategoria())).append(',');
-            csv.append(escapeCsv(l.getDescricao())).append(',');
-            csv.append(formatValor(l.getValor())).append(',');
-            csv.append(l.getDataLancamento()).append(',');
-            csv.append(escapeCsv(l.getCentroCusto())).append(',');
-            csv.append(escapeCsv(l.getMetodoPagamento())).append(',');
-            csv.append(escapeCsv(l.getReferencia())).append('\n');
+        LocalDate de = inicio != null ? inicio : mesAtual.atDay(1);
+        LocalDate ate = fim != null ? fim : mesAtual.atEndOfMonth();
+        if (de.isAfter(ate)) {
+            throw new BadRequestAlertException("Data inicial deve ser anterior ou igual à final.", ENTITY_NAME, "periodoinvalido");
         }
-
-        byte[] bytes = csv.toString().getBytes(StandardCharsets.UTF_8);
+        ExportacaoService.FiltroLancamentos filtro = new ExportacaoService.FiltroLancamentos(
+            tenantService.getIgrejaIdAtual(),
+            de,
+            ate,
+            tipo,
+            vazioComoNulo(categoria),
+            vazioComoNulo(centroCusto)
+        );
+        LOG.debug("REST request to export Lancamentos : {}", filtro);
+        StreamingResponseBody corpo = saida -> exportacaoService.lancamentos(filtro, formatoExportacao, saida);
+        String nomeArquivo = "lancamentos-" + de + "_" + ate + "." + formatoExportacao.getExtensao();
         return ResponseEntity.ok()
-            .header("Content-Disposition", "attachment; filename=lancamentos-" + mesAtual + ".csv")
-            .header("Content-Type", "text/csv; charset=UTF-8")
-            .body(bytes);
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + nomeArquivo)
+            .header(HttpHeaders.CONTENT_TYPE, formatoExportacao.getContentType())
+            .body(corpo);
     }
 
     @GetMapping("/{id}")
@@ -172,8 +224,9 @@ public class LancamentoResource {
     public ResponseEntity<Void> deleteLancamento(@PathVariable("id") final Long id) {
         moduleAccessService.assertModuleAccess("financeiro", NivelAcessoModulo.WRITE);
         LOG.debug("REST request to delete Lancamento : {}", id);
-        lancamentoRepository.findById(id).ifPresent(l -> {
+        lancamentoRepository.travarPorId(id).ifPresent(l -> {
             tenantService.validarMesmaIgreja(l.getIgreja());
+            resumoFinanceiroService.estornar(LancamentoResumido.de(l));
             lancamentoRepository.delete(l);
         });
         return ResponseEntity.noContent()
@@ -199,18 +252,7 @@ public class LancamentoResource {
         }
     }
 
-    private String escapeCsv(String value) {
-        if (value == null) {
-            return "";
-        }
-        String escaped = value.replace("\"", "\"\"");
-        if (escaped.contains(",") || escaped.contains("\"") || escaped.contains("\n")) {
-            return "\"" + escaped + "\"";
-        }
-        return escaped;
-    }
-
-    private String formatValor(BigDecimal valor) {
-        return valor != null ? valor.toPlainString() : "0";
+    private static String vazioComoNulo(String valor) {
+        return valor == null || valor.isBlank() ? null : valor.trim();
     }
 }
@@ -8,6 +8,9 @@ import br.com.semear.repository.projection.AniversarianteProjection;
 import br.com.semear.service.ModuleAccessService;
 import br.com.semear.service.TenantService;
 import br.com.semear.service.UserService;
+import br.com.semear.service.aniversario.Aniversario;
+import br.com.semear.service.aniversario.IndiceAniversariosService;
+import br.com.semear.service.aniversario.TipoAniversario;
 import br.com.semear.service.dto.AdminUserDTO;
 import br.com.semear.service.dto.DependenteCreateDTO;
 import jakarta.validation.Valid;
@@ -30,7 +33,10 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,17 +62,20 @@ public class MembroResource {
     private final UserService userService;
     private final ModuleAccessService moduleAccessService;
     private final TenantService tenantService;
+    private final IndiceAniversariosService indiceAniversariosService;
 
     public MembroResource(
         UserRepository userRepository,
         UserService userService,
         ModuleAccessService moduleAccessService,
-        TenantService tenantService
+        TenantService tenantService,
+        IndiceAniversariosService indiceAniversariosService
     ) {
         this.userRepository = userRepository;
         this.userService = userService;
         this.moduleAccessService = moduleAccessService;
         this.tenantService = tenantService;
+        this.indiceAniversariosService = indiceAniversariosService;
     }
 
     private static boolean onlyContainsAllowedProperties(Pageable pageable) {
@@ -105,21 +114,22 @@ public class MembroResource {
         LocalDate hoje = LocalDate.now();
         LocalDate limite = hoje.plusDays(janela);
 
-        return userRepository.findAniversariantesPorIgreja(tenantService.getIgrejaIdAtual()).stream()
-            .map(u -> new Object[] { u, proximoAniversario(hoje, u.getBirthDate()) })
-            .filter(arr -> arr[1] != null)
-            .filter(arr -> {
-                LocalDate prox = (LocalDate) arr[1];
-                return (!prox.isBefore(hoje)) && (!prox.isAfter(limite));
-            })
-            .sorted(Comparator.comparing(arr -> (LocalDate) arr[1]))
-            .limit(20)
-            .map(arr -> {
-                AniversarianteProjection u = (AniversarianteProjection) arr[0];
-                LocalDate prox = (LocalDate) arr[1];
-                String name = montarNome(u);
+        List<Aniversario> proximos = indiceAniversariosService
+            .daIgreja(tenantService.getIgrejaIdAtual())
+            .entre(hoje, limite, EnumSet.of(TipoAniversario.NASCIMENTO), true, 20);
+        if (proximos.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, AniversarianteProjection> porId = userRepository
+            .findAniversariantesPorIds(proximos.stream().map(Aniversario::userId).collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(AniversarianteProjection::getId, Function.identity()));
+        return proximos.stream()
+            .filter(a -> porId.containsKey(a.userId()))
+            .map(a -> {
+                AniversarianteProjection u = porId.get(a.userId());
                 String avatarUrl = temAvatar(u) ? "/api/avatars/" + u.getId() : null;
-                return new AniversarianteVM(u.getId(), name, prox, avatarUrl);
+                return new AniversarianteVM(u.getId(), montarNome(u), a.data(), avatarUrl);
             })
             .collect(Collectors.toList());
     }
@@ -157,13 +167,6 @@ public class MembroResource {
         return full.isBlank() ? u.getLogin() : full;
     }
 
-    private static LocalDate proximoAniversario(LocalDate hoje, LocalDate birthDate) {
-        if (birthDate == null) return null;
-        LocalDate thisYear = LocalDate.of(hoje.getYear(), birthDate.getMonth(), birthDate.getDayOfMonth());
-        if (!thisYear.isBefore(hoje)) return thisYear;
-        return thisYear.plusYears(1);
-    }
-
     /**
      * {@code GET /membros/:login} : obtém um membro da igreja atual.
      */
@@ -1,8 +1,10 @@
 package br.com.semear.web.rest;
 
 import br.com.semear.domain.NotaBiblia;
+import br.com.semear.domain.enumeration.TipoDadoBiblia;
 import br.com.semear.repository.NotaBibliaRepository;
 import br.com.semear.service.BibliaUsuarioAccessService;
+import br.com.semear.service.biblia.SincronizacaoBibliaService;
 import br.com.semear.web.rest.errors.BadRequestAlertException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -42,10 +44,16 @@ public class NotaBibliaResource {
 
     private final NotaBibliaRepository notaBibliaRepository;
     private final BibliaUsuarioAccessService bibliaUsuarioAccessService;
+    private final SincronizacaoBibliaService sincronizacaoBibliaService;
 
-    public NotaBibliaResource(NotaBibliaRepository notaBibliaRepository, BibliaUsuarioAccessService bibliaUsuarioAccessService) {
+    public NotaBibliaResource(
+        NotaBibliaRepository notaBibliaRepository,
+        BibliaUsuarioAccessService bibliaUsuarioAccessService,
+        SincronizacaoBibliaService sincronizacaoBibliaService
+    ) {
         this.notaBibliaRepository = notaBibliaRepository;
         this.bibliaUsuarioAccessService = bibliaUsuarioAccessService;
+        this.sincronizacaoBibliaService = sincronizacaoBibliaService;
     }
 
     /**
@@ -62,6 +70,7 @@ public class NotaBibliaResource {
             throw new BadRequestAlertException("A new notaBiblia cannot already have an ID", ENTITY_NAME, "idexists");
         }
         notaBiblia.setUsuario(bibliaUsuarioAccessService.getUsuarioAtual());
+        sincronizacaoBibliaService.carimbar(notaBiblia);
         notaBiblia = notaBibliaRepository.save(notaBiblia);
         return ResponseEntity.created(new URI("/api/nota-biblias/" + notaBiblia.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, notaBiblia.getId().toString()))
@@ -104,6 +113,7 @@ public class NotaBibliaResource {
         existente.setVersao(notaBiblia.getVersao());
         existente.setConteudo(notaBiblia.getConteudo());
         existente.setAtualizadoEm(notaBiblia.getAtualizadoEm());
+        sincronizacaoBibliaService.carimbar(existente);
         notaBiblia = notaBibliaRepository.save(existente);
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, notaBiblia.getId().toString()))
@@ -170,6 +180,7 @@ public class NotaBibliaResource {
                     existingNotaBiblia.setAtualizadoEm(notaBiblia.getAtualizadoEm());
                 }
 
+                sincronizacaoBibliaService.carimbar(existingNotaBiblia);
                 return existingNotaBiblia;
             })
             .map(notaBibliaRepository::save);
@@ -222,8 +233,12 @@ public class NotaBibliaResource {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteNotaBiblia(@PathVariable("id") Long id) {
         LOG.debug("REST request to delete NotaBiblia : {}", id);
-        bibliaUsuarioAccessService.validarPropriedadeOuFalhar(notaBibliaRepository.findById(id), NotaBiblia::getUsuario);
-        notaBibliaRepository.deleteById(id);
+        NotaBiblia existente = bibliaUsuarioAccessService.validarPropriedadeOuFalhar(
+            notaBibliaRepository.findById(id),
+            NotaBiblia::getUsuario
+        );
+        sincronizacaoBibliaService.registrarRemocao(TipoDadoBiblia.NOTA, existente);
+        notaBibliaRepository.delete(existente);
         return ResponseEntity.noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, false, ENTITY_NAME, id.toString()))
             .build();
@@ -1,6 +1,7 @@
 package br.com.semear.web.rest;
 
 import br.com.semear.service.NotificacaoService;
+import br.com.semear.service.NotificacaoStreamService;
 import br.com.semear.service.NotificacaoService.NotificacaoItem;
 import br.com.semear.service.dto.NotificacaoResumoDTO;
 import br.com.semear.service.dto.NotificacaoContagemDTO;
@@ -10,9 +11,13 @@ import java.util.Objects;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/notificacoes")
@@ -21,9 +26,11 @@ public class NotificacaoResource {
     private static final Logger LOG = LoggerFactory.getLogger(NotificacaoResource.class);
 
     private final NotificacaoService notificacaoService;
+    private final NotificacaoStreamService notificacaoStreamService;
 
-    public NotificacaoResource(NotificacaoService notificacaoService) {
+    public NotificacaoResource(NotificacaoService notificacaoService, NotificacaoStreamService notificacaoStreamService) {
         this.notificacaoService = notificacaoService;
+        this.notificacaoStreamService = notificacaoStreamService;
     }
 
     @GetMapping("")
@@ -64,6 +71,18 @@ public class NotificacaoResource {
         return ResponseEntity.ok().eTag(etag).body(contagem);
     }
 
+    /**
+     * {@code GET /notificacoes/stream} : canal SSE com a contagem; emite um evento {@code contagem} só quando o
+     * fingerprint muda. Com o limite de conexões atingido responde 503 e o cliente segue no polling de {@code /contagem}.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream() {
+        return notificacaoStreamService
+            .conectar()
+            .map(emitter -> ResponseEntity.ok().cacheControl(CacheControl.noStore()).header("X-Accel-Buffering", "no").body(emitter))
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "60").build());
+    }
+
     private static String normalizarEtag(String etag) {
         if (etag == null || etag.isBlank()) {
             return null;
@@ -1,8 +1,10 @@
 package br.com.semear.web.rest;
 
 import br.com.semear.domain.ProgressoLeituraUsuario;
+import br.com.semear.domain.enumeration.TipoDadoBiblia;
 import br.com.semear.repository.ProgressoLeituraUsuarioRepository;
 import br.com.semear.service.BibliaUsuarioAccessService;
+import br.com.semear.service.biblia.SincronizacaoBibliaService;
 import br.com.semear.web.rest.errors.BadRequestAlertException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -37,13 +39,16 @@ public class ProgressoLeituraUsuarioResource {
 
     private final ProgressoLeituraUsuarioRepository progressoLeituraUsuarioRepository;
     private final BibliaUsuarioAccessService bibliaUsuarioAccessService;
+    private final SincronizacaoBibliaService sincronizacaoBibliaService;
 
     public ProgressoLeituraUsuarioResource(
         ProgressoLeituraUsuarioRepository progressoLeituraUsuarioRepository,
-        BibliaUsuarioAccessService bibliaUsuarioAccessService
+        BibliaUsuarioAccessService bibliaUsuarioAccessService,
+        SincronizacaoBibliaService sincronizacaoBibliaService
     ) {
         this.progressoLeituraUsuarioRepository = progressoLeituraUsuarioRepository;
         this.bibliaUsuarioAccessService = bibliaUsuarioAccessService;
+        this.sincronizacaoBibliaService = sincronizacaoBibliaService;
     }
 
     /**
@@ -62,6 +67,7 @@ public class ProgressoLeituraUsuarioResource {
             throw new BadRequestAlertException("A new progressoLeituraUsuario cannot already have an ID", ENTITY_NAME, "idexists");
         }
         progressoLeituraUsuario.setUsuario(bibliaUsuarioAccessService.getUsuarioAtual());
+        sincronizacaoBibliaService.carimbar(progressoLeituraUsuario);
         progressoLeituraUsuario = progressoLeituraUsuarioRepository.save(progressoLeituraUsuario);
         return ResponseEntity.created(new URI("/api/progresso-leitura-usuarios/" + progressoLeituraUsuario.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, progressoLeituraUsuario.getId().toString()))
@@ -96,6 +102,7 @@ public class ProgressoLeituraUsuarioResource {
             ProgressoLeituraUsuario::getUsuario
         );
         progressoLeituraUsuario.setUsuario(bibliaUsuarioAccessService.getUsuarioAtual());
+        sincronizacaoBibliaService.carimbar(progressoLeituraUsuario);
         progressoLeituraUsuario = progressoLeituraUsuarioRepository.save(progressoLeituraUsuario);
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, progressoLeituraUsuario.getId().toString()))
@@ -150,6 +157,7 @@ public class ProgressoLeituraUsuarioResource {
                     existingProgressoLeituraUsuario.setAtualizadoEm(progressoLeituraUsuario.getAtualizadoEm());
                 }
 
+                sincronizacaoBibliaService.carimbar(existingProgressoLeituraUsuario);
                 return existingProgressoLeituraUsuario;
             })
             .map(progressoLeituraUsuarioRepository::save);
@@ -199,11 +207,12 @@ public class ProgressoLeituraUsuarioResource {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteProgressoLeituraUsuario(@PathVariable("id") Long id) {
         LOG.debug("REST request to delete ProgressoLeituraUsuario : {}", id);
-        bibliaUsuarioAccessService.validarPropriedadeOuFalhar(
+        ProgressoLeituraUsuario existente = bibliaUsuarioAccessService.validarPropriedadeOuFalhar(
             progressoLeituraUsuarioRepository.findById(id),
             ProgressoLeituraUsuario::getUsuario
         );
-        progressoLeituraUsuarioRepository.deleteById(id);
+        sincronizacaoBibliaService.registrarRemocao(TipoDadoBiblia.PROGRESSO, existente);
+        progressoLeituraUsuarioRepository.delete(existente);
         return ResponseEntity.noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, false, ENTITY_NAME, id.toString()))
             .build();
@@ -6,11 +6,18 @@ import br.com.semear.domain.enumeration.StatusEvento;
 import br.com.semear.repository.EventoBannerRepository;
 import br.com.semear.repository.EventoRepository;
 import br.com.semear.service.EventoService;
+import br.com.semear.service.publico.CacheConteudoPublico;
+import br.com.semear.service.publico.PaginaPublica;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
+import java.util.Optional;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -39,6 +46,7 @@ public class PublicEventoCompartilharResource {
     private final EventoService eventoService;
     private final EventoBannerRepository eventoBannerRepository;
     private final JHipsterProperties jHipsterProperties;
+    private final CacheConteudoPublico cacheConteudoPublico;
 
     /** URL pública da API (Render). Necessária quando a página é acessada via proxy da Vercel. */
     @Value("${semear.public-api-url:https://semear-api-pl65.onrender.com}")
@@ -48,22 +56,41 @@ public class PublicEventoCompartilharResource {
         EventoRepository eventoRepository,
         EventoService eventoService,
         EventoBannerRepository eventoBannerRepository,
-        JHipsterProperties jHipsterProperties
+        JHipsterProperties jHipsterProperties,
+        CacheConteudoPublico cacheConteudoPublico
     ) {
         this.eventoRepository = eventoRepository;
         this.eventoService = eventoService;
         this.eventoBannerRepository = eventoBannerRepository;
         this.jHipsterProperties = jHipsterProperties;
+        this.cacheConteudoPublico = cacheConteudoPublico;
     }
 
+    /**
+     * HTML renderizado uma vez por evento e servido do {@link CacheConteudoPublico} até o evento, o banner ou a
+     * igreja mudarem. O ETag forte deixa crawlers e navegadores revalidarem com 304.
+     */
     @GetMapping(value = "/{id}/compartilhar", produces = MediaType.TEXT_HTML_VALUE)
-    public ResponseEntity<String> compartilhar(@PathVariable Long id) {
+    public ResponseEntity<byte[]> compartilhar(@PathVariable Long id) {
+        String apiBase = resolverApiBasePublica();
+        return cacheConteudoPublico
+            .obter("evento:" + id + "|" + apiBase, () -> renderizar(id, apiBase))
+            .map(conteudo ->
+                ResponseEntity.ok()
+                    .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                    .eTag(conteudo.etag())
+                    .header(HttpHeaders.CACHE_CONTROL, "public, max-age=300")
+                    .body(conteudo.corpo())
+            )
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    private Optional<PaginaPublica> renderizar(Long id, String apiBase) {
         Evento evento = eventoRepository.findByIdWithIgreja(id).orElse(null);
         if (evento == null || evento.getStatus() == StatusEvento.RASCUNHO) {
-            return ResponseEntity.notFound().build();
+            return Optional.empty();
         }
 
-        String apiBase = resolverApiBasePublica();
         String appBase = trimSlash(jHipsterProperties.getMail().getBaseUrl());
         if (appBase == null || appBase.isBlank()) {
             appBase = "https://minha-igreja-digital-app.vercel.app";
@@ -180,24 +207,16 @@ public class PublicEventoCompartilharResource {
             esc(linkApp)
         );
 
-        return ResponseEntity.ok()
-            .contentType(MediaType.TEXT_HTML)
-            .header(HttpHeaders.CACHE_CONTROL, "public, max-age=300")
-            .body(html);
+        return Optional.of(new PaginaPublica(igreja != null ? igreja.getId() : null, html.getBytes(StandardCharsets.UTF_8)));
     }
 
     /** Banner público para og:image (WhatsApp/crawlers). URL versionada (?v=) permite cache longo. */
     @GetMapping("/{id}/banner")
-    public ResponseEntity<byte[]> bannerPublico(@PathVariable Long id) {
+    public ResponseEntity<Resource> bannerPublico(@PathVariable Long id) {
         return eventoService
             .obterBanner(id)
-            .map(banner ->
-                ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(banner.contentType()))
-                    .header(HttpHeaders.CACHE_CONTROL, "public, max-age=86400")
-                    .body(banner.bytes())
-            )
-            .orElse(ResponseEntity.notFound().build());
+            .map(banner -> RespostaMidia.ok(banner, null, CacheControl.maxAge(Duration.ofDays(1)).cachePublic()))
+            .orElse(ResponseEntity.<Resource>notFound().build());
     }
 
     private String resolverApiBasePublica() {
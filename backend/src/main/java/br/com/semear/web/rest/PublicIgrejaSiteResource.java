@@ -1,7 +1,10 @@
 package br.com.semear.web.rest;
 
 import br.com.semear.service.PublicIgrejaSiteService;
-import br.com.semear.service.dto.IgrejaSitePublicoDTO;
+import br.com.semear.service.publico.ConteudoPublico;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -17,8 +20,14 @@ public class PublicIgrejaSiteResource {
         this.publicIgrejaSiteService = publicIgrejaSiteService;
     }
 
+    /** JSON de {@code IgrejaSitePublicoDTO}; com If-None-Match igual ao ETag responde 304 sem corpo. */
     @GetMapping("/{slug}")
-    public IgrejaSitePublicoDTO obterPorSlug(@PathVariable String slug) {
-        return publicIgrejaSiteService.obterPorSlug(slug);
+    public ResponseEntity<byte[]> obterPorSlug(@PathVariable String slug) {
+        ConteudoPublico conteudo = publicIgrejaSiteService.obterPorSlug(slug);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(conteudo.etag())
+            .header(HttpHeaders.CACHE_CONTROL, "public, max-age=60")
+            .body(conteudo.corpo());
     }
 }
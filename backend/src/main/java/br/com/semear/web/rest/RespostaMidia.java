@@ -0,0 +1,65 @@
+package br.com.semear.web.rest;
+
+import br.com.semear.service.midia.ArquivoMidia;
+import br.com.semear.service.midia.PacoteZip;
+import java.nio.charset.StandardCharsets;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Respostas de download a partir de {@link ArquivoMidia}. O corpo é um {@link Resource}, então o Spring copia o
+ * arquivo em streaming, responde Range com 206 e, com o ETag do hash, If-None-Match com 304.
+ */
+final class RespostaMidia {
+
+    private RespostaMidia() {}
+
+    static ResponseEntity<Resource> ok(ArquivoMidia arquivo, ContentDisposition disposicao, CacheControl cache) {
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok().contentType(tipo(arquivo.contentType()));
+        if (disposicao != null) {
+            resposta.header(HttpHeaders.CONTENT_DISPOSITION, disposicao.toString());
+        }
+        if (cache != null) {
+            resposta.cacheControl(cache);
+        }
+        if (arquivo.etag() != null) {
+            resposta.eTag(arquivo.etag());
+        }
+        return resposta.body(arquivo.conteudo());
+    }
+
+    /**
+     * ZIP escrito em streaming; leva Content-Length quando o tamanho do pacote é conhecido de antemão. O corpo roda no
+     * pool e sob o prazo de {@link br.com.semear.config.WebAsyncConfiguration}, não no timeout padrão do container.
+     */
+    static ResponseEntity<StreamingResponseBody> zip(PacoteZip pacote) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/zip"));
+        headers.setContentDisposition(disposicao(pacote.nomeArquivo(), false));
+        pacote.tamanhoTotal().ifPresent(headers::setContentLength);
+        StreamingResponseBody corpo = pacote::escrever;
+        return new ResponseEntity<>(corpo, headers, HttpStatus.OK);
+    }
+
+    static ContentDisposition disposicao(String nomeArquivo, boolean inline) {
+        ContentDisposition.Builder builder = inline ? ContentDisposition.inline() : ContentDisposition.attachment();
+        return builder.filename(nomeArquivo, StandardCharsets.UTF_8).build();
+    }
+
+    private static MediaType tipo(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+        try {
+            return MediaType.parseMediaType(contentType);
+        } catch (IllegalArgumentException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+}
@@ -5,17 +5,17 @@ import br.com.semear.domain.enumeration.TipoSolicitacaoSuporte;
 import br.com.semear.service.SolicitacaoSuporteService;
 import br.com.semear.service.dto.EnviarMensagemSuporteDTO;
 import br.com.semear.service.dto.SolicitacaoSuporteDTO;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import org.springframework.core.io.Resource;
 import org.springframework.format.annotation.DateTimeFormat;
-import org.springframework.http.ContentDisposition;
-import org.springframework.http.HttpHeaders;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.multipart.MultipartFile;
 import tech.jhipster.web.util.ResponseUtil;
 
@@ -80,44 +80,22 @@ public class SolicitacaoSuporteResource {
     }
 
     @GetMapping("/solicitacoes/{id}/anexos/zip")
-    public ResponseEntity<byte[]> downloadAnexosZip(@PathVariable Long id) {
+    public ResponseEntity<StreamingResponseBody> downloadAnexosZip(@PathVariable Long id) {
         return solicitacaoSuporteService
             .obterZipAnexos(id, false)
-            .map(a -> {
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.parseMediaType(a.contentType()));
-                headers.setContentDispositionFormData("attachment", a.fileName());
-                return new ResponseEntity<>(a.bytes(), headers, HttpStatus.OK);
-            })
-            .orElse(ResponseEntity.notFound().build());
+            .map(RespostaMidia::zip)
+            .orElse(ResponseEntity.<StreamingResponseBody>notFound().build());
     }
 
     @GetMapping("/solicitacoes/{id}/anexos/{anexoId}")
-    public ResponseEntity<byte[]> downloadAnexo(
+    public ResponseEntity<Resource> downloadAnexo(
         @PathVariable Long id,
         @PathVariable Long anexoId,
         @RequestParam(defaultValue = "false") boolean inline
     ) {
-        return montarRespostaAnexo(solicitacaoSuporteService.obterAnexo(id, anexoId, false), inline);
-    }
-
-    private ResponseEntity<byte[]> montarRespostaAnexo(
-        java.util.Optional<SolicitacaoSuporteService.AnexoDownload> anexoOpt,
-        boolean inline
-    ) {
-        return anexoOpt
-            .map(a -> {
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.parseMediaType(a.contentType()));
-                if (inline) {
-                    headers.setContentDisposition(
-                        ContentDisposition.inline().filename(a.fileName(), StandardCharsets.UTF_8).build()
-                    );
-                } else {
-                    headers.setContentDispositionFormData("attachment", a.fileName());
-                }
-                return new ResponseEntity<>(a.bytes(), headers, HttpStatus.OK);
-            })
-            .orElse(ResponseEntity.notFound().build());
+        return solicitacaoSuporteService
+            .obterAnexo(id, anexoId, false)
+            .map(a -> RespostaMidia.ok(a, RespostaMidia.disposicao(a.nomeArquivo(), inline), CacheControl.noCache().cachePrivate()))
+            .orElse(ResponseEntity.<Resource>notFound().build());
     }
 }
@@ -0,0 +1,38 @@
+-- Numera os dados bíblicos gravados antes da sincronização incremental (versao_sync = 0), uma versão por linha
+-- a partir do contador atual do dono, e avança o contador até a última. Sem isso a primeira sincronização completa
+-- (desde = 0) não devolve nada do que o usuário já tinha. Só toca linhas ainda com versão 0, então pode rodar de novo.
+WITH legado AS (
+    SELECT 'NOTA' AS tipo, id, usuario_id FROM nota_biblia WHERE versao_sync = 0 AND usuario_id IS NOT NULL
+    UNION ALL
+    SELECT 'DESTAQUE', id, usuario_id FROM destaque_biblia WHERE versao_sync = 0 AND usuario_id IS NOT NULL
+    UNION ALL
+    SELECT 'FAVORITO', id, usuario_id FROM favorito_biblia WHERE versao_sync = 0 AND usuario_id IS NOT NULL
+    UNION ALL
+    SELECT 'HISTORICO', id, usuario_id FROM historico_leitura_biblia WHERE versao_sync = 0 AND usuario_id IS NOT NULL
+    UNION ALL
+    SELECT 'PROGRESSO', id, usuario_id FROM progresso_leitura_usuario WHERE versao_sync = 0 AND usuario_id IS NOT NULL
+),
+numerado AS (
+    SELECT l.tipo, l.id, l.usuario_id,
+        COALESCE(s.versao, 0) + ROW_NUMBER() OVER (PARTITION BY l.usuario_id ORDER BY l.tipo, l.id) AS versao
+    FROM legado l
+    LEFT JOIN biblia_sync_usuario s ON s.usuario_id = l.usuario_id
+),
+notas AS (
+    UPDATE nota_biblia t SET versao_sync = n.versao FROM numerado n WHERE n.tipo = 'NOTA' AND n.id = t.id RETURNING t.id
+),
+destaques AS (
+    UPDATE destaque_biblia t SET versao_sync = n.versao FROM numerado n WHERE n.tipo = 'DESTAQUE' AND n.id = t.id RETURNING t.id
+),
+favoritos AS (
+    UPDATE favorito_biblia t SET versao_sync = n.versao FROM numerado n WHERE n.tipo = 'FAVORITO' AND n.id = t.id RETURNING t.id
+),
+historico AS (
+    UPDATE historico_leitura_biblia t SET versao_sync = n.versao FROM numerado n WHERE n.tipo = 'HISTORICO' AND n.id = t.id RETURNING t.id
+),
+progresso AS (
+    UPDATE progresso_leitura_usuario t SET versao_sync = n.versao FROM numerado n WHERE n.tipo = 'PROGRESSO' AND n.id = t.id RETURNING t.id
+)
+INSERT INTO biblia_sync_usuario (usuario_id, versao)
+SELECT usuario_id, MAX(versao) FROM numerado GROUP BY usuario_id
+ON CONFLICT (usuario_id) DO UPDATE SET versao = EXCLUDED.versao;
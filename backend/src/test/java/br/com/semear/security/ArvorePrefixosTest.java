@@ -0,0 +1,36 @@
+package br.com.semear.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ArvorePrefixosTest {
+
+    private final List<String> prefixos = List.of("/api/account", "/api/admin", "/api/igreja-configuracao/publica", "/management/health");
+    private final ArvorePrefixos arvore = new ArvorePrefixos(prefixos);
+
+    @Test
+    void equivaleAStartsWith() {
+        for (String caminho : List.of(
+            "/api/account",
+            "/api/account/assinatura-acesso",
+            "/api/accounts",
+            "/api/admin/igrejas",
+            "/api/igreja-configuracao",
+            "/api/igreja-configuracao/publica/7",
+            "/api/membros",
+            "/api/ad",
+            "/management/health/liveness",
+            "/management/info",
+            ""
+        )) {
+            assertThat(arvore.correspondeAlgumPrefixo(caminho)).as(caminho).isEqualTo(prefixos.stream().anyMatch(caminho::startsWith));
+        }
+    }
+
+    @Test
+    void semPrefixosNadaCorresponde() {
+        assertThat(new ArvorePrefixos(List.of()).correspondeAlgumPrefixo("/api/account")).isFalse();
+    }
+}
@@ -0,0 +1,115 @@
+package br.com.semear.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.semear.domain.EscalaRotinaExecucao;
+import br.com.semear.domain.enumeration.StatusRotinaExecucao;
+import br.com.semear.repository.EscalaConfigAutomaticaRepository;
+import br.com.semear.repository.EscalaRotinaExecucaoRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+
+class EscalaAutomacaoSchedulerTest {
+
+    private static final LocalDate HOJE = LocalDate.of(2026, 10, 18);
+
+    private final EscalaConfigAutomaticaRepository configRepository = mock(EscalaConfigAutomaticaRepository.class);
+    private final EscalaRotinaExecucaoRepository execucaoRepository = mock(EscalaRotinaExecucaoRepository.class);
+    private final EscalaAutomacaoService escalaAutomacaoService = mock(EscalaAutomacaoService.class);
+
+    @Test
+    void paralelismoConfiguradoNaoPassaDoPoolDeConexoes() {
+        assertThat(scheduler(hikari(10), 50).resolverParalelismo()).isEqualTo(8);
+        assertThat(scheduler(hikari(10), 3).resolverParalelismo()).isEqualTo(3);
+        assertThat(scheduler(hikari(2), 4).resolverParalelismo()).isEqualTo(1);
+    }
+
+    @Test
+    void semConfiguracaoUsaOsNucleosLimitadosAoPool() {
+        assertThat(scheduler(hikari(3), 0).resolverParalelismo()).isEqualTo(1);
+        assertThat(scheduler(hikari(1000), 0).resolverParalelismo()).isEqualTo(Runtime.getRuntime().availableProcessors());
+        assertThat(scheduler(mock(DataSource.class), 0).resolverParalelismo()).isEqualTo(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Test
+    void igrejasRodamEmParaleloAteOLimiteEUmaFalhaNaoDerrubaAsOutras() throws Exception {
+        // Pool de 5 conexões: no máximo 3 igrejas ao mesmo tempo, mesmo configurado para 10.
+        EscalaAutomacaoScheduler scheduler = scheduler(hikari(5), 10);
+        when(configRepository.findIgrejaIdsAtivas()).thenReturn(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L));
+        EscalaRotinaExecucao jaConcluida = new EscalaRotinaExecucao();
+        jaConcluida.setIgrejaId(7L);
+        when(execucaoRepository.findByDataReferenciaAndStatus(HOJE, StatusRotinaExecucao.CONCLUIDA)).thenReturn(List.of(jaConcluida));
+
+        Map<Long, EscalaRotinaExecucao> gravadas = new ConcurrentHashMap<>();
+        when(execucaoRepository.save(any(EscalaRotinaExecucao.class))).thenAnswer(invocation -> {
+            EscalaRotinaExecucao execucao = invocation.getArgument(0);
+            gravadas.put(execucao.getIgrejaId(), execucao);
+            return execucao;
+        });
+
+        CountDownLatch todasJuntas = new CountDownLatch(3);
+        AtomicInteger emAndamento = new AtomicInteger();
+        AtomicInteger maximo = new AtomicInteger();
+        doAnswer(invocation -> {
+            maximo.accumulateAndGet(emAndamento.incrementAndGet(), Math::max);
+            try {
+                todasJuntas.countDown();
+                todasJuntas.await(5, TimeUnit.SECONDS);
+                if (invocation.<Long>getArgument(0) == 4L) {
+                    throw new IllegalStateException("sem voluntários");
+                }
+                return null;
+            } finally {
+                emAndamento.decrementAndGet();
+            }
+        })
+            .when(escalaAutomacaoService)
+            .executarRotinaAgendadaIgreja(any());
+
+        scheduler.executarRotina(HOJE);
+
+        assertThat(todasJuntas.getCount()).isZero();
+        assertThat(maximo.get()).isEqualTo(3);
+        assertThat(gravadas).containsOnlyKeys(1L, 2L, 3L, 4L, 5L, 6L);
+        assertThat(gravadas.get(4L).getStatus()).isEqualTo(StatusRotinaExecucao.FALHOU);
+        assertThat(gravadas.get(4L).getErro()).isEqualTo("IllegalStateException: sem voluntários");
+        assertThat(gravadas.values())
+            .filteredOn(execucao -> execucao.getIgrejaId() != 4L)
+            .extracting(EscalaRotinaExecucao::getStatus)
+            .containsOnly(StatusRotinaExecucao.CONCLUIDA);
+        assertThat(gravadas.values()).extracting(EscalaRotinaExecucao::getTentativas).containsOnly(1);
+        verify(escalaAutomacaoService, never()).executarRotinaAgendadaIgreja(7L);
+    }
+
+    private EscalaAutomacaoScheduler scheduler(DataSource dataSource, int paralelismo) {
+        return new EscalaAutomacaoScheduler(
+            configRepository,
+            execucaoRepository,
+            escalaAutomacaoService,
+            dataSource,
+            new SimpleMeterRegistry(),
+            paralelismo
+        );
+    }
+
+    private static HikariDataSource hikari(int maximoConexoes) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(maximoConexoes);
+        return dataSource;
+    }
+}
@@ -0,0 +1,195 @@
+package br.com.semear.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.semear.IntegrationTest;
+import br.com.semear.domain.Authority;
+import br.com.semear.domain.Evento;
+import br.com.semear.domain.Igreja;
+import br.com.semear.domain.User;
+import br.com.semear.domain.enumeration.StatusEvento;
+import br.com.semear.domain.enumeration.StatusIgreja;
+import br.com.semear.domain.enumeration.StatusInscricaoEvento;
+import br.com.semear.repository.AuthorityRepository;
+import br.com.semear.repository.EventoRepository;
+import br.com.semear.repository.IgrejaRepository;
+import br.com.semear.repository.UserRepository;
+import br.com.semear.security.AuthoritiesConstants;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Inscrições e cancelamentos simultâneos contra o banco: o update condicional em {@code evento.vagas_ocupadas} e a
+ * fila com {@code SKIP LOCKED} precisam manter o contador igual às inscrições ativas e nunca acima da capacidade.
+ * Sem transação no teste, para cada chamada confirmar de verdade e disputar as linhas com as outras.
+ */
+@IntegrationTest
+@TestPropertySource(properties = "spring.datasource.hikari.maximum-pool-size=16")
+class EventoServiceIT {
+
+    private static final String PREFIXO_LOGIN = "vagasit";
+    private static final int CAPACIDADE = 10;
+    private static final int INSCRITOS = 60;
+
+    @Autowired
+    private EventoService eventoService;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private IgrejaRepository igrejaRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthorityRepository authorityRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final ExecutorService clientes = Executors.newFixedThreadPool(12);
+
+    private Igreja igreja;
+    private Evento evento;
+    private final List<User> usuarios = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        igreja = new Igreja();
+        igreja.setNome("Igreja Vagas");
+        igreja.setStatus(StatusIgreja.ATIVA);
+        igreja.setDataCadastro(Instant.now());
+        igreja.setRequerAprovacaoOracaoPublica(true);
+        igreja = igrejaRepository.saveAndFlush(igreja);
+
+        Authority membro = authorityRepository.findById(AuthoritiesConstants.MEMBRO).orElseThrow();
+        for (int i = 0; i < INSCRITOS; i++) {
+            User user = new User();
+            user.setLogin(PREFIXO_LOGIN + i);
+            user.setPassword("x".repeat(60));
+            user.setEmail(PREFIXO_LOGIN + i + "@test.com");
+            user.setActivated(true);
+            user.setIgreja(igreja);
+            user.getAuthorities().add(membro);
+            usuarios.add(userRepository.saveAndFlush(user));
+        }
+        cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE).clear();
+
+        evento = new Evento();
+        evento.setIgreja(igreja);
+        evento.setTitulo("Retiro");
+        evento.setDataInicio(Instant.now().plus(Duration.ofDays(30)));
+        evento.setStatus(StatusEvento.PUBLICADO);
+        evento.setInscricoesAbertas(true);
+        evento.setCapacidade(CAPACIDADE);
+        evento = eventoRepository.saveAndFlush(evento);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clientes.shutdownNow();
+        jdbcTemplate.update("DELETE FROM evento_inscricao WHERE evento_id = ?", evento.getId());
+        jdbcTemplate.update("DELETE FROM notificacao_usuario WHERE igreja_id = ?", igreja.getId());
+        eventoRepository.deleteById(evento.getId());
+        userRepository.deleteAll(usuarios);
+        igrejaRepository.deleteById(igreja.getId());
+        cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE).clear();
+    }
+
+    @Test
+    void inscricoesSimultaneasNaoPassamDaCapacidade() throws Exception {
+        simultaneamente(usuarios, user -> eventoService.inscrever(evento.getId()));
+
+        assertThat(contar(StatusInscricaoEvento.ATIVA)).isEqualTo(CAPACIDADE);
+        assertThat(contar(StatusInscricaoEvento.ESPERA)).isEqualTo(INSCRITOS - CAPACIDADE);
+        assertThat(vagasOcupadas()).isEqualTo(CAPACIDADE);
+    }
+
+    @Test
+    void cancelamentosSimultaneosComAFilaNaoPerdemVagas() throws Exception {
+        simultaneamente(usuarios, user -> eventoService.inscrever(evento.getId()));
+
+        // Saem juntos ativos (que promovem a fila) e os primeiros da fila (que podem estar sendo promovidos).
+        List<User> saindo = IntStream.range(0, INSCRITOS).filter(i -> i % 2 == 0).mapToObj(usuarios::get).toList();
+        simultaneamente(saindo, user -> {
+            eventoService.desinscrever(evento.getId());
+            return null;
+        });
+
+        long ativas = contar(StatusInscricaoEvento.ATIVA);
+        assertThat(vagasOcupadas()).isEqualTo(ativas).isLessThanOrEqualTo(CAPACIDADE);
+        assertThat(ativas).isEqualTo(Math.min(CAPACIDADE, INSCRITOS - saindo.size()));
+        assertThat(contar(StatusInscricaoEvento.CANCELADA)).isEqualTo(saindo.size());
+    }
+
+    private long contar(StatusInscricaoEvento status) {
+        return jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM evento_inscricao WHERE evento_id = ? AND status = ?",
+            Long.class,
+            evento.getId(),
+            status.name()
+        );
+    }
+
+    private long vagasOcupadas() {
+        return jdbcTemplate.queryForObject("SELECT vagas_ocupadas FROM evento WHERE id = ?", Long.class, evento.getId());
+    }
+
+    private <T> List<T> simultaneamente(List<User> quem, Tarefa<T> tarefa) throws Exception {
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<T>> pedidos = new ArrayList<>(quem.size());
+        for (User user : quem) {
+            Callable<T> chamada = () -> {
+                SecurityContextHolder.getContext()
+                    .setAuthentication(
+                        new UsernamePasswordAuthenticationToken(
+                            user.getLogin(),
+                            "x",
+                            List.of(new SimpleGrantedAuthority(AuthoritiesConstants.MEMBRO))
+                        )
+                    );
+                try {
+                    largada.await();
+                    return tarefa.executar(user);
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            };
+            pedidos.add(clientes.submit(chamada));
+        }
+        largada.countDown();
+        List<T> resultados = new ArrayList<>(quem.size());
+        for (Future<T> pedido : pedidos) {
+            resultados.add(pedido.get(60, TimeUnit.SECONDS));
+        }
+        return resultados;
+    }
+
+    private interface Tarefa<T> {
+        T executar(User user);
+    }
+}
@@ -0,0 +1,192 @@
+package br.com.semear.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.semear.config.PushNotificationProperties;
+import br.com.semear.domain.Igreja;
+import br.com.semear.domain.NotificacaoPushPendente;
+import br.com.semear.domain.NotificacaoUsuario;
+import br.com.semear.domain.User;
+import br.com.semear.domain.UsuarioDispositivoPush;
+import br.com.semear.domain.UsuarioPreferenciaNotificacao;
+import br.com.semear.domain.enumeration.StatusPushPendente;
+import br.com.semear.repository.NotificacaoPushPendenteRepository;
+import br.com.semear.repository.NotificacaoUsuarioRepository;
+import br.com.semear.repository.UsuarioDispositivoPushRepository;
+import br.com.semear.repository.UsuarioPreferenciaNotificacaoRepository;
+import br.com.semear.service.push.FcmGateway;
+import br.com.semear.service.push.ResultadoFcm;
+import com.google.firebase.messaging.Message;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Travas da fila de saída do push: um despacho lento continua dono das suas pendências, e quem perdeu a trava
+ * não envia nem conclui o que passou para outro.
+ */
+class PushDespachoServiceTest {
+
+    private static final Long PENDENTE = 10L;
+    private static final Long NOTIFICACAO = 20L;
+
+    private final NotificacaoPushPendenteRepository pendenteRepository = mock(NotificacaoPushPendenteRepository.class);
+    private final NotificacaoUsuarioRepository notificacaoUsuarioRepository = mock(NotificacaoUsuarioRepository.class);
+    private final UsuarioDispositivoPushRepository dispositivoRepository = mock(UsuarioDispositivoPushRepository.class);
+    private final UsuarioPreferenciaNotificacaoRepository preferenciaRepository = mock(UsuarioPreferenciaNotificacaoRepository.class);
+    private final FcmLento fcm = new FcmLento();
+    private final AtomicReference<String> dono = new AtomicReference<>();
+
+    private PushDespachoService service;
+    private NotificacaoUsuario notificacao;
+
+    @BeforeEach
+    void setUp() {
+        PushNotificationProperties properties = new PushNotificationProperties();
+        properties.setEnabled(true);
+        properties.setFirebaseProjectId("semear");
+        properties.setFirebaseServiceAccount("{}");
+        service = new PushDespachoService(
+            properties,
+            pendenteRepository,
+            notificacaoUsuarioRepository,
+            dispositivoRepository,
+            preferenciaRepository,
+            mock(PlatformTransactionManager.class),
+            fcm
+        );
+
+        Igreja igreja = new Igreja();
+        igreja.setId(1L);
+        User user = new User();
+        user.setId(2L);
+        notificacao = new NotificacaoUsuario();
+        notificacao.setId(NOTIFICACAO);
+        notificacao.setIgreja(igreja);
+        notificacao.setUser(user);
+        notificacao.setTitulo("Culto");
+        notificacao.setTipo("PUSH_TESTE");
+
+        UsuarioPreferenciaNotificacao preferencia = new UsuarioPreferenciaNotificacao();
+        preferencia.setIgreja(igreja);
+        preferencia.setUser(user);
+        preferencia.setPushAtivo(true);
+        UsuarioDispositivoPush dispositivo = new UsuarioDispositivoPush();
+        dispositivo.setId(3L);
+        dispositivo.setIgreja(igreja);
+        dispositivo.setUser(user);
+        dispositivo.setToken("token");
+        dispositivo.setAtivo(true);
+
+        when(pendenteRepository.travarProximasPendentes(any(), anyInt())).thenReturn(List.of(PENDENTE), List.of());
+        when(pendenteRepository.reivindicar(anyCollection(), any(), any())).thenAnswer(invocation -> {
+            dono.set(invocation.getArgument(2));
+            return 1;
+        });
+        when(preferenciaRepository.findByUserIdIn(anyCollection())).thenReturn(List.of(preferencia));
+        when(dispositivoRepository.findByUserIdInAndAtivoTrue(anyCollection())).thenReturn(List.of(dispositivo));
+        when(notificacaoUsuarioRepository.findAllById(any())).thenReturn(List.of(notificacao));
+    }
+
+    @AfterEach
+    void tearDown() {
+        fcm.liberar.countDown();
+        service.encerrar();
+    }
+
+    @Test
+    void varreduraRenovaATravaDoEnvioEmAndamentoAntesDeLiberarAsExpiradas() throws Exception {
+        when(pendenteRepository.findByIdInWithNotificacao(List.of(PENDENTE))).thenAnswer(invocation -> List.of(pendente(dono.get())));
+        Thread drenagem = new Thread(service::drenar);
+        drenagem.start();
+        assertThat(fcm.enviando.await(5, TimeUnit.SECONDS)).isTrue();
+
+        service.varrerPendentes();
+
+        InOrder ordem = inOrder(pendenteRepository);
+        ordem.verify(pendenteRepository).renovarReivindicacoes(eq(Set.of(dono.get())), any());
+        ordem.verify(pendenteRepository).liberarTravadasAntesDe(any());
+
+        fcm.liberar.countDown();
+        drenagem.join(5_000);
+        verify(pendenteRepository).concluir(List.of(PENDENTE), dono.get());
+        assertThat(notificacao.getEnviadaPush()).isTrue();
+
+        // Terminado o envio, a instância não tem mais o que renovar.
+        service.varrerPendentes();
+        verify(pendenteRepository, times(1)).renovarReivindicacoes(anyCollection(), any());
+    }
+
+    @Test
+    void despachoQuePerdeuATravaNaoEnviaNemConclui() {
+        when(pendenteRepository.findByIdInWithNotificacao(List.of(PENDENTE))).thenReturn(List.of(pendente("outro-despacho")));
+
+        service.drenar();
+
+        assertThat(fcm.chamadas.get()).isZero();
+        verify(pendenteRepository, never()).concluir(anyCollection(), any());
+    }
+
+    @Test
+    void falhaTemporariaNaoReagendaPendenciaQuePassouParaOutroDono() throws Exception {
+        fcm.liberar.countDown();
+        fcm.resultado = ResultadoFcm.falha(null, "indisponível");
+        NotificacaoPushPendente devolvida = pendente("outro-despacho");
+        when(pendenteRepository.findByIdInWithNotificacao(List.of(PENDENTE))).thenAnswer(invocation -> List.of(pendente(dono.get())));
+        when(pendenteRepository.findAllById(any())).thenReturn(List.of(devolvida));
+
+        service.drenar();
+
+        verify(pendenteRepository).findAllById(any());
+        assertThat(fcm.chamadas.get()).isEqualTo(1);
+        assertThat(devolvida.getStatus()).isEqualTo(StatusPushPendente.EM_ENVIO);
+        assertThat(devolvida.getReivindicadoPor()).isEqualTo("outro-despacho");
+        assertThat(devolvida.getTentativas()).isZero();
+    }
+
+    private NotificacaoPushPendente pendente(String reivindicadoPor) {
+        NotificacaoPushPendente pendente = new NotificacaoPushPendente();
+        pendente.setId(PENDENTE);
+        pendente.setNotificacao(notificacao);
+        pendente.setStatus(StatusPushPendente.EM_ENVIO);
+        pendente.setRespeitarHorarioSilencioso(false);
+        pendente.setReivindicadoPor(reivindicadoPor);
+        return pendente;
+    }
+
+    /** FCM que segura a chamada até o teste liberar. */
+    private static final class FcmLento implements FcmGateway {
+
+        final CountDownLatch enviando = new CountDownLatch(1);
+        final CountDownLatch liberar = new CountDownLatch(1);
+        final AtomicInteger chamadas = new AtomicInteger();
+        volatile ResultadoFcm resultado = ResultadoFcm.sucesso();
+
+        @Override
+        public List<ResultadoFcm> enviarLote(List<Message> mensagens) throws Exception {
+            chamadas.incrementAndGet();
+            enviando.countDown();
+            liberar.await(5, TimeUnit.SECONDS);
+            return Collections.nCopies(mensagens.size(), resultado);
+        }
+    }
+}
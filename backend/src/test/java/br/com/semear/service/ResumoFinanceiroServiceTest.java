@@ -0,0 +1,211 @@
+package br.com.semear.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import br.com.semear.domain.Igreja;
+import br.com.semear.domain.Lancamento;
+import br.com.semear.domain.enumerations.TipoLancamento;
+import br.com.semear.repository.LancamentoRepository;
+import br.com.semear.repository.projection.TotalFinanceiroProjection;
+import br.com.semear.service.ResumoFinanceiroService.Agrupamento;
+import br.com.semear.service.ResumoFinanceiroService.LancamentoResumido;
+import br.com.semear.service.ResumoFinanceiroService.PaginaLancamentos;
+import br.com.semear.service.dto.TotalFinanceiroDTO;
+import br.com.semear.web.rest.errors.BadRequestAlertException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+class ResumoFinanceiroServiceTest {
+
+    private static final Long IGREJA = 3L;
+    private static final LocalDate MARCO = LocalDate.of(2026, 3, 1);
+
+    private final LancamentoRepository lancamentoRepository = mock(LancamentoRepository.class);
+    private final ResumoFinanceiroService service = new ResumoFinanceiroService(lancamentoRepository);
+
+    @Test
+    void chaveDoResumoAparaOCentroDeCustoENuloViraVazio() {
+        assertThat(LancamentoResumido.de(lancamento(1L, LocalDate.of(2026, 3, 17), "  Missões \t")).centroCusto()).isEqualTo("Missões");
+        assertThat(LancamentoResumido.de(lancamento(1L, LocalDate.of(2026, 3, 17), null)).centroCusto()).isEmpty();
+        assertThat(LancamentoResumido.de(lancamento(1L, LocalDate.of(2026, 3, 17), null)).mes()).isEqualTo(MARCO);
+    }
+
+    @Test
+    void registrarSomaEEstornarSubtraiNaMesmaLinha() {
+        LancamentoResumido resumido = LancamentoResumido.de(lancamento(1L, LocalDate.of(2026, 3, 17), " Missões"));
+
+        service.registrar(resumido);
+        service.estornar(resumido);
+
+        verify(lancamentoRepository).acumularResumoMensal(IGREJA, MARCO, "EXPENSE", "OFERTA", "Missões", new BigDecimal("50.00"), 1);
+        verify(lancamentoRepository).acumularResumoMensal(IGREJA, MARCO, "EXPENSE", "OFERTA", "Missões", new BigDecimal("-50.00"), -1);
+        verify(lancamentoRepository).removerResumosVazios(IGREJA, MARCO);
+    }
+
+    @Test
+    void lancamentoSemIgrejaNaoEntraNoResumo() {
+        Lancamento semIgreja = lancamento(1L, LocalDate.of(2026, 3, 17), null);
+        semIgreja.setIgreja(null);
+
+        service.registrar(LancamentoResumido.de(semIgreja));
+        service.estornar(LancamentoResumido.de(semIgreja));
+
+        verifyNoInteractions(lancamentoRepository);
+    }
+
+    @Test
+    void edicaoQueSoMudaEspacosDoCentroDeCustoNaoMexeNoResumo() {
+        LancamentoResumido antes = LancamentoResumido.de(lancamento(1L, LocalDate.of(2026, 3, 17), "Missões"));
+        LancamentoResumido depois = LancamentoResumido.de(lancamento(1L, LocalDate.of(2026, 3, 17), " Missões  "));
+
+        service.substituir(antes, depois);
+
+        verifyNoInteractions(lancamentoRepository);
+    }
+
+    @Test
+    void edicaoQueTrocaOMesEstornaOAntigoERegistraONovo() {
+        LancamentoResumido antes = LancamentoResumido.de(lancamento(1L, LocalDate.of(2026, 3, 17), "Missões"));
+        LancamentoResumido depois = LancamentoResumido.de(lancamento(1L, LocalDate.of(2026, 4, 2), "Missões"));
+
+        service.substituir(antes, depois);
+
+        verify(lancamentoRepository).acumularResumoMensal(IGREJA, MARCO, "EXPENSE", "OFERTA", "Missões", new BigDecimal("-50.00"), -1);
+        verify(lancamentoRepository).removerResumosVazios(IGREJA, MARCO);
+        verify(lancamentoRepository).acumularResumoMensal(
+            IGREJA,
+            LocalDate.of(2026, 4, 1),
+            "EXPENSE",
+            "OFERTA",
+            "Missões",
+            new BigDecimal("50.00"),
+            1
+        );
+    }
+
+    @Test
+    void totaisJuntamEntradasESaidasDaMesmaChave() {
+        when(lancamentoRepository.totaisPorCentroCusto(IGREJA, MARCO, LocalDate.of(2026, 4, 1))).thenReturn(
+            List.of(
+                total("Missões", "INCOME", "300.00", 3),
+                total("Missões", "EXPENSE", "120.00", 2),
+                total("", "EXPENSE", null, 1)
+            )
+        );
+
+        List<TotalFinanceiroDTO> totais = service.totais(IGREJA, Agrupamento.CENTRO_CUSTO, YearMonth.of(2026, 3), YearMonth.of(2026, 4));
+
+        assertThat(totais).extracting(TotalFinanceiroDTO::getChave).containsExactly("Missões", "");
+        TotalFinanceiroDTO missoes = totais.get(0);
+        assertThat(missoes.getEntradas()).isEqualByComparingTo("300.00");
+        assertThat(missoes.getSaidas()).isEqualByComparingTo("120.00");
+        assertThat(missoes.getSaldo()).isEqualByComparingTo("180.00");
+        assertThat(missoes.getQuantidade()).isEqualTo(5);
+        assertThat(totais.get(1).getSaidas()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void totaisSemIntervaloConsultamOLivroInteiro() {
+        service.totais(IGREJA, Agrupamento.MES, null, null);
+
+        verify(lancamentoRepository).totaisPorMes(IGREJA, LocalDate.of(1900, 1, 1), LocalDate.of(9999, 12, 1));
+    }
+
+    @Test
+    void paginaCheiaDevolveOCursorDoUltimoItem() {
+        List<Lancamento> itens = new ArrayList<>();
+        for (long id = 10; id > 7; id--) {
+            itens.add(lancamento(id, LocalDate.of(2026, 3, (int) id), null));
+        }
+        when(lancamentoRepository.findPrimeiraPagina(IGREJA, Limit.of(3))).thenReturn(itens);
+
+        PaginaLancamentos pagina = service.pagina(IGREJA, null, null, 2);
+
+        assertThat(pagina.itens()).extracting(Lancamento::getId).containsExactly(10L, 9L);
+        assertThat(pagina.proximoCursor()).isEqualTo("2026-03-09_9");
+    }
+
+    @Test
+    void cursorContinuaDepoisDoUltimoItemEUltimaPaginaNaoTemCursor() {
+        when(
+            lancamentoRepository.findPaginaAposPorTipo(IGREJA, TipoLancamento.EXPENSE, LocalDate.of(2026, 3, 9), 9L, Limit.of(3))
+        ).thenReturn(List.of(lancamento(8L, LocalDate.of(2026, 3, 8), null)));
+
+        PaginaLancamentos pagina = service.pagina(IGREJA, TipoLancamento.EXPENSE, "2026-03-09_9", 2);
+
+        assertThat(pagina.itens()).extracting(Lancamento::getId).containsExactly(8L);
+        assertThat(pagina.proximoCursor()).isNull();
+    }
+
+    @Test
+    void tamanhoDaPaginaFicaEntreUmEOMaximo() {
+        service.pagina(IGREJA, null, null, 0);
+        service.pagina(IGREJA, null, null, 10_000);
+        service.pagina(IGREJA, null, null, null);
+
+        verify(lancamentoRepository).findPrimeiraPagina(IGREJA, Limit.of(2));
+        verify(lancamentoRepository).findPrimeiraPagina(IGREJA, Limit.of(ResumoFinanceiroService.TAMANHO_PAGINA_MAXIMO + 1));
+        verify(lancamentoRepository).findPrimeiraPagina(IGREJA, Limit.of(ResumoFinanceiroService.TAMANHO_PAGINA_PADRAO + 1));
+    }
+
+    @Test
+    void cursorInvalidoEhRecusado() {
+        for (String cursor : List.of("2026-03-09", "ontem_9", "2026-03-09_x")) {
+            assertThatThrownBy(() -> service.pagina(IGREJA, null, cursor, 10)).isInstanceOf(BadRequestAlertException.class);
+        }
+        verify(lancamentoRepository, never()).findPaginaApos(eq(IGREJA), any(), any(), any());
+        verify(lancamentoRepository, never()).acumularResumoMensal(any(), any(), any(), any(), any(), any(), anyInt());
+    }
+
+    private static Lancamento lancamento(Long id, LocalDate data, String centroCusto) {
+        Igreja igreja = new Igreja();
+        igreja.setId(IGREJA);
+        Lancamento lancamento = new Lancamento();
+        lancamento.setId(id);
+        lancamento.setIgreja(igreja);
+        lancamento.setTipo(TipoLancamento.EXPENSE);
+        lancamento.setCategoria("OFERTA");
+        lancamento.setCentroCusto(centroCusto);
+        lancamento.setValor(new BigDecimal("50.00"));
+        lancamento.setDataLancamento(data);
+        return lancamento;
+    }
+
+    private static TotalFinanceiroProjection total(String chave, String tipo, String total, long quantidade) {
+        return new TotalFinanceiroProjection() {
+            @Override
+            public String getChave() {
+                return chave;
+            }
+
+            @Override
+            public String getTipo() {
+                return tipo;
+            }
+
+            @Override
+            public BigDecimal getTotal() {
+                return total != null ? new BigDecimal(total) : null;
+            }
+
+            @Override
+            public Long getQuantidade() {
+                return quantidade;
+            }
+        };
+    }
+}
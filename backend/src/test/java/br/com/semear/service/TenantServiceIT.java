@@ -0,0 +1,127 @@
+package br.com.semear.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.semear.IntegrationTest;
+import br.com.semear.domain.Authority;
+import br.com.semear.domain.Igreja;
+import br.com.semear.domain.User;
+import br.com.semear.domain.enumeration.NivelAcessoModulo;
+import br.com.semear.domain.enumeration.StatusIgreja;
+import br.com.semear.repository.AuthorityRepository;
+import br.com.semear.repository.IgrejaRepository;
+import br.com.semear.repository.UserRepository;
+import br.com.semear.security.AuthoritiesConstants;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Conta as consultas do Hibernate para garantir que o contexto do tenant é resolvido uma vez por requisição.
+ */
+@IntegrationTest
+@Transactional
+class TenantServiceIT {
+
+    private static final String LOGIN = "tenantctx";
+
+    @Autowired
+    private TenantService tenantService;
+
+    @Autowired
+    private ModuleAccessService moduleAccessService;
+
+    @Autowired
+    private IgrejaRepository igrejaRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthorityRepository authorityRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManager em;
+
+    private Igreja igreja;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        igreja = new Igreja();
+        igreja.setNome("Igreja Contexto");
+        igreja.setStatus(StatusIgreja.ATIVA);
+        igreja.setDataCadastro(Instant.now());
+        igreja.setRequerAprovacaoOracaoPublica(true);
+        igreja = igrejaRepository.save(igreja);
+
+        Authority membro = authorityRepository.findById(AuthoritiesConstants.MEMBRO).orElseThrow();
+        User user = new User();
+        user.setLogin(LOGIN);
+        user.setPassword("x".repeat(60));
+        user.setEmail(LOGIN + "@test.com");
+        user.setActivated(true);
+        user.setIgreja(igreja);
+        user.getAuthorities().add(membro);
+        userRepository.save(user);
+        em.flush();
+        em.clear();
+        cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE).clear();
+
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @WithMockUser(username = LOGIN, authorities = AuthoritiesConstants.MEMBRO)
+    void resolveUsuarioUmaVezPorRequisicao() {
+        tenantService.getUsuarioAtual();
+        long consultasPrimeiraCarga = statistics.getPrepareStatementCount();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(tenantService.getIgrejaIdAtual()).isEqualTo(igreja.getId());
+            tenantService.validarMesmaIgreja(igreja.getId());
+            assertThat(tenantService.getUsuarioAtual().getLogin()).isEqualTo(LOGIN);
+        }
+
+        assertThat(consultasPrimeiraCarga).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(consultasPrimeiraCarga);
+        assertThat(tenantService.getContextoAtual().getAutoridades()).containsExactly(AuthoritiesConstants.MEMBRO);
+    }
+
+    @Test
+    @WithMockUser(username = LOGIN, authorities = AuthoritiesConstants.MEMBRO)
+    void permissoesDeModuloCalculadasUmaVezPorRequisicao() {
+        moduleAccessService.hasModuleAccess("comunicados", NivelAcessoModulo.READ);
+        long consultas = statistics.getPrepareStatementCount();
+
+        for (int i = 0; i < 5; i++) {
+            moduleAccessService.hasModuleAccess("comunicados", NivelAcessoModulo.READ);
+            moduleAccessService.hasModuleAccess("financeiro", NivelAcessoModulo.WRITE);
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(consultas);
+    }
+}
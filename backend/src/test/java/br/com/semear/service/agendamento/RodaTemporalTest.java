@@ -0,0 +1,91 @@
+package br.com.semear.service.agendamento;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class RodaTemporalTest {
+
+    private static final long INICIO = 1_000_000L;
+
+    private final RodaTemporal<String> roda = new RodaTemporal<>(1_000, 60, 3, INICIO);
+
+    @Test
+    void entregaNoTickDoVencimento() {
+        roda.agendar("a", INICIO + 5_500);
+
+        assertThat(roda.avancar(INICIO + 4_999)).isEmpty();
+        assertThat(roda.avancar(INICIO + 5_000)).containsExactly("a");
+        assertThat(roda.avancar(INICIO + 60_000)).isEmpty();
+        assertThat(roda.tamanhoAtual()).isZero();
+    }
+
+    @Test
+    void desceDosNiveisSuperioresAteVencer() {
+        roda.agendar("minutos", INICIO + 125_000);
+        roda.agendar("horas", INICIO + 2 * 3_600_000L + 30_000);
+
+        assertThat(roda.avancar(INICIO + 124_000)).isEmpty();
+        assertThat(roda.avancar(INICIO + 125_000)).containsExactly("minutos");
+        assertThat(roda.avancar(INICIO + 2 * 3_600_000L + 29_000)).isEmpty();
+        assertThat(roda.avancar(INICIO + 2 * 3_600_000L + 30_000)).containsExactly("horas");
+    }
+
+    @Test
+    void vencimentoNoPassadoSaiNoProximoAvanco() {
+        roda.avancar(INICIO + 10_000);
+        roda.agendar("atrasado", INICIO);
+
+        assertThat(roda.avancar(INICIO + 10_000)).containsExactly("atrasado");
+    }
+
+    @Test
+    void reagendarECancelarDescartamAEntradaAnterior() {
+        roda.agendar("a", INICIO + 3_000);
+        roda.agendar("a", INICIO + 8_000);
+        roda.agendar("b", INICIO + 3_000);
+        roda.cancelar("b");
+
+        assertThat(roda.avancar(INICIO + 5_000)).isEmpty();
+        assertThat(roda.avancar(INICIO + 8_000)).containsExactly("a");
+    }
+
+    @Test
+    void recusaAlemDoHorizonte() {
+        assertThat(roda.agendar("longe", INICIO + roda.horizonteMs() + 1_000)).isFalse();
+        assertThat(roda.tamanhoAtual()).isZero();
+    }
+
+    @Test
+    void saltoMaiorQueOHorizonteNaoPerdeItens() {
+        roda.agendar("a", INICIO + 10_000);
+        roda.agendar("b", INICIO + 40 * 3_600_000L);
+
+        assertThat(roda.avancar(INICIO + roda.horizonteMs() + 5_000)).containsExactlyInAnyOrder("a", "b");
+    }
+
+    @Test
+    void itensAleatoriosVencemNoTickCerto() {
+        Random random = new Random(42);
+        List<Long> vencimentos = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            long vencimento = INICIO + random.nextLong(3 * 3_600_000L);
+            vencimentos.add(vencimento);
+            roda.agendar("item" + i, vencimento);
+        }
+
+        List<String> entregues = new ArrayList<>();
+        for (long agora = INICIO; agora <= INICIO + 3 * 3_600_000L + 7_000; agora += 7_000) {
+            for (String item : roda.avancar(agora)) {
+                long vencimento = vencimentos.get(Integer.parseInt(item.substring(4)));
+                assertThat(vencimento).isLessThan(Math.floorDiv(agora, 1_000) * 1_000 + 1_000);
+                assertThat(vencimento).isGreaterThanOrEqualTo(agora - 7_000 - 1_000);
+                entregues.add(item);
+            }
+        }
+        assertThat(entregues).hasSize(2_000).doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.semear.service.aniversario;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class IndiceAniversariosTest {
+
+    private static final Set<TipoAniversario> TODOS = EnumSet.allOf(TipoAniversario.class);
+    private static final Set<TipoAniversario> NASCIMENTO = EnumSet.of(TipoAniversario.NASCIMENTO);
+
+    private final IndiceAniversarios indice = IndiceAniversarios.construtor()
+        .adicionar(1L, true, TipoAniversario.NASCIMENTO, LocalDate.of(1990, 3, 15))
+        .adicionar(1L, true, TipoAniversario.BATISMO, LocalDate.of(2005, 3, 15))
+        .adicionar(2L, false, TipoAniversario.NASCIMENTO, LocalDate.of(2015, 3, 15))
+        .adicionar(3L, true, TipoAniversario.NASCIMENTO, LocalDate.of(1988, 2, 29))
+        .adicionar(4L, true, TipoAniversario.CASAMENTO, LocalDate.of(2010, 12, 31))
+        .adicionar(5L, true, TipoAniversario.NASCIMENTO, null)
+        .construir();
+
+    @Test
+    void doDiaRespeitaTiposEDependentesNaOrdemDeInsercao() {
+        LocalDate dia = LocalDate.of(2026, 3, 15);
+
+        assertThat(indice.tamanho()).isEqualTo(5);
+        assertThat(indice.doDia(dia, TODOS, false)).containsExactly(
+            new Aniversario(1L, TipoAniversario.NASCIMENTO, dia),
+            new Aniversario(1L, TipoAniversario.BATISMO, dia)
+        );
+        assertThat(indice.doDia(dia, NASCIMENTO, true)).extracting(Aniversario::userId).containsExactly(1L, 2L);
+        assertThat(indice.doDia(dia.plusDays(1), TODOS, true)).isEmpty();
+    }
+
+    @Test
+    void nascidoEm29DeFevereiroComemoraEm28NosAnosNaoBissextos() {
+        assertThat(indice.doDia(LocalDate.of(2026, 2, 28), NASCIMENTO, false)).containsExactly(
+            new Aniversario(3L, TipoAniversario.NASCIMENTO, LocalDate.of(2026, 2, 28))
+        );
+        assertThat(indice.doDia(LocalDate.of(2028, 2, 28), NASCIMENTO, false)).isEmpty();
+        assertThat(indice.doDia(LocalDate.of(2028, 2, 29), NASCIMENTO, false)).extracting(Aniversario::userId).containsExactly(3L);
+    }
+
+    @Test
+    void entreAtravessaAViradaDoAnoEmOrdemDeData() {
+        assertThat(indice.entre(LocalDate.of(2026, 12, 30), LocalDate.of(2027, 3, 20), TODOS, true, 10)).containsExactly(
+            new Aniversario(4L, TipoAniversario.CASAMENTO, LocalDate.of(2026, 12, 31)),
+            new Aniversario(3L, TipoAniversario.NASCIMENTO, LocalDate.of(2027, 2, 28)),
+            new Aniversario(1L, TipoAniversario.NASCIMENTO, LocalDate.of(2027, 3, 15)),
+            new Aniversario(1L, TipoAniversario.BATISMO, LocalDate.of(2027, 3, 15)),
+            new Aniversario(2L, TipoAniversario.NASCIMENTO, LocalDate.of(2027, 3, 15))
+        );
+        assertThat(indice.entre(LocalDate.of(2026, 12, 30), LocalDate.of(2027, 3, 20), TODOS, true, 2)).hasSize(2);
+        assertThat(indice.entre(LocalDate.of(2026, 3, 20), LocalDate.of(2026, 3, 1), TODOS, true, 10)).isEmpty();
+    }
+
+    @Test
+    void construtorCresceAlemDaCapacidadeInicial() {
+        IndiceAniversarios.Construtor construtor = IndiceAniversarios.construtor();
+        for (long id = 1; id <= 500; id++) {
+            construtor.adicionar(id, true, TipoAniversario.MEMBRO, LocalDate.of(2000, 1, 1).plusDays(id % 7));
+        }
+        IndiceAniversarios grande = construtor.construir();
+
+        assertThat(grande.tamanho()).isEqualTo(500);
+        assertThat(grande.doDia(LocalDate.of(2026, 1, 1), TODOS, false)).hasSize(71);
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.semear.service.avatar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.semear.domain.enumeration.VarianteAvatar;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.zip.CRC32;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+
+class GeradorVariantesAvatarTest {
+
+    @Test
+    void geraMiniaturasMantendoProporcao() throws Exception {
+        byte[] original = imagem(800, 400, BufferedImage.TYPE_INT_RGB, "jpeg");
+
+        Map<VarianteAvatar, ImagemAvatar> variantes = GeradorVariantesAvatar.gerar("image/jpeg", original);
+
+        assertThat(variantes).containsOnlyKeys(VarianteAvatar.ORIGINAL, VarianteAvatar.MEDIA, VarianteAvatar.MINIATURA);
+        assertThat(variantes.get(VarianteAvatar.ORIGINAL).dados()).isSameAs(original);
+        BufferedImage media = ler(variantes.get(VarianteAvatar.MEDIA));
+        assertThat(media.getWidth()).isEqualTo(256);
+        assertThat(media.getHeight()).isEqualTo(128);
+        BufferedImage miniatura = ler(variantes.get(VarianteAvatar.MINIATURA));
+        assertThat(miniatura.getWidth()).isEqualTo(64);
+        assertThat(variantes.get(VarianteAvatar.MINIATURA).contentType()).isEqualTo("image/jpeg");
+    }
+
+    @Test
+    void preservaTransparenciaEmPng() throws Exception {
+        byte[] original = imagem(300, 300, BufferedImage.TYPE_INT_ARGB, "png");
+
+        Map<VarianteAvatar, ImagemAvatar> variantes = GeradorVariantesAvatar.gerar("image/png", original);
+
+        assertThat(variantes.get(VarianteAvatar.MEDIA).contentType()).isEqualTo("image/png");
+        assertThat(ler(variantes.get(VarianteAvatar.MEDIA)).getColorModel().hasAlpha()).isTrue();
+    }
+
+    @Test
+    void imagemPequenaOuIlegivelFicaSoComOriginal() throws Exception {
+        assertThat(GeradorVariantesAvatar.gerar("image/png", imagem(48, 48, BufferedImage.TYPE_INT_RGB, "png"))).containsOnlyKeys(
+            VarianteAvatar.ORIGINAL
+        );
+        assertThat(GeradorVariantesAvatar.gerar("image/webp", new byte[] { 'R', 'I', 'F', 'F', 0, 0 })).containsOnlyKeys(
+            VarianteAvatar.ORIGINAL
+        );
+    }
+
+    @Test
+    void telaDeclaradaGrandeDemaisNaoEhDecodificada() throws Exception {
+        // 20000x20000 no cabeçalho de um PNG de poucos bytes: decodificado, pediria 1,6 GB de heap.
+        byte[] bomba = comDimensoes(imagem(10, 10, BufferedImage.TYPE_INT_ARGB, "png"), 20_000, 20_000);
+
+        assertThat(GeradorVariantesAvatar.excedeLimite(bomba)).isTrue();
+        assertThat(GeradorVariantesAvatar.gerar("image/png", bomba)).containsOnlyKeys(VarianteAvatar.ORIGINAL);
+    }
+
+    @Test
+    void limiteSoValeParaImagensLegiveisAcimaDosPixelsMaximos() throws Exception {
+        assertThat(GeradorVariantesAvatar.excedeLimite(imagem(800, 400, BufferedImage.TYPE_INT_RGB, "jpeg"))).isFalse();
+        assertThat(GeradorVariantesAvatar.excedeLimite(comDimensoes(imagem(10, 10, BufferedImage.TYPE_INT_RGB, "png"), 4000, 4000))).isFalse();
+        assertThat(GeradorVariantesAvatar.excedeLimite(comDimensoes(imagem(10, 10, BufferedImage.TYPE_INT_RGB, "png"), 4001, 4000))).isTrue();
+        assertThat(GeradorVariantesAvatar.excedeLimite(new byte[] { 'R', 'I', 'F', 'F', 0, 0 })).isFalse();
+    }
+
+    /** Reescreve largura e altura do IHDR (e o CRC do bloco) sem mexer nos dados da imagem. */
+    private static byte[] comDimensoes(byte[] png, int largura, int altura) {
+        ByteBuffer buffer = ByteBuffer.wrap(png);
+        buffer.putInt(16, largura);
+        buffer.putInt(20, altura);
+        CRC32 crc = new CRC32();
+        crc.update(png, 12, 17);
+        buffer.putInt(29, (int) crc.getValue());
+        return png;
+    }
+
+    private static byte[] imagem(int largura, int altura, int tipo, String formato) throws Exception {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(largura, altura, tipo), formato, saida);
+        return saida.toByteArray();
+    }
+
+    private static BufferedImage ler(ImagemAvatar imagem) throws Exception {
+        return ImageIO.read(new ByteArrayInputStream(imagem.dados()));
+    }
+}
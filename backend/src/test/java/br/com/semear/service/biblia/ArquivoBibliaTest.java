@@ -0,0 +1,103 @@
+package br.com.semear.service.biblia;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import br.com.semear.domain.enumeration.VersaoBiblia;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ArquivoBibliaTest {
+
+    private static final String TSV = String.join(
+        "\n",
+        "# livro\tnome\tcapitulo\tversiculo\ttexto",
+        "jo2\tJoão\t3\t16\tPorque Deus amou o mundo de tal maneira…",
+        "gn\tGênesis\t1\t2\tA terra, porém, estava sem forma e vazia.",
+        "gn\tGênesis\t1\t1\tNo princípio, criou Deus os céus e a terra.",
+        "",
+        "jo2\tJoão\t1\t1\tNo princípio era o Verbo."
+    );
+
+    @Test
+    void capituloVemEmOrdemComTextoAcentuado() throws IOException {
+        ArquivoBiblia biblia = ArquivoBiblia.de(ByteBuffer.wrap(empacotar(TSV)));
+
+        assertThat(biblia.versao()).isEqualTo(VersaoBiblia.ALMEIDA);
+        assertThat(biblia.livros()).containsExactly(new LivroBiblia("jo2", "João", 3), new LivroBiblia("gn", "Gênesis", 1));
+
+        CapituloBiblia genesis = biblia.capitulo("gn", 1).orElseThrow();
+        assertThat(genesis.livroNome()).isEqualTo("Gênesis");
+        assertThat(genesis.versiculos()).containsExactly(
+            new VersiculoBiblia(1, "No princípio, criou Deus os céus e a terra."),
+            new VersiculoBiblia(2, "A terra, porém, estava sem forma e vazia.")
+        );
+        assertThat(biblia.capitulo("jo2", 3).orElseThrow().versiculos()).containsExactly(
+            new VersiculoBiblia(16, "Porque Deus amou o mundo de tal maneira…")
+        );
+    }
+
+    @Test
+    void capituloAusenteNoIntervaloFicaVazioEForaDoIntervaloNaoExiste() throws IOException {
+        ArquivoBiblia biblia = ArquivoBiblia.de(ByteBuffer.wrap(empacotar(TSV)));
+
+        assertThat(biblia.capitulo("jo2", 2).orElseThrow().versiculos()).isEmpty();
+        assertThat(biblia.capitulo("jo2", 4)).isEmpty();
+        assertThat(biblia.capitulo("ap", 1)).isEmpty();
+        assertThat(biblia.capitulo("gn", 0)).isEmpty();
+    }
+
+    @Test
+    void etagAcompanhaOConteudo() throws IOException {
+        ArquivoBiblia original = ArquivoBiblia.de(ByteBuffer.wrap(empacotar(TSV)));
+        ArquivoBiblia mesmoTexto = ArquivoBiblia.de(ByteBuffer.wrap(empacotar(TSV)));
+        ArquivoBiblia revisado = ArquivoBiblia.de(ByteBuffer.wrap(empacotar(TSV.replace("vazia", "vazia;"))));
+
+        String etag = original.capitulo("gn", 1).orElseThrow().etag();
+        assertThat(etag).startsWith("\"almeida-").endsWith("-gn.1\"");
+        assertThat(mesmoTexto.capitulo("gn", 1).orElseThrow().etag()).isEqualTo(etag);
+        assertThat(revisado.capitulo("gn", 1).orElseThrow().etag()).isNotEqualTo(etag);
+    }
+
+    @Test
+    void localizaVersiculoPelaPosicaoGlobal() throws IOException {
+        ArquivoBiblia biblia = ArquivoBiblia.de(ByteBuffer.wrap(empacotar(TSV)));
+
+        assertThat(biblia.totalVersiculos()).isEqualTo(4);
+        assertThat(biblia.localizar(1, 2.5)).isEqualTo(
+            new VersiculoEncontrado("jo2", "João", 3, 16, "Porque Deus amou o mundo de tal maneira…", 2.5)
+        );
+        assertThat(biblia.localizar(3, 0).capitulo()).isEqualTo(1);
+        assertThat(biblia.localizar(3, 0).livroId()).isEqualTo("gn");
+    }
+
+    @Test
+    void leArquivoMapeadoEmMemoria(@TempDir Path dir) throws IOException {
+        Path arquivo = dir.resolve("almeida.smb");
+        Files.write(arquivo, empacotar(TSV));
+
+        assertThat(ArquivoBiblia.abrir(arquivo).capitulo("jo2", 1).orElseThrow().versiculos()).hasSize(1);
+    }
+
+    @Test
+    void rejeitaEntradaInvalida() {
+        assertThatThrownBy(() -> empacotar("gn\tGênesis\t1\t1\tA\ngn\tGênesis\t1\t1\tB"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Linha 2");
+        assertThatThrownBy(() -> empacotar("gn\tGênesis\t1")).hasMessageContaining("5 campos");
+        assertThatThrownBy(() -> ArquivoBiblia.de(ByteBuffer.wrap(new byte[16]))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] empacotar(String tsv) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        new EmpacotadorBiblia(VersaoBiblia.ALMEIDA).lerTsv(new ByteArrayInputStream(tsv.getBytes(StandardCharsets.UTF_8))).gravar(saida);
+        return saida.toByteArray();
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.semear.service.biblia;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import br.com.semear.domain.NotaBiblia;
+import br.com.semear.repository.NotaBibliaRepository;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BuscaNotasBibliaServiceTest {
+
+    private final NotaBibliaRepository notaBibliaRepository = mock(NotaBibliaRepository.class);
+    private final BuscaNotasBibliaService service = new BuscaNotasBibliaService(notaBibliaRepository);
+
+    @Test
+    void camposNulosNaoViramAPalavraNull() {
+        NotaBiblia semLivro = new NotaBiblia().livroNome(null).conteudo("Deus é amor");
+        NotaBiblia semConteudo = new NotaBiblia().livroNome("Romanos").conteudo(null);
+        when(notaBibliaRepository.findByUsuarioIsCurrentUser()).thenReturn(List.of(semLivro, semConteudo));
+
+        assertThat(service.buscar("null", 10)).isEmpty();
+        assertThat(service.buscar("amor", 10)).containsExactly(semLivro);
+        assertThat(service.buscar("romanos", 10)).containsExactly(semConteudo);
+    }
+}
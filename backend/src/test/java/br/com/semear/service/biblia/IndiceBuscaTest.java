@@ -0,0 +1,81 @@
+package br.com.semear.service.biblia;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class IndiceBuscaTest {
+
+    private static final List<String> VERSICULOS = List.of(
+        "No princípio, criou Deus os céus e a terra.",
+        "Porque Deus amou o mundo de tal maneira que deu o seu Filho unigênito.",
+        "O Senhor é o meu pastor; nada me faltará.",
+        "Deus é o nosso refúgio e fortaleza, socorro bem presente na angústia.",
+        "Amados, amemos uns aos outros, porque o amor procede de Deus."
+    );
+
+    private final IndiceBusca indice = construir();
+
+    @Test
+    void ignoraAcentosEMaiusculas() {
+        assertThat(documentos("PRINCIPIO")).containsExactly(0);
+        assertThat(documentos("angústia")).containsExactly(3);
+        assertThat(documentos("faltara senhor")).containsExactly(2);
+    }
+
+    @Test
+    void todasAsPalavrasPrecisamAparecer() {
+        assertThat(documentos("deus mundo")).containsExactly(1);
+        assertThat(documentos("deus pastor")).isEmpty();
+        assertThat(documentos("inexistente")).isEmpty();
+    }
+
+    @Test
+    void fraseExigeAOrdem() {
+        assertThat(documentos("\"meu pastor\"")).containsExactly(2);
+        assertThat(documentos("\"pastor meu\"")).isEmpty();
+        assertThat(documentos("\"amou o mundo\" deus")).containsExactly(1);
+    }
+
+    @Test
+    void prefixoExpandeOsTermos() {
+        assertThat(documentos("am*")).containsExactlyInAnyOrder(1, 4);
+        assertThat(documentos("am")).isEmpty();
+    }
+
+    @Test
+    void documentoMaisCurtoComMaisOcorrenciasVemPrimeiro() {
+        List<IndiceBusca.Acerto> acertos = indice.buscar("deus", 10);
+
+        assertThat(acertos).hasSize(4);
+        assertThat(acertos.get(0).documento()).isEqualTo(0);
+        assertThat(acertos).isSortedAccordingTo((a, b) -> Double.compare(b.pontuacao(), a.pontuacao()));
+        assertThat(indice.buscar("deus", 2)).hasSize(2);
+    }
+
+    @Test
+    void persistenciaPreservaResultadosERecusaOutraAssinatura() throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        indice.gravar(saida, "abc");
+
+        IndiceBusca lido = IndiceBusca.ler(new ByteArrayInputStream(saida.toByteArray()), "abc").orElseThrow();
+
+        assertThat(lido.buscar("\"nosso refugio\"", 5)).isEqualTo(indice.buscar("\"nosso refugio\"", 5));
+        assertThat(lido.buscar("am* deus", 5)).isEqualTo(indice.buscar("am* deus", 5));
+        assertThat(IndiceBusca.ler(new ByteArrayInputStream(saida.toByteArray()), "outra")).isEmpty();
+    }
+
+    private List<Integer> documentos(String consulta) {
+        return indice.buscar(consulta, 10).stream().map(IndiceBusca.Acerto::documento).toList();
+    }
+
+    private static IndiceBusca construir() {
+        IndiceBusca.Construtor construtor = IndiceBusca.construtor();
+        VERSICULOS.forEach(construtor::adicionar);
+        return construtor.construir();
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.semear.service.biblia;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.semear.IntegrationTest;
+import br.com.semear.domain.Authority;
+import br.com.semear.domain.NotaBiblia;
+import br.com.semear.domain.User;
+import br.com.semear.domain.enumeration.VersaoBiblia;
+import br.com.semear.repository.AuthorityRepository;
+import br.com.semear.repository.NotaBibliaRepository;
+import br.com.semear.repository.UserRepository;
+import br.com.semear.security.AuthoritiesConstants;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Dados bíblicos gravados antes da sincronização incremental precisam aparecer na primeira sincronização completa.
+ */
+@IntegrationTest
+@Transactional
+class SincronizacaoBibliaServiceIT {
+
+    private static final String LOGIN = "bibliasync";
+    private static final String SCRIPT_LEGADO = "config/liquibase/changelog/20261017000010_biblia_sincronizacao_legado.sql";
+
+    @Autowired
+    private SincronizacaoBibliaService sincronizacaoBibliaService;
+
+    @Autowired
+    private NotaBibliaRepository notaBibliaRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthorityRepository authorityRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManager em;
+
+    private NotaBiblia notaAntiga;
+
+    @BeforeEach
+    void setUp() {
+        Authority membro = authorityRepository.findById(AuthoritiesConstants.MEMBRO).orElseThrow();
+        User user = new User();
+        user.setLogin(LOGIN);
+        user.setPassword("x".repeat(60));
+        user.setEmail(LOGIN + "@test.com");
+        user.setActivated(true);
+        user.getAuthorities().add(membro);
+        user = userRepository.save(user);
+
+        // Gravada sem carimbo, como as linhas que já existiam quando a coluna versao_sync entrou com default 0.
+        notaAntiga = notaBibliaRepository.save(
+            new NotaBiblia()
+                .chaveReferencia("JHN.3.16")
+                .livroId("JHN")
+                .livroNome("João")
+                .capitulo(3)
+                .versiculoInicio(16)
+                .versiculoFim(16)
+                .versao(VersaoBiblia.ALMEIDA)
+                .conteudo("Nota antiga")
+                .criadoEm(Instant.now())
+                .atualizadoEm(Instant.now())
+                .usuario(user)
+        );
+        em.flush();
+        em.clear();
+        cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE).clear();
+    }
+
+    @Test
+    @WithMockUser(username = LOGIN, authorities = AuthoritiesConstants.MEMBRO)
+    void linhaAnteriorASincronizacaoVoltaNaSincronizacaoCompleta() throws IOException {
+        assertThat(sincronizacaoBibliaService.alteracoesDesde(0).notas()).isEmpty();
+
+        jdbcTemplate.execute(new ClassPathResource(SCRIPT_LEGADO).getContentAsString(StandardCharsets.UTF_8));
+        em.clear();
+
+        AlteracoesBiblia alteracoes = sincronizacaoBibliaService.alteracoesDesde(0);
+        assertThat(alteracoes.cursor()).isEqualTo(1);
+        assertThat(alteracoes.notas()).extracting(NotaBiblia::getId).containsExactly(notaAntiga.getId());
+    }
+}
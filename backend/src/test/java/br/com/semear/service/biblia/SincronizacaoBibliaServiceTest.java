@@ -0,0 +1,164 @@
+package br.com.semear.service.biblia;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.semear.domain.BibliaSyncRemocao;
+import br.com.semear.domain.DestaqueBiblia;
+import br.com.semear.domain.NotaBiblia;
+import br.com.semear.domain.User;
+import br.com.semear.domain.enumeration.TipoDadoBiblia;
+import br.com.semear.repository.BibliaSyncRemocaoRepository;
+import br.com.semear.repository.DestaqueBibliaRepository;
+import br.com.semear.repository.FavoritoBibliaRepository;
+import br.com.semear.repository.HistoricoLeituraBibliaRepository;
+import br.com.semear.repository.NotaBibliaRepository;
+import br.com.semear.repository.ProgressoLeituraUsuarioRepository;
+import br.com.semear.service.BibliaUsuarioAccessService;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+class SincronizacaoBibliaServiceTest {
+
+    private static final Long USUARIO = 7L;
+
+    private final BibliaUsuarioAccessService acesso = mock(BibliaUsuarioAccessService.class);
+    private final BibliaSyncRemocaoRepository remocaoRepository = mock(BibliaSyncRemocaoRepository.class);
+    private final NotaBibliaRepository notaRepository = mock(NotaBibliaRepository.class);
+    private final DestaqueBibliaRepository destaqueRepository = mock(DestaqueBibliaRepository.class);
+
+    private final SincronizacaoBibliaService service = new SincronizacaoBibliaService(
+        acesso,
+        remocaoRepository,
+        notaRepository,
+        destaqueRepository,
+        mock(FavoritoBibliaRepository.class),
+        mock(HistoricoLeituraBibliaRepository.class),
+        mock(ProgressoLeituraUsuarioRepository.class)
+    );
+
+    @BeforeEach
+    void setUp() {
+        when(acesso.getUsuarioIdAtual()).thenReturn(USUARIO);
+    }
+
+    @Test
+    void semPaginaCheiaDevolveTudoAteOContador() {
+        when(remocaoRepository.versaoAtual(USUARIO)).thenReturn(5L);
+        when(notaRepository.findAlteradosDesde(eq(USUARIO), eq(2L), eq(5L), any(Limit.class))).thenReturn(
+            List.of(nota(1L, 3), nota(2L, 5))
+        );
+        when(remocaoRepository.findAlteradosDesde(eq(USUARIO), eq(2L), eq(5L), any(Limit.class))).thenReturn(
+            List.of(remocao(TipoDadoBiblia.DESTAQUE, 40L, 4))
+        );
+
+        AlteracoesBiblia alteracoes = service.alteracoesDesde(2);
+
+        assertThat(alteracoes.cursor()).isEqualTo(5);
+        assertThat(alteracoes.temMais()).isFalse();
+        assertThat(alteracoes.notas()).extracting(NotaBiblia::getId).containsExactly(1L, 2L);
+        assertThat(alteracoes.removidos()).containsExactly(new AlteracoesBiblia.Remocao(TipoDadoBiblia.DESTAQUE, 40L));
+    }
+
+    @Test
+    void paginaCheiaCortaTodosOsTiposAntesDaPrimeiraVersaoQueFicouDeFora() {
+        when(remocaoRepository.versaoAtual(USUARIO)).thenReturn(2000L);
+        List<NotaBiblia> notas = new ArrayList<>();
+        for (int i = 0; i <= SincronizacaoBibliaService.LIMITE; i++) {
+            notas.add(nota((long) i, i < 4 ? 1 + i : 600 + i));
+        }
+        when(notaRepository.findAlteradosDesde(eq(USUARIO), eq(0L), eq(2000L), any(Limit.class))).thenReturn(notas);
+        when(destaqueRepository.findAlteradosDesde(eq(USUARIO), eq(0L), eq(2000L), any(Limit.class))).thenReturn(
+            List.of(destaque(1L, 5), destaque(2L, 6), destaque(3L, 12))
+        );
+
+        AlteracoesBiblia alteracoes = service.alteracoesDesde(0);
+
+        // A 501ª nota tem versão 1100: o cursor fica em 1099, depois de todas as notas entregues.
+        assertThat(alteracoes.cursor()).isEqualTo(1099);
+        assertThat(alteracoes.temMais()).isTrue();
+        assertThat(alteracoes.notas()).hasSize(SincronizacaoBibliaService.LIMITE);
+        assertThat(alteracoes.destaques()).extracting(DestaqueBiblia::getId).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void cadaLinhaGravadaRecebeUmaVersaoPropria() {
+        when(remocaoRepository.versaoAtual(USUARIO)).thenReturn(4L, 5L);
+        User usuario = new User();
+        usuario.setId(USUARIO);
+        NotaBiblia primeira = new NotaBiblia();
+        primeira.setUsuario(usuario);
+        NotaBiblia segunda = new NotaBiblia();
+        segunda.setUsuario(usuario);
+
+        service.carimbar(primeira);
+        service.carimbar(segunda);
+
+        assertThat(primeira.getVersaoSync()).isEqualTo(4);
+        assertThat(segunda.getVersaoSync()).isEqualTo(5);
+        verify(remocaoRepository, times(2)).incrementarVersao(USUARIO);
+    }
+
+    @Test
+    void sincronizacaoCompletaDevolveDadosNumeradosPeloLegado() {
+        // Estado deixado pelo script de legado: linha antiga com versão 1 e contador criado em 1.
+        when(remocaoRepository.versaoAtual(USUARIO)).thenReturn(1L);
+        when(notaRepository.findAlteradosDesde(eq(USUARIO), eq(0L), eq(1L), any(Limit.class))).thenReturn(List.of(nota(9L, 1)));
+
+        AlteracoesBiblia alteracoes = service.alteracoesDesde(0);
+
+        assertThat(alteracoes.cursor()).isEqualTo(1);
+        assertThat(alteracoes.notas()).extracting(NotaBiblia::getId).containsExactly(9L);
+    }
+
+    @Test
+    void cursorAlemDoContadorRecomecaDoZero() {
+        when(remocaoRepository.versaoAtual(USUARIO)).thenReturn(3L);
+
+        AlteracoesBiblia alteracoes = service.alteracoesDesde(99);
+
+        assertThat(alteracoes.cursor()).isEqualTo(3);
+        verify(notaRepository).findAlteradosDesde(eq(USUARIO), eq(0L), eq(3L), any(Limit.class));
+    }
+
+    @Test
+    void cursorEmDiaNaoConsultaAsTabelas() {
+        when(remocaoRepository.versaoAtual(USUARIO)).thenReturn(8L);
+
+        AlteracoesBiblia alteracoes = service.alteracoesDesde(8);
+
+        assertThat(alteracoes.cursor()).isEqualTo(8);
+        assertThat(alteracoes.temMais()).isFalse();
+        verify(notaRepository, never()).findAlteradosDesde(any(), anyLong(), anyLong(), any(Limit.class));
+    }
+
+    private static NotaBiblia nota(Long id, long versao) {
+        NotaBiblia nota = new NotaBiblia().id(id);
+        nota.setVersaoSync(versao);
+        return nota;
+    }
+
+    private static DestaqueBiblia destaque(Long id, long versao) {
+        DestaqueBiblia destaque = new DestaqueBiblia().id(id);
+        destaque.setVersaoSync(versao);
+        return destaque;
+    }
+
+    private static BibliaSyncRemocao remocao(TipoDadoBiblia tipo, Long entidadeId, long versao) {
+        BibliaSyncRemocao remocao = new BibliaSyncRemocao();
+        remocao.setTipo(tipo);
+        remocao.setEntidadeId(entidadeId);
+        remocao.setVersaoSync(versao);
+        return remocao;
+    }
+}
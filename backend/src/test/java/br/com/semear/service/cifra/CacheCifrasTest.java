@@ -0,0 +1,284 @@
+package br.com.semear.service.cifra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import br.com.semear.service.CifraClubService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Exercita o cache e o limitador contra um servidor HTML local que faz o papel do Cifra Club. */
+class CacheCifrasTest {
+
+    private static final String PAGINA_MUSICA = "<html><body><pre><b>C</b>        G\nSanto, santo é o Senhor\n</pre></body></html>";
+
+    private final Map<String, AtomicInteger> acessos = new ConcurrentHashMap<>();
+    private final AtomicInteger simultaneas = new AtomicInteger();
+    private final AtomicInteger maxSimultaneas = new AtomicInteger();
+    private final ArmazemMemoria armazem = new ArmazemMemoria();
+    private final ExecutorService clientes = Executors.newFixedThreadPool(8);
+    private HttpServer servidor;
+    private String baseUrl;
+
+    @BeforeEach
+    void iniciarServidor() throws IOException {
+        servidor = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        servidor.createContext("/", this::responder);
+        servidor.setExecutor(Executors.newCachedThreadPool());
+        servidor.start();
+        baseUrl = "http://127.0.0.1:" + servidor.getAddress().getPort() + "/";
+    }
+
+    @AfterEach
+    void pararServidor() {
+        servidor.stop(0);
+        clientes.shutdownNow();
+    }
+
+    @Test
+    void buscasSimultaneasDaMesmaMusicaRaspamUmaVez() throws Exception {
+        CifraClubService service = service(new LimitadorHost(8, 0, 10_000), Runnable::run);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<Optional<CifraClubService.ResultadoCifra>>> pedidos = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            pedidos.add(
+                clientes.submit(() -> {
+                    largada.await();
+                    return service.buscarCifra("Artista", "Música", null);
+                })
+            );
+        }
+        largada.countDown();
+
+        for (Future<Optional<CifraClubService.ResultadoCifra>> pedido : pedidos) {
+            assertThat(pedido.get(10, TimeUnit.SECONDS)).get().extracting(CifraClubService.ResultadoCifra::linhas).asList().contains(
+                "Santo, santo é o Senhor"
+            );
+        }
+        assertThat(acessos(baseUrl + "artista/musica/")).isEqualTo(1);
+
+        // Outra igreja com a mesma música (e acentuação diferente) sai do cache.
+        assertThat(service.buscarCifra("ARTISTA", "Musica", null)).isPresent();
+        assertThat(acessos(baseUrl + "artista/musica/")).isEqualTo(1);
+    }
+
+    @Test
+    void buscaSemResultadoTambemFicaGuardada() {
+        CifraClubService service = service(new LimitadorHost(8, 0, 10_000), Runnable::run);
+
+        assertThat(service.buscarCifra("Artista", "Inexistente", null)).isEmpty();
+        assertThat(service.buscarCifra("Artista", "Inexistente", null)).isEmpty();
+
+        assertThat(acessos(baseUrl + "artista/inexistente/")).isEqualTo(1);
+    }
+
+    @Test
+    void falhaTransitoriaNaoViraMusicaInexistente() {
+        CifraClubService service = service(new LimitadorHost(8, 0, 10_000), Runnable::run);
+
+        assertThatThrownBy(() -> service.buscarPorUrl(baseUrl + "instavel/musica/")).isInstanceOf(CifraIndisponivelException.class);
+        assertThat(service.buscarPorUrl(baseUrl + "artista/inexistente/")).isEmpty();
+    }
+
+    @Test
+    void musicaComSiteInstavelNaoFicaComoInexistente() {
+        CifraClubService service = service(new LimitadorHost(8, 0, 10_000), Runnable::run);
+
+        assertThat(service.buscarCifra("Instavel", "Musica", null)).isEmpty();
+
+        assertThat(armazem.ler("cifra|instavel|musica|")).isEmpty();
+        assertThat(acessos(baseUrl + "instavel/musica/")).isEqualTo(1);
+    }
+
+    @Test
+    void buscaQueFalhouNaoFicaGuardada() {
+        CacheCifras cache = new CacheCifras(armazem, Duration.ofDays(30), Duration.ofHours(12), Runnable::run);
+        ConteudoCifra conteudo = new ConteudoCifra(baseUrl + "artista/musica/", List.of("Santo"));
+
+        Optional<ConteudoCifra> falhou = cache.obter("cifra|artista|musica|", () -> {
+            throw new CifraIndisponivelException("503");
+        });
+
+        assertThat(falhou).isEmpty();
+        assertThat(armazem.ler("cifra|artista|musica|")).isEmpty();
+        assertThat(cache.obter("cifra|artista|musica|", () -> Optional.of(conteudo))).contains(conteudo);
+    }
+
+    @Test
+    void renovacaoQueFalhaMantemAEntradaAnterior() {
+        String chave = "cifra|artista|musica|";
+        ConteudoCifra antigo = new ConteudoCifra(baseUrl + "artista/musica/", List.of("versão antiga"));
+        Instant buscadoEm = Instant.now().minus(Duration.ofDays(60));
+        armazem.gravar(chave, Optional.of(antigo), buscadoEm);
+        CacheCifras cache = new CacheCifras(armazem, Duration.ofDays(30), Duration.ofHours(12), Runnable::run);
+
+        assertThat(cache.obter(chave, () -> {
+            throw new CifraIndisponivelException("timeout");
+        })).contains(antigo);
+
+        assertThat(armazem.ler(chave)).contains(new EntradaCacheCifra(Optional.of(antigo), buscadoEm));
+    }
+
+    @Test
+    void entradaVencidaRespondeDoCacheERenovaEmSegundoPlano() {
+        String chave = "cifra|artista|musica|";
+        ConteudoCifra antigo = new ConteudoCifra(baseUrl + "artista/musica/", List.of("versão antiga"));
+        armazem.gravar(chave, Optional.of(antigo), Instant.now().minus(Duration.ofDays(60)));
+        CifraClubService service = service(new LimitadorHost(8, 0, 10_000), Runnable::run);
+
+        Optional<CifraClubService.ResultadoCifra> resposta = service.buscarCifra("Artista", "Musica", null);
+
+        assertThat(resposta).get().extracting(CifraClubService.ResultadoCifra::linhas).isEqualTo(List.of("versão antiga"));
+        assertThat(armazem.ler(chave).orElseThrow().conteudo().orElseThrow().linhas()).contains("Santo, santo é o Senhor");
+    }
+
+    @Test
+    void leiturasDaEntradaVencidaEnquantoARenovacaoEsperaNaFilaNaoEnfileiramOutra() {
+        String chave = "cifra|artista|musica|";
+        ConteudoCifra antigo = new ConteudoCifra(baseUrl + "artista/musica/", List.of("versão antiga"));
+        ConteudoCifra novo = new ConteudoCifra(baseUrl + "artista/musica/", List.of("versão nova"));
+        armazem.gravar(chave, Optional.of(antigo), Instant.now().minus(Duration.ofDays(60)));
+        List<Runnable> fila = new ArrayList<>();
+        AtomicInteger buscas = new AtomicInteger();
+        CacheCifras cache = new CacheCifras(armazem, Duration.ofDays(30), Duration.ofHours(12), fila::add);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(
+                cache.obter(chave, () -> {
+                    buscas.incrementAndGet();
+                    return Optional.of(novo);
+                })
+            ).contains(antigo);
+        }
+        assertThat(fila).hasSize(1);
+
+        fila.remove(0).run();
+        assertThat(buscas.get()).isEqualTo(1);
+        assertThat(cache.obter(chave, Optional::empty)).contains(novo);
+        assertThat(fila).isEmpty();
+    }
+
+    @Test
+    void renovacaoRecusadaPelaFilaCheiaTentaDeNovoNaProximaLeitura() {
+        String chave = "cifra|artista|musica|";
+        ConteudoCifra antigo = new ConteudoCifra(baseUrl + "artista/musica/", List.of("versão antiga"));
+        armazem.gravar(chave, Optional.of(antigo), Instant.now().minus(Duration.ofDays(60)));
+        AtomicInteger tentativas = new AtomicInteger();
+        CacheCifras cache = new CacheCifras(armazem, Duration.ofDays(30), Duration.ofHours(12), tarefa -> {
+            tentativas.incrementAndGet();
+            throw new RejectedExecutionException("fila cheia");
+        });
+
+        assertThat(cache.obter(chave, Optional::empty)).contains(antigo);
+        assertThat(cache.obter(chave, Optional::empty)).contains(antigo);
+
+        assertThat(tentativas.get()).isEqualTo(2);
+    }
+
+    @Test
+    void limitadorSeguraAsRequisicoesSimultaneasAoMesmoHost() throws Exception {
+        CifraClubService service = service(new LimitadorHost(2, 0, 10_000), Runnable::run);
+        List<Future<Optional<CifraClubService.ResultadoCifra>>> pedidos = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            String url = baseUrl + "lento/musica-" + i + "/";
+            pedidos.add(clientes.submit(() -> service.buscarPorUrl(url)));
+        }
+        for (Future<Optional<CifraClubService.ResultadoCifra>> pedido : pedidos) {
+            assertThat(pedido.get(10, TimeUnit.SECONDS)).isPresent();
+        }
+        assertThat(maxSimultaneas.get()).isBetween(1, 2);
+    }
+
+    @Test
+    void limitadorEspacaOInicioDasRequisicoes() throws Exception {
+        LimitadorHost limitador = new LimitadorHost(4, 20, 10_000);
+        List<Long> inicios = Collections.synchronizedList(new ArrayList<>());
+        List<Future<Object>> chamadas = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            chamadas.add(clientes.submit(() -> limitador.executar("https://exemplo.test/x", () -> inicios.add(System.nanoTime()))));
+        }
+        for (Future<Object> chamada : chamadas) {
+            chamada.get(5, TimeUnit.SECONDS);
+        }
+        List<Long> ordenados = new ArrayList<>(inicios);
+        Collections.sort(ordenados);
+        for (int i = 1; i < ordenados.size(); i++) {
+            assertThat(ordenados.get(i) - ordenados.get(i - 1)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(45));
+        }
+    }
+
+    private CifraClubService service(LimitadorHost limitador, Executor renovacao) {
+        CacheCifras cache = new CacheCifras(armazem, Duration.ofDays(30), Duration.ofHours(12), renovacao);
+        return new CifraClubService(baseUrl, cache, limitador, new ResolvedorCandidatas(8, 5_000));
+    }
+
+    private int acessos(String url) {
+        AtomicInteger contador = acessos.get(url.substring(baseUrl.length() - 1));
+        return contador == null ? 0 : contador.get();
+    }
+
+    private void responder(HttpExchange troca) throws IOException {
+        String caminho = troca.getRequestURI().getPath();
+        acessos.computeIfAbsent(caminho, ignorado -> new AtomicInteger()).incrementAndGet();
+        int agora = simultaneas.incrementAndGet();
+        maxSimultaneas.accumulateAndGet(agora, Math::max);
+        try {
+            if (caminho.equals("/artista/musica/") || caminho.startsWith("/lento/")) {
+                Thread.sleep(150);
+                byte[] corpo = PAGINA_MUSICA.getBytes(StandardCharsets.UTF_8);
+                troca.getResponseHeaders().add("Content-Type", "text/html; charset=utf-8");
+                troca.sendResponseHeaders(200, corpo.length);
+                try (OutputStream saida = troca.getResponseBody()) {
+                    saida.write(corpo);
+                }
+            } else if (caminho.startsWith("/instavel/")) {
+                troca.sendResponseHeaders(503, -1);
+            } else {
+                troca.sendResponseHeaders(404, -1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            simultaneas.decrementAndGet();
+            troca.close();
+        }
+    }
+
+    private static final class ArmazemMemoria implements ArmazemCifras {
+
+        private final Map<String, EntradaCacheCifra> entradas = new ConcurrentHashMap<>();
+
+        @Override
+        public Optional<EntradaCacheCifra> ler(String chave) {
+            return Optional.ofNullable(entradas.get(chave));
+        }
+
+        @Override
+        public void gravar(String chave, Optional<ConteudoCifra> conteudo, Instant buscadoEm) {
+            entradas.put(chave, new EntradaCacheCifra(conteudo, buscadoEm));
+        }
+    }
+}
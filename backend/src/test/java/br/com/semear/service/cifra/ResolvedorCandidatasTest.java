@@ -0,0 +1,142 @@
+package br.com.semear.service.cifra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ResolvedorCandidatasTest {
+
+    private final ResolvedorCandidatas resolvedor = new ResolvedorCandidatas(8, 1_000);
+
+    @AfterEach
+    void encerrar() {
+        resolvedor.encerrar();
+    }
+
+    @Test
+    void candidatasLentasCustamUmTimeoutENaoASoma() {
+        Function<String, Optional<String>> busca = url -> {
+            dormir(300);
+            return url.equals("c") ? Optional.of("cifra") : Optional.empty();
+        };
+        List<CandidataCifra> candidatas = List.of(candidata("a"), candidata("b"), candidata("c"));
+
+        long inicio = System.nanoTime();
+        Optional<String> resultado = resolvedor.primeira(candidatas, busca, resolvedor.novoPrazo());
+
+        assertThat(resultado).contains("cifra");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio)).isLessThan(800);
+    }
+
+    @Test
+    void prazoEsgotadoDesisteECancelaAsCandidatas() throws InterruptedException {
+        CountDownLatch interrompidas = new CountDownLatch(2);
+        Function<String, Optional<String>> busca = url -> {
+            try {
+                Thread.sleep(10_000);
+                return Optional.of(url);
+            } catch (InterruptedException e) {
+                interrompidas.countDown();
+                return Optional.empty();
+            }
+        };
+
+        long inicio = System.nanoTime();
+
+        // Prazo esgotado não é "nenhuma candidata existe": sai como indisponível, para não ir ao cache.
+        assertThatThrownBy(() -> resolvedor.primeira(List.of(candidata("a"), candidata("b")), busca, System.nanoTime() + 200_000_000L))
+            .isInstanceOf(CifraIndisponivelException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio)).isLessThan(1_000);
+        assertThat(interrompidas.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void semResultadoSoEDefinitivoQuandoTodasResponderam() {
+        Function<String, Optional<String>> inexistente = url -> Optional.empty();
+        Function<String, Optional<String>> umaFalha = url -> {
+            if (url.equals("b")) {
+                throw new CifraIndisponivelException("503");
+            }
+            return Optional.empty();
+        };
+        List<CandidataCifra> candidatas = List.of(candidata("a"), candidata("b"));
+
+        assertThat(resolvedor.primeira(candidatas, inexistente, resolvedor.novoPrazo())).isEmpty();
+        assertThatThrownBy(() -> resolvedor.primeira(candidatas, umaFalha, resolvedor.novoPrazo())).isInstanceOf(
+            CifraIndisponivelException.class
+        );
+    }
+
+    @Test
+    void coletaComEntradaQueFalhouSaiIncompleta() {
+        Function<String, List<String>> busca = entrada -> {
+            if (entrada.equals("ruim")) {
+                throw new CifraIndisponivelException("timeout");
+            }
+            return List.of(entrada + "/musica/");
+        };
+
+        ResolvedorCandidatas.Coleta<String> completa = resolvedor.todas(List.of("a", "b"), busca, resolvedor.novoPrazo());
+        ResolvedorCandidatas.Coleta<String> incompleta = resolvedor.todas(List.of("a", "ruim"), busca, resolvedor.novoPrazo());
+
+        assertThat(completa.completa()).isTrue();
+        assertThat(completa.itens()).containsExactly("a/musica/", "b/musica/");
+        assertThat(incompleta.completa()).isFalse();
+        assertThat(incompleta.itens()).containsExactly("a/musica/");
+    }
+
+    @Test
+    void venceACandidataPreferidaMesmoQuandoOutraRespondeAntes() {
+        Map<String, Long> atrasos = Map.of("preferida", 200L, "rapida", 0L);
+        Function<String, Optional<String>> busca = url -> {
+            dormir(atrasos.get(url));
+            return Optional.of(url);
+        };
+
+        Optional<String> resultado = resolvedor.primeira(
+            List.of(candidata("preferida"), candidata("rapida")),
+            busca,
+            resolvedor.novoPrazo()
+        );
+
+        assertThat(resultado).contains("preferida");
+    }
+
+    @Test
+    void padroesQueMaisAcertamVemPrimeiroNoEmpate() {
+        Function<String, Optional<String>> busca = url -> url.startsWith("bom") ? Optional.of(url) : Optional.empty();
+        for (int i = 0; i < 5; i++) {
+            resolvedor.primeira(List.of(new CandidataCifra("ruim-" + i, "ruim")), busca, resolvedor.novoPrazo());
+            resolvedor.primeira(List.of(new CandidataCifra("bom-" + i, "bom")), busca, resolvedor.novoPrazo());
+        }
+
+        List<CandidataCifra> ordenadas = resolvedor.ordenarPorAcerto(
+            List.of(new CandidataCifra("x", "ruim"), new CandidataCifra("y", "novo"), new CandidataCifra("z", "bom")),
+            Comparator.comparingInt(c -> 0)
+        );
+
+        assertThat(ordenadas).extracting(CandidataCifra::padrao).containsExactly("bom", "novo", "ruim");
+        assertThat(resolvedor.taxaAcerto("bom")).isGreaterThan(resolvedor.taxaAcerto("ruim"));
+    }
+
+    private static CandidataCifra candidata(String url) {
+        return new CandidataCifra(url, url);
+    }
+
+    private static void dormir(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.semear.service.culto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class VersoesAgendaCultoTest {
+
+    private static final Long IGREJA = 7L;
+    private static final Long OUTRA = 8L;
+
+    private final VersoesAgendaCulto versoes = new VersoesAgendaCulto();
+
+    @AfterEach
+    void limparSincronizacao() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void alteracaoAvancaSoAIgrejaAlterada() {
+        versoes.alterou(IGREJA);
+
+        assertThat(versoes.versao(IGREJA)).isPositive();
+        assertThat(versoes.versao(OUTRA)).isZero();
+    }
+
+    @Test
+    void alteracaoSemIgrejaAvancaTodas() {
+        versoes.alterou(IGREJA);
+        long antes = versoes.versao(IGREJA);
+
+        versoes.alterou(null);
+
+        assertThat(versoes.versao(IGREJA)).isGreaterThan(antes);
+        assertThat(versoes.versao(OUTRA)).isPositive();
+    }
+
+    @Test
+    void dentroDeTransacaoSoAplicaAposCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        versoes.alterou(IGREJA);
+        versoes.alterou(IGREJA);
+        assertThat(versoes.versao(IGREJA)).isZero();
+
+        concluir(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(versoes.versao(IGREJA)).isEqualTo(1L);
+    }
+
+    @Test
+    void rollbackDescartaAlteracoes() {
+        TransactionSynchronizationManager.initSynchronization();
+        versoes.alterou(IGREJA);
+
+        concluir(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(versoes.versao(IGREJA)).isZero();
+    }
+
+    private static void concluir(int status) {
+        List<TransactionSynchronization> sincronizacoes = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        sincronizacoes.forEach(s -> s.afterCompletion(status));
+    }
+}
@@ -0,0 +1,154 @@
+package br.com.semear.service.evento;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.semear.domain.EventoInscricao;
+import br.com.semear.domain.enumeration.StatusInscricaoEvento;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class FilaInscricaoEventoTest {
+
+    private static final Long EVENTO = 1L;
+    private static final int PEDIDOS = 1_000;
+
+    private final VagasMemoria vagas = new VagasMemoria();
+    private final FilaInscricaoEvento fila = new FilaInscricaoEvento(vagas);
+    private final ExecutorService clientes = Executors.newFixedThreadPool(64);
+
+    @AfterEach
+    void encerrar() {
+        clientes.shutdownNow();
+    }
+
+    @Test
+    void milInscricoesSimultaneasNaoPassamDaCapacidade() throws Exception {
+        vagas.capacidade = 150;
+
+        List<StatusInscricaoEvento> resultados = simultaneamente(PEDIDOS, i -> fila.reservar(EVENTO));
+
+        assertThat(resultados).filteredOn(s -> s == StatusInscricaoEvento.ATIVA).hasSize(150);
+        assertThat(resultados).filteredOn(s -> s == StatusInscricaoEvento.ESPERA).hasSize(PEDIDOS - 150);
+        assertThat(vagas.ocupadas.get()).isEqualTo(150);
+    }
+
+    @Test
+    void saidasSimultaneasPromovemAFilaNaOrdemDeChegada() throws Exception {
+        vagas.capacidade = 100;
+        List<StatusInscricaoEvento> resultados = simultaneamente(PEDIDOS, i -> fila.reservar(EVENTO));
+        assertThat(resultados).filteredOn(s -> s == StatusInscricaoEvento.ESPERA).hasSize(PEDIDOS - 100);
+        List<EventoInscricao> espera = new ArrayList<>();
+        for (long i = 0; i < PEDIDOS - 100; i++) {
+            espera.add(vagas.entrarNaFila(i));
+        }
+
+        List<List<EventoInscricao>> promovidas = simultaneamente(40, i -> fila.liberar(EVENTO));
+
+        List<EventoInscricao> todas = promovidas.stream().flatMap(List::stream).toList();
+        assertThat(todas).hasSize(40).doesNotHaveDuplicates();
+        assertThat(todas).allMatch(i -> i.getStatus() == StatusInscricaoEvento.ATIVA);
+        assertThat(todas).containsExactlyInAnyOrderElementsOf(espera.subList(0, 40));
+        assertThat(espera.get(40).getStatus()).isEqualTo(StatusInscricaoEvento.ESPERA);
+        assertThat(vagas.ocupadas.get()).isEqualTo(100);
+    }
+
+    @Test
+    void aumentoDeCapacidadePromoveSoOQueCabe() {
+        vagas.capacidade = 1;
+        assertThat(fila.reservar(EVENTO)).isEqualTo(StatusInscricaoEvento.ATIVA);
+        vagas.entrarNaFila(10L);
+        vagas.entrarNaFila(11L);
+        vagas.entrarNaFila(12L);
+
+        vagas.capacidade = 3;
+        List<EventoInscricao> promovidas = fila.promover(EVENTO);
+
+        assertThat(promovidas).extracting(EventoInscricao::getId).containsExactly(10L, 11L);
+        assertThat(vagas.ocupadas.get()).isEqualTo(3);
+    }
+
+    @Test
+    void vagaLiberadaSemFilaVoltaAoContador() {
+        vagas.capacidade = 2;
+        fila.reservar(EVENTO);
+        fila.reservar(EVENTO);
+
+        assertThat(fila.liberar(EVENTO)).isEmpty();
+        assertThat(vagas.ocupadas.get()).isEqualTo(1);
+        assertThat(fila.reservar(EVENTO)).isEqualTo(StatusInscricaoEvento.ATIVA);
+        assertThat(fila.reservar(EVENTO)).isEqualTo(StatusInscricaoEvento.ESPERA);
+    }
+
+    private <T> List<T> simultaneamente(int quantidade, Tarefa<T> tarefa) throws Exception {
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<T>> pedidos = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            int indice = i;
+            Callable<T> chamada = () -> {
+                largada.await();
+                return tarefa.executar(indice);
+            };
+            pedidos.add(clientes.submit(chamada));
+        }
+        largada.countDown();
+        List<T> resultados = new ArrayList<>(quantidade);
+        for (Future<T> pedido : pedidos) {
+            resultados.add(pedido.get(10, TimeUnit.SECONDS));
+        }
+        return resultados;
+    }
+
+    private interface Tarefa<T> {
+        T executar(int indice);
+    }
+
+    /** Mesmo contrato do update condicional em {@code evento.vagas_ocupadas} e da fila com {@code SKIP LOCKED}. */
+    private static final class VagasMemoria implements VagasEvento {
+
+        private volatile int capacidade;
+        private final AtomicInteger ocupadas = new AtomicInteger();
+        private final ConcurrentLinkedQueue<EventoInscricao> espera = new ConcurrentLinkedQueue<>();
+
+        EventoInscricao entrarNaFila(Long id) {
+            EventoInscricao inscricao = new EventoInscricao();
+            inscricao.setId(id);
+            inscricao.setStatus(StatusInscricaoEvento.ESPERA);
+            espera.add(inscricao);
+            return inscricao;
+        }
+
+        @Override
+        public boolean ocupar(Long eventoId) {
+            while (true) {
+                int atual = ocupadas.get();
+                if (atual >= capacidade) {
+                    return false;
+                }
+                if (ocupadas.compareAndSet(atual, atual + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public void liberar(Long eventoId) {
+            ocupadas.getAndUpdate(atual -> Math.max(0, atual - 1));
+        }
+
+        @Override
+        public Optional<EventoInscricao> proximaDaEspera(Long eventoId) {
+            return Optional.ofNullable(espera.poll());
+        }
+    }
+}
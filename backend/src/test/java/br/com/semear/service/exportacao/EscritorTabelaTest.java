@@ -0,0 +1,86 @@
+package br.com.semear.service.exportacao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import br.com.semear.web.rest.errors.BadRequestAlertException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.Test;
+
+class EscritorTabelaTest {
+
+    @Test
+    void csvEscapaSeparadoresAspasEQuebras() throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        try (EscritorTabela escritor = FormatoExportacao.CSV.abrir(saida, "ignorado")) {
+            escritor.cabecalho("descricao", "valor", "data");
+            escritor.linha("Oferta, culto \"jovem\"", new BigDecimal("1E+3"), LocalDate.of(2026, 10, 17));
+            escritor.linha("linha\nquebrada", null, null);
+        }
+
+        assertThat(saida.toString(StandardCharsets.UTF_8)).isEqualTo(
+            "descricao,valor,data\n\"Oferta, culto \"\"jovem\"\"\",1000,2026-10-17\n\"linha\nquebrada\",,\n"
+        );
+    }
+
+    @Test
+    void xlsxGeraPacoteComPlanilhaEmFluxo() throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        try (EscritorTabela escritor = FormatoExportacao.XLSX.abrir(saida, "Lançamentos: 2026/10")) {
+            escritor.cabecalho("Nome", "Valor", "Data");
+            escritor.linha("Ana & <Bia>\u0001", new BigDecimal("12.50"), LocalDate.of(1900, 3, 1));
+        }
+
+        Map<String, String> partes = lerZip(saida.toByteArray());
+        assertThat(partes).containsKeys(
+            "[Content_Types].xml",
+            "_rels/.rels",
+            "xl/workbook.xml",
+            "xl/_rels/workbook.xml.rels",
+            "xl/styles.xml",
+            "xl/worksheets/sheet1.xml"
+        );
+        assertThat(partes.get("xl/workbook.xml")).contains("name=\"Lançamentos  2026 10\"");
+        String planilha = partes.get("xl/worksheets/sheet1.xml");
+        assertThat(planilha)
+            .contains("<row r=\"1\"><c r=\"A1\" s=\"1\" t=\"inlineStr\">")
+            .contains("<t xml:space=\"preserve\">Ana &amp; &lt;Bia&gt;</t>")
+            .contains("<c r=\"B2\" s=\"4\"><v>12.50</v></c>")
+            .contains("<c r=\"C2\" s=\"2\"><v>61</v></c>")
+            .endsWith("</sheetData></worksheet>");
+    }
+
+    @Test
+    void referenciaDeColunasAlemDeZ() {
+        assertThat(EscritorXlsx.referencia(0, 1)).isEqualTo("A1");
+        assertThat(EscritorXlsx.referencia(25, 2)).isEqualTo("Z2");
+        assertThat(EscritorXlsx.referencia(26, 3)).isEqualTo("AA3");
+        assertThat(EscritorXlsx.referencia(701, 4)).isEqualTo("ZZ4");
+        assertThat(EscritorXlsx.referencia(702, 5)).isEqualTo("AAA5");
+    }
+
+    @Test
+    void formatoInvalidoEhRejeitado() {
+        assertThat(FormatoExportacao.de(" XLSX ")).isEqualTo(FormatoExportacao.XLSX);
+        assertThatThrownBy(() -> FormatoExportacao.de("pdf")).isInstanceOf(BadRequestAlertException.class);
+    }
+
+    private static Map<String, String> lerZip(byte[] bytes) throws IOException {
+        Map<String, String> partes = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)) {
+            for (ZipEntry entrada = zip.getNextEntry(); entrada != null; entrada = zip.getNextEntry()) {
+                partes.put(entrada.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return partes;
+    }
+}
@@ -0,0 +1,147 @@
+package br.com.semear.service.lembrete;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.semear.domain.CultoOcorrencia;
+import br.com.semear.domain.CultoRegistro;
+import br.com.semear.domain.Igreja;
+import br.com.semear.domain.enumeration.DiaSemanaCulto;
+import br.com.semear.repository.CultoOcorrenciaRepository;
+import br.com.semear.repository.CultoRegistroRepository;
+import br.com.semear.repository.EscalaItemRepository;
+import br.com.semear.repository.EscalaRepository;
+import br.com.semear.repository.EventoInscricaoRepository;
+import br.com.semear.repository.EventoRepository;
+import br.com.semear.repository.IgrejaRepository;
+import br.com.semear.repository.UserRepository;
+import br.com.semear.repository.UsuarioPreferenciaNotificacaoRepository;
+import br.com.semear.repository.projection.DestinatarioProjection;
+import br.com.semear.service.notificacao.EnvioNotificacao;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class PlanejadorLembretesTest {
+
+    private static final ZoneId ZONE_BR = ZoneId.of("America/Sao_Paulo");
+    private static final LocalDate DOMINGO = LocalDate.of(2026, 10, 18);
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UsuarioPreferenciaNotificacaoRepository preferenciaRepository = mock(UsuarioPreferenciaNotificacaoRepository.class);
+    private final CultoRegistroRepository cultoRegistroRepository = mock(CultoRegistroRepository.class);
+    private final CultoOcorrenciaRepository cultoOcorrenciaRepository = mock(CultoOcorrenciaRepository.class);
+
+    private final PlanejadorLembretes planejador = new PlanejadorLembretes(
+        userRepository,
+        preferenciaRepository,
+        mock(EventoRepository.class),
+        mock(EventoInscricaoRepository.class),
+        mock(EscalaRepository.class),
+        mock(EscalaItemRepository.class),
+        cultoRegistroRepository,
+        cultoOcorrenciaRepository,
+        mock(IgrejaRepository.class)
+    );
+
+    @Test
+    void cultosForaDaJanelaOuCanceladosNaoBuscamDestinatarios() {
+        CultoRegistro noite = culto(10L, 1L, "19:00");
+        CultoRegistro manha = culto(11L, 1L, "10:00");
+        CultoRegistro cancelado = culto(20L, 2L, "19:00");
+        CultoOcorrencia cancelamento = new CultoOcorrencia();
+        cancelamento.setCultoRegistro(cancelado);
+        cancelamento.setDataEvento(DOMINGO);
+        when(cultoRegistroRepository.findByAtivoTrue()).thenReturn(List.of(noite, manha, cancelado));
+        when(cultoOcorrenciaRepository.findCanceladas(anyCollection(), anyCollection())).thenReturn(List.of(cancelamento));
+        when(preferenciaRepository.findDestinatariosAvisosGeraisPorIgrejas(Set.of(1L))).thenReturn(
+            List.of(destinatario(100L, 1L, "Ana"), destinatario(101L, 1L, "Bia"))
+        );
+
+        List<EnvioNotificacao> envios = planejador.cultosProximos(
+            LocalDateTime.of(DOMINGO, LocalTime.of(17, 5)).atZone(ZONE_BR).toInstant()
+        );
+
+        assertThat(envios).extracting(EnvioNotificacao::userId).containsExactly(100L, 101L);
+        assertThat(envios.get(0).payload()).isSameAs(envios.get(1).payload());
+        assertThat(envios.get(0).payload().getEntidadeId()).isEqualTo(10L);
+        assertThat(envios.get(0).payload().getMensagem()).isEqualTo("\"Culto 10\" começa às 19:00 (em cerca de 2 horas).");
+        assertThat(envios.get(0).payload().isRespeitarHorarioSilencioso()).isFalse();
+    }
+
+    @Test
+    void semCultoNaJanelaNaoConsultaMaisNada() {
+        when(cultoRegistroRepository.findByAtivoTrue()).thenReturn(List.of(culto(10L, 1L, "19:00")));
+
+        assertThat(planejador.cultosProximos(LocalDateTime.of(DOMINGO, LocalTime.of(12, 0)).atZone(ZONE_BR).toInstant())).isEmpty();
+
+        verify(cultoOcorrenciaRepository, never()).findCanceladas(anyCollection(), anyCollection());
+        verify(preferenciaRepository, never()).findDestinatariosAvisosGeraisPorIgrejas(anyCollection());
+    }
+
+    @Test
+    void nascidosEm29DeFevereiroComemoramEm28NosAnosNaoBissextos() {
+        when(userRepository.findAniversariantesDoDia(anyInt(), anyInt(), anyBoolean())).thenReturn(List.of(destinatario(5L, 1L, null)));
+
+        List<EnvioNotificacao> envios = planejador.aniversarios(LocalDate.of(2027, 2, 28));
+        planejador.aniversarios(LocalDate.of(2028, 2, 28));
+
+        verify(userRepository).findAniversariantesDoDia(2, 28, true);
+        verify(userRepository).findAniversariantesDoDia(2, 28, false);
+        assertThat(envios.get(0).payload().getMensagem()).startsWith("Parabéns, irmão(ã)!");
+    }
+
+    @Test
+    void versiculoDoDiaCompartilhaOPayloadDentroDaIgreja() {
+        when(preferenciaRepository.findDestinatariosPush()).thenReturn(
+            List.of(destinatario(1L, 1L, "A"), destinatario(2L, 1L, "B"), destinatario(3L, 2L, "C"))
+        );
+
+        List<EnvioNotificacao> envios = planejador.versiculoDoDia(DOMINGO);
+
+        assertThat(envios).hasSize(3);
+        assertThat(envios.get(0).payload()).isSameAs(envios.get(1).payload()).isNotSameAs(envios.get(2).payload());
+        assertThat(envios.get(2).payload().getIgrejaId()).isEqualTo(2L);
+    }
+
+    private static CultoRegistro culto(Long id, Long igrejaId, String horario) {
+        Igreja igreja = new Igreja();
+        igreja.setId(igrejaId);
+        CultoRegistro culto = new CultoRegistro();
+        culto.setId(id);
+        culto.setIgreja(igreja);
+        culto.setNome("Culto " + id);
+        culto.setDiaSemana(DiaSemanaCulto.DOMINGO);
+        culto.setHorario(horario);
+        return culto;
+    }
+
+    private static DestinatarioProjection destinatario(Long userId, Long igrejaId, String firstName) {
+        return new DestinatarioProjection() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getIgrejaId() {
+                return igrejaId;
+            }
+
+            @Override
+            public String getFirstName() {
+                return firstName;
+            }
+        };
+    }
+}
@@ -0,0 +1,154 @@
+package br.com.semear.service.midia;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MidiaServiceTest {
+
+    private static final byte[] PDF = "%PDF-1.4 conteúdo de teste".getBytes(StandardCharsets.UTF_8);
+    private static final String HASH_AUSENTE = "0".repeat(64);
+
+    @TempDir
+    Path dir;
+
+    private HttpServer servidor;
+
+    @AfterEach
+    void parar() {
+        if (servidor != null) {
+            servidor.stop(0);
+        }
+    }
+
+    @Test
+    void conteudoRepetidoEhGuardadoUmaVez() throws IOException {
+        MidiaService service = new MidiaService(new MidiaStoreLocal(dir.resolve("midia")), dir.resolve("tmp"));
+
+        MidiaGuardada primeira = service.guardar(new ByteArrayInputStream(PDF));
+        MidiaGuardada segunda = service.guardar(new ByteArrayInputStream(PDF));
+
+        assertThat(segunda).isEqualTo(primeira);
+        assertThat(primeira.tamanho()).isEqualTo(PDF.length);
+        assertThat(primeira.hash()).matches("[0-9a-f]{64}");
+        assertThat(arquivos(dir.resolve("midia"))).hasSize(1);
+        assertThat(arquivos(dir.resolve("tmp"))).isEmpty();
+    }
+
+    @Test
+    void arquivoAbertoTemEtagForteETamanhoSemLerOConteudo() throws IOException {
+        MidiaService service = new MidiaService(new MidiaStoreLocal(dir.resolve("midia")), dir.resolve("tmp"));
+        MidiaGuardada midia = service.guardar(new ByteArrayInputStream(PDF));
+
+        ArquivoMidia arquivo = service.abrir(midia.hash(), "application/pdf", "ata.pdf").orElseThrow();
+
+        assertThat(arquivo.etag()).isEqualTo("\"" + midia.hash() + "\"");
+        assertThat(arquivo.tamanho()).isEqualTo(PDF.length);
+        try (InputStream entrada = arquivo.conteudo().getInputStream()) {
+            assertThat(entrada.readAllBytes()).isEqualTo(PDF);
+        }
+        assertThat(service.abrir(HASH_AUSENTE, "application/pdf", "x.pdf")).isEmpty();
+        assertThat(service.abrir("../../etc/passwd", "text/plain", "x")).isEmpty();
+    }
+
+    @Test
+    void storeS3AssinaAsRequisicoesENaoReenviaConteudoExistente() throws IOException {
+        Map<String, byte[]> objetos = new ConcurrentHashMap<>();
+        List<String> requisicoes = new CopyOnWriteArrayList<>();
+        String endpoint = iniciarS3Local(objetos, requisicoes);
+        MidiaStoreS3 store = new MidiaStoreS3(endpoint, "semear", "sa-east-1", "chave", "segredo", "midia/");
+        MidiaService service = new MidiaService(store, dir.resolve("tmp"));
+
+        MidiaGuardada midia = service.guardar(new ByteArrayInputStream(PDF));
+        service.guardar(new ByteArrayInputStream(PDF));
+
+        assertThat(objetos).containsOnlyKeys("/semear/midia/" + midia.hash());
+        assertThat(requisicoes).filteredOn(r -> r.startsWith("PUT")).hasSize(1);
+        assertThat(requisicoes).allMatch(r -> r.contains("AWS4-HMAC-SHA256 Credential=chave/") && r.contains("/sa-east-1/s3/aws4_request"));
+        assertThat(requisicoes.get(1)).contains("sha256=" + midia.hash());
+
+        ArquivoMidia arquivo = service.abrir(midia.hash(), "application/pdf", "ata.pdf").orElseThrow();
+        assertThat(arquivo.tamanho()).isEqualTo(PDF.length);
+        try (InputStream entrada = arquivo.conteudo().getInputStream()) {
+            assertThat(entrada.skip(5)).isEqualTo(5);
+            assertThat(entrada.readAllBytes()).isEqualTo(Arrays.copyOfRange(PDF, 5, PDF.length));
+        }
+        assertThat(requisicoes.get(requisicoes.size() - 1)).startsWith("GET").contains("range=bytes=5-");
+    }
+
+    private String iniciarS3Local(Map<String, byte[]> objetos, List<String> requisicoes) throws IOException {
+        servidor = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        servidor.createContext("/", troca -> responderS3(troca, objetos, requisicoes));
+        servidor.start();
+        return "http://127.0.0.1:" + servidor.getAddress().getPort();
+    }
+
+    private static void responderS3(HttpExchange troca, Map<String, byte[]> objetos, List<String> requisicoes) throws IOException {
+        String caminho = troca.getRequestURI().getPath();
+        String range = troca.getRequestHeaders().getFirst("Range");
+        requisicoes.add(
+            troca.getRequestMethod() +
+            " " +
+            troca.getRequestHeaders().getFirst("Authorization") +
+            " sha256=" +
+            troca.getRequestHeaders().getFirst("x-amz-content-sha256") +
+            (range != null ? " range=" + range : "")
+        );
+        try (troca) {
+            byte[] objeto = objetos.get(caminho);
+            switch (troca.getRequestMethod()) {
+                case "PUT" -> {
+                    objetos.put(caminho, troca.getRequestBody().readAllBytes());
+                    troca.sendResponseHeaders(200, -1);
+                }
+                case "HEAD" -> {
+                    if (objeto == null) {
+                        troca.sendResponseHeaders(404, -1);
+                    } else {
+                        troca.getResponseHeaders().add("Content-Length", String.valueOf(objeto.length));
+                        troca.sendResponseHeaders(200, -1);
+                    }
+                }
+                default -> {
+                    if (objeto == null) {
+                        troca.sendResponseHeaders(404, -1);
+                        return;
+                    }
+                    int inicio = range != null ? Integer.parseInt(range.replaceAll("\\D", "")) : 0;
+                    byte[] corpo = Arrays.copyOfRange(objeto, inicio, objeto.length);
+                    troca.sendResponseHeaders(range != null ? 206 : 200, corpo.length);
+                    try (OutputStream saida = troca.getResponseBody()) {
+                        saida.write(corpo);
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<Path> arquivos(Path raiz) throws IOException {
+        if (!Files.exists(raiz)) {
+            return List.of();
+        }
+        try (Stream<Path> caminhos = Files.walk(raiz)) {
+            return caminhos.filter(Files::isRegularFile).toList();
+        }
+    }
+}
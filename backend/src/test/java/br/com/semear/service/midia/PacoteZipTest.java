@@ -0,0 +1,87 @@
+package br.com.semear.service.midia;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+class PacoteZipTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void imagensEPdfsEntramSemCompressaoEOTamanhoEhExato() throws IOException {
+        byte[] foto = aleatorios(200_000);
+        Path pdf = Files.write(dir.resolve("ata.pdf"), aleatorios(70_000));
+        PacoteZip pacote = new PacoteZip("anexos.zip")
+            .adicionar("tela.png", arquivo(new ByteArrayResource(foto), "image/png"))
+            .adicionar("ata.pdf", arquivo(new FileSystemResource(pdf), "application/pdf"))
+            .adicionar("ação.jpg", arquivo(new ByteArrayResource(foto), "image/jpeg"));
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        pacote.escrever(saida);
+
+        assertThat(pacote.tamanhoTotal()).hasValue(saida.size());
+        Map<String, ZipEntry> entradas = new LinkedHashMap<>();
+        Map<String, byte[]> conteudos = ler(saida.toByteArray(), entradas);
+        assertThat(entradas).containsOnlyKeys("tela.png", "ata.pdf", "ação.jpg");
+        assertThat(entradas.values()).allMatch(e -> e.getMethod() == ZipEntry.STORED);
+        assertThat(conteudos.get("tela.png")).isEqualTo(foto);
+        assertThat(conteudos.get("ata.pdf")).isEqualTo(Files.readAllBytes(pdf));
+    }
+
+    @Test
+    void textoEhComprimidoESemTamanhoPrevio() throws IOException {
+        byte[] log = "linha de log repetida\n".repeat(5_000).getBytes(StandardCharsets.UTF_8);
+        PacoteZip pacote = new PacoteZip("anexos.zip")
+            .adicionar("erro.log", arquivo(new ByteArrayResource(log), "text/plain"))
+            .adicionar("tela.png", arquivo(new ByteArrayResource(aleatorios(1_000)), "image/png"));
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        pacote.escrever(saida);
+
+        assertThat(pacote.tamanhoTotal()).isEmpty();
+        Map<String, ZipEntry> entradas = new LinkedHashMap<>();
+        Map<String, byte[]> conteudos = ler(saida.toByteArray(), entradas);
+        assertThat(entradas.get("erro.log").getMethod()).isEqualTo(ZipEntry.DEFLATED);
+        assertThat(entradas.get("tela.png").getMethod()).isEqualTo(ZipEntry.STORED);
+        assertThat(conteudos.get("erro.log")).isEqualTo(log);
+        assertThat(saida.size()).isLessThan(log.length / 10);
+    }
+
+    private static ArquivoMidia arquivo(Resource conteudo, String contentType) {
+        return new ArquivoMidia(conteudo, contentType, null, null);
+    }
+
+    private static Map<String, byte[]> ler(byte[] zip, Map<String, ZipEntry> entradas) throws IOException {
+        Map<String, byte[]> conteudos = new LinkedHashMap<>();
+        try (ZipInputStream entrada = new ZipInputStream(new ByteArrayInputStream(zip), StandardCharsets.UTF_8)) {
+            for (ZipEntry e; (e = entrada.getNextEntry()) != null;) {
+                entradas.put(e.getName(), e);
+                conteudos.put(e.getName(), entrada.readAllBytes());
+            }
+        }
+        return conteudos;
+    }
+
+    private static byte[] aleatorios(int tamanho) {
+        byte[] bytes = new byte[tamanho];
+        new Random(tamanho).nextBytes(bytes);
+        return bytes;
+    }
+}
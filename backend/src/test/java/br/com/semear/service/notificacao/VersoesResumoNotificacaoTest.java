@@ -0,0 +1,100 @@
+package br.com.semear.service.notificacao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class VersoesResumoNotificacaoTest {
+
+    private static final Long IGREJA = 7L;
+    private static final Long USUARIO = 42L;
+
+    private final List<Object> eventos = new ArrayList<>();
+    private final VersoesResumoNotificacao versoes = new VersoesResumoNotificacao(eventos::add);
+
+    @AfterEach
+    void limparSincronizacao() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void foraDeTransacaoAlteracaoEhVistaNaHora() {
+        assertThat(versoes.versao(IGREJA, USUARIO, SecaoResumo.COMUNICADO)).isZero();
+
+        versoes.alterouIgreja(IGREJA, SecaoResumo.COMUNICADO);
+        long depoisIgreja = versoes.versao(IGREJA, USUARIO, SecaoResumo.COMUNICADO);
+        versoes.alterouUsuario(USUARIO, SecaoResumo.COMUNICADO);
+
+        assertThat(depoisIgreja).isPositive();
+        assertThat(versoes.versao(IGREJA, USUARIO, SecaoResumo.COMUNICADO)).isGreaterThan(depoisIgreja);
+        assertThat(versoes.versao(IGREJA, USUARIO, SecaoResumo.EVENTO)).isZero();
+        assertThat(versoes.versao(8L, 43L, SecaoResumo.COMUNICADO)).isZero();
+    }
+
+    @Test
+    void lembretesObservamOsEventosDaIgreja() {
+        versoes.alterouIgreja(IGREJA, SecaoResumo.EVENTO);
+
+        assertThat(versoes.versao(IGREJA, USUARIO, SecaoResumo.NOTIFICACAO_USUARIO)).isPositive();
+    }
+
+    @Test
+    void assinaturaObservaAPlataforma() {
+        versoes.alterouPlataforma(SecaoResumo.ASSINATURA);
+
+        assertThat(versoes.versao(null, USUARIO, SecaoResumo.ASSINATURA)).isPositive();
+        assertThat(versoes.versao(null, USUARIO, SecaoResumo.DOCUMENTO)).isZero();
+    }
+
+    @Test
+    void dentroDeTransacaoSoAplicaAposCommitEmUmaUnicaVersao() {
+        TransactionSynchronizationManager.initSynchronization();
+        versoes.alterouIgreja(IGREJA, SecaoResumo.ESCALA);
+        versoes.alterouUsuario(USUARIO, SecaoResumo.ESCALA, SecaoResumo.EVENTO);
+
+        assertThat(versoes.versao(IGREJA, USUARIO, SecaoResumo.ESCALA)).isZero();
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+        assertThat(eventos).isEmpty();
+
+        concluir(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(eventos).containsExactly(new ResumoNotificacaoAlterado(Set.of(IGREJA), Set.of(USUARIO), false));
+
+        long escala = versoes.versao(IGREJA, USUARIO, SecaoResumo.ESCALA);
+        assertThat(escala).isPositive().isEqualTo(versoes.versao(IGREJA, USUARIO, SecaoResumo.EVENTO));
+        assertThat(versoes.proximaVersao()).isEqualTo(escala + 1);
+    }
+
+    @Test
+    void rollbackDescartaAsAlteracoes() {
+        TransactionSynchronizationManager.initSynchronization();
+        versoes.alterouIgreja(IGREJA, SecaoResumo.PEDIDO_ORACAO);
+
+        concluir(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(versoes.versao(IGREJA, USUARIO, SecaoResumo.PEDIDO_ORACAO)).isZero();
+        assertThat(eventos).isEmpty();
+    }
+
+    @Test
+    void vistaMapeiaParaASecaoDoTipo() {
+        assertThat(SecaoResumo.daVista("AVISO")).isEqualTo(SecaoResumo.COMUNICADO);
+        assertThat(SecaoResumo.daVista("SAAS")).isEqualTo(SecaoResumo.ASSINATURA);
+        assertThat(SecaoResumo.daVista("DOCUMENTO_VENCENDO")).isEqualTo(SecaoResumo.DOCUMENTO);
+        assertThat(SecaoResumo.daVista("SUPORTE")).isNull();
+    }
+
+    private static void concluir(int status) {
+        var sincronizacoes = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        sincronizacoes.forEach(s -> s.afterCompletion(status));
+    }
+}
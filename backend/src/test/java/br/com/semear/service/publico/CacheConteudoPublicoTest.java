@@ -0,0 +1,115 @@
+package br.com.semear.service.publico;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+class CacheConteudoPublicoTest {
+
+    private final VersoesConteudoPublico versoes = new VersoesConteudoPublico();
+    private final ConcurrentMapCache armazenamento = new ConcurrentMapCache(CacheConteudoPublico.CACHE);
+    private final AtomicInteger montagens = new AtomicInteger();
+    private final ExecutorService visitantes = Executors.newFixedThreadPool(16);
+
+    @AfterEach
+    void encerrar() {
+        visitantes.shutdownNow();
+    }
+
+    @Test
+    void visitasSimultaneasMontamAPaginaUmaVez() throws Exception {
+        CacheConteudoPublico cache = new CacheConteudoPublico(versoes, armazenamento, Duration.ofMinutes(5));
+        CountDownLatch largada = new CountDownLatch(1);
+        Supplier<Optional<PaginaPublica>> lenta = () -> {
+            dormir(150);
+            return pagina(1L, "site");
+        };
+        List<Future<Optional<ConteudoPublico>>> visitas = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            visitas.add(
+                visitantes.submit(() -> {
+                    largada.await();
+                    return cache.obter("igreja:semear", lenta);
+                })
+            );
+        }
+        largada.countDown();
+
+        for (Future<Optional<ConteudoPublico>> visita : visitas) {
+            assertThat(visita.get(5, TimeUnit.SECONDS)).get().extracting(ConteudoPublico::igrejaId).isEqualTo(1L);
+        }
+        assertThat(montagens.get()).isEqualTo(1);
+    }
+
+    @Test
+    void alteracaoDaIgrejaRemontaSoAsPaginasDela() {
+        CacheConteudoPublico cache = new CacheConteudoPublico(versoes, armazenamento, Duration.ofMinutes(5));
+        ConteudoPublico antes = cache.obter("igreja:a", () -> pagina(1L, "v1")).orElseThrow();
+        cache.obter("igreja:b", () -> pagina(2L, "b"));
+
+        versoes.alterou(1L);
+
+        ConteudoPublico depois = cache.obter("igreja:a", () -> pagina(1L, "v2")).orElseThrow();
+        cache.obter("igreja:b", () -> pagina(2L, "b"));
+        assertThat(new String(depois.corpo(), StandardCharsets.UTF_8)).isEqualTo("v2");
+        assertThat(depois.etag()).isNotEqualTo(antes.etag());
+        assertThat(montagens.get()).isEqualTo(3);
+    }
+
+    @Test
+    void etagForteDependeSoDoConteudo() {
+        CacheConteudoPublico cache = new CacheConteudoPublico(versoes, armazenamento, Duration.ofMinutes(5));
+        ConteudoPublico primeiro = cache.obter("evento:1", () -> pagina(1L, "<html>evento</html>")).orElseThrow();
+        versoes.alterou(1L);
+        ConteudoPublico remontado = cache.obter("evento:1", () -> pagina(1L, "<html>evento</html>")).orElseThrow();
+
+        assertThat(primeiro.etag()).startsWith("\"").endsWith("\"").doesNotStartWith("W/");
+        assertThat(remontado.etag()).isEqualTo(primeiro.etag());
+        assertThat(montagens.get()).isEqualTo(2);
+    }
+
+    @Test
+    void paginaNaoEncontradaNaoFicaGuardadaECopiaVencidaEhRemontada() {
+        CacheConteudoPublico cache = new CacheConteudoPublico(versoes, armazenamento, Duration.ZERO);
+
+        assertThat(cache.obter("evento:9", () -> vazia())).isEmpty();
+        assertThat(cache.obter("evento:9", () -> vazia())).isEmpty();
+        cache.obter("evento:1", () -> pagina(1L, "x"));
+        dormir(5);
+        cache.obter("evento:1", () -> pagina(1L, "x"));
+
+        assertThat(montagens.get()).isEqualTo(4);
+    }
+
+    private Optional<PaginaPublica> pagina(Long igrejaId, String corpo) {
+        montagens.incrementAndGet();
+        return Optional.of(new PaginaPublica(igrejaId, corpo.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private Optional<PaginaPublica> vazia() {
+        montagens.incrementAndGet();
+        return Optional.empty();
+    }
+
+    private static void dormir(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
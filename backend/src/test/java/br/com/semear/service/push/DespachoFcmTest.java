@@ -0,0 +1,129 @@
+package br.com.semear.service.push;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class DespachoFcmTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void encerrar() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void divideEmLotesDe500EPreservaOrdem() throws Exception {
+        FcmEmMemoria fcm = new FcmEmMemoria();
+        List<Message> mensagens = mensagens(1_234);
+        fcm.invalidas.add(mensagens.get(0));
+        fcm.invalidas.add(mensagens.get(733));
+
+        List<ResultadoFcm> resultados = new DespachoFcm(fcm, executor, 4, 500, 3, 0).enviar(mensagens);
+
+        assertThat(fcm.tamanhosLote).containsExactlyInAnyOrder(500, 500, 234);
+        assertThat(resultados).hasSize(1_234);
+        assertThat(resultados.get(0).situacao()).isEqualTo(ResultadoFcm.Situacao.TOKEN_INVALIDO);
+        assertThat(resultados.get(733).situacao()).isEqualTo(ResultadoFcm.Situacao.TOKEN_INVALIDO);
+        assertThat(resultados.stream().filter(ResultadoFcm::entregue)).hasSize(1_232);
+    }
+
+    @Test
+    void limitaLotesSimultaneos() throws Exception {
+        FcmEmMemoria fcm = new FcmEmMemoria();
+        fcm.latenciaMs = 20;
+
+        new DespachoFcm(fcm, executor, 2, 10, 1, 0).enviar(mensagens(200));
+
+        assertThat(fcm.tamanhosLote).hasSize(20);
+        assertThat(fcm.maximoSimultaneo.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void reenviaLoteQuandoAChamadaInteiraFalha() throws Exception {
+        FcmEmMemoria fcm = new FcmEmMemoria();
+        fcm.falhasAntesDeResponder.set(2);
+
+        List<ResultadoFcm> resultados = new DespachoFcm(fcm, executor, 1, 500, 3, 1).enviar(mensagens(3));
+
+        assertThat(fcm.chamadas.get()).isEqualTo(3);
+        assertThat(resultados).allMatch(ResultadoFcm::entregue);
+    }
+
+    @Test
+    void esgotadasAsTentativasMarcaFalhaTemporaria() throws Exception {
+        FcmEmMemoria fcm = new FcmEmMemoria();
+        fcm.falhasAntesDeResponder.set(10);
+
+        List<ResultadoFcm> resultados = new DespachoFcm(fcm, executor, 1, 500, 2, 1).enviar(mensagens(3));
+
+        assertThat(fcm.chamadas.get()).isEqualTo(2);
+        assertThat(resultados).extracting(ResultadoFcm::situacao).containsOnly(ResultadoFcm.Situacao.FALHA_TEMPORARIA);
+    }
+
+    @Test
+    void classificaCodigosDoFcm() {
+        assertThat(ResultadoFcm.falha(MessagingErrorCode.UNREGISTERED, "x").situacao()).isEqualTo(ResultadoFcm.Situacao.TOKEN_INVALIDO);
+        assertThat(ResultadoFcm.falha(MessagingErrorCode.UNAVAILABLE, "x").situacao()).isEqualTo(ResultadoFcm.Situacao.FALHA_TEMPORARIA);
+        assertThat(ResultadoFcm.falha(MessagingErrorCode.SENDER_ID_MISMATCH, "x").situacao()).isEqualTo(
+            ResultadoFcm.Situacao.FALHA_DEFINITIVA
+        );
+    }
+
+    private static List<Message> mensagens(int total) {
+        List<Message> mensagens = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) {
+            mensagens.add(Message.builder().setToken("token-" + i).putData("title", "Aviso " + i).build());
+        }
+        return mensagens;
+    }
+
+    /** Dublê do FCM em memória: responde {@code sendEach} por mensagem e registra os lotes recebidos. */
+    private static final class FcmEmMemoria implements FcmGateway {
+
+        final Set<Message> invalidas = Collections.newSetFromMap(new IdentityHashMap<>());
+        final List<Integer> tamanhosLote = new CopyOnWriteArrayList<>();
+        final AtomicInteger chamadas = new AtomicInteger();
+        final AtomicInteger falhasAntesDeResponder = new AtomicInteger();
+        final AtomicInteger simultaneos = new AtomicInteger();
+        final AtomicInteger maximoSimultaneo = new AtomicInteger();
+        volatile long latenciaMs;
+
+        @Override
+        public List<ResultadoFcm> enviarLote(List<Message> lote) throws Exception {
+            chamadas.incrementAndGet();
+            if (falhasAntesDeResponder.getAndDecrement() > 0) {
+                throw new IllegalStateException("FCM indisponível");
+            }
+            maximoSimultaneo.accumulateAndGet(simultaneos.incrementAndGet(), Math::max);
+            try {
+                if (latenciaMs > 0) {
+                    Thread.sleep(latenciaMs);
+                }
+                tamanhosLote.add(lote.size());
+                List<ResultadoFcm> resultados = new ArrayList<>(lote.size());
+                for (Message m : lote) {
+                    resultados.add(
+                        invalidas.contains(m) ? ResultadoFcm.falha(MessagingErrorCode.UNREGISTERED, "token não registrado") : ResultadoFcm.sucesso()
+                    );
+                }
+                return resultados;
+            } finally {
+                simultaneos.decrementAndGet();
+            }
+        }
+    }
+}
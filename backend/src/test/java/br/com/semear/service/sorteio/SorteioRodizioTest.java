@@ -0,0 +1,95 @@
+package br.com.semear.service.sorteio;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.semear.domain.User;
+import br.com.semear.domain.enumeration.RegraGeneroEscala;
+import br.com.semear.domain.enumeration.Sexo;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class SorteioRodizioTest {
+
+    private static final Long PORTARIA = 1L;
+    private static final Long RECEPCAO = 2L;
+    private static final LocalDate DOMINGO = LocalDate.of(2026, 7, 5);
+
+    @Test
+    void escolheMenorCargaEDesempataPeloId() {
+        Map<Long, List<User>> membros = Map.of(PORTARIA, List.of(membro(3L, Sexo.MASCULINO), membro(1L, Sexo.MASCULINO), membro(2L, null)));
+        Map<Long, Map<Long, Long>> historico = Map.of(PORTARIA, Map.of(1L, 2L, 2L, 1L, 3L, 1L));
+        SorteioRodizio sorteio = new SorteioRodizio(membros, historico, new HashMap<>(), PoliticaRodizio.padrao());
+
+        assertThat(sorteio.sortear(PORTARIA, RegraGeneroEscala.QUALQUER, DOMINGO).getId()).isEqualTo(2L);
+        assertThat(sorteio.sortear(PORTARIA, RegraGeneroEscala.QUALQUER, DOMINGO).getId()).isEqualTo(3L);
+        assertThat(sorteio.sortear(PORTARIA, RegraGeneroEscala.QUALQUER, DOMINGO).getId()).isEqualTo(1L);
+    }
+
+    @Test
+    void filtraPorGeneroESemElegiveisRetornaNulo() {
+        Map<Long, List<User>> membros = Map.of(PORTARIA, List.of(membro(1L, Sexo.FEMININO), membro(2L, null)));
+        SorteioRodizio sorteio = new SorteioRodizio(membros, Map.of(), new HashMap<>(), PoliticaRodizio.padrao());
+
+        assertThat(sorteio.sortear(PORTARIA, RegraGeneroEscala.MASCULINO, DOMINGO)).isNull();
+        assertThat(sorteio.sortear(PORTARIA, RegraGeneroEscala.FEMININO, DOMINGO).getId()).isEqualTo(1L);
+        assertThat(sorteio.sortear(RECEPCAO, RegraGeneroEscala.QUALQUER, DOMINGO)).isNull();
+    }
+
+    @Test
+    void cargaDoCicloValeEntreDepartamentos() {
+        User ana = membro(1L, Sexo.FEMININO);
+        User bia = membro(2L, Sexo.FEMININO);
+        Map<Long, List<User>> membros = Map.of(PORTARIA, List.of(ana, bia), RECEPCAO, List.of(ana, bia));
+        Map<Long, Integer> cargaCiclo = new HashMap<>();
+        SorteioRodizio sorteio = new SorteioRodizio(membros, Map.of(), cargaCiclo, PoliticaRodizio.padrao());
+
+        assertThat(sorteio.sortear(RECEPCAO, RegraGeneroEscala.QUALQUER, DOMINGO)).isSameAs(ana);
+        assertThat(sorteio.sortear(PORTARIA, RegraGeneroEscala.QUALQUER, DOMINGO)).isSameAs(bia);
+        assertThat(sorteio.sortear(RECEPCAO, RegraGeneroEscala.QUALQUER, DOMINGO.plusDays(7))).isSameAs(ana);
+        assertThat(cargaCiclo).containsEntry(1L, 2).containsEntry(2L, 1);
+    }
+
+    @Test
+    void respeitaIntervaloMinimoEDatasExcluidas() {
+        Map<Long, List<User>> membros = Map.of(PORTARIA, List.of(membro(1L, null), membro(2L, null), membro(3L, null)));
+        PoliticaRodizio politica = PoliticaRodizio.ponderada(1, 1, 7, Map.of(2L, Set.of(DOMINGO)));
+        SorteioRodizio sorteio = new SorteioRodizio(membros, Map.of(), new HashMap<>(), politica);
+
+        assertThat(sorteio.sortear(PORTARIA, null, DOMINGO).getId()).isEqualTo(1L);
+        assertThat(sorteio.sortear(PORTARIA, null, DOMINGO).getId()).isEqualTo(3L);
+        // 1 e 3 ainda em intervalo: 2 serve na quarta
+        assertThat(sorteio.sortear(PORTARIA, null, DOMINGO.plusDays(3)).getId()).isEqualTo(2L);
+        // todos em intervalo: cai no de menor carga
+        assertThat(sorteio.sortear(PORTARIA, null, DOMINGO.plusDays(4)).getId()).isEqualTo(1L);
+    }
+
+    @Test
+    void distribuiCargaDeFormaUniformeEmCiclosGrandes() {
+        List<User> base = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            base.add(membro(id, null));
+        }
+        Map<Long, Integer> cargaCiclo = new HashMap<>();
+        SorteioRodizio sorteio = new SorteioRodizio(Map.of(PORTARIA, base), Map.of(), cargaCiclo, PoliticaRodizio.padrao());
+
+        for (int i = 0; i < 5_000; i++) {
+            sorteio.sortear(PORTARIA, RegraGeneroEscala.QUALQUER, DOMINGO.plusDays(i));
+        }
+
+        assertThat(cargaCiclo).hasSize(500);
+        assertThat(cargaCiclo.values()).containsOnly(10);
+    }
+
+    private User membro(Long id, Sexo sexo) {
+        User u = new User();
+        u.setId(id);
+        u.setLogin("membro" + id);
+        u.setSexo(sexo);
+        return u;
+    }
+}
@@ -7,6 +7,8 @@ import br.com.semear.domain.enumeration.DiaSemanaCulto;
 import br.com.semear.domain.enumeration.FrequenciaCulto;
 import br.com.semear.domain.enumeration.TipoCulto;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 class CultoRecorrenciaUtilsTest {
@@ -39,6 +41,47 @@ class CultoRecorrenciaUtilsTest {
         assertThat(CultoRecorrenciaUtils.cultoOcorreNaData(escola, LocalDate.of(2026, 7, 28))).isFalse();
     }
 
+    @Test
+    void datasNoPeriodoEquivalemAoTesteDiaADia() {
+        LocalDate inicio = LocalDate.of(2026, 6, 3);
+        LocalDate fim = LocalDate.of(2026, 9, 11);
+        List<CultoRegistro> cultos = new ArrayList<>();
+        for (DiaSemanaCulto dia : DiaSemanaCulto.values()) {
+            cultos.add(recorrente("Semanal", dia, FrequenciaCulto.TODA_SEMANA, null));
+            for (int deslocamento = -20; deslocamento <= 20; deslocamento += 3) {
+                LocalDate ancora = inicio.plusDays(deslocamento * 7L + dia.ordinal());
+                cultos.add(recorrente("Alternado", dia, FrequenciaCulto.SEMANAS_ALTERNADAS, ancora));
+            }
+            cultos.add(recorrente("Sem âncora", dia, FrequenciaCulto.SEMANAS_ALTERNADAS, null));
+        }
+        // Âncora num dia diferente do dia do culto nunca coincide.
+        cultos.add(recorrente("Âncora errada", DiaSemanaCulto.DOMINGO, FrequenciaCulto.SEMANAS_ALTERNADAS, LocalDate.of(2026, 7, 14)));
+
+        for (CultoRegistro culto : cultos) {
+            List<LocalDate> esperadas = new ArrayList<>();
+            for (LocalDate d = inicio; !d.isAfter(fim); d = d.plusDays(1)) {
+                if (CultoRecorrenciaUtils.cultoOcorreNaData(culto, d)) {
+                    esperadas.add(d);
+                }
+            }
+            assertThat(CultoRecorrenciaUtils.datasNoPeriodo(culto, inicio, fim))
+                .as("%s %s %s", culto.getDiaSemana(), culto.getFrequencia(), culto.getDataAncora())
+                .isEqualTo(esperadas);
+        }
+    }
+
+    @Test
+    void extraordinarioSoNaDataEspecificaDentroDoPeriodo() {
+        CultoRegistro culto = recorrente("Vigília", DiaSemanaCulto.SEXTA, FrequenciaCulto.TODA_SEMANA, null);
+        culto.setTipo(TipoCulto.EXTRAORDINARIO);
+        culto.setDataEspecifica(LocalDate.of(2026, 7, 17));
+
+        assertThat(CultoRecorrenciaUtils.datasNoPeriodo(culto, LocalDate.of(2026, 7, 1), LocalDate.of(2026, 7, 31))).containsExactly(
+            LocalDate.of(2026, 7, 17)
+        );
+        assertThat(CultoRecorrenciaUtils.datasNoPeriodo(culto, LocalDate.of(2026, 7, 18), LocalDate.of(2026, 7, 31))).isEmpty();
+    }
+
     private CultoRegistro recorrente(String nome, DiaSemanaCulto dia, FrequenciaCulto freq, LocalDate ancora) {
         CultoRegistro c = new CultoRegistro();
         c.setNome(nome);
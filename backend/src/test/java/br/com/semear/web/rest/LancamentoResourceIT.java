@@ -0,0 +1,204 @@
+package br.com.semear.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.semear.IntegrationTest;
+import br.com.semear.domain.Authority;
+import br.com.semear.domain.Igreja;
+import br.com.semear.domain.Lancamento;
+import br.com.semear.domain.User;
+import br.com.semear.domain.enumeration.StatusIgreja;
+import br.com.semear.domain.enumerations.TipoLancamento;
+import br.com.semear.repository.AuthorityRepository;
+import br.com.semear.repository.IgrejaRepository;
+import br.com.semear.repository.UserRepository;
+import br.com.semear.security.AuthoritiesConstants;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Edições e exclusões simultâneas do mesmo lançamento contra o banco: cada uma estorna do resumo mensal o valor que
+ * leu, então o resumo só fecha com o livro se elas forem serializadas pela trava da linha.
+ * Sem transação no teste, para cada chamada confirmar de verdade e disputar a linha com as outras.
+ */
+@IntegrationTest
+@TestPropertySource(properties = "spring.datasource.hikari.maximum-pool-size=16")
+class LancamentoResourceIT {
+
+    private static final String LOGIN = "tesourariait";
+    private static final LocalDate DATA = LocalDate.of(2026, 3, 17);
+
+    @Autowired
+    private LancamentoResource lancamentoResource;
+
+    @Autowired
+    private IgrejaRepository igrejaRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthorityRepository authorityRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final ExecutorService clientes = Executors.newFixedThreadPool(8);
+
+    private Igreja igreja;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        igreja = new Igreja();
+        igreja.setNome("Igreja Livro Caixa");
+        igreja.setStatus(StatusIgreja.ATIVA);
+        igreja.setDataCadastro(Instant.now());
+        igreja.setRequerAprovacaoOracaoPublica(true);
+        igreja = igrejaRepository.saveAndFlush(igreja);
+
+        Authority admin = authorityRepository.findById(AuthoritiesConstants.ADMIN_IGREJA).orElseThrow();
+        user = new User();
+        user.setLogin(LOGIN);
+        user.setPassword("x".repeat(60));
+        user.setEmail(LOGIN + "@test.com");
+        user.setActivated(true);
+        user.setIgreja(igreja);
+        user.getAuthorities().add(admin);
+        user = userRepository.saveAndFlush(user);
+        cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE).clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clientes.shutdownNow();
+        jdbcTemplate.update("DELETE FROM lancamento WHERE igreja_id = ?", igreja.getId());
+        jdbcTemplate.update("DELETE FROM lancamento_resumo_mensal WHERE igreja_id = ?", igreja.getId());
+        userRepository.delete(user);
+        igrejaRepository.deleteById(igreja.getId());
+        cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE).clear();
+    }
+
+    @Test
+    void edicoesSimultaneasDeixamOResumoIgualAoLivro() throws Exception {
+        Long id = criar("100.00");
+
+        List<Callable<Object>> edicoes = new ArrayList<>();
+        for (int i = 1; i <= 12; i++) {
+            String valor = (100 + 50 * i) + ".00";
+            edicoes.add(() -> lancamentoResource.updateLancamento(id, corpo(id, valor)));
+        }
+        simultaneamente(edicoes);
+
+        assertThat(resumo()).isEqualTo(livro());
+        assertThat(livro().quantidade()).isEqualTo(1);
+    }
+
+    @Test
+    void exclusaoDuranteEdicoesNaoEstornaDuasVezes() throws Exception {
+        Long id = criar("100.00");
+        criar("40.00");
+
+        List<Callable<Object>> operacoes = new ArrayList<>();
+        for (int i = 1; i <= 8; i++) {
+            String valor = (100 + 50 * i) + ".00";
+            operacoes.add(() -> lancamentoResource.updateLancamento(id, corpo(id, valor)));
+            if (i == 4) {
+                operacoes.add(() -> lancamentoResource.deleteLancamento(id));
+                operacoes.add(() -> lancamentoResource.deleteLancamento(id));
+            }
+        }
+        simultaneamente(operacoes);
+
+        assertThat(resumo()).isEqualTo(livro()).isEqualTo(new Totais(new BigDecimal("40.00"), 1));
+    }
+
+    private Long criar(String valor) throws Exception {
+        return comoTesouraria(() -> lancamentoResource.createLancamento(corpo(null, valor)).getBody().getId());
+    }
+
+    private static Lancamento corpo(Long id, String valor) {
+        Lancamento lancamento = new Lancamento();
+        lancamento.setId(id);
+        lancamento.setTipo(TipoLancamento.EXPENSE);
+        lancamento.setCategoria("OFERTA");
+        lancamento.setDescricao("Oferta missionária");
+        lancamento.setValor(new BigDecimal(valor));
+        lancamento.setDataLancamento(DATA);
+        lancamento.setCentroCusto("Missões");
+        return lancamento;
+    }
+
+    private Totais livro() {
+        return totais("SELECT SUM(valor), COUNT(*) FROM lancamento WHERE igreja_id = ?");
+    }
+
+    private Totais resumo() {
+        return totais("SELECT SUM(total), SUM(quantidade) FROM lancamento_resumo_mensal WHERE igreja_id = ?");
+    }
+
+    private Totais totais(String sql) {
+        return jdbcTemplate.queryForObject(
+            sql,
+            (rs, linha) ->
+                new Totais(
+                    rs.getBigDecimal(1) != null ? rs.getBigDecimal(1).setScale(2) : new BigDecimal("0.00"),
+                    rs.getLong(2)
+                ),
+            igreja.getId()
+        );
+    }
+
+    private record Totais(BigDecimal total, long quantidade) {}
+
+    private void simultaneamente(List<Callable<Object>> operacoes) throws Exception {
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<Object>> pedidos = new ArrayList<>(operacoes.size());
+        for (Callable<Object> operacao : operacoes) {
+            pedidos.add(
+                clientes.submit(() -> {
+                    largada.await();
+                    return comoTesouraria(operacao);
+                })
+            );
+        }
+        largada.countDown();
+        for (Future<Object> pedido : pedidos) {
+            pedido.get(60, TimeUnit.SECONDS);
+        }
+    }
+
+    private static <T> T comoTesouraria(Callable<T> operacao) throws Exception {
+        SecurityContextHolder.getContext()
+            .setAuthentication(
+                new UsernamePasswordAuthenticationToken(LOGIN, "x", List.of(new SimpleGrantedAuthority(AuthoritiesConstants.ADMIN_IGREJA)))
+            );
+        try {
+            return operacao.call();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package br.com.semear.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.semear.config.WebAsyncConfiguration;
+import br.com.semear.service.midia.ArquivoMidia;
+import br.com.semear.service.midia.PacoteZip;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Sobe o servidor de verdade para um ZIP que demora mais que o timeout assíncrono padrão: o padrão é reduzido a
+ * 300 ms com {@code spring.mvc.async.request-timeout}, e o download leva mais de um segundo.
+ */
+class RespostaMidiaTest {
+
+    private static final int TAMANHO = 96 * 1024;
+    private static final int POR_LEITURA = 8 * 1024;
+    private static final long PAUSA_MS = 50;
+
+    private ConfigurableApplicationContext contexto;
+
+    @AfterEach
+    void parar() {
+        if (contexto != null) {
+            contexto.close();
+        }
+    }
+
+    @Test
+    void zipLentoChegaInteiroComOPrazoDaAplicacao() throws Exception {
+        contexto = subir(ServidorComPrazo.class);
+
+        long inicio = System.nanoTime();
+        HttpResponse<byte[]> resposta = baixar();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio)).isGreaterThan(1_000);
+        assertThat(resposta.statusCode()).isEqualTo(200);
+        assertThat(resposta.headers().firstValueAsLong("Content-Length")).hasValue(resposta.body().length);
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(resposta.body()))) {
+            ZipEntry entrada = zip.getNextEntry();
+            assertThat(entrada.getName()).isEqualTo("tela.png");
+            assertThat(zip.readAllBytes()).isEqualTo(bytes());
+        }
+    }
+
+    @Test
+    void semOPrazoDaAplicacaoOMesmoZipEhCortado() throws InterruptedException {
+        contexto = subir(ServidorSemPrazo.class);
+
+        // Cortado antes do primeiro byte vira resposta de erro; depois dele, a conexão cai no meio do corpo.
+        try {
+            HttpResponse<byte[]> resposta = baixar();
+            assertThat(resposta.statusCode()).isNotEqualTo(200);
+        } catch (IOException e) {
+            assertThat(e).isNotNull();
+        }
+    }
+
+    private static ConfigurableApplicationContext subir(Class<?> configuracao) {
+        return new SpringApplicationBuilder(configuracao)
+            .web(WebApplicationType.SERVLET)
+            .properties("server.port=0", "spring.mvc.async.request-timeout=300ms", "spring.main.banner-mode=off")
+            .run();
+    }
+
+    private HttpResponse<byte[]> baixar() throws IOException, InterruptedException {
+        int porta = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+        HttpRequest pedido = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + porta + "/anexos.zip")).build();
+        return HttpClient.newHttpClient().send(pedido, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] bytes() {
+        byte[] bytes = new byte[TAMANHO];
+        new Random(TAMANHO).nextBytes(bytes);
+        return bytes;
+    }
+
+    @Configuration
+    @ImportAutoConfiguration(
+        {
+            ServletWebServerFactoryAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class,
+            HttpMessageConvertersAutoConfiguration.class,
+        }
+    )
+    static class ServidorSemPrazo {
+
+        @Bean
+        DownloadLento downloadLento() {
+            return new DownloadLento();
+        }
+    }
+
+    @Configuration
+    static class ServidorComPrazo extends ServidorSemPrazo {
+
+        @Bean
+        WebAsyncConfiguration webAsyncConfiguration() {
+            return new WebAsyncConfiguration(30, 4, 10);
+        }
+    }
+
+    @RestController
+    static class DownloadLento {
+
+        @GetMapping("/anexos.zip")
+        ResponseEntity<StreamingResponseBody> zip() throws IOException {
+            return RespostaMidia.zip(new PacoteZip("anexos.zip").adicionar("tela.png", new ArquivoMidia(new Lento(), "image/png", null, null)));
+        }
+    }
+
+    /** Imagem servida aos poucos, como um arquivo vindo de um storage remoto lento. */
+    private static final class Lento extends AbstractResource {
+
+        @Override
+        public String getDescription() {
+            return "imagem lenta";
+        }
+
+        @Override
+        public long contentLength() {
+            return TAMANHO;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new FilterInputStream(new ByteArrayInputStream(bytes())) {
+                @Override
+                public int read(byte[] destino, int inicio, int tamanho) throws IOException {
+                    try {
+                        Thread.sleep(PAUSA_MS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException();
+                    }
+                    return super.read(destino, inicio, Math.min(tamanho, POR_LEITURA));
+                }
+            };
+        }
+    }
+}
@@ -7,6 +7,8 @@ import {
   useState,
 } from "react";
 import {
+  abrirCanalNotificacoes,
+  type CanalNotificacoes,
   obterContagemNotificacoes,
   obterResumoNotificacoes,
 } from "@/modules/notifications/resumo";
@@ -25,6 +27,11 @@ const INTERVALO_POLLING_VISIVEL_MS = 45_000;
 const INTERVALO_POLLING_OCULTO_MS = 120_000;
 const INTERVALO_POLLING_PUSH_VISIVEL_MS = 90_000;
 const INTERVALO_POLLING_PUSH_OCULTO_MS = 180_000;
+// Com o canal SSE aberto o polling vira só rede de segurança.
+const INTERVALO_POLLING_CANAL_VISIVEL_MS = 300_000;
+const INTERVALO_POLLING_CANAL_OCULTO_MS = 600_000;
+const ESPERA_CANAL_RECUSADO_MS = 300_000;
+const ESPERA_MAXIMA_RECONEXAO_MS = 60_000;
 const CHAVE_LIDER_ABAS = "semear.notificacoes";
 
 type NotificationsContextValue = {
@@ -48,6 +55,7 @@ export function ProvedorNotificacoes({ children }: { children: React.ReactNode }
   const [pedidosOracaoPendentes, setPedidosOracaoPendentes] = useState(0);
   const [notificacoes, setNotificacoes] = useState<NotificacaoItem[]>([]);
   const [pushAtivo, setPushAtivo] = useState(pushAtivoNoDispositivo);
+  const [canalAtivo, setCanalAtivo] = useState(false);
 
   const fingerprintRef = useRef<string | undefined>(undefined);
   const carregandoRef = useRef(false);
@@ -149,6 +157,44 @@ export function ProvedorNotificacoes({ children }: { children: React.ReactNode }
     void carregarCompleto();
   }, [user, carregarCompleto]);
 
+  useEffect(() => {
+    if (!user || !ehLider) return;
+
+    let canal: CanalNotificacoes | null = null;
+    let timer: ReturnType<typeof setTimeout> | null = null;
+    let tentativas = 0;
+    let encerrado = false;
+
+    const conectar = () => {
+      canal = abrirCanalNotificacoes(
+        (contagem) => {
+          tentativas = 0;
+          setCanalAtivo(true);
+          if (contagem.fingerprint && contagem.fingerprint !== fingerprintRef.current) {
+            void carregarCompleto();
+          }
+        },
+        (recusado) => {
+          setCanalAtivo(false);
+          if (encerrado) return;
+          tentativas += 1;
+          const espera = recusado
+            ? ESPERA_CANAL_RECUSADO_MS
+            : Math.min(ESPERA_MAXIMA_RECONEXAO_MS, 1_000 * 2 ** tentativas);
+          timer = setTimeout(conectar, espera);
+        },
+      );
+    };
+
+    conectar();
+    return () => {
+      encerrado = true;
+      if (timer) clearTimeout(timer);
+      canal?.fechar();
+      setCanalAtivo(false);
+    };
+  }, [user, ehLider, carregarCompleto]);
+
   useEffect(() => {
     return escutarNotificacoesDasAbas((payload) => {
       if (payload.fingerprint === fingerprintRef.current) return;
@@ -191,8 +237,16 @@ export function ProvedorNotificacoes({ children }: { children: React.ReactNode }
   usarPollingInteligente({
     ativo: !!user && ehLider,
     aoAtualizar: () => void verificarMudancas(),
-    intervaloVisivelMs: pushAtivo ? INTERVALO_POLLING_PUSH_VISIVEL_MS : INTERVALO_POLLING_VISIVEL_MS,
-    intervaloOcultoMs: pushAtivo ? INTERVALO_POLLING_PUSH_OCULTO_MS : INTERVALO_POLLING_OCULTO_MS,
+    intervaloVisivelMs: canalAtivo
+      ? INTERVALO_POLLING_CANAL_VISIVEL_MS
+      : pushAtivo
+        ? INTERVALO_POLLING_PUSH_VISIVEL_MS
+        : INTERVALO_POLLING_VISIVEL_MS,
+    intervaloOcultoMs: canalAtivo
+      ? INTERVALO_POLLING_CANAL_OCULTO_MS
+      : pushAtivo
+        ? INTERVALO_POLLING_PUSH_OCULTO_MS
+        : INTERVALO_POLLING_OCULTO_MS,
   });
 
   const value: NotificationsContextValue = {
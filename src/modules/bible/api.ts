@@ -0,0 +1,68 @@
+import { API_ATIVA, ErroRequisicaoApi, requisicaoApi } from "@/modules/api/client";
+
+export type VersiculoCapituloApi = {
+  numero: number;
+  texto: string;
+};
+
+export type CapituloBibliaApi = {
+  versao: string;
+  livroId: string;
+  livroNome: string;
+  capitulo: number;
+  versiculos: VersiculoCapituloApi[];
+};
+
+export type VersiculoEncontradoApi = {
+  livroId: string;
+  livroNome: string;
+  capitulo: number;
+  versiculo: number;
+  texto: string;
+  pontuacao: number;
+};
+
+/**
+ * Capítulo servido pelo backend. Retorna `null` quando a API não está configurada ou a versão
+ * ainda não foi importada no servidor — o leitor então recorre à bible-api.com.
+ */
+export const buscarCapituloBiblia = async (
+  versao: string,
+  livroId: string,
+  capitulo: number,
+  signal?: AbortSignal,
+): Promise<CapituloBibliaApi | null> => {
+  if (!API_ATIVA) return null;
+  try {
+    return await requisicaoApi<CapituloBibliaApi>(
+      `/api/biblia/${encodeURIComponent(versao)}/${encodeURIComponent(livroId)}/${capitulo}`,
+      { auth: true, signal },
+    );
+  } catch (error) {
+    if (error instanceof ErroRequisicaoApi && error.status === 404) {
+      return null;
+    }
+    throw error;
+  }
+};
+
+/**
+ * Busca no texto completo da versão (sem acentos; aceita "frase exata" e prefixo*). Retorna `null`
+ * quando a versão não está no servidor — o leitor então busca só nos capítulos já abertos.
+ */
+export const buscarVersiculos = async (
+  versao: string,
+  consulta: string,
+  limite = 200,
+): Promise<VersiculoEncontradoApi[] | null> => {
+  if (!API_ATIVA) return null;
+  const params = new URLSearchParams({ q: consulta, versao, limite: String(limite) });
+  try {
+    return await requisicaoApi<VersiculoEncontradoApi[]>(`/api/biblia/busca?${params.toString()}`, { auth: true });
+  } catch (error) {
+    if (error instanceof ErroRequisicaoApi && error.status === 404) {
+      return null;
+    }
+    throw error;
+  }
+};
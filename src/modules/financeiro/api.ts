@@ -1,4 +1,4 @@
-import { requisicaoApi, URL_BASE_API, obterToken } from "@/modules/api/client";
+import { requisicaoApi, URL_BASE_API, obterToken, ErroRequisicaoApi } from "@/modules/api/client";
 
 export type TipoLancamentoApi = "INCOME" | "EXPENSE";
 
@@ -74,12 +74,34 @@ export const mapearLancamento = (dto: LancamentoDTO): LancamentoApp => ({
   createdBy: dto.criadoPor ?? "Sistema",
 });
 
+const TAMANHO_PAGINA_LANCAMENTOS = 500;
+
+/** Extrai o parâmetro `cursor` do link `rel="next"` devolvido pela API. */
+const proximoCursor = (link: string | null): string | null => {
+  const proximo = link?.split(",").find((parte) => /rel="next"/.test(parte));
+  const url = proximo?.match(/<([^>]+)>/)?.[1];
+  return url ? new URL(url, URL_BASE_API || window.location.origin).searchParams.get("cursor") : null;
+};
+
+/** O livro caixa vem paginado por cursor; percorre as páginas até a última. */
 export const listarLancamentos = async (tipo?: "income" | "expense"): Promise<LancamentoApp[]> => {
-  const params = new URLSearchParams();
-  if (tipo) params.set("tipo", tipo === "income" ? "INCOME" : "EXPENSE");
-  const url = params.toString() ? `/api/lancamentos?${params}` : "/api/lancamentos";
-  const lista = await requisicaoApi<LancamentoDTO[]>(url, { auth: true });
-  return (lista ?? []).map(mapearLancamento);
+  if (!URL_BASE_API) throw new Error("API não configurada.");
+  const headers = new Headers({ Accept: "application/json" });
+  const token = obterToken();
+  if (token) headers.set("Authorization", `Bearer ${token}`);
+  const resultado: LancamentoApp[] = [];
+  let cursor: string | null = null;
+  do {
+    const params = new URLSearchParams({ limite: String(TAMANHO_PAGINA_LANCAMENTOS) });
+    if (tipo) params.set("tipo", tipo === "income" ? "INCOME" : "EXPENSE");
+    if (cursor) params.set("cursor", cursor);
+    const response = await fetch(`${URL_BASE_API}/api/lancamentos?${params}`, { headers });
+    if (!response.ok) throw new ErroRequisicaoApi("Falha ao carregar lançamentos.", response.status);
+    const pagina = (await response.json()) as LancamentoDTO[];
+    resultado.push(...(pagina ?? []).map(mapearLancamento));
+    cursor = proximoCursor(response.headers.get("Link"));
+  } while (cursor);
+  return resultado;
 };
 
 export const criarLancamento = async (
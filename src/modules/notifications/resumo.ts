@@ -77,3 +77,82 @@ export const obterResumoNotificacoes = async (
   }
   return resposta;
 };
+
+export type CanalNotificacoes = {
+  fechar: () => void;
+};
+
+function processarEventoCanal(bloco: string, aoContagem: (contagem: NotificacaoContagem) => void) {
+  let evento = "message";
+  const dados: string[] = [];
+  for (const linha of bloco.split("\n")) {
+    if (linha.startsWith("event:")) {
+      evento = linha.slice(6).trim();
+    } else if (linha.startsWith("data:")) {
+      dados.push(linha.slice(5).replace(/^ /, ""));
+    }
+  }
+  if (evento !== "contagem" || dados.length === 0) return;
+  try {
+    aoContagem(JSON.parse(dados.join("\n")) as NotificacaoContagem);
+  } catch {
+    // evento malformado — o próximo envio traz a contagem completa
+  }
+}
+
+/**
+ * Canal SSE `/api/notificacoes/stream`: o servidor só envia a contagem quando o fingerprint muda.
+ * Usa fetch (e não EventSource) para mandar o token no cabeçalho. `aoEncerrar` recebe `true` quando o
+ * servidor recusou a conexão por limite — nesse caso o polling segue sozinho.
+ */
+export function abrirCanalNotificacoes(
+  aoContagem: (contagem: NotificacaoContagem) => void,
+  aoEncerrar: (recusado: boolean) => void,
+): CanalNotificacoes {
+  const controle = new AbortController();
+
+  void (async () => {
+    let recusado = false;
+    try {
+      if (!URL_BASE_API) {
+        throw new Error("API não configurada.");
+      }
+      const headers = new Headers({ Accept: "text/event-stream" });
+      const token = obterToken();
+      if (token) {
+        headers.set("Authorization", `Bearer ${token}`);
+      }
+
+      const response = await fetch(`${URL_BASE_API}/api/notificacoes/stream`, {
+        headers,
+        signal: controle.signal,
+      });
+      if (!response.ok || !response.body) {
+        recusado = response.status === 503;
+        return;
+      }
+
+      const leitor = response.body.pipeThrough(new TextDecoderStream()).getReader();
+      let buffer = "";
+      for (;;) {
+        const { value, done } = await leitor.read();
+        if (done) break;
+        buffer = (buffer + value).replace(/\r\n/g, "\n");
+        let fim = buffer.indexOf("\n\n");
+        while (fim >= 0) {
+          processarEventoCanal(buffer.slice(0, fim), aoContagem);
+          buffer = buffer.slice(fim + 2);
+          fim = buffer.indexOf("\n\n");
+        }
+      }
+    } catch {
+      // conexão caiu ou foi fechada — quem abriu decide se reconecta
+    } finally {
+      if (!controle.signal.aborted) {
+        aoEncerrar(recusado);
+      }
+    }
+  })();
+
+  return { fechar: () => controle.abort() };
+}
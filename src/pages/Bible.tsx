@@ -73,6 +73,7 @@ import {
   atualizarNota,
 } from "@/modules/bible/service";
 import { versiculoNoIntervalo } from "@/modules/bible/utils";
+import { buscarCapituloBiblia, buscarVersiculos } from "@/modules/bible/api";
 import type {
   CorDestaque,
   DestaqueBiblia,
@@ -242,6 +243,33 @@ const montarConsultaApiBiblia = (bookName: string, chapter: number) => {
   return encodeURIComponent(rawQuery).replace(/%20/g, "+");
 };
 
+/** Capítulo do texto empacotado no servidor, no mesmo formato da bible-api.com; `null` se indisponível. */
+const carregarCapituloServidor = async (
+  book: LivroBiblia,
+  chapter: number,
+  version: string,
+  signal: AbortSignal,
+): Promise<RespostaCapitulo | null> => {
+  try {
+    const capitulo = await buscarCapituloBiblia(version, book.id, chapter, signal);
+    if (!capitulo) return null;
+    return {
+      verses: capitulo.versiculos.map((versiculo) => ({
+        book_name: capitulo.livroNome,
+        chapter: capitulo.capitulo,
+        verse: versiculo.numero,
+        text: versiculo.texto,
+      })),
+      reference: `${capitulo.livroNome} ${capitulo.capitulo}`,
+      translation_id: version,
+      translation_name: version.toUpperCase(),
+    };
+  } catch (error) {
+    if ((error as Error).name === "AbortError") throw error;
+    return null;
+  }
+};
+
 function CartaoLivro({
   book,
   leiturasCapitulos,
@@ -469,26 +497,29 @@ export default function Biblia() {
 
     const controller = new AbortController();
 
+    const carregarCapituloBibleApi = async (book: LivroBiblia, chapter: number, signal: AbortSignal) => {
+      const selectedVersionInfo = versionsForSelect.find(
+        (version) => version.identifier === selectedVersion,
+      );
+      const bookName = obterNomeLivroParaVersao(book, selectedVersionInfo);
+      const query = montarConsultaApiBiblia(bookName, chapter);
+      const response = await fetch(`${URL_API_BIBLIA}/${query}?translation=${selectedVersion}`, { signal });
+
+      if (!response.ok) {
+        throw new Error("Não foi possível carregar este capítulo.");
+      }
+
+      return (await response.json()) as RespostaCapitulo;
+    };
+
     const loadChapter = async () => {
       setIsLoadingChapter(true);
       setChapterError(null);
 
       try {
-        const selectedVersionInfo = versionsForSelect.find(
-          (version) => version.identifier === selectedVersion,
-        );
-        const bookName = obterNomeLivroParaVersao(selectedBook, selectedVersionInfo);
-        const query = montarConsultaApiBiblia(bookName, selectedChapter);
-        const response = await fetch(
-          `${URL_API_BIBLIA}/${query}?translation=${selectedVersion}`,
-          { signal: controller.signal },
-        );
-
-        if (!response.ok) {
-          throw new Error("Não foi possível carregar este capítulo.");
-        }
-
-        const data = (await response.json()) as RespostaCapitulo;
+        const data =
+          (await carregarCapituloServidor(selectedBook, selectedChapter, selectedVersion, controller.signal)) ??
+          (await carregarCapituloBibleApi(selectedBook, selectedChapter, controller.signal));
         setChapterData(data);
         if (selectedBook) {
           salvarCapituloCache(
@@ -760,12 +791,37 @@ export default function Biblia() {
     }
   };
 
-  const handleBuscar = () => {
-    let results = buscarNoCache(userId, {
-      query: buscaTexto,
-      bookId: buscaLivroId || undefined,
-      version: selectedVersion,
-    });
+  const buscarNoServidor = async (): Promise<ResultadoBuscaBiblia[] | null> => {
+    try {
+      const encontrados = await buscarVersiculos(selectedVersion, buscaTexto);
+      if (!encontrados) return null;
+      return encontrados
+        .filter((item) => !buscaLivroId || item.livroId === buscaLivroId)
+        .map((item) => ({
+          id: `${item.livroId}-${item.capitulo}-${item.versiculo}`,
+          reference: {
+            bookId: item.livroId,
+            bookName: item.livroNome,
+            chapter: item.capitulo,
+            verseRange: { start: item.versiculo, end: item.versiculo },
+          },
+          version: selectedVersion,
+          verse: { verse: item.versiculo, text: item.texto },
+          snippet: item.texto,
+        }));
+    } catch {
+      return null;
+    }
+  };
+
+  const handleBuscar = async () => {
+    let results =
+      (buscaTexto.trim() ? await buscarNoServidor() : null) ??
+      buscarNoCache(userId, {
+        query: buscaTexto,
+        bookId: buscaLivroId || undefined,
+        version: selectedVersion,
+      });
     if (buscaTestamento) {
       const testamentMap = new Map(livrosBiblia.map((book) => [book.id, book.testament]));
       results = results.filter((result) => testamentMap.get(result.reference.bookId) === buscaTestamento);